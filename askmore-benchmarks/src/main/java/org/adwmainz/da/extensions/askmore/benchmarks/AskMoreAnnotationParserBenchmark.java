@@ -0,0 +1,86 @@
+/**
+ * AskMoreAnnotationParserBenchmark.java - is a JMH benchmark of the org.adwmainz.da.extensions.askmore.utils.AskMoreAnnotationParser for synthetic scripts
+ *  of different sizes and annotation counts as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature |
+ *  Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.adwmainz.da.extensions.askmore.models.AskMoreTemplate;
+import org.adwmainz.da.extensions.askmore.models.BasicInputField;
+import org.adwmainz.da.extensions.askmore.utils.AskMoreAnnotationParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class AskMoreAnnotationParserBenchmark {
+
+	// params
+	@Param({"1024", "65536", "1048576"})
+	public int scriptSize;
+
+	@Param({"1", "20", "200"})
+	public int annotationCount;
+
+	// fields
+	protected String script;
+	protected List<String> annotations;
+	protected Map<String, String> userInput;
+	protected AskMoreTemplate template;
+
+	@Setup
+	public void setUp() {
+		script = SyntheticScripts.createAskMoreScript(scriptSize, annotationCount, 42L);
+		annotations = AskMoreAnnotationParser.findAnnotations(script);
+		userInput = SyntheticScripts.createUserInput(annotations);
+		template = AskMoreAnnotationParser.compileTemplate(script);
+		if (annotations.size() != annotationCount)
+			throw new IllegalStateException("Expected " + annotationCount + " annotations but found " + annotations.size());
+	}
+
+	// benchmarks
+	@Benchmark
+	public List<String> findAnnotations() {
+		return AskMoreAnnotationParser.findAnnotations(script);
+	}
+
+	@Benchmark
+	public Map<String, BasicInputField<String>> createDialogModel() {
+		return AskMoreAnnotationParser.createDialogModel(annotations);
+	}
+
+	@Benchmark
+	public String replaceAnnotations() {
+		return AskMoreAnnotationParser.replaceAnnotations(script, annotations, userInput);
+	}
+
+	@Benchmark
+	public AskMoreTemplate compileTemplate() {
+		return AskMoreAnnotationParser.compileTemplate(script);
+	}
+
+	@Benchmark
+	public String renderTemplate() {
+		return template.render(userInput);
+	}
+
+}
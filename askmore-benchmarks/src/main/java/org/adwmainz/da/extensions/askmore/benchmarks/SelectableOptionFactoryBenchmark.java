@@ -0,0 +1,49 @@
+/**
+ * SelectableOptionFactoryBenchmark.java - is a JMH benchmark of the org.adwmainz.da.extensions.askmore.factories.SelectableOptionFactory as used within
+ *  the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.adwmainz.da.extensions.askmore.factories.SelectableOptionFactory;
+import org.adwmainz.da.extensions.askmore.models.SelectableOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SelectableOptionFactoryBenchmark {
+
+	// params
+	@Param({
+		"\"value\"",
+		"\"real value\"|\"rendered value\"",
+		"\"  real   value  \"|\"  rendered \\\"quoted\\\"   value  \""
+	})
+	public String serializedOption;
+
+	@Param({"true", "false"})
+	public boolean reduceWhitespace;
+
+	// benchmark
+	@Benchmark
+	public SelectableOption<String> createOption() {
+		return SelectableOptionFactory.createOption(serializedOption, "|", true, reduceWhitespace);
+	}
+
+}
@@ -0,0 +1,46 @@
+/**
+ * StubAuthorNode.java - is an implementation of the stubbed ro.sync.ecss.extensions.api.node.AuthorNode with fixed offsets as used within the benchmarks of
+ *  the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.benchmarks;
+
+import ro.sync.ecss.extensions.api.node.AuthorNode;
+
+public class StubAuthorNode implements AuthorNode {
+
+	// fields
+	protected final String name;
+	protected final int startOffset;
+	protected final int endOffset;
+
+	// constructor
+	public StubAuthorNode(String name, int startOffset, int endOffset) {
+		this.name = name;
+		this.startOffset = startOffset;
+		this.endOffset = endOffset;
+	}
+
+	// overridden methods
+	@Override
+	public int getStartOffset() {
+		return startOffset;
+	}
+
+	@Override
+	public int getEndOffset() {
+		return endOffset;
+	}
+
+	@Override
+	public AuthorNode getParent() {
+		return null;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+}
@@ -0,0 +1,107 @@
+/**
+ * StubDocumentController.java - is an implementation of the stubbed ro.sync.ecss.extensions.api.AuthorDocumentController that answers XPath expressions with
+ *  constant results so that the XPathAnnotation benchmarks of the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and
+ *  Literature | Mainz measure the parser rather than an XPath engine.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+
+import ro.sync.ecss.dom.wrappers.AuthorNodeDomWrapper;
+import ro.sync.ecss.extensions.api.AuthorDocumentController;
+import ro.sync.ecss.extensions.api.AuthorListener;
+import ro.sync.ecss.extensions.api.node.AuthorDocument;
+import ro.sync.ecss.extensions.api.node.AuthorDocumentFragment;
+import ro.sync.ecss.extensions.api.node.AuthorNode;
+
+public class StubDocumentController implements AuthorDocumentController {
+
+	// fields
+	protected final AuthorNode resultNode;
+	protected final int resultCount;
+
+	// constructor
+	/**
+	 * Creates a new StubDocumentController
+	 * @param resultNode the node returned for each XPath result
+	 * @param resultCount the number of results returned for each XPath expression
+	 */
+	public StubDocumentController(AuthorNode resultNode, int resultCount) {
+		this.resultNode = resultNode;
+		this.resultCount = resultCount;
+	}
+
+	// overridden methods
+	@Override
+	public Object[] evaluateXPath(String xpathExpression, boolean ignoreTexts, boolean ignoreCData, boolean ignoreComments) {
+		return createResults(xpathExpression);
+	}
+
+	@Override
+	public Object[] evaluateXPath(String xpathExpression, AuthorNode contextNode, boolean ignoreTexts, boolean ignoreCData, boolean ignoreComments,
+			boolean processChangeMarkers) {
+		return createResults(xpathExpression);
+	}
+
+	@Override
+	public AuthorNode[] findNodesByXPath(String xpathExpression, boolean ignoreTexts, boolean ignoreCData, boolean ignoreComments) {
+		List<AuthorNode> nodes = Collections.nCopies(resultCount, resultNode);
+		return nodes.toArray(new AuthorNode[resultCount]);
+	}
+
+	@Override
+	public AuthorNode[] findNodesByXPath(String xpathExpression, AuthorNode contextNode, boolean ignoreTexts, boolean ignoreCData, boolean ignoreComments,
+			boolean processChangeMarkers) {
+		return findNodesByXPath(xpathExpression, ignoreTexts, ignoreCData, ignoreComments);
+	}
+
+	@Override
+	public AuthorDocumentFragment createDocumentFragment(int startOffset, int endOffset) {
+		return new AuthorDocumentFragment("<w lemma=\"haus\">Haus</w>");
+	}
+
+	@Override
+	public String serializeFragmentToXML(AuthorDocumentFragment fragment) {
+		return fragment.getSerializedContent();
+	}
+
+	@Override
+	public AuthorDocument getAuthorDocumentNode() {
+		return null;
+	}
+
+	@Override
+	public AuthorNode getCommonParentNode(AuthorDocument document, int startOffset, int endOffset) {
+		return resultNode;
+	}
+
+	/**
+	 * Ignores the listener since the stubbed document is never edited
+	 */
+	@Override
+	public void addAuthorListener(AuthorListener listener) {
+	}
+
+	@Override
+	public void removeAuthorListener(AuthorListener listener) {
+	}
+
+	// helper method
+	/**
+	 * Returns node results for path expressions and atomic results otherwise (i.e. the number of results of the XPath expression is only honored by
+	 *  nodes since each atomic expression used by the benchmarks returns a single item)
+	 */
+	protected Object[] createResults(String xpathExpression) {
+		if (xpathExpression.contains("string(") || xpathExpression.contains("count(") || xpathExpression.contains("local-name("))
+			return new Object[] {"atomic"};
+		int count = xpathExpression.endsWith(")[1]") ? Math.min(1, resultCount) : resultCount;
+		Object[] results = new Object[count];
+		for (int i=0; i<count; ++i)
+			results[i] = new AuthorNodeDomWrapper(resultNode);
+		return results;
+	}
+
+}
@@ -0,0 +1,99 @@
+/**
+ * SyntheticScripts.java - is a helper class that creates reproducible synthetic scripts containing AskMoreAnnotations and XPathAnnotations for the benchmarks
+ *  of the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.adwmainz.da.extensions.askmore.utils.AskMoreAnnotationParser;
+
+public class SyntheticScripts {
+
+	// AskMoreAnnotations using all supported kinds of options and flags (%d is replaced with a running number)
+	protected static final String[] ASK_MORE_ANNOTATIONS = {
+			"$$\"Label %d\":()$$",
+			"$$\"Label %d\":(\"alpha\", \"beta\", \"gamma\")!EDITABLE$$",
+			"$$\"Label %d\":(\"real\"|\"rendered\", \"x\"|\"y\")!DEFAULT(\"x\")!XML_ESCAPE$$",
+			"$$\"Label %d\":(\"1\", \"2\", \"3\")!MULTISELECT!SEP(\";\")!URL_ENCODE$$",
+			"$$\"Label %d\":()!REGEX(\"[a-z]+\")!NO_SPACE$$",
+			"$$\"Label %d\":(unquoted, \"with \\\"escaped\\\" quotes\")!NO_XML$$",
+			"$$\"Label %d\":()!POS_INT!DEFAULT(\"42\")$$"
+	};
+
+	// XPath expressions used within XPathAnnotations
+	protected static final String[] XPATH_EXPRESSIONS = {
+			"@xml:id",
+			"string(.)",
+			"local-name()",
+			"count(preceding::w)",
+			"ancestor::entry[1]/form/orth"
+	};
+
+	// filler resembling the markup of a TEI transcription
+	protected static final String[] FILLER_WORDS = {
+			"<w lemma=\"haus\">Haus</w> ",
+			"<w lemma=\"der\">des</w> ",
+			"<pc>,</pc> ",
+			"<persName ref=\"#p1\">Gutenberg</persName> ",
+			"<lb/>",
+			"<w lemma=\"schreiben\">schrieb</w> "
+	};
+
+	/**
+	 * Creates a script of approximately the specified size that contains the specified number of evenly distributed AskMoreAnnotations with distinct labels
+	 * @param size the approximate number of chars of the script
+	 * @param annotationCount the number of AskMoreAnnotations
+	 * @param seed the seed used for choosing the filler
+	 */
+	public static String createAskMoreScript(int size, int annotationCount, long seed) {
+		String[] annotations = new String[annotationCount];
+		for (int i=0; i<annotationCount; ++i)
+			annotations[i] = String.format(ASK_MORE_ANNOTATIONS[i % ASK_MORE_ANNOTATIONS.length], i);
+		return createScript(size, annotations, seed);
+	}
+
+	/**
+	 * Creates a message of approximately the specified size that contains the specified number of evenly distributed XPathAnnotations
+	 * @param size the approximate number of chars of the message
+	 * @param annotationCount the number of XPathAnnotations
+	 * @param seed the seed used for choosing the filler
+	 */
+	public static String createXPathMessage(int size, int annotationCount, long seed) {
+		String[] annotations = new String[annotationCount];
+		for (int i=0; i<annotationCount; ++i)
+			annotations[i] = "$$XPATH(" + XPATH_EXPRESSIONS[i % XPATH_EXPRESSIONS.length] + ")$$";
+		return createScript(size, annotations, seed);
+	}
+
+	/**
+	 * Creates user input for all AskMoreAnnotations of the specified list (including chars that need to be encoded)
+	 * @param askMoreAnnotations a list of serialized AskMoreAnnotations
+	 */
+	public static Map<String, String> createUserInput(List<String> askMoreAnnotations) {
+		Map<String, String> userInput = new LinkedHashMap<>();
+		for (String annotation: askMoreAnnotations)
+			userInput.put(AskMoreAnnotationParser.parseAnnotation(annotation).getLabel(), "input <&> " + userInput.size());
+		return userInput;
+	}
+
+	protected static String createScript(int size, String[] annotations, long seed) {
+		Random random = new Random(seed);
+		StringBuilder script = new StringBuilder(size + 256);
+		int annotationIndex = 0;
+		while (script.length() < size || annotationIndex < annotations.length) {
+			// insert the next annotation as soon as its share of the script is reached
+			if (annotationIndex < annotations.length && script.length() >= (long) size * annotationIndex / annotations.length)
+				script.append(annotations[annotationIndex++]).append(' ');
+			else
+				script.append(FILLER_WORDS[random.nextInt(FILLER_WORDS.length)]);
+		}
+		return script.toString();
+	}
+
+}
@@ -0,0 +1,72 @@
+/**
+ * XPathAnnotationParserBenchmark.java - is a JMH benchmark of the org.adwmainz.da.extensions.askmore.utils.XPathAnnotationParser for synthetic messages
+ *  of different sizes and annotation counts as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature |
+ *  Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.adwmainz.da.extensions.askmore.models.XPathTemplate;
+import org.adwmainz.da.extensions.askmore.utils.XPathAnnotationParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ro.sync.ecss.extensions.api.AuthorOperationException;
+import ro.sync.ecss.extensions.api.node.AuthorNode;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class XPathAnnotationParserBenchmark {
+
+	// params
+	@Param({"1024", "65536", "1048576"})
+	public int messageSize;
+
+	@Param({"1", "20", "200"})
+	public int annotationCount;
+
+	@Param({"1", "100"})
+	public int resultCount;
+
+	// fields
+	protected String message;
+	protected XPathTemplate template;
+	protected AuthorNode contextNode;
+	protected StubDocumentController documentController;
+
+	@Setup
+	public void setUp() {
+		message = SyntheticScripts.createXPathMessage(messageSize, annotationCount, 42L);
+		template = XPathAnnotationParser.compileTemplate(message);
+		contextNode = new StubAuthorNode("persName", 10, 20);
+		documentController = new StubDocumentController(contextNode, resultCount);
+	}
+
+	// benchmarks
+	@Benchmark
+	public String replaceAnnotations() throws AuthorOperationException {
+		return XPathAnnotationParser.replaceAnnotations(message, contextNode, documentController);
+	}
+
+	@Benchmark
+	public String replaceAnnotationsOfCompiledTemplate() throws AuthorOperationException {
+		return XPathAnnotationParser.replaceAnnotations(template, contextNode, documentController);
+	}
+
+}
@@ -0,0 +1,42 @@
+/**
+ * DocumentPositionedInfo.java - is a minimal stub of the respective class of the Oxygen API that lets the benchmarks of the AskMoreXtension developed at the Digital Academy
+ *  of the Academy of Sciences and Literature | Mainz run headless without an Oxygen license.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package ro.sync.document;
+
+public class DocumentPositionedInfo {
+
+	// constant values
+	public static final int SEVERITY_INFO = 0;
+	public static final int SEVERITY_WARN = 1;
+	public static final int SEVERITY_ERROR = 2;
+	public static final int SEVERITY_FATAL = 3;
+
+	// fields
+	protected final int severity;
+	protected final String message;
+	protected final String systemID;
+
+	// constructor
+	public DocumentPositionedInfo(int severity, String message, String systemID) {
+		this.severity = severity;
+		this.message = message;
+		this.systemID = systemID;
+	}
+
+	// basic getters
+	public int getSeverity() {
+		return severity;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	public String getSystemID() {
+		return systemID;
+	}
+
+}
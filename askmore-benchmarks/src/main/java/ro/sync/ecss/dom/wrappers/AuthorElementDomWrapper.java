@@ -0,0 +1,18 @@
+/**
+ * AuthorElementDomWrapper.java - is a minimal stub of the respective class of the Oxygen API that lets the benchmarks of the AskMoreXtension developed at the Digital Academy
+ *  of the Academy of Sciences and Literature | Mainz run headless without an Oxygen license.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package ro.sync.ecss.dom.wrappers;
+
+import ro.sync.ecss.extensions.api.node.AuthorNode;
+
+public class AuthorElementDomWrapper extends AuthorNodeDomWrapper {
+
+	// constructor
+	public AuthorElementDomWrapper(AuthorNode wrappedAuthorNode) {
+		super(wrappedAuthorNode);
+	}
+
+}
@@ -0,0 +1,39 @@
+/**
+ * AuthorDocumentController.java - is a minimal stub of the respective interface of the Oxygen API that lets the benchmarks of the AskMoreXtension developed at the Digital Academy
+ *  of the Academy of Sciences and Literature | Mainz run headless without an Oxygen license.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package ro.sync.ecss.extensions.api;
+
+import javax.swing.text.BadLocationException;
+
+import ro.sync.ecss.extensions.api.node.AuthorDocument;
+import ro.sync.ecss.extensions.api.node.AuthorDocumentFragment;
+import ro.sync.ecss.extensions.api.node.AuthorNode;
+
+public interface AuthorDocumentController {
+
+	Object[] evaluateXPath(String xpathExpression, boolean ignoreTexts, boolean ignoreCData, boolean ignoreComments) throws AuthorOperationException;
+
+	Object[] evaluateXPath(String xpathExpression, AuthorNode contextNode, boolean ignoreTexts, boolean ignoreCData, boolean ignoreComments,
+			boolean processChangeMarkers) throws AuthorOperationException;
+
+	AuthorNode[] findNodesByXPath(String xpathExpression, boolean ignoreTexts, boolean ignoreCData, boolean ignoreComments) throws AuthorOperationException;
+
+	AuthorNode[] findNodesByXPath(String xpathExpression, AuthorNode contextNode, boolean ignoreTexts, boolean ignoreCData, boolean ignoreComments,
+			boolean processChangeMarkers) throws AuthorOperationException;
+
+	AuthorDocumentFragment createDocumentFragment(int startOffset, int endOffset) throws BadLocationException;
+
+	String serializeFragmentToXML(AuthorDocumentFragment fragment) throws BadLocationException;
+
+	AuthorDocument getAuthorDocumentNode();
+
+	AuthorNode getCommonParentNode(AuthorDocument document, int startOffset, int endOffset) throws BadLocationException;
+
+	void addAuthorListener(AuthorListener listener);
+
+	void removeAuthorListener(AuthorListener listener);
+
+}
@@ -0,0 +1,28 @@
+/**
+ * AuthorListener.java - is a minimal stub of the respective interface of the Oxygen API that lets the benchmarks of the AskMoreXtension developed at the Digital Academy
+ *  of the Academy of Sciences and Literature | Mainz run headless without an Oxygen license.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package ro.sync.ecss.extensions.api;
+
+import ro.sync.ecss.extensions.api.node.AuthorDocument;
+import ro.sync.ecss.extensions.api.node.AuthorNode;
+
+public interface AuthorListener {
+
+	void attributeChanged(AttributeChangedEvent e);
+
+	void contentDeleted(DocumentContentDeletedEvent e);
+
+	void contentInserted(DocumentContentInsertedEvent e);
+
+	void authorNodeNameChanged(AuthorNode authorNode);
+
+	void authorNodeStructureChanged(AuthorNode authorNode);
+
+	void documentChanged(AuthorDocument oldDocument, AuthorDocument newDocument);
+
+	void doctypeChanged();
+
+}
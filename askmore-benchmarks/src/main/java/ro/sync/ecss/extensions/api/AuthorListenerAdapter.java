@@ -0,0 +1,42 @@
+/**
+ * AuthorListenerAdapter.java - is a minimal stub of the respective class of the Oxygen API that lets the benchmarks of the AskMoreXtension developed at the Digital Academy
+ *  of the Academy of Sciences and Literature | Mainz run headless without an Oxygen license.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package ro.sync.ecss.extensions.api;
+
+import ro.sync.ecss.extensions.api.node.AuthorDocument;
+import ro.sync.ecss.extensions.api.node.AuthorNode;
+
+public class AuthorListenerAdapter implements AuthorListener {
+
+	@Override
+	public void attributeChanged(AttributeChangedEvent e) {
+	}
+
+	@Override
+	public void contentDeleted(DocumentContentDeletedEvent e) {
+	}
+
+	@Override
+	public void contentInserted(DocumentContentInsertedEvent e) {
+	}
+
+	@Override
+	public void authorNodeNameChanged(AuthorNode authorNode) {
+	}
+
+	@Override
+	public void authorNodeStructureChanged(AuthorNode authorNode) {
+	}
+
+	@Override
+	public void documentChanged(AuthorDocument oldDocument, AuthorDocument newDocument) {
+	}
+
+	@Override
+	public void doctypeChanged() {
+	}
+
+}
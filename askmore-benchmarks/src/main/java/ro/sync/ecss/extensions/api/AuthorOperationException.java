@@ -0,0 +1,23 @@
+/**
+ * AuthorOperationException.java - is a minimal stub of the respective class of the Oxygen API that lets the benchmarks of the AskMoreXtension developed at the Digital Academy
+ *  of the Academy of Sciences and Literature | Mainz run headless without an Oxygen license.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package ro.sync.ecss.extensions.api;
+
+public class AuthorOperationException extends Exception {
+
+	// generated serial version id
+	private static final long serialVersionUID = 4513370862719466375L;
+
+	// constructors
+	public AuthorOperationException(String message) {
+		super(message);
+	}
+
+	public AuthorOperationException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+}
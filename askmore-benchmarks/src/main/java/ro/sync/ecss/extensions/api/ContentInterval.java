@@ -0,0 +1,30 @@
+/**
+ * ContentInterval.java - is a minimal stub of the respective class of the Oxygen API that lets the benchmarks of the AskMoreXtension developed at the Digital Academy
+ *  of the Academy of Sciences and Literature | Mainz run headless without an Oxygen license.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package ro.sync.ecss.extensions.api;
+
+public class ContentInterval {
+
+	// fields
+	protected final int startOffset;
+	protected final int endOffset;
+
+	// constructor
+	public ContentInterval(int startOffset, int endOffset) {
+		this.startOffset = startOffset;
+		this.endOffset = endOffset;
+	}
+
+	// basic getters
+	public int getStartOffset() {
+		return startOffset;
+	}
+
+	public int getEndOffset() {
+		return endOffset;
+	}
+
+}
@@ -0,0 +1,24 @@
+/**
+ * AuthorDocumentFragment.java - is a minimal stub of the respective class of the Oxygen API that lets the benchmarks of the AskMoreXtension developed at the Digital Academy
+ *  of the Academy of Sciences and Literature | Mainz run headless without an Oxygen license.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package ro.sync.ecss.extensions.api.node;
+
+public class AuthorDocumentFragment {
+
+	// field
+	protected final String serializedContent;
+
+	// constructor
+	public AuthorDocumentFragment(String serializedContent) {
+		this.serializedContent = serializedContent;
+	}
+
+	// basic getter
+	public String getSerializedContent() {
+		return serializedContent;
+	}
+
+}
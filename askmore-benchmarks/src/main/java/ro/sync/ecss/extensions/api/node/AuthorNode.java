@@ -0,0 +1,19 @@
+/**
+ * AuthorNode.java - is a minimal stub of the respective interface of the Oxygen API that lets the benchmarks of the AskMoreXtension developed at the Digital Academy
+ *  of the Academy of Sciences and Literature | Mainz run headless without an Oxygen license.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package ro.sync.ecss.extensions.api.node;
+
+public interface AuthorNode {
+
+	int getStartOffset();
+
+	int getEndOffset();
+
+	AuthorNode getParent();
+
+	String getName();
+
+}
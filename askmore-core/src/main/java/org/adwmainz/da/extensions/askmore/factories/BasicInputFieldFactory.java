@@ -6,6 +6,8 @@
  */
 package org.adwmainz.da.extensions.askmore.factories;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import org.adwmainz.da.extensions.askmore.models.BasicInputField;
@@ -28,14 +30,30 @@ public class BasicInputFieldFactory {
 	 */
 	public static BasicInputField<String> createInputField(String defaultValue, Set<SelectableOption<String>> options, boolean isEditable, 
 			Set<VerboseInputVerifier> inputVerifiers) {
+		return createInputField(defaultValue, options, null, isEditable, inputVerifiers);
+	}
+	
+	/**
+	 * Creates a subclass of a BasicInputField that matches the following params
+	 * @param defaultValue a value that should be displayed on the created input field per default
+	 * @param options a set of options that should be selectable in the created input field
+	 * @param lazyOptions a list of options that should be selectable after the set of options and that are only created on demand (may be <code>null</code>)
+	 *  <br>(a basic text input field will be created if there are neither options nor lazy options)
+	 * @param isEditable specifies whether the set of options should be editable or not
+	 *  <br>(will be ignored if there are no options)
+	 * @param inputVerifiers a set of input verifiers that should be added to the input field
+	 */
+	public static BasicInputField<String> createInputField(String defaultValue, Set<SelectableOption<String>> options, List<SelectableOption<String>> lazyOptions,
+			boolean isEditable, Set<VerboseInputVerifier> inputVerifiers) {
 		// create an input field
 		BasicInputField<String> inputField;
-		if (options == null || options.isEmpty()) {
+		boolean hasLazyOptions = (lazyOptions != null && !lazyOptions.isEmpty());
+		if ((options == null || options.isEmpty()) && !hasLazyOptions) {
 			// create a text field
 			inputField = new BasicInputField<>();
 		} else {
 			// create a selection field
-			inputField = new BasicSelectionField<>(options, isEditable);
+			inputField = new BasicSelectionField<>(options != null ? options : Collections.<SelectableOption<String>>emptySet(), lazyOptions, isEditable);
 		}
 		
 		// add default value if there is one
@@ -57,8 +75,21 @@ public class BasicInputFieldFactory {
 	 */
 	public static BasicInputField<String> createMultiselectionField(String defaultValue, Set<SelectableOption<String>> options, boolean isEditable, 
 			Set<VerboseInputVerifier> inputVerifiers, String separator) {
+		return createMultiselectionField(defaultValue, options, null, isEditable, inputVerifiers, separator);
+	}
+	
+	/**
+	 * Creates a BasicMultiSelectionField that matches the following params
+	 * @param defaultValue a value that should be displayed on the created input field per default
+	 * @param options a set of options that should be selectable in the created input field
+	 * @param lazyOptions a list of options that should be selectable after the set of options and that are only created on demand (may be <code>null</code>)
+	 * @param isEditable specifies whether the set of options should be editable or not
+	 * @param inputVerifiers a set of input verifiers that should be added to the input field
+	 */
+	public static BasicInputField<String> createMultiselectionField(String defaultValue, Set<SelectableOption<String>> options,
+			List<SelectableOption<String>> lazyOptions, boolean isEditable, Set<VerboseInputVerifier> inputVerifiers, String separator) {
 		// create an input field
-		BasicInputField<String> inputField = new BasicMultiSelectionField<String>(options, isEditable, separator);
+		BasicInputField<String> inputField = new BasicMultiSelectionField<String>(options, lazyOptions, isEditable, separator);
 		
 		// add default value if there is one
 		if (StringUtils.isNonEmpty(defaultValue))
@@ -0,0 +1,277 @@
+/**
+ * AskMoreAnnotation.java - is an immutable class representing a parsed AskMoreAnnotation (i.e. its label, options, option sources, flags and source offsets) whose
+ *  input verifiers are only created from its flags once an input field is created as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.adwmainz.da.extensions.askmore.factories.BasicInputFieldFactory;
+import org.adwmainz.da.extensions.askmore.utils.AskMoreAnnotationParser;
+
+public class AskMoreAnnotation {
+
+	// fields
+	protected final String source;
+	protected final int startOffset;
+	protected final int endOffset;
+	protected final String label;
+	protected final Set<SelectableOption<String>> options;
+	protected final List<OptionSource> optionSources;
+	protected final List<AskMoreAnnotationFlag> flags;
+	protected Set<VerboseInputVerifier> inputVerifiers;
+
+	// fields derived from the flags
+	protected final String defaultValue;
+	protected final boolean isEditable;
+	protected final boolean isMultiselect;
+	protected final String separator;
+	protected final int encodingFlagCount;
+
+	// constructors
+	/**
+	 * Creates a new AskMoreAnnotation without option sources
+	 * @param source the serialized form of this AskMoreAnnotation as found in the parsed text
+	 * @param startOffset the offset of the first char of this AskMoreAnnotation within the parsed text
+	 * @param endOffset the offset after the last char of this AskMoreAnnotation within the parsed text
+	 * @param label the label of the input field to be created
+	 * @param options a set of options that should be selectable in the input field to be created
+	 * @param flags the flags of this AskMoreAnnotation in the order of their appearance
+	 */
+	public AskMoreAnnotation(String source, int startOffset, int endOffset, String label, Set<SelectableOption<String>> options,
+			List<AskMoreAnnotationFlag> flags) {
+		this(source, startOffset, endOffset, label, options, Collections.<OptionSource>emptyList(), flags);
+	}
+
+	/**
+	 * Creates a new AskMoreAnnotation with the specified params
+	 * @param source the serialized form of this AskMoreAnnotation as found in the parsed text
+	 * @param startOffset the offset of the first char of this AskMoreAnnotation within the parsed text
+	 * @param endOffset the offset after the last char of this AskMoreAnnotation within the parsed text
+	 * @param label the label of the input field to be created
+	 * @param options a set of options that should be selectable in the input field to be created
+	 * @param optionSources a list of option sources whose results should be selectable after the specified options
+	 * @param flags the flags of this AskMoreAnnotation in the order of their appearance
+	 */
+	public AskMoreAnnotation(String source, int startOffset, int endOffset, String label, Set<SelectableOption<String>> options,
+			List<OptionSource> optionSources, List<AskMoreAnnotationFlag> flags) {
+		this.source = source;
+		this.startOffset = startOffset;
+		this.endOffset = endOffset;
+		this.label = label;
+		this.options = Collections.unmodifiableSet(new LinkedHashSet<>(options));
+		this.optionSources = Collections.unmodifiableList(new ArrayList<>(optionSources));
+		this.flags = Collections.unmodifiableList(new ArrayList<>(flags));
+
+		// derive field values from flags (later flags override earlier ones)
+		String defaultValue = "";
+		boolean isEditable = false;
+		boolean isMultiselect = false;
+		String separator = " ";
+		int encodingFlagCount = 0;
+		for (AskMoreAnnotationFlag flag: flags) {
+			if (flag.getType().isEncoding())
+				++encodingFlagCount;
+			switch (flag.getType()) {
+			case DEFAULT:
+				defaultValue = flag.getArgument();
+				break;
+			case EDITABLE:
+				isEditable = true;
+				break;
+			case MULTISELECT:
+				isMultiselect = true;
+				break;
+			case SEP:
+				separator = flag.getArgument();
+				break;
+			default:
+				break;
+			}
+		}
+		this.defaultValue = defaultValue;
+		this.isEditable = isEditable;
+		this.isMultiselect = isMultiselect;
+		this.separator = separator;
+		this.encodingFlagCount = encodingFlagCount;
+	}
+
+	// basic getters
+	public String getSource() {
+		return source;
+	}
+
+	public int getStartOffset() {
+		return startOffset;
+	}
+
+	public int getEndOffset() {
+		return endOffset;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+	public Set<SelectableOption<String>> getOptions() {
+		return options;
+	}
+
+	public List<OptionSource> getOptionSources() {
+		return optionSources;
+	}
+
+	public List<AskMoreAnnotationFlag> getFlags() {
+		return flags;
+	}
+
+	public String getDefaultValue() {
+		return defaultValue;
+	}
+
+	public boolean isEditable() {
+		return isEditable;
+	}
+
+	public boolean isMultiselect() {
+		return isMultiselect;
+	}
+
+	public String getSeparator() {
+		return separator;
+	}
+
+	// additional methods
+	/**
+	 * Checks whether this AskMoreAnnotation has a flag of the specified type or not
+	 * @param type the type of the flag
+	 * @return <code>true</code> if it has at least one flag of this type
+	 */
+	public boolean hasFlag(AskMoreAnnotationFlag.Type type) {
+		for (AskMoreAnnotationFlag flag: flags)
+			if (flag.getType() == type)
+				return true;
+		return false;
+	}
+
+	/**
+	 * Returns the input verifiers created from the restriction flags of this AskMoreAnnotation
+	 * <br>(The verifiers are created on the first invocation and reused afterwards, so that parsing an annotated text neither compiles regexes nor loads
+	 *  localized messages.)
+	 * @throws IllegalArgumentException if the argument of a <code>REGEX</code> flag is not a valid pattern
+	 */
+	public synchronized Set<VerboseInputVerifier> getInputVerifiers() throws IllegalArgumentException {
+		if (inputVerifiers == null) {
+			Set<VerboseInputVerifier> inputVerifiers = new HashSet<>();
+			for (AskMoreAnnotationFlag flag: flags)
+				if (flag.getType().isRestriction())
+					inputVerifiers.add(AskMoreAnnotationParser.createInputVerifier(flag));
+			this.inputVerifiers = Collections.unmodifiableSet(inputVerifiers);
+		}
+		return inputVerifiers;
+	}
+
+	/**
+	 * Checks whether the options of this AskMoreAnnotation have to be completed by an OptionSourceResolver or not
+	 * @return <code>true</code> if it has at least one option source
+	 */
+	public boolean hasOptionSources() {
+		return (!optionSources.isEmpty());
+	}
+
+	/**
+	 * Creates a new input field from this AskMoreAnnotation
+	 * <br>(A new instance is returned on each invocation since input fields are mutable.)
+	 * @throws IllegalArgumentException if this AskMoreAnnotation has option sources or an invalid <code>REGEX</code> flag
+	 */
+	public BasicInputField<String> createInputField() throws IllegalArgumentException {
+		return createInputField(null);
+	}
+
+	/**
+	 * Creates a new input field from this AskMoreAnnotation whose options are completed by the results of its option sources
+	 * <br>(The results are passed to the input field as lazy options, so an option source like <code>FILE("path")</code> can provide large lists.)
+	 * <br>(A new instance is returned on each invocation since input fields are mutable.)
+	 * @param optionSourceResolver the OptionSourceResolver that should evaluate the option sources
+	 *  <br>(may be <code>null</code> if this AskMoreAnnotation has no option sources)
+	 * @throws IllegalArgumentException if an option source cannot be evaluated or if this AskMoreAnnotation has an invalid <code>REGEX</code> flag
+	 */
+	public BasicInputField<String> createInputField(OptionSourceResolver optionSourceResolver) throws IllegalArgumentException {
+		Set<VerboseInputVerifier> inputVerifiers = getInputVerifiers();
+
+		// collect the options of the option sources without copying them (so that large option lists are only accessed when they are displayed)
+		List<SelectableOption<String>> lazyOptions = null;
+		if (hasOptionSources()) {
+			if (optionSourceResolver == null)
+				throw new IllegalArgumentException("The option sources of " + source + " cannot be evaluated outside of a document");
+			List<List<SelectableOption<String>>> optionLists = new ArrayList<>(optionSources.size());
+			for (OptionSource optionSource: optionSources)
+				optionLists.add(optionSourceResolver.resolveOptions(optionSource));
+			lazyOptions = (optionLists.size() == 1) ? optionLists.get(0) : new CompositeOptionList<String>(optionLists);
+		}
+
+		// create input field
+		if (isMultiselect)
+			return BasicInputFieldFactory.createMultiselectionField(defaultValue, options, lazyOptions, isEditable, inputVerifiers, separator);
+		return BasicInputFieldFactory.createInputField(defaultValue, options, lazyOptions, isEditable, inputVerifiers);
+	}
+
+	/**
+	 * Encodes the specified user input as requested by the encoding flags of this AskMoreAnnotation (in the order of their appearance)
+	 * @param input the user input to be encoded
+	 * @throws IllegalArgumentException if the input cannot be URL encoded
+	 */
+	public String encode(String input) throws IllegalArgumentException {
+		if (encodingFlagCount == 0)
+			return input;
+		for (AskMoreAnnotationFlag flag: flags) {
+			if (flag.getType() == AskMoreAnnotationFlag.Type.URL_ENCODE) {
+				try {
+					input = URLEncoder.encode(input, StandardCharsets.UTF_8.toString());
+				} catch (UnsupportedEncodingException e) {
+					throw new IllegalArgumentException(e.getCause());
+				}
+			} else if (flag.getType() == AskMoreAnnotationFlag.Type.XML_ESCAPE) {
+				input = input.replace("&", "&amp;");
+				input = input.replace("<", "&lt;");
+			}
+		}
+		return input;
+	}
+
+	/**
+	 * Appends the specified user input to a StringBuilder after encoding it as requested by the encoding flags of this AskMoreAnnotation
+	 * <br>(Unencoded and XML escaped input is written directly to the StringBuilder without creating intermediate Strings.)
+	 * @param target the StringBuilder the encoded input should be appended to
+	 * @param input the user input to be encoded
+	 * @throws IllegalArgumentException if the input cannot be URL encoded
+	 */
+	public void appendEncoded(StringBuilder target, String input) throws IllegalArgumentException {
+		if (encodingFlagCount == 0) {
+			target.append(input);
+		} else if (encodingFlagCount == 1 && hasFlag(AskMoreAnnotationFlag.Type.XML_ESCAPE)) {
+			for (int i=0; i<input.length(); ++i) {
+				char c = input.charAt(i);
+				if (c == '&')
+					target.append("&amp;");
+				else if (c == '<')
+					target.append("&lt;");
+				else
+					target.append(c);
+			}
+		} else {
+			target.append(encode(input));
+		}
+	}
+
+}
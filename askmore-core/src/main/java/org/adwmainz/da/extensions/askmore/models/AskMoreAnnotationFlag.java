@@ -0,0 +1,106 @@
+/**
+ * AskMoreAnnotationFlag.java - is an immutable class representing a single flag of a parsed AskMoreAnnotation (e.g. <code>!EDITABLE</code> or
+ *  <code>!DEFAULT("value")</code>) as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+public class AskMoreAnnotationFlag {
+
+	/**
+	 * Type is an enum of all flags supported by AskMoreAnnotations
+	 */
+	public enum Type {
+		DEFAULT(true),
+		EDITABLE(false),
+		MULTISELECT(false),
+		SEP(true),
+		URL_ENCODE(false),
+		XML_ESCAPE(false),
+		REGEX(true),
+		NO_XML(false),
+		NO_SPACE(false),
+		POS_INT(false);
+
+		// field
+		private final boolean hasArgument;
+
+		// constructor
+		private Type(boolean hasArgument) {
+			this.hasArgument = hasArgument;
+		}
+
+		/**
+		 * Returns <code>true</code> if flags of this type take a quoted argument like <code>!DEFAULT("value")</code>
+		 */
+		public boolean hasArgument() {
+			return hasArgument;
+		}
+
+		/**
+		 * Returns <code>true</code> if flags of this type restrict the user input (i.e. <code>!REGEX()</code>, <code>!NO_XML</code>, <code>!NO_SPACE</code>
+		 *  and <code>!POS_INT</code>)
+		 */
+		public boolean isRestriction() {
+			return (this == REGEX || this == NO_XML || this == NO_SPACE || this == POS_INT);
+		}
+
+		/**
+		 * Returns <code>true</code> if flags of this type encode the user input (i.e. <code>!URL_ENCODE</code> and <code>!XML_ESCAPE</code>)
+		 */
+		public boolean isEncoding() {
+			return (this == URL_ENCODE || this == XML_ESCAPE);
+		}
+	}
+
+	// fields
+	protected final Type type;
+	protected final String argument;
+	protected final int startOffset;
+	protected final int endOffset;
+
+	// constructor
+	/**
+	 * Creates a new AskMoreAnnotationFlag with the specified params
+	 * @param type the type of this flag
+	 * @param argument the unescaped argument of this flag or <code>null</code> if its type does not take an argument
+	 * @param startOffset the offset of the leading exclamation mark within the parsed text
+	 * @param endOffset the offset after the last char of this flag within the parsed text
+	 */
+	public AskMoreAnnotationFlag(Type type, String argument, int startOffset, int endOffset) {
+		this.type = type;
+		this.argument = argument;
+		this.startOffset = startOffset;
+		this.endOffset = endOffset;
+	}
+
+	// basic getters
+	public Type getType() {
+		return type;
+	}
+
+	public String getArgument() {
+		return argument;
+	}
+
+	public int getStartOffset() {
+		return startOffset;
+	}
+
+	public int getEndOffset() {
+		return endOffset;
+	}
+
+	// overridden method
+	/**
+	 * Returns the serialized form of this flag without its leading exclamation mark (e.g. <code>DEFAULT("value")</code>)
+	 */
+	@Override
+	public String toString() {
+		if (argument == null)
+			return type.name();
+		return type.name() + "(\"" + argument.replace("\"", "\\\"") + "\")";
+	}
+
+}
@@ -0,0 +1,48 @@
+/**
+ * AskMoreMetricsMXBean.java - is an interface specifying the management interface of org.adwmainz.da.extensions.askmore.utils.AskMoreMetrics as shown by JMX
+ *  clients like JConsole or VisualVM as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.util.Map;
+
+public interface AskMoreMetricsMXBean {
+
+	/**
+	 * Returns the location of the JAR this MBean has been loaded from (which tells the MBeans of different frameworks apart)
+	 */
+	public String getLocation();
+
+	/**
+	 * Returns the latencies of all operations (without the time spent in input dialogs) keyed by their fully qualified class names
+	 */
+	public Map<String, LatencySnapshot> getOperationLatencies();
+
+	/**
+	 * Returns the latencies of all evaluated XPath expressions (e.g. of the arguments elementLocation and locationRestriction) keyed by the expressions
+	 */
+	public Map<String, LatencySnapshot> getXPathLatencies();
+
+	/**
+	 * Returns the latencies of filling in annotated arguments (without the time spent in input dialogs) keyed by the annotated arguments
+	 */
+	public Map<String, LatencySnapshot> getTemplateLatencies();
+
+	/**
+	 * Returns the number of hits and misses of each cache keyed by the name of the cache
+	 */
+	public Map<String, CacheSnapshot> getCacheStatistics();
+
+	/**
+	 * Returns the number of input dialogs closed or cancelled by the user
+	 */
+	public long getDialogCancellations();
+
+	/**
+	 * Discards all metrics recorded so far
+	 */
+	public void reset();
+
+}
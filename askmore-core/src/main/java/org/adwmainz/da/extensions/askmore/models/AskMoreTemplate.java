@@ -0,0 +1,130 @@
+/**
+ * AskMoreTemplate.java - is an immutable class representing a compiled text containing AskMoreAnnotations (i.e. the text and the parsed annotations
+ *  with their source offsets) as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class AskMoreTemplate {
+
+	// fields
+	protected final String text;
+	protected final List<AskMoreAnnotation> annotations;
+
+	// constructor
+	/**
+	 * Creates a new AskMoreTemplate with the specified params
+	 * @param text the compiled text
+	 * @param annotations the AskMoreAnnotations found in the compiled text in the order of their appearance
+	 *  <br>(Annotations that are not part of this list are treated as literal text.)
+	 * @throws IllegalArgumentException if the source offsets of the annotations are unordered, overlapping or out of bounds
+	 */
+	public AskMoreTemplate(String text, List<AskMoreAnnotation> annotations) throws IllegalArgumentException {
+		int previousEndOffset = 0;
+		for (AskMoreAnnotation annotation: annotations) {
+			if (annotation.getStartOffset() < previousEndOffset || annotation.getEndOffset() > text.length())
+				throw new IllegalArgumentException("The annotation " + annotation.getSource() + " is not positioned correctly");
+			previousEndOffset = annotation.getEndOffset();
+		}
+		this.text = text;
+		this.annotations = Collections.unmodifiableList(new ArrayList<>(annotations));
+	}
+
+	// basic getters
+	/**
+	 * Returns the compiled text of this AskMoreTemplate
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * Returns the AskMoreAnnotations of this AskMoreTemplate in the order of their appearance
+	 */
+	public List<AskMoreAnnotation> getAnnotations() {
+		return annotations;
+	}
+
+	// additional methods
+	/**
+	 * Checks whether this AskMoreTemplate contains AskMoreAnnotations or not
+	 * @return <code>true</code> if it contains at least one AskMoreAnnotation
+	 */
+	public boolean hasAnnotations() {
+		return (!annotations.isEmpty());
+	}
+
+	/**
+	 * Checks whether this AskMoreTemplate contains AskMoreAnnotations with option sources or not
+	 * @return <code>true</code> if at least one AskMoreAnnotation has an option source
+	 */
+	public boolean hasOptionSources() {
+		for (AskMoreAnnotation annotation: annotations)
+			if (annotation.hasOptionSources())
+				return true;
+		return false;
+	}
+
+	/**
+	 * Creates a new Map of labels and input fields that may be used as the dialog model of a LabeledTextInputDialog
+	 * @throws IllegalArgumentException if an AskMoreAnnotation has option sources
+	 */
+	public Map<String, BasicInputField<String>> createDialogModel() throws IllegalArgumentException {
+		return createDialogModel(null);
+	}
+
+	/**
+	 * Creates a new Map of labels and input fields that may be used as the dialog model of a LabeledTextInputDialog
+	 * @param optionSourceResolver the OptionSourceResolver that should evaluate the option sources of the AskMoreAnnotations
+	 *  <br>(may be <code>null</code> if there are no option sources)
+	 * @throws IllegalArgumentException if an option source cannot be evaluated
+	 */
+	public Map<String, BasicInputField<String>> createDialogModel(OptionSourceResolver optionSourceResolver) throws IllegalArgumentException {
+		Map<String, BasicInputField<String>> dialogModel = new LinkedHashMap<>();
+		for (AskMoreAnnotation annotation: annotations)
+			dialogModel.put(annotation.getLabel(), annotation.createInputField(optionSourceResolver));
+		return dialogModel;
+	}
+
+	/**
+	 * Renders this AskMoreTemplate by replacing all AskMoreAnnotations with the specified user input
+	 * <br>(The text is walked only once and inserted input is never parsed again.)
+	 * @param userInput user input from a dialog created with <code>createDialogModel()</code>
+	 * @throws IllegalArgumentException if there is no user input for one of the labels
+	 */
+	public String render(Map<String, String> userInput) throws IllegalArgumentException {
+		if (annotations.isEmpty())
+			return text;
+
+		// get user input and calculate the length of the rendered text
+		String[] inputs = new String[annotations.size()];
+		int renderedLength = text.length();
+		for (int i=0; i<inputs.length; ++i) {
+			AskMoreAnnotation annotation = annotations.get(i);
+			inputs[i] = userInput.get(annotation.getLabel());
+			if (inputs[i] == null)
+				throw new IllegalArgumentException("There is no user input for the label \"" + annotation.getLabel() + "\"");
+			renderedLength += inputs[i].length() - (annotation.getEndOffset() - annotation.getStartOffset());
+		}
+
+		// append literal segments and encoded user input
+		StringBuilder renderedText = new StringBuilder(Math.max(renderedLength, 16));
+		int literalStart = 0;
+		for (int i=0; i<inputs.length; ++i) {
+			AskMoreAnnotation annotation = annotations.get(i);
+			renderedText.append(text, literalStart, annotation.getStartOffset());
+			annotation.appendEncoded(renderedText, inputs[i]);
+			literalStart = annotation.getEndOffset();
+		}
+		renderedText.append(text, literalStart, text.length());
+		return renderedText.toString();
+	}
+
+}
@@ -2,10 +2,11 @@
  * BasicMultiSelectionField.java - is a generic extension of a org.adwmainz.da.extensions.askmore.models.BasicBasicField representing a simple selection field that allows
  *  multiselection as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
  * @author Patrick D. Brookshire
- * @version 1.6.0
+ * @version 1.7.0
  */
 package org.adwmainz.da.extensions.askmore.models;
 
+import java.util.List;
 import java.util.Set;
 
 public class BasicMultiSelectionField<T> extends BasicSelectionField<T> {
@@ -19,6 +20,11 @@ public class BasicMultiSelectionField<T> extends BasicSelectionField<T> {
 		this.separator = separator;
 	}
 
+	public BasicMultiSelectionField(Set<SelectableOption<T>> options, List<SelectableOption<T>> lazyOptions, boolean isEditable, String separator) {
+		super(options, lazyOptions, isEditable);
+		this.separator = separator;
+	}
+
 	// additional getters and setters
 	public String getSeparator() {
 		return separator;
@@ -2,17 +2,22 @@
  * BasicSelectionField.java - is a generic extension of a org.adwmainz.da.extensions.askmore.models.BasicInputField representing a simple selection field as used within
  *  the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
  * @author Patrick D. Brookshire
- * @version 1.0.0
+ * @version 1.7.0
  */
 package org.adwmainz.da.extensions.askmore.models;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 public class BasicSelectionField<T> extends BasicInputField<T> {
 
 	// additional fields
 	protected Set<SelectableOption<T>> options;
+	protected List<SelectableOption<T>> lazyOptions; // options created on demand (e.g. from an authority file) that follow the options of the set
 	protected boolean isEditable;
 	
 	// constructors
@@ -39,6 +44,18 @@ public class BasicSelectionField<T> extends BasicInputField<T> {
 		this.isEditable = isEditable;
 		this.defaultValue = defaultOption.getRealValue();
 	}
+
+	/**
+	 * Creates a new SelectionField with the specified options and options that are created on demand
+	 * @param options a set of options that should be selectable from this input field
+	 * @param lazyOptions a list of options that should be selectable after the set of options and whose elements should only be accessed when they are
+	 *  displayed (may be <code>null</code>)
+	 * @param isEditable a boolean controlling whether a user should be able to add options or not
+	 */
+	public BasicSelectionField(Set<SelectableOption<T>> options, List<SelectableOption<T>> lazyOptions, boolean isEditable) {
+		this(options, isEditable);
+		this.lazyOptions = lazyOptions;
+	}
 	
 	// additional getters and setters
 	public Set<SelectableOption<T>> getOptions() {
@@ -49,6 +66,14 @@ public class BasicSelectionField<T> extends BasicInputField<T> {
 		this.options = options;
 	}
 
+	public List<SelectableOption<T>> getLazyOptions() {
+		return lazyOptions;
+	}
+
+	public void setLazyOptions(List<SelectableOption<T>> lazyOptions) {
+		this.lazyOptions = lazyOptions;
+	}
+
 	public boolean isEditable() {
 		return isEditable;
 	}
@@ -56,5 +81,25 @@ public class BasicSelectionField<T> extends BasicInputField<T> {
 	public void setEditable(boolean isEditable) {
 		this.isEditable = isEditable;
 	}
-	
+
+	// additional methods
+	/**
+	 * Checks whether this SelectionField has options that are created on demand or not
+	 * @return <code>true</code> if there is a non-empty list of lazy options
+	 */
+	public boolean hasLazyOptions() {
+		return (lazyOptions != null && !lazyOptions.isEmpty());
+	}
+
+	/**
+	 * Returns all options of this SelectionField as a random access list (i.e. the options of the set followed by the lazy options)
+	 * <br>(The lazy options are not copied, so they are only created when the returned list is accessed.)
+	 */
+	public List<SelectableOption<T>> getOptionList() {
+		List<SelectableOption<T>> eagerOptions = new ArrayList<>(options);
+		if (!hasLazyOptions())
+			return Collections.unmodifiableList(eagerOptions);
+		return new CompositeOptionList<T>(Arrays.asList(eagerOptions, lazyOptions));
+	}
+
 }
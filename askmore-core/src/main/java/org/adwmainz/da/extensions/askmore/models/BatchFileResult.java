@@ -0,0 +1,68 @@
+/**
+ * BatchFileResult.java - is a model class storing whether a single file of a batch has been transformed successfully as used within the AskMoreXtension
+ *  developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.nio.file.Path;
+
+public class BatchFileResult {
+
+	// fields
+	protected final Path file;
+	protected final Throwable error;
+	protected final long durationMillis;
+
+	// constructor
+	/**
+	 * Creates a new BatchFileResult
+	 * @param file the processed file
+	 * @param error the cause of the failure or <code>null</code> if the file has been transformed successfully
+	 * @param durationMillis the time spent on the file in milliseconds
+	 */
+	public BatchFileResult(Path file, Throwable error, long durationMillis) {
+		this.file = file;
+		this.error = error;
+		this.durationMillis = durationMillis;
+	}
+
+	// basic getters
+	public Path getFile() {
+		return file;
+	}
+
+	public Throwable getError() {
+		return error;
+	}
+
+	public long getDurationMillis() {
+		return durationMillis;
+	}
+
+	// additional methods
+	/**
+	 * Checks whether the file has been transformed and replaced successfully
+	 */
+	public boolean isSuccessful() {
+		return (error == null);
+	}
+
+	/**
+	 * Returns the message of the error or the name of its class if it has no message
+	 */
+	public String getErrorMessage() {
+		if (error == null)
+			return null;
+		String message = error.getMessage();
+		return (message == null || message.isEmpty()) ? error.getClass().getSimpleName() : message;
+	}
+
+	// overridden method
+	@Override
+	public String toString() {
+		return file + (isSuccessful() ? "" : ": " + getErrorMessage());
+	}
+
+}
@@ -0,0 +1,46 @@
+/**
+ * CacheSnapshot.java - is an immutable class storing the number of hits and misses of a cache at a certain point in time (which JMX clients display as
+ *  composite data) as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.beans.ConstructorProperties;
+
+public class CacheSnapshot {
+
+	// fields
+	protected final long hits;
+	protected final long misses;
+
+	// constructor
+	/**
+	 * Creates a new CacheSnapshot
+	 * @param hits the number of lookups answered by the cache
+	 * @param misses the number of lookups that had to compute their value
+	 */
+	@ConstructorProperties({"hits", "misses"})
+	public CacheSnapshot(long hits, long misses) {
+		this.hits = hits;
+		this.misses = misses;
+	}
+
+	// basic getters
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the share of lookups answered by the cache (or 0 if there was no lookup)
+	 */
+	public double getHitRatio() {
+		long lookups = hits + misses;
+		return (lookups == 0) ? 0 : (double) hits / lookups;
+	}
+
+}
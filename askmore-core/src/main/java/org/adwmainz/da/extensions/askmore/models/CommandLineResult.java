@@ -0,0 +1,67 @@
+/**
+ * CommandLineResult.java - is a model class storing how a command line process has ended as used within the AskMoreXtension developed at the Digital
+ *  Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+public class CommandLineResult {
+
+	// fields
+	protected final int exitCode;
+	protected final boolean isTimedOut;
+	protected final boolean isCancelled;
+	protected final long durationMillis;
+
+	// constructor
+	/**
+	 * Creates a new CommandLineResult
+	 * @param exitCode the exit code of the process
+	 * @param isTimedOut specifies whether the process has been stopped because it exceeded its timeout
+	 * @param isCancelled specifies whether the process has been stopped by the user
+	 * @param durationMillis the run time of the process in milliseconds
+	 */
+	public CommandLineResult(int exitCode, boolean isTimedOut, boolean isCancelled, long durationMillis) {
+		this.exitCode = exitCode;
+		this.isTimedOut = isTimedOut;
+		this.isCancelled = isCancelled;
+		this.durationMillis = durationMillis;
+	}
+
+	// basic getters
+	public int getExitCode() {
+		return exitCode;
+	}
+
+	public boolean isTimedOut() {
+		return isTimedOut;
+	}
+
+	public boolean isCancelled() {
+		return isCancelled;
+	}
+
+	public long getDurationMillis() {
+		return durationMillis;
+	}
+
+	// additional method
+	/**
+	 * Checks whether the process has ended by itself with the exit code 0
+	 */
+	public boolean isSuccessful() {
+		return (!isTimedOut && !isCancelled && exitCode == 0);
+	}
+
+	// overridden method
+	@Override
+	public String toString() {
+		if (isCancelled)
+			return "cancelled after " + durationMillis + " ms";
+		if (isTimedOut)
+			return "timed out after " + durationMillis + " ms";
+		return "exit code " + exitCode + " after " + durationMillis + " ms";
+	}
+
+}
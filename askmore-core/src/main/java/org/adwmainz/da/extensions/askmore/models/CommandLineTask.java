@@ -0,0 +1,40 @@
+/**
+ * CommandLineTask.java - is an interface for tasks that execute a command line in the background while passing on its output line by line as used within
+ *  the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+public interface CommandLineTask {
+
+	/**
+	 * Executes the task and blocks until it has ended, timed out or been cancelled
+	 * @param listener a Listener notified whenever a line of output has been read (may be <code>null</code>)
+	 * @return the CommandLineResult of the task
+	 * @throws Exception if the task cannot be executed
+	 * @throws InterruptedException if the current thread is interrupted while waiting for the task (which cancels the task)
+	 */
+	public CommandLineResult run(Listener listener) throws Exception, InterruptedException;
+
+	/**
+	 * Stops the task
+	 * <br>(May be invoked from any thread.)
+	 */
+	public void cancel();
+
+	/**
+	 * Listener is an interface for classes that should be notified about the output of a CommandLineTask
+	 */
+	public interface Listener {
+
+		/**
+		 * Is invoked whenever a line of output has been read
+		 * @param line the line without its line terminator
+		 * @param isErrorOutput specifies whether the line has been written to the error output
+		 */
+		public void lineRead(String line, boolean isErrorOutput);
+
+	}
+
+}
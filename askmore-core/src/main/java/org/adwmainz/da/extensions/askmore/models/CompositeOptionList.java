@@ -0,0 +1,96 @@
+/**
+ * CompositeOptionList.java - is an unmodifiable view of several lists of org.adwmainz.da.extensions.askmore.models.SelectableOption objects that are
+ *  concatenated without copying their elements as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature
+ *  | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+public class CompositeOptionList<T> extends AbstractList<SelectableOption<T>> implements RandomAccess {
+
+	// fields
+	protected final List<List<SelectableOption<T>>> optionLists;
+	protected final int[] startPositions;
+	protected final int size;
+
+	// constructor
+	/**
+	 * Creates a new CompositeOptionList
+	 * @param optionLists the lists to be concatenated (which should support random access)
+	 */
+	public CompositeOptionList(List<? extends List<SelectableOption<T>>> optionLists) {
+		this.optionLists = new ArrayList<>(optionLists);
+		this.startPositions = new int[optionLists.size()];
+		int size = 0;
+		for (int i=0; i<startPositions.length; ++i) {
+			startPositions[i] = size;
+			size += optionLists.get(i).size();
+		}
+		this.size = size;
+	}
+
+	// basic getter
+	/**
+	 * Returns the concatenated lists
+	 */
+	public List<List<SelectableOption<T>>> getOptionLists() {
+		return Collections.unmodifiableList(optionLists);
+	}
+
+	// additional methods
+	/**
+	 * Returns the rendered value of the option at the specified position without creating a SelectableOption if the option is stored in a MappedOptionList
+	 * @param position the position of the option
+	 */
+	public String getRenderedValue(int position) {
+		int listIndex = findListIndex(position);
+		List<SelectableOption<T>> optionList = optionLists.get(listIndex);
+		int listPosition = position - startPositions[listIndex];
+		if ((Object) optionList instanceof MappedOptionList)
+			return ((MappedOptionList) (Object) optionList).getRenderedValue(listPosition);
+		if (optionList instanceof CompositeOptionList)
+			return ((CompositeOptionList<T>) optionList).getRenderedValue(listPosition);
+		return optionList.get(listPosition).toString();
+	}
+
+	/**
+	 * Returns the index of the list containing the option at the specified position
+	 * @throws IndexOutOfBoundsException if the position is out of bounds
+	 */
+	protected int findListIndex(int position) throws IndexOutOfBoundsException {
+		if (position < 0 || position >= size)
+			throw new IndexOutOfBoundsException("Position " + position + " is out of bounds for size " + size);
+
+		// find the list by a binary search of its start position
+		int low = 0;
+		int high = startPositions.length - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (startPositions[middle] <= position)
+				low = middle;
+			else
+				high = middle - 1;
+		}
+		return low;
+	}
+
+	// overridden methods
+	@Override
+	public SelectableOption<T> get(int position) {
+		int listIndex = findListIndex(position);
+		return optionLists.get(listIndex).get(position - startPositions[listIndex]);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+}
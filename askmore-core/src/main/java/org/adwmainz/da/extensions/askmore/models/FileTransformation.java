@@ -0,0 +1,55 @@
+/**
+ * FileTransformation.java - is an interface for transformations that stream the transformed content of a file as used within the AskMoreXtension developed
+ *  at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+public interface FileTransformation {
+
+	/**
+	 * Writes the transformed content of a file to an OutputStream
+	 * <br>(A FileTransformation is only used by a single thread at a time.)
+	 * @param sourceFile the file to be transformed
+	 * @param output the stream the transformed content should be written to (which is closed by the caller)
+	 * @throws Exception if the file cannot be transformed
+	 */
+	public void transform(Path sourceFile, OutputStream output) throws Exception;
+
+	/**
+	 * Checks the transformed content of a file before the file is replaced with it
+	 * <br>(By default, any content is accepted.)
+	 * @param transformedFile a temporary file containing the transformed content
+	 * @throws Exception if the content must not replace the file (which is then left unchanged)
+	 */
+	public default void verify(Path transformedFile) throws Exception {
+		// accept any content
+	}
+
+	/**
+	 * Factory is an interface for classes that create a separate FileTransformation for each worker thread of a batch
+	 */
+	public interface Factory {
+
+		/**
+		 * Creates a new FileTransformation
+		 * @throws Exception if the transformation cannot be prepared (e.g. if its script is invalid)
+		 */
+		public FileTransformation createTransformation() throws Exception;
+
+		/**
+		 * Is invoked once a batch has been finished for each FileTransformation created by this factory
+		 * <br>(Implementations may keep the transformation for later batches. By default, it is discarded.)
+		 * @param transformation a FileTransformation that is not used anymore
+		 */
+		public default void releaseTransformation(FileTransformation transformation) {
+			// discard transformation
+		}
+
+	}
+
+}
@@ -2,17 +2,17 @@
  * IllegalCharInputVerifier.java - is an extension of a org.adwmainz.da.extensions.askmore.models.VerboseInputVerifier that checks if an input contains illegal
  *  chars as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
  * @author Patrick D. Brookshire
- * @version 1.0.0
+ * @version 1.7.0
  */
 package org.adwmainz.da.extensions.askmore.models;
 
-import javax.swing.JComponent;
-import javax.swing.text.JTextComponent;
+import java.util.BitSet;
 
 public class IllegalCharInputVerifier extends VerboseInputVerifier {
 
-	// additional field
+	// additional fields
 	char[] illegalChars;
+	protected BitSet illegalCharSet; // a bitmap indexed by chars
 
 	// constructor
 	/**
@@ -23,13 +23,18 @@ public class IllegalCharInputVerifier extends VerboseInputVerifier {
 	public IllegalCharInputVerifier(char[] illegalChars, String message) {
 		super(message);
 		this.illegalChars = illegalChars;
+		this.illegalCharSet = new BitSet();
+		for (char c: illegalChars)
+			illegalCharSet.set(c);
 	}
 
+	/**
+	 * Checks whether the input does not contain any illegal char by scanning it once
+	 */
 	@Override
-	public boolean verify(JComponent input) {
-		String inputAsText = ((JTextComponent)input).getText();
-		for (char c: illegalChars)
-			if (inputAsText.contains(""+c))
+	public boolean verify(String input) {
+		for (int i=0; i<input.length(); ++i)
+			if (illegalCharSet.get(input.charAt(i)))
 				return false;
 		return true;
 	}
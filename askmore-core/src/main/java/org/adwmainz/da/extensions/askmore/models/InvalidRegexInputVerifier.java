@@ -0,0 +1,46 @@
+/**
+ * InvalidRegexInputVerifier.java - is an extension of a org.adwmainz.da.extensions.askmore.models.ValidRegexInputVerifier that checks if an input does not match a
+ *  precompiled regex within a time budget as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+public class InvalidRegexInputVerifier extends ValidRegexInputVerifier {
+
+	// constructors
+	/**
+	 * Creates a new InvalidRegexInputVerifier with the specified params and the default time budget
+	 * @param regex the regex pattern input must not match
+	 * @param message a message that explains why an invalid input is not valid
+	 * @throws IllegalArgumentException if the regex is not a valid pattern
+	 */
+	public InvalidRegexInputVerifier(String regex, String message) throws IllegalArgumentException {
+		super(regex, message);
+	}
+
+	/**
+	 * Creates a new InvalidRegexInputVerifier with the specified params
+	 * @param regex the regex pattern input must not match
+	 * @param message a message that explains why an invalid input is not valid
+	 * @param timeBudgetMillis the maximum number of milliseconds a single verification may take before the input is treated as invalid
+	 * @throws IllegalArgumentException if the regex is not a valid pattern or if the time budget is not positive
+	 */
+	public InvalidRegexInputVerifier(String regex, String message, long timeBudgetMillis) throws IllegalArgumentException {
+		super(regex, message, timeBudgetMillis);
+	}
+
+	/**
+	 * Checks whether the input does not match the regex
+	 * <br>(Input whose verification exceeds the time budget is treated as invalid.)
+	 */
+	@Override
+	public boolean verify(String input) {
+		try {
+			return !matches(input);
+		} catch (TimeBudgetExceededException e) {
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,118 @@
+/**
+ * LatencyHistogram.java - is a thread safe and lock-free histogram of latencies with log-linear buckets (i.e. each power of two is split into
+ *  SUB_BUCKET_COUNT buckets of equal width so that each recorded value is kept with a relative error of at most 1/SUB_BUCKET_COUNT) as used within the
+ *  AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongBinaryOperator;
+
+public class LatencyHistogram {
+
+	// constant values
+	protected static final int SUB_BUCKET_BITS = 3;
+	public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	/**
+	 * The exponent of the largest power of two that is split into buckets (i.e. latencies of at least 2^41 microseconds, which is about 25 days, share
+	 *  a single overflow bucket)
+	 */
+	protected static final int MAX_EXPONENT = 40;
+	protected static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT + 1;
+
+	// fields (all latencies are recorded in microseconds)
+	protected final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+	protected final LongAdder totalMicros = new LongAdder();
+	protected final LongAccumulator maxMicros = new LongAccumulator(new LongBinaryOperator() {
+
+		@Override
+		public long applyAsLong(long left, long right) {
+			return Math.max(left, right);
+		}
+
+	}, 0);
+
+	// additional methods
+	/**
+	 * Records a latency
+	 * @param nanos the latency in nanoseconds
+	 */
+	public void record(long nanos) {
+		long micros = Math.max(nanos / 1000, 0);
+		buckets.incrementAndGet(getBucketIndex(micros));
+		totalMicros.add(micros);
+		maxMicros.accumulate(micros);
+	}
+
+	/**
+	 * Returns the count, the mean, the 50th, 90th and 99th percentile and the max of all latencies recorded so far
+	 * <br>(Percentiles are reported as the upper bound of their bucket.)
+	 */
+	public LatencySnapshot getSnapshot() {
+		long[] counts = new long[BUCKET_COUNT];
+		long count = 0;
+		for (int i=0; i<BUCKET_COUNT; ++i) {
+			counts[i] = buckets.get(i);
+			count += counts[i];
+		}
+		long max = maxMicros.get();
+		if (count == 0)
+			return new LatencySnapshot(0, 0, 0, 0, 0, 0);
+
+		return new LatencySnapshot(count, toMillis((double) totalMicros.sum() / count), toMillis(getPercentile(counts, count, 0.5, max)),
+				toMillis(getPercentile(counts, count, 0.9, max)), toMillis(getPercentile(counts, count, 0.99, max)), toMillis(max));
+	}
+
+	/**
+	 * Returns the upper bound of the bucket containing the specified percentile (which is never greater than the max)
+	 */
+	protected static long getPercentile(long[] counts, long count, double percentile, long max) {
+		long rank = Math.max((long) Math.ceil(percentile * count), 1);
+		long seen = 0;
+		for (int i=0; i<counts.length; ++i) {
+			seen += counts[i];
+			if (seen >= rank)
+				return Math.min(getBucketUpperBound(i), max);
+		}
+		return max;
+	}
+
+	/**
+	 * Returns the index of the bucket of a latency
+	 * <br>(Values below SUB_BUCKET_COUNT get a bucket each while larger values share a bucket with values of the same power of two and the same
+	 *  SUB_BUCKET_BITS most significant bits.)
+	 * @param micros a latency in microseconds
+	 */
+	protected static int getBucketIndex(long micros) {
+		if (micros < SUB_BUCKET_COUNT)
+			return (int) micros;
+		int exponent = 63 - Long.numberOfLeadingZeros(micros);
+		if (exponent > MAX_EXPONENT)
+			return BUCKET_COUNT - 1;
+		int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKET_COUNT;
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	/**
+	 * Returns the largest latency in microseconds that is counted in the specified bucket
+	 * @param index the index of a bucket
+	 */
+	protected static long getBucketUpperBound(int index) {
+		if (index < SUB_BUCKET_COUNT)
+			return index;
+		if (index == BUCKET_COUNT - 1)
+			return Long.MAX_VALUE;
+		int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+		long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+		return ((subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+	}
+
+	protected static double toMillis(double micros) {
+		return micros / 1000;
+	}
+
+}
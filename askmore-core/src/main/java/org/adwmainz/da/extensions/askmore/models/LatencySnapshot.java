@@ -0,0 +1,66 @@
+/**
+ * LatencySnapshot.java - is an immutable class storing the statistics of a LatencyHistogram at a certain point in time (which JMX clients display as
+ *  composite data) as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.beans.ConstructorProperties;
+
+public class LatencySnapshot {
+
+	// fields
+	protected final long count;
+	protected final double meanMillis;
+	protected final double p50Millis;
+	protected final double p90Millis;
+	protected final double p99Millis;
+	protected final double maxMillis;
+
+	// constructor
+	/**
+	 * Creates a new LatencySnapshot
+	 * @param count the number of recorded latencies
+	 * @param meanMillis the mean latency in milliseconds
+	 * @param p50Millis the median latency in milliseconds
+	 * @param p90Millis the 90th percentile in milliseconds
+	 * @param p99Millis the 99th percentile in milliseconds
+	 * @param maxMillis the max latency in milliseconds
+	 */
+	@ConstructorProperties({"count", "meanMillis", "p50Millis", "p90Millis", "p99Millis", "maxMillis"})
+	public LatencySnapshot(long count, double meanMillis, double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+		this.count = count;
+		this.meanMillis = meanMillis;
+		this.p50Millis = p50Millis;
+		this.p90Millis = p90Millis;
+		this.p99Millis = p99Millis;
+		this.maxMillis = maxMillis;
+	}
+
+	// basic getters
+	public long getCount() {
+		return count;
+	}
+
+	public double getMeanMillis() {
+		return meanMillis;
+	}
+
+	public double getP50Millis() {
+		return p50Millis;
+	}
+
+	public double getP90Millis() {
+		return p90Millis;
+	}
+
+	public double getP99Millis() {
+		return p99Millis;
+	}
+
+	public double getMaxMillis() {
+		return maxMillis;
+	}
+
+}
@@ -0,0 +1,251 @@
+/**
+ * MappedOptionList.java - is an immutable list of org.adwmainz.da.extensions.askmore.models.SelectableOption objects that are decoded on demand from a memory
+ *  mapped authority file (i.e. a UTF-8 encoded file with one option per line and the tab separated columns <code>REAL_VALUE</code> and <code>RENDERED_VALUE</code>)
+ *  using a sorted index of line offsets as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+public class MappedOptionList extends AbstractList<SelectableOption<String>> implements RandomAccess {
+
+	// constant values
+	protected static final byte COLUMN_SEPARATOR = '\t';
+	protected static final byte LINE_SEPARATOR = '\n';
+	protected static final byte CARRIAGE_RETURN = '\r';
+
+	// fields
+	protected final ByteBuffer data;
+	protected final IntBuffer index;
+
+	// constructor
+	/**
+	 * Creates a new MappedOptionList with the specified params
+	 * @param data the (mapped) content of an authority file
+	 * @param index the offsets of all lines of the authority file sorted by their rendered values (c.f. {@link #sortLineOffsets(ByteBuffer, int[])})
+	 */
+	public MappedOptionList(ByteBuffer data, IntBuffer index) {
+		this.data = data;
+		this.index = index;
+	}
+
+	// static methods
+	/**
+	 * Returns the offsets of all non-empty lines of an authority file in the order of their appearance
+	 * <br>(A leading byte order mark is skipped.)
+	 * @param data the content of an authority file
+	 */
+	public static int[] findLineOffsets(ByteBuffer data) {
+		int limit = data.limit();
+		int offset = (limit >= 3 && (data.get(0) & 0xFF) == 0xEF && (data.get(1) & 0xFF) == 0xBB && (data.get(2) & 0xFF) == 0xBF) ? 3 : 0;
+
+		int[] lineOffsets = new int[1024];
+		int count = 0;
+		while (offset < limit) {
+			int lineEnd = findLineEnd(data, offset);
+			if (getValueEnd(data, offset, lineEnd) > offset) {
+				if (count == lineOffsets.length) {
+					int[] grownOffsets = new int[count + (count >> 1)];
+					System.arraycopy(lineOffsets, 0, grownOffsets, 0, count);
+					lineOffsets = grownOffsets;
+				}
+				lineOffsets[count++] = offset;
+			}
+			offset = lineEnd + 1;
+		}
+
+		int[] trimmedOffsets = new int[count];
+		System.arraycopy(lineOffsets, 0, trimmedOffsets, 0, count);
+		return trimmedOffsets;
+	}
+
+	/**
+	 * Sorts line offsets by comparing the UTF-8 bytes of the rendered values of their lines (which is equivalent to comparing their code points)
+	 * <br>(A stable merge sort is used so that no objects are created per line.)
+	 * @param data the content of an authority file
+	 * @param lineOffsets line offsets as returned by {@link #findLineOffsets(ByteBuffer)}
+	 */
+	public static void sortLineOffsets(ByteBuffer data, int[] lineOffsets) {
+		int[] buffer = new int[lineOffsets.length];
+		int[] source = lineOffsets;
+		int[] target = buffer;
+		for (int width = 1; width < lineOffsets.length; width <<= 1) {
+			for (int start = 0; start < lineOffsets.length; start += width << 1) {
+				int middle = Math.min(start + width, lineOffsets.length);
+				int end = Math.min(start + (width << 1), lineOffsets.length);
+				int left = start;
+				int right = middle;
+				for (int i = start; i < end; ++i) {
+					if (left < middle && (right >= end || compareRenderedValues(data, source[left], source[right]) <= 0))
+						target[i] = source[left++];
+					else
+						target[i] = source[right++];
+				}
+			}
+			int[] swap = source;
+			source = target;
+			target = swap;
+		}
+		if (source != lineOffsets)
+			System.arraycopy(source, 0, lineOffsets, 0, lineOffsets.length);
+	}
+
+	// additional methods
+	/**
+	 * Returns the real value of the option at the specified position without creating a SelectableOption
+	 * @param position the position of the option
+	 */
+	public String getRealValue(int position) {
+		int lineOffset = index.get(position);
+		int lineEnd = findLineEnd(data, lineOffset);
+		return decode(lineOffset, getValueEnd(data, lineOffset, lineEnd));
+	}
+
+	/**
+	 * Returns the rendered value of the option at the specified position without creating a SelectableOption
+	 * @param position the position of the option
+	 */
+	public String getRenderedValue(int position) {
+		int lineOffset = index.get(position);
+		int lineEnd = findLineEnd(data, lineOffset);
+		int renderedValueOffset = getRenderedValueOffset(data, lineOffset, lineEnd);
+		return decode(renderedValueOffset, getValueEnd(data, renderedValueOffset, lineEnd));
+	}
+
+	/**
+	 * Returns the position of the first option whose rendered value is not smaller than the specified prefix
+	 * <br>(All options whose rendered values start with the prefix follow this position.)
+	 * @param prefix a prefix of rendered values
+	 */
+	public int findFirstPosition(String prefix) {
+		byte[] prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+		int low = 0;
+		int high = size();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (compareRenderedValue(middle, prefixBytes) < 0)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+		return low;
+	}
+
+	/**
+	 * Checks whether the rendered value of the option at the specified position starts with the specified prefix
+	 * @param position the position of the option
+	 * @param prefix a prefix of rendered values
+	 */
+	public boolean hasRenderedValuePrefix(int position, String prefix) {
+		byte[] prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+		int lineOffset = index.get(position);
+		int lineEnd = findLineEnd(data, lineOffset);
+		int renderedValueOffset = getRenderedValueOffset(data, lineOffset, lineEnd);
+		int renderedValueEnd = getValueEnd(data, renderedValueOffset, lineEnd);
+		if (renderedValueEnd - renderedValueOffset < prefixBytes.length)
+			return false;
+		for (int i=0; i<prefixBytes.length; ++i)
+			if (data.get(renderedValueOffset + i) != prefixBytes[i])
+				return false;
+		return true;
+	}
+
+	protected int compareRenderedValue(int position, byte[] bytes) {
+		int lineOffset = index.get(position);
+		int lineEnd = findLineEnd(data, lineOffset);
+		int offset = getRenderedValueOffset(data, lineOffset, lineEnd);
+		int end = getValueEnd(data, offset, lineEnd);
+		for (int i=0; i<bytes.length; ++i, ++offset) {
+			if (offset == end)
+				return -1;
+			int difference = (data.get(offset) & 0xFF) - (bytes[i] & 0xFF);
+			if (difference != 0)
+				return difference;
+		}
+		return 0;
+	}
+
+	protected String decode(int offset, int end) {
+		byte[] bytes = new byte[end - offset];
+		for (int i=0; i<bytes.length; ++i)
+			bytes[i] = data.get(offset + i);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	// helper methods
+	protected static int compareRenderedValues(ByteBuffer data, int lineOffset, int otherLineOffset) {
+		int lineEnd = findLineEnd(data, lineOffset);
+		int otherLineEnd = findLineEnd(data, otherLineOffset);
+		int offset = getRenderedValueOffset(data, lineOffset, lineEnd);
+		int otherOffset = getRenderedValueOffset(data, otherLineOffset, otherLineEnd);
+		int end = getValueEnd(data, offset, lineEnd);
+		int otherEnd = getValueEnd(data, otherOffset, otherLineEnd);
+		for (; offset < end && otherOffset < otherEnd; ++offset, ++otherOffset) {
+			int difference = (data.get(offset) & 0xFF) - (data.get(otherOffset) & 0xFF);
+			if (difference != 0)
+				return difference;
+		}
+		return (end - offset) - (otherEnd - otherOffset);
+	}
+
+	/**
+	 * Returns the offset of the line separator that ends the line starting at the specified offset (or the limit of the data)
+	 */
+	protected static int findLineEnd(ByteBuffer data, int lineOffset) {
+		int limit = data.limit();
+		int offset = lineOffset;
+		while (offset < limit && data.get(offset) != LINE_SEPARATOR)
+			++offset;
+		return offset;
+	}
+
+	/**
+	 * Returns the offset after the last char of the value starting at the specified offset (i.e. the offset of the next tab or of the line end
+	 *  without any trailing carriage return)
+	 */
+	protected static int getValueEnd(ByteBuffer data, int valueOffset, int lineEnd) {
+		int offset = valueOffset;
+		while (offset < lineEnd && data.get(offset) != COLUMN_SEPARATOR)
+			++offset;
+		if (offset == lineEnd && offset > valueOffset && data.get(offset - 1) == CARRIAGE_RETURN)
+			--offset;
+		return offset;
+	}
+
+	/**
+	 * Returns the offset of the second column of a line or the offset of the line if it has a single column only
+	 */
+	protected static int getRenderedValueOffset(ByteBuffer data, int lineOffset, int lineEnd) {
+		int realValueEnd = getValueEnd(data, lineOffset, lineEnd);
+		return (realValueEnd < lineEnd && data.get(realValueEnd) == COLUMN_SEPARATOR) ? realValueEnd + 1 : lineOffset;
+	}
+
+	// overridden methods
+	/**
+	 * Creates the SelectableOption at the specified position
+	 * <br>(A new instance is created on each invocation so that no option is held in memory longer than needed.)
+	 */
+	@Override
+	public SelectableOption<String> get(int position) {
+		int lineOffset = index.get(position);
+		int lineEnd = findLineEnd(data, lineOffset);
+		int realValueEnd = getValueEnd(data, lineOffset, lineEnd);
+		String realValue = decode(lineOffset, realValueEnd);
+		int renderedValueOffset = getRenderedValueOffset(data, lineOffset, lineEnd);
+		if (renderedValueOffset == lineOffset)
+			return new SelectableOption<String>(realValue);
+		return new SelectableOption<String>(realValue, decode(renderedValueOffset, getValueEnd(data, renderedValueOffset, lineEnd)));
+	}
+
+	@Override
+	public int size() {
+		return index.limit();
+	}
+
+}
@@ -0,0 +1,34 @@
+/**
+ * OperationPhase.java - is an enum of the phases an operation may spend its time in as recorded by org.adwmainz.da.extensions.askmore.utils.OperationRecorder
+ *  as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+public enum OperationPhase {
+
+	PARSING("Annotation Parsing"),
+	USER_INPUT("User Input"),
+	XPATH("XPath Evaluation"),
+	SERIALIZATION("Serialization"),
+	DELEGATION("Delegated Operation"),
+	EXECUTION("Execution");
+
+	// field
+	private final String label;
+
+	// constructor
+	private OperationPhase(String label) {
+		this.label = label;
+	}
+
+	// basic getter
+	/**
+	 * Returns the human readable name of this OperationPhase
+	 */
+	public String getLabel() {
+		return label;
+	}
+
+}
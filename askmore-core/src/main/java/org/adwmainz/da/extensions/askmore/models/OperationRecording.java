@@ -0,0 +1,37 @@
+/**
+ * OperationRecording.java - is a class representing a running recording of an operation that does nothing unless it is created by an enabled
+ *  org.adwmainz.da.extensions.askmore.utils.OperationRecorder as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences
+ *  and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+public class OperationRecording {
+
+	// constant value
+	/**
+	 * An OperationRecording that records nothing (which is used while no recording is running)
+	 */
+	public static final OperationRecording DISABLED = new OperationRecording();
+
+	// constructor
+	protected OperationRecording() {
+	}
+
+	// additional methods
+	/**
+	 * Sets the number of results of the operation
+	 * <br>(Otherwise the results of its XPath phases are counted.)
+	 * @param resultCount a number of results
+	 */
+	public void setResultCount(int resultCount) {
+	}
+
+	/**
+	 * Ends this recording (which must be invoked exactly once, usually in a <code>finally</code> block)
+	 */
+	public void end() {
+	}
+
+}
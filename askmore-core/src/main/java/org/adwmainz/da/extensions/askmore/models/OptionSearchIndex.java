@@ -0,0 +1,402 @@
+/**
+ * OptionSearchIndex.java - is an immutable trigram index over the case and diacritic folded rendered values of a list of
+ *  org.adwmainz.da.extensions.askmore.models.SelectableOption objects that returns the positions of the best matching options as used within the
+ *  AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+
+public class OptionSearchIndex {
+
+	// constant values
+	protected static final int TRIGRAM_LENGTH = 3;
+	protected static final char WORD_SEPARATOR = ' ';
+
+	// quality levels of a match (lower is better)
+	protected static final int EXACT_MATCH = 0;
+	protected static final int PREFIX_MATCH = 1;
+	protected static final int WORD_PREFIX_MATCH = 2;
+	protected static final int INFIX_MATCH = 3;
+
+	// fields of an index over a single list
+	protected final String[] foldedValues; // null if the values are folded from mappedValues on verification
+	protected final MappedOptionList mappedValues;
+	protected final int[] trigramKeys; // ascending distinct keys of trigrams and word starts
+	protected final int[] postingStarts; // start of the postings of each key (followed by the number of postings)
+	protected final int[] postings; // ascending positions per key
+
+	// fields of an index concatenating other indexes
+	protected final OptionSearchIndex[] parts;
+	protected final int[] partStarts;
+
+	protected final int size;
+
+	// constructors
+	/**
+	 * Creates a new OptionSearchIndex over the rendered values of the specified options
+	 * <br>(The index does not keep a reference to the options, so it may be cached as long as the options are. The folded values of a MappedOptionList
+	 *  are not kept on the heap but folded again from the mapped file when candidates are verified.)
+	 * @param options a random access list of options
+	 */
+	public OptionSearchIndex(List<? extends SelectableOption<?>> options) {
+		this.size = options.size();
+		if (options instanceof MappedOptionList) {
+			// share the mapped buffers without referencing the list itself
+			MappedOptionList mappedOptions = (MappedOptionList) options;
+			this.mappedValues = new MappedOptionList(mappedOptions.data, mappedOptions.index);
+			this.foldedValues = null;
+		} else {
+			this.mappedValues = null;
+			this.foldedValues = new String[size];
+		}
+		this.parts = null;
+		this.partStarts = null;
+
+		// collect a (key, position) pair per trigram of each folded value prefixed by a word separator and per first character of each word
+		long[] entries = new long[Math.max(size * 16, 16)];
+		int entryCount = 0;
+		for (int position=0; position<size; ++position) {
+			String foldedValue = fold(getRenderedValue(options, position));
+			if (foldedValues != null)
+				foldedValues[position] = foldedValue;
+			String paddedValue = WORD_SEPARATOR + foldedValue;
+			int trigramCount = Math.max(paddedValue.length() - TRIGRAM_LENGTH + 1, 0);
+			if (entryCount + 2 * trigramCount + 1 > entries.length)
+				entries = Arrays.copyOf(entries, Math.max(entries.length + (entries.length >> 1), entryCount + 2 * trigramCount + 1));
+			for (int i=0; i<trigramCount; ++i)
+				entries[entryCount++] = ((long) getTrigramKey(paddedValue, i) << 32) | position;
+			for (int i=0; i + 1 < paddedValue.length(); ++i)
+				if (paddedValue.charAt(i) == WORD_SEPARATOR)
+					entries[entryCount++] = ((long) getWordStartKey(paddedValue.charAt(i + 1)) << 32) | position;
+		}
+		Arrays.sort(entries, 0, entryCount);
+
+		// group the pairs by their keys and drop repeated trigrams of the same value
+		int[] keys = new int[1024];
+		int[] starts = new int[1025];
+		int[] positions = new int[entryCount];
+		int keyCount = 0;
+		int postingCount = 0;
+		for (int i=0; i<entryCount; ++i) {
+			if (i > 0 && entries[i] == entries[i - 1])
+				continue;
+			int key = (int) (entries[i] >> 32);
+			if (keyCount == 0 || keys[keyCount - 1] != key) {
+				if (keyCount == keys.length) {
+					keys = Arrays.copyOf(keys, keyCount + (keyCount >> 1));
+					starts = Arrays.copyOf(starts, keys.length + 1);
+				}
+				keys[keyCount] = key;
+				starts[keyCount++] = postingCount;
+			}
+			positions[postingCount++] = (int) entries[i];
+		}
+		starts[keyCount] = postingCount;
+		this.trigramKeys = Arrays.copyOf(keys, keyCount);
+		this.postingStarts = Arrays.copyOf(starts, keyCount + 1);
+		this.postings = Arrays.copyOf(positions, postingCount);
+	}
+
+	/**
+	 * Creates a new OptionSearchIndex that concatenates the specified indexes
+	 * @param parts the indexes of consecutive option lists
+	 */
+	protected OptionSearchIndex(OptionSearchIndex[] parts) {
+		this.foldedValues = null;
+		this.mappedValues = null;
+		this.trigramKeys = null;
+		this.postingStarts = null;
+		this.postings = null;
+		this.parts = parts;
+		this.partStarts = new int[parts.length];
+		int size = 0;
+		for (int i=0; i<parts.length; ++i) {
+			partStarts[i] = size;
+			size += parts[i].size;
+		}
+		this.size = size;
+	}
+
+	// static methods
+	/**
+	 * Returns an OptionSearchIndex over the options of consecutive lists (e.g. the lists of a CompositeOptionList) by reusing their indexes
+	 * @param indexes the indexes of the lists in their order
+	 */
+	public static OptionSearchIndex concat(List<OptionSearchIndex> indexes) {
+		if (indexes.size() == 1)
+			return indexes.get(0);
+		return new OptionSearchIndex(indexes.toArray(new OptionSearchIndex[indexes.size()]));
+	}
+
+	/**
+	 * Folds a text for diacritic and case insensitive comparisons
+	 * <br>Any diacritic is removed after a compatibility decomposition, all letters are converted to lower case and all sequences of characters other
+	 *  than letters and digits are replaced by a single space. Additionally, some spelling variants are unified so that e.g. <i>Müller</i>,
+	 *  <i>Mueller</i> and <i>Muller</i> or <i>Jacob</i>, <i>Iacob</i> and <i>Yacob</i> are folded equally:
+	 *  <br><code>ß</code> &rarr; <code>ss</code>, <code>æ</code> &rarr; <code>a</code>, <code>œ</code> &rarr; <code>o</code>, <code>ø</code>
+	 *  &rarr; <code>o</code>, <code>ł</code> &rarr; <code>l</code>, <code>đ</code> and <code>ð</code> &rarr; <code>d</code>, <code>þ</code>
+	 *  &rarr; <code>th</code>, <code>j</code> and <code>y</code> &rarr; <code>i</code>, <code>v</code> &rarr; <code>u</code> and <code>ae</code>,
+	 *  <code>oe</code> and <code>ue</code> &rarr; <code>a</code>, <code>o</code> and <code>u</code>
+	 * @param text the text to be folded
+	 */
+	public static String fold(String text) {
+		String decomposedText = isAscii(text) ? text : Normalizer.normalize(text, Normalizer.Form.NFKD);
+		StringBuilder foldedText = new StringBuilder(decomposedText.length());
+		for (int i=0; i<decomposedText.length(); ) {
+			int codePoint = decomposedText.codePointAt(i);
+			i += Character.charCount(codePoint);
+			int type = Character.getType(codePoint);
+			if (type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK || type == Character.COMBINING_SPACING_MARK)
+				continue;
+			if (!Character.isLetterOrDigit(codePoint)) {
+				if (foldedText.length() > 0 && foldedText.charAt(foldedText.length() - 1) != WORD_SEPARATOR)
+					foldedText.append(WORD_SEPARATOR);
+				continue;
+			}
+			appendFolded(foldedText, Character.toLowerCase(codePoint));
+		}
+		int length = foldedText.length();
+		if (length > 0 && foldedText.charAt(length - 1) == WORD_SEPARATOR)
+			foldedText.setLength(length - 1);
+		return foldedText.toString();
+	}
+
+	/**
+	 * Checks whether a single value matches a query just like the values of an OptionSearchIndex
+	 * <br>(may be used for options added after an index was built)
+	 * @param value the (unfolded) value to be checked
+	 * @param query the (unfolded) query
+	 */
+	public static boolean matches(String value, String query) {
+		String foldedQuery = fold(query);
+		return (rate(fold(value), foldedQuery, splitQuery(foldedQuery)) >= 0);
+	}
+
+	// basic getter
+	/**
+	 * Returns the number of indexed options
+	 */
+	public int size() {
+		return size;
+	}
+
+	// additional methods
+	/**
+	 * Returns the positions of the options that match all words of the specified query ranked by their match quality
+	 * <br>A word of the query matches a value if it is contained in a word of the value or (if it is shorter than three characters) if it is the prefix
+	 *  of a word of the value. Matches are ranked by whether they are equal to the query, start with it or only contain words starting with the words of
+	 *  the query, then by their lengths and finally by their positions.
+	 * @param query the (unfolded) query
+	 * @param maxResults the maximum number of positions to be returned
+	 * @return the positions of the best matches or an empty array if the query does not contain any letters or digits
+	 */
+	public int[] search(String query, int maxResults) {
+		String foldedQuery = fold(query);
+		if (foldedQuery.isEmpty() || maxResults <= 0)
+			return new int[0];
+		RankedPositions rankedPositions = new RankedPositions(maxResults);
+		collectMatches(foldedQuery, splitQuery(foldedQuery), 0, rankedPositions);
+		return rankedPositions.toArray();
+	}
+
+	protected void collectMatches(String foldedQuery, String[] words, int offset, RankedPositions rankedPositions) {
+		if (parts != null) {
+			for (int i=0; i<parts.length; ++i)
+				parts[i].collectMatches(foldedQuery, words, offset + partStarts[i], rankedPositions);
+			return;
+		}
+
+		// find the key with the fewest postings (short words are looked up as word prefixes)
+		int bestKeyIndex = -1;
+		for (String word: words) {
+			String paddedWord = (word.length() < TRIGRAM_LENGTH) ? WORD_SEPARATOR + word : word;
+			int keyCount = Math.max(paddedWord.length() - TRIGRAM_LENGTH + 1, 1);
+			for (int i=0; i<keyCount; ++i) {
+				int key = (paddedWord.length() < TRIGRAM_LENGTH) ? getWordStartKey(word.charAt(0)) : getTrigramKey(paddedWord, i);
+				int keyIndex = Arrays.binarySearch(trigramKeys, key);
+				if (keyIndex < 0)
+					return; // no value contains this key
+				if (bestKeyIndex < 0 || getPostingCount(keyIndex) < getPostingCount(bestKeyIndex))
+					bestKeyIndex = keyIndex;
+			}
+		}
+
+		// verify the candidates
+		int candidateCount = getPostingCount(bestKeyIndex);
+		for (int i=0; i<candidateCount; ++i) {
+			int position = postings[postingStarts[bestKeyIndex] + i];
+			String foldedValue = getFoldedValue(position);
+			int quality = rate(foldedValue, foldedQuery, words);
+			if (quality >= 0)
+				rankedPositions.add(quality, foldedValue.length(), offset + position);
+		}
+	}
+
+	/**
+	 * Returns the folded value at the specified position of an index over a single list
+	 */
+	protected String getFoldedValue(int position) {
+		return (foldedValues != null) ? foldedValues[position] : fold(mappedValues.getRenderedValue(position));
+	}
+
+	protected int getPostingCount(int keyIndex) {
+		return postingStarts[keyIndex + 1] - postingStarts[keyIndex];
+	}
+
+	// helper methods
+	/**
+	 * Rates how well a folded value matches a folded query
+	 * @return the quality of the match or <code>-1</code> if the value does not match
+	 */
+	protected static int rate(String foldedValue, String foldedQuery, String[] words) {
+		boolean hasOnlyWordPrefixes = true;
+		for (String word: words) {
+			if (indexOfWordPrefix(foldedValue, word) < 0) {
+				if (word.length() < TRIGRAM_LENGTH || !foldedValue.contains(word))
+					return -1;
+				hasOnlyWordPrefixes = false;
+			}
+		}
+		if (foldedValue.equals(foldedQuery))
+			return EXACT_MATCH;
+		if (foldedValue.startsWith(foldedQuery))
+			return PREFIX_MATCH;
+		return hasOnlyWordPrefixes ? WORD_PREFIX_MATCH : INFIX_MATCH;
+	}
+
+	/**
+	 * Returns the index of the first word of a folded value that starts with the specified prefix or <code>-1</code>
+	 */
+	protected static int indexOfWordPrefix(String foldedValue, String prefix) {
+		int index = foldedValue.indexOf(prefix);
+		while (index > 0 && foldedValue.charAt(index - 1) != WORD_SEPARATOR)
+			index = foldedValue.indexOf(prefix, index + 1);
+		return index;
+	}
+
+	protected static String[] splitQuery(String foldedQuery) {
+		return foldedQuery.isEmpty() ? new String[0] : foldedQuery.split(String.valueOf(WORD_SEPARATOR));
+	}
+
+	/**
+	 * Returns a hash of the three characters starting at the specified index (hash collisions only add candidates that are verified anyway)
+	 */
+	protected static int getTrigramKey(String text, int index) {
+		return (text.charAt(index) * 31 + text.charAt(index + 1)) * 31 + text.charAt(index + 2);
+	}
+
+	/**
+	 * Returns the key of all words starting with the specified character
+	 * <br>(It equals the key of the trigram of a single character word, which is a word start anyway.)
+	 */
+	protected static int getWordStartKey(char firstChar) {
+		return (WORD_SEPARATOR * 31 + firstChar) * 31 + WORD_SEPARATOR;
+	}
+
+	protected static boolean isAscii(String text) {
+		for (int i=0; i<text.length(); ++i)
+			if (text.charAt(i) >= 0x80)
+				return false;
+		return true;
+	}
+
+	/**
+	 * Returns the rendered value of an option without creating a SelectableOption if the option is stored in a MappedOptionList
+	 */
+	protected static String getRenderedValue(List<? extends SelectableOption<?>> options, int position) {
+		if (options instanceof MappedOptionList)
+			return ((MappedOptionList) options).getRenderedValue(position);
+		if (options instanceof CompositeOptionList)
+			return ((CompositeOptionList<?>) options).getRenderedValue(position);
+		return options.get(position).toString();
+	}
+
+	/**
+	 * Appends a lower case code point after unifying some spelling variants
+	 */
+	protected static void appendFolded(StringBuilder foldedText, int codePoint) {
+		switch (codePoint) {
+		case '\u00df': // sharp s
+			foldedText.append("ss");
+			break;
+		case '\u00e6': // ae
+			appendFolded(foldedText, 'a');
+			break;
+		case '\u0153': // oe
+		case '\u00f8': // o with stroke
+			appendFolded(foldedText, 'o');
+			break;
+		case '\u0142': // l with stroke
+			foldedText.append('l');
+			break;
+		case '\u0111': // d with stroke
+		case '\u00f0': // eth
+			foldedText.append('d');
+			break;
+		case '\u00fe': // thorn
+			foldedText.append("th");
+			break;
+		case '\u0131': // dotless i
+		case 'j':
+		case 'y':
+			foldedText.append('i');
+			break;
+		case 'v':
+			foldedText.append('u');
+			break;
+		case 'e':
+			// unify ae, oe and ue with their umlauts
+			int length = foldedText.length();
+			char previousChar = (length > 0) ? foldedText.charAt(length - 1) : WORD_SEPARATOR;
+			if (previousChar != 'a' && previousChar != 'o' && previousChar != 'u')
+				foldedText.append('e');
+			break;
+		default:
+			foldedText.appendCodePoint(codePoint);
+		}
+	}
+
+	/**
+	 * RankedPositions is a protected class collecting the positions of the best matches in ascending order of their scores
+	 */
+	protected static class RankedPositions {
+
+		// fields
+		private final long[] scores;
+		private int count;
+
+		// constructor
+		protected RankedPositions(int maxCount) {
+			this.scores = new long[maxCount];
+		}
+
+		/**
+		 * Adds a position if it ranks better than the worst position collected so far
+		 */
+		protected void add(int quality, int length, int position) {
+			long score = ((long) quality << 60) | ((long) Math.min(length, 0xFFFFFFF) << 32) | position;
+			if (count == scores.length && score >= scores[count - 1])
+				return;
+			int index = (count == scores.length) ? count - 1 : count++;
+			while (index > 0 && scores[index - 1] > score) {
+				scores[index] = scores[index - 1];
+				--index;
+			}
+			scores[index] = score;
+		}
+
+		protected int[] toArray() {
+			int[] positions = new int[count];
+			for (int i=0; i<count; ++i)
+				positions[i] = (int) scores[i];
+			return positions;
+		}
+
+	}
+
+}
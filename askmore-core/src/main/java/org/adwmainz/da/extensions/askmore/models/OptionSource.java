@@ -0,0 +1,65 @@
+/**
+ * OptionSource.java - is an immutable class representing an expression within the options of an AskMoreAnnotation (e.g. <code>XPATH("//person/@xml:id")</code> or <code>FILE("places.tsv")</code>)
+ *  whose results should be offered as selectable options as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and
+ *  Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+public class OptionSource {
+
+	/**
+	 * Type is an enum of all supported kinds of option sources
+	 */
+	public enum Type {
+		XPATH,
+		FILE;
+	}
+
+	// fields
+	protected final Type type;
+	protected final String expression;
+
+	// constructor
+	/**
+	 * Creates a new OptionSource with the specified params
+	 * @param type the kind of this OptionSource
+	 * @param expression the expression whose results should be offered as selectable options
+	 */
+	public OptionSource(Type type, String expression) {
+		this.type = type;
+		this.expression = expression;
+	}
+
+	// basic getters
+	public Type getType() {
+		return type;
+	}
+
+	public String getExpression() {
+		return expression;
+	}
+
+	// overridden methods
+	@Override
+	public String toString() {
+		return type.name() + "(\"" + expression.replace("\"", "\\\"") + "\")";
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * type.hashCode() + expression.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof OptionSource))
+			return false;
+		OptionSource other = (OptionSource) obj;
+		return (type == other.type && expression.equals(other.expression));
+	}
+
+}
@@ -0,0 +1,20 @@
+/**
+ * OptionSourceResolver.java - is an interface for classes that evaluate the org.adwmainz.da.extensions.askmore.models.OptionSource objects of AskMoreAnnotations
+ *  as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.util.List;
+
+public interface OptionSourceResolver {
+
+	/**
+	 * Returns the selectable options provided by the specified OptionSource
+	 * @param optionSource an OptionSource
+	 * @throws IllegalArgumentException if the OptionSource is not supported or cannot be evaluated
+	 */
+	public List<SelectableOption<String>> resolveOptions(OptionSource optionSource) throws IllegalArgumentException;
+
+}
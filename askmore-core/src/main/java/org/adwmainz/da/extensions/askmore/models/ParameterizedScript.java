@@ -0,0 +1,467 @@
+/**
+ * ParameterizedScript.java - is an immutable class representing an XQuery or XSLT script whose AskMoreAnnotations are bound as typed external params instead
+ *  of being replaced by user input (so that the script text stays the same for any user input) as used within the AskMoreXtension developed at the Digital
+ *  Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ParameterizedScript {
+
+	/**
+	 * Language is an enum of all script languages whose annotations can be bound as params
+	 */
+	public enum Language {
+		XQUERY,
+		XSLT
+	}
+
+	// constant values
+	public static final String PARAM_PREFIX = "askmore_";
+	public static final String VALUE_SUFFIX = "_value";
+	public static final String ENCODED_VALUE_PREFIX = "~";
+	public static final char CODE_POINT_SEPARATOR = '.';
+
+	// keywords of XQuery prolog declarations that must precede variable declarations
+	private static final String[] XQUERY_SETTER_KEYWORDS = {"base-uri", "boundary-space", "construction", "copy-namespaces", "decimal-format", "default",
+			"namespace", "ordering", "revalidation"};
+
+	// fields
+	protected final AskMoreTemplate template;
+	protected final Language language;
+	protected final List<String> labels;
+	protected final List<AskMoreAnnotation> labelAnnotations;
+	protected final boolean[] isIntegerParam;
+	protected final String xsltPrefix;
+	protected final String scriptHead;
+	protected final String scriptTail;
+	protected final String script;
+
+	// constructor
+	/**
+	 * Creates a new ParameterizedScript
+	 * <br>Each distinct label of the annotations is bound to a param that is typed as <code>xs:integer</code> if one of its annotations has the flag
+	 *  <code>!POS_INT</code> and as <code>xs:string</code> otherwise. Each annotation is replaced by a reference to its param, so that annotations must
+	 *  be placed where an expression is expected (and not within string literals). The declarations of the params are inserted after all XQuery prolog
+	 *  declarations that must precede variable declarations or after all <code>xsl:import</code> elements of an XSLT stylesheet. The declaration of an
+	 *  <code>xs:string</code> param decodes values encoded by bindValues(), so that the script is the same for any value.
+	 * @param template the compiled script
+	 * @param language the language of the script
+	 * @throws IllegalArgumentException if no position for the declarations can be found
+	 */
+	public ParameterizedScript(AskMoreTemplate template, Language language) throws IllegalArgumentException {
+		this.template = template;
+		this.language = language;
+
+		// collect distinct labels
+		List<String> labels = new ArrayList<>();
+		List<AskMoreAnnotation> labelAnnotations = new ArrayList<>();
+		List<Boolean> integerFlags = new ArrayList<>();
+		for (AskMoreAnnotation annotation: template.getAnnotations()) {
+			int paramIndex = labels.indexOf(annotation.getLabel());
+			if (paramIndex < 0) {
+				labels.add(annotation.getLabel());
+				labelAnnotations.add(annotation);
+				integerFlags.add(annotation.hasFlag(AskMoreAnnotationFlag.Type.POS_INT));
+			} else if (annotation.hasFlag(AskMoreAnnotationFlag.Type.POS_INT)) {
+				integerFlags.set(paramIndex, true);
+			}
+		}
+		this.labels = Collections.unmodifiableList(labels);
+		this.labelAnnotations = labelAnnotations;
+		this.isIntegerParam = new boolean[labels.size()];
+		for (int i=0; i<isIntegerParam.length; ++i)
+			isIntegerParam[i] = integerFlags.get(i);
+
+		// replace annotations with param references
+		String text = template.getText();
+		StringBuilder referencedText = new StringBuilder(text.length());
+		int literalStart = 0;
+		for (AskMoreAnnotation annotation: template.getAnnotations()) {
+			referencedText.append(text, literalStart, annotation.getStartOffset());
+			referencedText.append('$').append(PARAM_PREFIX).append(labels.indexOf(annotation.getLabel()) + 1);
+			literalStart = annotation.getEndOffset();
+		}
+		referencedText.append(text, literalStart, text.length());
+
+		// split the script at the position of the declarations
+		String referencedScript = referencedText.toString();
+		int declarationOffset;
+		if (labels.isEmpty()) {
+			xsltPrefix = "";
+			declarationOffset = 0;
+		} else if (language == Language.XSLT) {
+			xsltPrefix = findXSLTPrefix(referencedScript);
+			declarationOffset = findXSLTDeclarationOffset(referencedScript, xsltPrefix);
+		} else {
+			xsltPrefix = null;
+			declarationOffset = findXQueryDeclarationOffset(referencedScript);
+		}
+		this.scriptHead = referencedScript.substring(0, declarationOffset);
+		this.scriptTail = referencedScript.substring(declarationOffset);
+		this.script = createScript(Collections.<String, String>emptyMap());
+	}
+
+	// basic getters
+	public AskMoreTemplate getTemplate() {
+		return template;
+	}
+
+	public Language getLanguage() {
+		return language;
+	}
+
+	/**
+	 * Returns the distinct labels of the annotations in the order of the params
+	 */
+	public List<String> getLabels() {
+		return labels;
+	}
+
+	/**
+	 * Returns the script with all params declared as external params
+	 */
+	public String getScript() {
+		return script;
+	}
+
+	// additional methods
+	/**
+	 * Returns the name of the external param of the specified label
+	 * @param index the index of the label
+	 */
+	public String getParamName(int index) {
+		return PARAM_PREFIX + (index + 1) + VALUE_SUFFIX;
+	}
+
+	/**
+	 * Checks whether the param of the specified label is typed as <code>xs:integer</code>
+	 * @param index the index of the label
+	 */
+	public boolean isIntegerParam(int index) {
+		return isIntegerParam[index];
+	}
+
+	/**
+	 * Returns the values of all external params keyed by their names
+	 * <br>(Each value is encoded as requested by the flags of the first annotation with its label. String values that cannot be passed within comma
+	 *  separated <code>name=value</code> pairs are encoded afterwards as the prefix <code>~</code> followed by their code points separated by dots, which
+	 *  are decoded by the script again.)
+	 * @param userInput the user input keyed by the labels of the annotations
+	 * @throws IllegalArgumentException if there is no user input for one of the labels or if an integer param has no integer value
+	 */
+	public Map<String, String> bindValues(Map<String, String> userInput) throws IllegalArgumentException {
+		Map<String, String> values = new LinkedHashMap<>();
+		for (int i=0; i<labels.size(); ++i) {
+			String input = userInput.get(labels.get(i));
+			if (input == null)
+				throw new IllegalArgumentException("There is no user input for the label \"" + labels.get(i) + "\"");
+			String value = labelAnnotations.get(i).encode(input);
+			if (isIntegerParam[i] && !isInteger(value))
+				throw new IllegalArgumentException("The user input for the label \"" + labels.get(i) + "\" is not an integer");
+			values.put(getParamName(i), isIntegerParam[i] ? value : encodeParamValue(value));
+		}
+		return values;
+	}
+
+	/**
+	 * Returns the script with the specified params declared with literal values and all other params declared as external params
+	 * <br>(The script is changed by each inlined value, so that it has to be compiled again. Values that cannot be passed as <code>name=value</code>
+	 *  pairs should therefore be passed as they are returned by bindValues() instead.)
+	 * @param inlinedValues values of external params keyed by their names as returned by bindValues()
+	 */
+	public String createScript(Map<String, String> inlinedValues) {
+		if (labels.isEmpty())
+			return scriptHead + scriptTail;
+
+		StringBuilder declarations = new StringBuilder();
+		for (int i=0; i<labels.size(); ++i) {
+			String paramName = getParamName(i);
+			String inlinedValue = inlinedValues.get(paramName);
+			String referenceName = PARAM_PREFIX + (i + 1);
+			String type = isIntegerParam[i] ? "xs:integer" : "xs:string";
+			String conversion = isIntegerParam[i] ? "xs:integer($" + paramName + ")" : createDecodingExpression(paramName);
+			if (language == Language.XSLT) {
+				String paramElement = (xsltPrefix.isEmpty()) ? "param" : xsltPrefix + ":param";
+				String variableElement = (xsltPrefix.isEmpty()) ? "variable" : xsltPrefix + ":variable";
+				declarations.append('<').append(paramElement).append(" name=\"").append(paramName).append('"');
+				if (inlinedValue == null)
+					declarations.append(" required=\"yes\"/>");
+				else
+					declarations.append(" select=\"").append(escapeXMLAttribute(createStringLiteral(inlinedValue))).append("\"/>");
+				declarations.append('<').append(variableElement).append(" xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" name=\"").append(referenceName)
+						.append("\" as=\"").append(type).append("\" select=\"").append(escapeXMLAttribute(conversion)).append("\"/>");
+			} else {
+				declarations.append("declare variable $").append(paramName);
+				if (inlinedValue == null)
+					declarations.append(" external; ");
+				else
+					declarations.append(" := ").append(createStringLiteral(inlinedValue).replace("&", "&amp;")).append("; ");
+				declarations.append("declare variable $").append(referenceName).append(" as ").append(type).append(" := ").append(conversion)
+						.append("; ");
+			}
+		}
+		// separate the declarations from the script by single spaces (since the whitespace of the script is reduced)
+		String separatedDeclarations = declarations.toString().trim();
+		if (!scriptHead.isEmpty() && !scriptHead.endsWith(" "))
+			separatedDeclarations = " " + separatedDeclarations;
+		if (!scriptTail.isEmpty() && !scriptTail.startsWith(" "))
+			separatedDeclarations += " ";
+		return scriptHead + separatedDeclarations + scriptTail;
+	}
+
+	/**
+	 * Returns an XQuery script whose query body is applied as an XQuery Update expression to a copy of the context document which is returned afterwards
+	 * <br>(The prolog of the script is kept, while its query body is evaluated with the copy as context item, so that an updating script like
+	 *  <code>replace value of node //title with "..."</code> returns the updated document instead of the empty sequence.)
+	 * @param script an XQuery script whose query body is an updating expression
+	 * @throws IllegalArgumentException if a prolog declaration is not terminated
+	 */
+	public static String createTransformScript(String script) throws IllegalArgumentException {
+		int prologEnd = findXQueryPrologEnd(script);
+		String documentName = "$" + PARAM_PREFIX + "document";
+		return script.substring(0, prologEnd) + " copy " + documentName + " := . modify " + documentName + " ! (" + script.substring(prologEnd)
+				+ " ) return " + documentName;
+	}
+
+	/**
+	 * Returns the offset after the last XQuery prolog declaration (or the start of the script)
+	 * @param script an XQuery script
+	 * @throws IllegalArgumentException if a declaration is not terminated
+	 */
+	protected static int findXQueryPrologEnd(String script) throws IllegalArgumentException {
+		int prologEnd = 0;
+		while (true) {
+			int offset = skipXQueryComments(script, prologEnd);
+			if (!startsWithKeyword(script, offset, "xquery") && !startsWithKeyword(script, offset, "module") && !startsWithKeyword(script, offset, "import")
+					&& !startsWithKeyword(script, offset, "declare"))
+				return prologEnd;
+			prologEnd = findXQuerySeparator(script, offset) + 1;
+		}
+	}
+
+	/**
+	 * Returns the offset after the last XQuery prolog declaration that must precede variable declarations (or the start of the script)
+	 * @param script an XQuery script
+	 * @throws IllegalArgumentException if a declaration is not terminated
+	 */
+	protected static int findXQueryDeclarationOffset(String script) throws IllegalArgumentException {
+		int declarationOffset = 0;
+		while (true) {
+			int offset = skipXQueryComments(script, declarationOffset);
+			if (!startsWithKeyword(script, offset, "xquery") && !startsWithKeyword(script, offset, "module") && !startsWithKeyword(script, offset, "import")) {
+				if (!startsWithKeyword(script, offset, "declare"))
+					return declarationOffset;
+				int keywordOffset = skipXQueryComments(script, offset + "declare".length());
+				boolean isSetter = false;
+				for (String keyword: XQUERY_SETTER_KEYWORDS)
+					isSetter |= startsWithKeyword(script, keywordOffset, keyword);
+				if (!isSetter)
+					return declarationOffset;
+			}
+			declarationOffset = findXQuerySeparator(script, offset) + 1;
+		}
+	}
+
+	/**
+	 * Returns the prefix of the root element of an XSLT stylesheet
+	 * @param script an XSLT stylesheet
+	 * @throws IllegalArgumentException if the root element is no <code>stylesheet</code>, <code>transform</code> or <code>package</code> element
+	 */
+	protected static String findXSLTPrefix(String script) throws IllegalArgumentException {
+		int offset = skipXMLMarkup(script, 0);
+		int nameEnd = offset + 1;
+		while (nameEnd < script.length() && !Character.isWhitespace(script.charAt(nameEnd)) && script.charAt(nameEnd) != '>' && script.charAt(nameEnd) != '/')
+			++nameEnd;
+		String name = (offset < script.length()) ? script.substring(offset + 1, nameEnd) : "";
+		int separatorIndex = name.indexOf(':');
+		String localName = name.substring(separatorIndex + 1);
+		if (!localName.equals("stylesheet") && !localName.equals("transform") && !localName.equals("package"))
+			throw new IllegalArgumentException("The root element of an XSLT script must be a stylesheet, transform or package element");
+		return (separatorIndex < 0) ? "" : name.substring(0, separatorIndex);
+	}
+
+	/**
+	 * Returns the offset after the start tag of the root element of an XSLT stylesheet and all following import elements
+	 * @param script an XSLT stylesheet
+	 * @param prefix the prefix of the root element
+	 * @throws IllegalArgumentException if a tag is not terminated
+	 */
+	protected static int findXSLTDeclarationOffset(String script, String prefix) throws IllegalArgumentException {
+		String importName = (prefix.isEmpty()) ? "import" : prefix + ":import";
+		int declarationOffset = findTagEnd(script, skipXMLMarkup(script, 0)) + 1;
+		while (true) {
+			int offset = skipXMLMarkup(script, declarationOffset);
+			if (!script.startsWith("<" + importName, offset) || Character.isLetterOrDigit(charAt(script, offset + importName.length() + 1)))
+				return declarationOffset;
+			int tagEnd = findTagEnd(script, offset);
+			if (script.charAt(tagEnd - 1) != '/') {
+				int endTagOffset = script.indexOf("</" + importName, tagEnd);
+				if (endTagOffset < 0)
+					throw new IllegalArgumentException("The element " + importName + " is not terminated");
+				tagEnd = findTagEnd(script, endTagOffset);
+			}
+			declarationOffset = tagEnd + 1;
+		}
+	}
+
+	/**
+	 * Encodes a String value that cannot be passed within comma separated <code>name=value</code> pairs (i.e. an empty value or a value that contains
+	 *  commas, equal signs, editor variables or surrounding whitespace) as the prefix <code>~</code> followed by its code points separated by dots
+	 * @param value the value of an <code>xs:string</code> param
+	 * @return the encoded value or the value itself if it can be passed as it is
+	 */
+	protected static String encodeParamValue(String value) {
+		if (!value.isEmpty() && value.trim().equals(value) && !value.contains(",") && !value.contains("=") && !value.contains("${")
+				&& !value.startsWith(ENCODED_VALUE_PREFIX))
+			return value;
+		StringBuilder encodedValue = new StringBuilder(ENCODED_VALUE_PREFIX);
+		for (int i=0; i<value.length(); i+=Character.charCount(value.codePointAt(i))) {
+			if (i > 0)
+				encodedValue.append(CODE_POINT_SEPARATOR);
+			encodedValue.append(value.codePointAt(i));
+		}
+		return encodedValue.toString();
+	}
+
+	/**
+	 * Creates an XPath expression that decodes the value of an <code>xs:string</code> param encoded by encodeParamValue()
+	 * @param paramName the name of the param
+	 */
+	protected static String createDecodingExpression(String paramName) {
+		String param = "$" + paramName;
+		return "if (starts-with(" + param + ", '" + ENCODED_VALUE_PREFIX + "')) then codepoints-to-string(for $c in tokenize(substring(" + param
+				+ ", 2), '\\" + CODE_POINT_SEPARATOR + "') return xs:integer($c)) else string(" + param + ")";
+	}
+
+	/**
+	 * Creates an XPath string literal of a value
+	 */
+	protected static String createStringLiteral(String value) {
+		return "'" + value.replace("'", "''") + "'";
+	}
+
+	protected static String escapeXMLAttribute(String value) {
+		return value.replace("&", "&amp;").replace("<", "&lt;").replace("\"", "&quot;");
+	}
+
+	protected static boolean isInteger(String value) {
+		int start = (value.startsWith("+") || value.startsWith("-")) ? 1 : 0;
+		if (start == value.length())
+			return false;
+		for (int i=start; i<value.length(); ++i)
+			if (value.charAt(i) < '0' || value.charAt(i) > '9')
+				return false;
+		return true;
+	}
+
+	private static char charAt(String text, int index) {
+		return (index < text.length()) ? text.charAt(index) : '\0';
+	}
+
+	private static boolean startsWithKeyword(String script, int offset, String keyword) {
+		if (!script.startsWith(keyword, offset))
+			return false;
+		char next = charAt(script, offset + keyword.length());
+		return !(Character.isLetterOrDigit(next) || next == '-' || next == '_' || next == '.' || next == ':');
+	}
+
+	/**
+	 * Skips whitespace and (nested) XQuery comments
+	 */
+	private static int skipXQueryComments(String script, int offset) {
+		int depth = 0;
+		while (offset < script.length()) {
+			if (script.startsWith("(:", offset)) {
+				++depth;
+				offset += 2;
+			} else if (depth > 0 && script.startsWith(":)", offset)) {
+				--depth;
+				offset += 2;
+			} else if (depth > 0 || Character.isWhitespace(script.charAt(offset))) {
+				++offset;
+			} else {
+				break;
+			}
+		}
+		return offset;
+	}
+
+	/**
+	 * Returns the offset of the semicolon terminating the XQuery declaration at the specified offset (ignoring string literals and comments)
+	 */
+	private static int findXQuerySeparator(String script, int offset) throws IllegalArgumentException {
+		while (offset < script.length()) {
+			char c = script.charAt(offset);
+			if (c == ';')
+				return offset;
+			if (c == '"' || c == '\'') {
+				offset = script.indexOf(c, offset + 1);
+				if (offset < 0)
+					break;
+				++offset;
+			} else if (script.startsWith("(:", offset)) {
+				offset = skipXQueryComments(script, offset);
+			} else {
+				++offset;
+			}
+		}
+		throw new IllegalArgumentException("An XQuery prolog declaration is not terminated by a semicolon");
+	}
+
+	/**
+	 * Skips whitespace, XML declarations, processing instructions, comments and document type declarations
+	 */
+	private static int skipXMLMarkup(String script, int offset) throws IllegalArgumentException {
+		while (offset < script.length()) {
+			if (Character.isWhitespace(script.charAt(offset))) {
+				++offset;
+			} else if (script.startsWith("<?", offset)) {
+				offset = findEnd(script, offset, "?>");
+			} else if (script.startsWith("<!--", offset)) {
+				offset = findEnd(script, offset, "-->");
+			} else if (script.startsWith("<!", offset)) {
+				int subsetStart = script.indexOf('[', offset);
+				int tagEnd = findTagEnd(script, offset);
+				offset = (subsetStart >= 0 && subsetStart < tagEnd) ? findEnd(script, subsetStart, "]>") : tagEnd + 1;
+			} else {
+				break;
+			}
+		}
+		return offset;
+	}
+
+	private static int findEnd(String script, int offset, String terminator) throws IllegalArgumentException {
+		int end = script.indexOf(terminator, offset);
+		if (end < 0)
+			throw new IllegalArgumentException("The XSLT script contains markup that is not terminated by " + terminator);
+		return end + terminator.length();
+	}
+
+	/**
+	 * Returns the offset of the <code>&gt;</code> terminating the tag at the specified offset (ignoring quoted attribute values)
+	 */
+	private static int findTagEnd(String script, int offset) throws IllegalArgumentException {
+		char quote = 0;
+		for (int i=offset; i<script.length(); ++i) {
+			char c = script.charAt(i);
+			if (quote != 0) {
+				if (c == quote)
+					quote = 0;
+			} else if (c == '"' || c == '\'') {
+				quote = c;
+			} else if (c == '>') {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("The XSLT script contains a tag that is not terminated");
+	}
+
+}
@@ -0,0 +1,43 @@
+/**
+ * PhaseRecording.java - is a class representing a running recording of an OperationPhase that does nothing unless it is created by an enabled
+ *  org.adwmainz.da.extensions.askmore.utils.OperationRecorder as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences
+ *  and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+public class PhaseRecording {
+
+	// constant value
+	/**
+	 * A PhaseRecording that records nothing (which is used while no recording is running)
+	 */
+	public static final PhaseRecording DISABLED = new PhaseRecording();
+
+	// constructor
+	protected PhaseRecording() {
+	}
+
+	// additional methods
+	/**
+	 * Sets the number of annotations processed in this phase
+	 * @param annotationCount a number of annotations
+	 */
+	public void setAnnotationCount(int annotationCount) {
+	}
+
+	/**
+	 * Sets the number of results produced in this phase
+	 * @param resultCount a number of results
+	 */
+	public void setResultCount(int resultCount) {
+	}
+
+	/**
+	 * Ends this phase (which must be invoked exactly once, usually in a <code>finally</code> block)
+	 */
+	public void end() {
+	}
+
+}
@@ -2,13 +2,10 @@
  * PosIntInputVerifier.java - is an extension of a org.adwmainz.da.extensions.askmore.models.VerboseInputVerifier that checks if an input is a positive integer
  *  as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
  * @author Patrick D. Brookshire
- * @version 1.0.0
+ * @version 1.7.0
  */
 package org.adwmainz.da.extensions.askmore.models;
 
-import javax.swing.JComponent;
-import javax.swing.text.JTextComponent;
-
 public class PosIntInputVerifier extends VerboseInputVerifier {
 
 	// constructor
@@ -20,15 +17,24 @@ public class PosIntInputVerifier extends VerboseInputVerifier {
 		super(message);
 	}
 
+	/**
+	 * Checks whether the input is a positive int (with an optional leading plus sign) without parsing it
+	 */
 	@Override
-	public boolean verify(JComponent input) {
-		String inputAsText = ((JTextComponent)input).getText();
-		try {
-			int inputAsInt = Integer.parseInt(inputAsText);
-			return (inputAsInt > 0);
-		} catch (NumberFormatException e) {
+	public boolean verify(String input) {
+		int start = (input.startsWith("+")) ? 1 : 0;
+		if (input.length() == start)
 			return false;
+		long value = 0;
+		for (int i=start; i<input.length(); ++i) {
+			int digit = Character.digit(input.charAt(i), 10);
+			if (digit < 0)
+				return false;
+			value = value * 10 + digit;
+			if (value > Integer.MAX_VALUE)
+				return false;
 		}
+		return (value > 0);
 	}
 
 }
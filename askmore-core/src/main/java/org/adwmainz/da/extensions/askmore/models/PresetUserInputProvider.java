@@ -0,0 +1,97 @@
+/**
+ * PresetUserInputProvider.java - is a headless implementation of org.adwmainz.da.extensions.askmore.models.UserInputProvider answering with preset values
+ *  (e.g. for batch jobs) as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.adwmainz.da.extensions.askmore.exceptions.InputDialogClosedException;
+
+public class PresetUserInputProvider implements UserInputProvider {
+
+	// fields
+	protected Map<String, String> presetValues;
+	
+	// constructors
+	/**
+	 * Creates a new PresetUserInputProvider that answers with the default values of the requested input fields
+	 */
+	public PresetUserInputProvider() {
+		this(Collections.<String, String>emptyMap());
+	}
+	
+	/**
+	 * Creates a new PresetUserInputProvider
+	 * @param presetValues a Map of labels and the values that should be used as user input for input fields with these labels
+	 *  <br>(Input fields without a preset value are answered with their default value.)
+	 */
+	public PresetUserInputProvider(Map<String, String> presetValues) {
+		this.presetValues = new HashMap<>(presetValues);
+	}
+
+	// additional methods
+	/**
+	 * Returns the value an input dialog would preselect for the specified input field
+	 * @param inputField an input field
+	 */
+	protected String getDefaultValue(BasicInputField<String> inputField) {
+		if (inputField.hasDefaultValue())
+			return inputField.getDefaultValue();
+		if (inputField instanceof BasicMultiSelectionField)
+			return "";
+		if (inputField instanceof BasicSelectionField) {
+			List<SelectableOption<String>> options = ((BasicSelectionField<String>) inputField).getOptionList();
+			if (!options.isEmpty())
+				return options.get(0).getRealValue();
+		}
+		return null;
+	}
+
+	// overridden methods
+	/**
+	 * Returns the preset values for the specified dialog model
+	 * @throws InputDialogClosedException if there is neither a preset value nor a default value for one of the input fields or if a preset value
+	 *  is rejected by one of the input verifiers of its input field
+	 */
+	@Override
+	public Map<String, String> fetchLabeledUserInput(String dialogTitle, Map<String, BasicInputField<String>> dialogModel)
+			throws InputDialogClosedException {
+		Map<String, String> userInput = new LinkedHashMap<>();
+		for (Map.Entry<String, BasicInputField<String>> entry: dialogModel.entrySet()) {
+			String label = entry.getKey();
+			BasicInputField<String> inputField = entry.getValue();
+			String value = presetValues.containsKey(label) ? presetValues.get(label) : getDefaultValue(inputField);
+			if (value == null)
+				throw new InputDialogClosedException("There is no value for the input field " + label);
+			for (VerboseInputVerifier inputVerifier: inputField.getInputVerifiers()) {
+				if (!inputVerifier.verify(value))
+					throw new InputDialogClosedException(label + ": " + inputVerifier.getMessage());
+			}
+			userInput.put(label, value);
+		}
+		return userInput;
+	}
+
+	/**
+	 * Returns the option whose String representation equals the preset value of <code>labelText</code> or the first option if there is no such preset value
+	 * @throws InputDialogClosedException if there is no matching option
+	 */
+	@Override
+	public <T> T fetchSelectedOption(String dialogTitle, String labelText, Set<T> options) throws InputDialogClosedException {
+		String presetValue = presetValues.get(labelText);
+		for (T option: options) {
+			if (presetValue == null || presetValue.equals(String.valueOf(option)))
+				return option;
+		}
+		throw new InputDialogClosedException("There is no option matching the value of " + labelText);
+	}
+
+}
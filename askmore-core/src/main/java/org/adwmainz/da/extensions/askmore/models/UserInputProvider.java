@@ -0,0 +1,47 @@
+/**
+ * UserInputProvider.java - is an interface for classes that fetch user input for AskMoreAnnotations and selectable options without binding the caller to a
+ *  specific UI toolkit as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.adwmainz.da.extensions.askmore.exceptions.InputDialogClosedException;
+
+public interface UserInputProvider {
+
+	/**
+	 * Returns a Map of labels and user input for the specified dialog model
+	 * @param dialogTitle the title a generated dialog should have
+	 * @param dialogModel a Map of labels and input fields the user input should be fetched for
+	 * @throws InputDialogClosedException if the user cancels the input
+	 */
+	public Map<String, String> fetchLabeledUserInput(String dialogTitle, Map<String, BasicInputField<String>> dialogModel) throws InputDialogClosedException;
+
+	/**
+	 * Returns a Map of labels and user input for the specified dialog model of a compiled template
+	 * <br>(Implementations may use the template to reuse resources like dialogs built for it before. By default, the template is ignored.)
+	 * @param dialogTitle the title a generated dialog should have
+	 * @param template the compiled template the dialog model was created from
+	 * @param dialogModel a Map of labels and input fields the user input should be fetched for
+	 * @throws InputDialogClosedException if the user cancels the input
+	 */
+	public default Map<String, String> fetchLabeledUserInput(String dialogTitle, AskMoreTemplate template, Map<String, BasicInputField<String>> dialogModel)
+			throws InputDialogClosedException {
+		return fetchLabeledUserInput(dialogTitle, dialogModel);
+	}
+
+	/**
+	 * Returns the option selected by the user
+	 * @param <T> the type of the options and the returned value
+	 * @param dialogTitle the title a generated dialog should have
+	 * @param labelText the label that should be placed next to the selection field
+	 * @param options the set of options the user may choose from
+	 * @throws InputDialogClosedException if the user cancels the input
+	 */
+	public <T> T fetchSelectedOption(String dialogTitle, String labelText, Set<T> options) throws InputDialogClosedException;
+
+}
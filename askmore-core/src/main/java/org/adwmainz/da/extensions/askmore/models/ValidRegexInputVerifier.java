@@ -0,0 +1,138 @@
+/**
+ * ValidRegexInputVerifier.java - is an extension of a org.adwmainz.da.extensions.askmore.models.VerboseInputVerifier that checks if an input matches a precompiled regex
+ *  within a time budget as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class ValidRegexInputVerifier extends VerboseInputVerifier {
+
+	// constant value
+	public static final long DEFAULT_TIME_BUDGET_MILLIS = 50;
+
+	// additional fields
+	protected String regex;
+	protected Pattern pattern;
+	protected long timeBudgetNanos;
+
+	// constructors
+	/**
+	 * Creates a new ValidRegexInputVerifier with the specified params and the default time budget
+	 * @param regex the regex pattern input must match
+	 * @param message a message that explains why an invalid input is not valid
+	 * @throws IllegalArgumentException if the regex is not a valid pattern
+	 */
+	public ValidRegexInputVerifier(String regex, String message) throws IllegalArgumentException {
+		this(regex, message, DEFAULT_TIME_BUDGET_MILLIS);
+	}
+
+	/**
+	 * Creates a new ValidRegexInputVerifier with the specified params
+	 * @param regex the regex pattern input must match
+	 * @param message a message that explains why an invalid input is not valid
+	 * @param timeBudgetMillis the maximum number of milliseconds a single verification may take before the input is treated as invalid
+	 * @throws IllegalArgumentException if the regex is not a valid pattern or if the time budget is not positive
+	 */
+	public ValidRegexInputVerifier(String regex, String message, long timeBudgetMillis) throws IllegalArgumentException {
+		super(message);
+		if (timeBudgetMillis <= 0)
+			throw new IllegalArgumentException("The time budget must be positive");
+		this.regex = regex;
+		this.pattern = Pattern.compile(regex); // a PatternSyntaxException is an IllegalArgumentException
+		this.timeBudgetNanos = timeBudgetMillis * 1000000;
+	}
+
+	// basic getters
+	public String getRegex() {
+		return regex;
+	}
+
+	public long getTimeBudgetMillis() {
+		return timeBudgetNanos / 1000000;
+	}
+
+	// additional methods
+	/**
+	 * Checks whether the whole input matches the regex
+	 * @param input the text entered by a user
+	 * @throws TimeBudgetExceededException if the matching takes longer than the time budget (e.g. due to catastrophic backtracking)
+	 */
+	protected boolean matches(String input) throws TimeBudgetExceededException {
+		Matcher matcher = pattern.matcher(new BudgetedCharSequence(input, System.nanoTime() + timeBudgetNanos));
+		return matcher.matches();
+	}
+
+	// overridden methods
+	/**
+	 * Checks whether the whole input matches the regex
+	 * <br>(Input whose verification exceeds the time budget is treated as invalid.)
+	 */
+	@Override
+	public boolean verify(String input) {
+		try {
+			return matches(input);
+		} catch (TimeBudgetExceededException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * TimeBudgetExceededException is thrown if a regex cannot be matched within the time budget of its verifier
+	 */
+	protected static class TimeBudgetExceededException extends RuntimeException {
+
+		// generated serial version id
+		private static final long serialVersionUID = -3290567185927393811L;
+
+	}
+
+	/**
+	 * BudgetedCharSequence is a protected class wrapping an input that aborts any regex matching on it when a deadline has passed
+	 * <br>(The deadline is checked on every 1024th character access since the regex engine accesses all characters via <code>charAt()</code>.)
+	 */
+	protected static class BudgetedCharSequence implements CharSequence {
+
+		// constant value
+		private static final int CHECK_INTERVAL = 1024;
+
+		// fields
+		private final CharSequence input;
+		private final long deadline;
+		private int accessCount;
+
+		// constructor
+		protected BudgetedCharSequence(CharSequence input, long deadline) {
+			this.input = input;
+			this.deadline = deadline;
+		}
+
+		// overridden methods
+		@Override
+		public char charAt(int index) {
+			if (++accessCount % CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0)
+				throw new TimeBudgetExceededException();
+			return input.charAt(index);
+		}
+
+		@Override
+		public int length() {
+			return input.length();
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return new BudgetedCharSequence(input.subSequence(start, end), deadline);
+		}
+
+		@Override
+		public String toString() {
+			return input.toString();
+		}
+
+	}
+
+}
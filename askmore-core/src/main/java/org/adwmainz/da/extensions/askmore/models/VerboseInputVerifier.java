@@ -1,14 +1,12 @@
 /**
- * PosIntInputVerifier.java - is an abstract implementation of a javax.swing.InputVerifier that adds a custom message to all subclasses as used within the
- *  AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * VerboseInputVerifier.java - is an abstract headless input verifier that adds a custom message to all subclasses as used within the AskMoreXtension
+ *  developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
  * @author Patrick D. Brookshire
- * @version 1.0.0
+ * @version 1.7.0
  */
 package org.adwmainz.da.extensions.askmore.models;
 
-import javax.swing.InputVerifier;
-
-public abstract class VerboseInputVerifier extends InputVerifier {
+public abstract class VerboseInputVerifier {
 	
 	// additional field
 	protected String message;
@@ -19,7 +17,6 @@ public abstract class VerboseInputVerifier extends InputVerifier {
 	 * @param message a message that explains why an invalid input is not valid
 	 */
 	public VerboseInputVerifier(String message) {
-		super();
 		this.message = message;
 	}
 
@@ -29,5 +26,12 @@ public abstract class VerboseInputVerifier extends InputVerifier {
 	public String getMessage() {
 		return message;
 	}
+
+	/**
+	 * Checks whether the specified input is valid or not
+	 * @param input the text entered by a user
+	 * @return <code>true</code> if the input is valid
+	 */
+	public abstract boolean verify(String input);
 	
 }
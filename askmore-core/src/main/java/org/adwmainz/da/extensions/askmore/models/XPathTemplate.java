@@ -0,0 +1,86 @@
+/**
+ * XPathTemplate.java - is an immutable class representing a compiled message containing XPathAnnotations (i.e. the literal segments of the message and
+ *  the distinct XPath expressions between them) as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and
+ *  Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class XPathTemplate {
+
+	// fields
+	protected final String source;
+	protected final List<String> literals;
+	protected final List<String> expressions;
+	protected final int[] expressionIndexes;
+
+	// constructor
+	/**
+	 * Creates a new XPathTemplate with the specified params
+	 * @param source the annotated message this XPathTemplate has been compiled from
+	 * @param literals the literal segments of the compiled message (i.e. one more than there are annotations)
+	 * @param expressions the distinct XPath expressions of the compiled message
+	 * @param expressionIndexes the index of the expression to be inserted after each literal segment except the last one
+	 * @throws IllegalArgumentException if the number of literals does not match the number of expression indexes or an index is out of bounds
+	 */
+	public XPathTemplate(String source, List<String> literals, List<String> expressions, int[] expressionIndexes) throws IllegalArgumentException {
+		if (literals.size() != expressionIndexes.length + 1)
+			throw new IllegalArgumentException("The number of literals must exceed the number of annotations by one");
+		for (int expressionIndex: expressionIndexes)
+			if (expressionIndex < 0 || expressionIndex >= expressions.size())
+				throw new IllegalArgumentException("Invalid expression index " + expressionIndex);
+		this.source = source;
+		this.literals = Collections.unmodifiableList(new ArrayList<>(literals));
+		this.expressions = Collections.unmodifiableList(new ArrayList<>(expressions));
+		this.expressionIndexes = expressionIndexes.clone();
+	}
+
+	// basic getters
+	public String getSource() {
+		return source;
+	}
+
+	public List<String> getLiterals() {
+		return literals;
+	}
+
+	/**
+	 * Returns the distinct XPath expressions of this XPathTemplate in the order of their first appearance
+	 */
+	public List<String> getExpressions() {
+		return expressions;
+	}
+
+	// additional methods
+	/**
+	 * Checks whether this XPathTemplate contains XPathAnnotations or not
+	 * @return <code>true</code> if it contains at least one XPathAnnotation
+	 */
+	public boolean hasAnnotations() {
+		return (expressionIndexes.length > 0);
+	}
+
+	/**
+	 * Renders this XPathTemplate by replacing all XPathAnnotations with the respective results
+	 * @param results the serialized results of the distinct expressions in the order of <code>getExpressions()</code>
+	 * @throws IllegalArgumentException if the number of results does not match the number of expressions
+	 */
+	public String render(List<String> results) throws IllegalArgumentException {
+		if (results.size() != expressions.size())
+			throw new IllegalArgumentException("The number of results must match the number of expressions");
+
+		StringBuilder renderedMessage = new StringBuilder();
+		for (int i=0; i<expressionIndexes.length; ++i) {
+			renderedMessage.append(literals.get(i));
+			renderedMessage.append(results.get(expressionIndexes[i]));
+		}
+		renderedMessage.append(literals.get(expressionIndexes.length));
+		return renderedMessage.toString();
+	}
+
+}
@@ -0,0 +1,268 @@
+/**
+ * AskMoreAnnotationParser.java - is a helper class that provides methods for parsing Strings containing AskMoreAnnotations like finding them or deserializing
+ *  them to org.adwmainz.da.extensions.askmore.models.BasicInputField objects. It is one of the main classes within the AskMoreXtension developed at the Digital
+ *   Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.0.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import org.adwmainz.da.extensions.askmore.exceptions.InputDialogClosedException;
+import org.adwmainz.da.extensions.askmore.models.AskMoreAnnotation;
+import org.adwmainz.da.extensions.askmore.models.AskMoreAnnotationFlag;
+import org.adwmainz.da.extensions.askmore.models.AskMoreTemplate;
+import org.adwmainz.da.extensions.askmore.models.BasicInputField;
+import org.adwmainz.da.extensions.askmore.models.IllegalCharInputVerifier;
+import org.adwmainz.da.extensions.askmore.models.InvalidRegexInputVerifier;
+import org.adwmainz.da.extensions.askmore.models.OptionSourceResolver;
+import org.adwmainz.da.extensions.askmore.models.PosIntInputVerifier;
+import org.adwmainz.da.extensions.askmore.models.UserInputProvider;
+import org.adwmainz.da.extensions.askmore.models.ValidRegexInputVerifier;
+import org.adwmainz.da.extensions.askmore.models.VerboseInputVerifier;
+
+public class AskMoreAnnotationParser {
+	
+	// relevant regex patterns
+	/**
+	 * @deprecated AskMoreAnnotations are parsed with the AskMoreAnnotationTokenizer
+	 */
+	@Deprecated
+	protected static final String ASK_MORE_ANNOTATION_PATTERN = "\\$\\$" + "(\".*?\")" /* Label */ 
+			+ " ?: ?\\(" + "(.*?)" /* Options */ + "\\)" + "((![^$]+)*)" /* Flags */ + "\\$\\$";
+	/**
+	 * @deprecated AskMoreAnnotations are parsed with the AskMoreAnnotationTokenizer
+	 */
+	@Deprecated
+	protected static final String DEFAULT_VALUE_PATTERN = "DEFAULT\\(\"" + "(.*?)" /* value */ + "\"\\)";
+	/**
+	 * @deprecated use AskMoreAnnotationFlag.Type.EDITABLE
+	 */
+	@Deprecated
+	protected static final String IS_EDITABLE_PATTERN = "EDITABLE";
+	/**
+	 * @deprecated use AskMoreAnnotationFlag.Type.MULTISELECT
+	 */
+	@Deprecated
+	protected static final String IS_MULTISELECT_PATTERN = "MULTISELECT";
+	/**
+	 * @deprecated AskMoreAnnotations are parsed with the AskMoreAnnotationTokenizer
+	 */
+	@Deprecated
+	protected static final String SEPARATOR_PATTERN = "SEP\\(\"" + "(.*?)" /* value */ + "\"\\)";
+	/**
+	 * @deprecated use AskMoreAnnotationFlag.Type.URL_ENCODE
+	 */
+	@Deprecated
+	protected static final String URL_ENCODE_PATTERN = "URL_ENCODE";
+	/**
+	 * @deprecated AskMoreAnnotations are parsed with the AskMoreAnnotationTokenizer
+	 */
+	@Deprecated
+	protected static final String REGEX_FLAG_PATTERN = "REGEX\\(\"" + "(.*?)" /* regex */ + "\"\\)";
+	protected static final String CONTAINS_WHITESPACE_PATTERN = ".*?\\s+.*?";
+	/**
+	 * @deprecated use AskMoreAnnotationFlag.Type.XML_ESCAPE
+	 */
+	@Deprecated
+	protected static final String XML_ESCAPE_PATTERN = "XML_ESCAPE";
+	
+	/**
+	 * Returns a List of AskMoreAnnotations from an annotated String
+	 * @param annotatedText a String that may contain AskMoreAnnotations
+	 */
+	public static List<String> findAnnotations(String annotatedText) {
+		List<AskMoreAnnotation> annotations = AskMoreAnnotationTokenizer.tokenize(annotatedText);
+		List<String> serializedAnnotations = new ArrayList<>(annotations.size());
+		for (AskMoreAnnotation annotation: annotations)
+			serializedAnnotations.add(annotation.getSource());
+		return serializedAnnotations;
+	}
+	
+	/**
+	 * Compiles an annotated String to an AskMoreTemplate by parsing all of its AskMoreAnnotations once
+	 * <br>(Whitespace is reduced before compiling the String.)
+	 * @param annotatedText a String that may contain AskMoreAnnotations (c.f. {@link #getDescription()})
+	 * @throws IllegalArgumentException if the String contains an AskMoreAnnotation with an unsupported flag
+	 */
+	public static AskMoreTemplate compileTemplate(String annotatedText) throws IllegalArgumentException {
+		String reducedText = StringUtils.reduceWhitespace(annotatedText);
+		return new AskMoreTemplate(reducedText, AskMoreAnnotationTokenizer.tokenize(reducedText));
+	}
+	
+	/**
+	 * Parses a single AskMoreAnnotation
+	 * @param askMoreAnnotation a serialized AskMoreAnnotation (c.f. {@link #getDescription()})
+	 * @throws IllegalArgumentException if the String is not a valid AskMoreAnnotation
+	 */
+	public static AskMoreAnnotation parseAnnotation(String askMoreAnnotation) throws IllegalArgumentException {
+		List<AskMoreAnnotation> annotations = AskMoreAnnotationTokenizer.tokenize(askMoreAnnotation);
+		if (annotations.isEmpty())
+			throw new IllegalArgumentException("The String \""+askMoreAnnotation+"\" is not a valid AskMoreAnnotation");
+		return annotations.get(0);
+	}
+	
+	/**
+	 * Creates a Map of labels and input fields that may be used as the dialog model of an DynamicTextInputDialogDeserializes from a List of AskMoreAnnotations
+	 * @param askMoreAnnotations a List of AskMoreAnnotations (c.f. {@link #getDescription()})
+	 */
+	public static Map<String, BasicInputField<String>> createDialogModel(List<String> askMoreAnnotations) {
+		Map<String, BasicInputField<String>> dialogModel = new LinkedHashMap<>();
+		for (String askMoreAnnotation: askMoreAnnotations) {
+			AskMoreAnnotation annotation = parseAnnotation(askMoreAnnotation);
+			dialogModel.put(annotation.getLabel(), annotation.createInputField());
+		}
+		return dialogModel;
+	}
+	
+	/**
+	 * Creates a subclass of a VerboseInputVerifier from a specified flag
+	 * @param flag a flag representing a specific subclass of a VerboseInputVerifier
+	 *  <br>The allowed values are: <code>!REGEX("regex")</code>, <code>!NO_XML</code>, <code>!NO_SPACE</code> and <code>!POS_INT</code>
+	 * @return
+	 * @throws IllegalArgumentException
+	 */
+	public static VerboseInputVerifier createInputVerifier(String flag) throws IllegalArgumentException{
+		return createInputVerifier(AskMoreAnnotationTokenizer.parseFlag(flag));
+	}
+	
+	/**
+	 * Creates a subclass of a VerboseInputVerifier from a specified parsed flag
+	 * <br>(The verifier is compiled right away, so it should be reused for each input to be verified.)
+	 * @param flag a restriction flag (i.e. a flag of the type <code>REGEX</code>, <code>NO_XML</code>, <code>NO_SPACE</code> or <code>POS_INT</code>)
+	 * @throws IllegalArgumentException if the flag is not a restriction flag or if the argument of a <code>REGEX</code> flag is not a valid pattern
+	 */
+	public static VerboseInputVerifier createInputVerifier(AskMoreAnnotationFlag flag) throws IllegalArgumentException {
+		// load localized data
+		ResourceBundle rb = ResourceBundle.getBundle("org.adwmainz.da.extensions.askmore.resources.InputVerifierTextBundle");
+
+		String message;
+		switch (flag.getType()) {
+		case REGEX:
+			String regex = flag.getArgument();
+			message = rb.getString("REGEX_INPUT_VERIFIER_MESSAGE") + " " + regex;
+			return new ValidRegexInputVerifier(regex, message);
+		case NO_XML:
+			char[] xmlSpecialChars = XMLUtils.getSpecialChars();
+			message = rb.getString("ILLEGAL_CHAR_INPUT_VERIFIER_MESSAGE") + " " + Arrays.toString(xmlSpecialChars);
+			return new IllegalCharInputVerifier(xmlSpecialChars, message);
+		case NO_SPACE:
+			String whitespaceRegex = CONTAINS_WHITESPACE_PATTERN;
+			message = rb.getString("NO_WHITESPACE_INPUT_VERIFIER_MESSAGE");
+			return new InvalidRegexInputVerifier(whitespaceRegex, message);
+		case POS_INT:
+			message = rb.getString("POS_INT_INPUT_VERIFIER_MESSAGE");
+			return new PosIntInputVerifier(message);
+		default:
+			throw new IllegalArgumentException("Unsupported flag " + flag);
+		}
+	}
+
+	/**
+	 * Replaces all AskMoreAnnotations in a given String with the specified user input
+	 * @param annotatedText a String that may contain AskMoreAnnotations (c.f. {@link #getDescription()})
+	 * @param askMoreAnnotations a list of AskMoreAnnotations (c.f. {@link #getDescription()})
+	 * @param userInput user input from a dialog created from the specified list of serialized annotations
+	 * @return
+	 */
+	public static String replaceAnnotations(String annotatedText, List<String> askMoreAnnotations, Map<String, String> userInput) {
+		if (askMoreAnnotations.size() != userInput.size())
+			throw new IllegalArgumentException("The size of askMoreAnnotations must match the number of userInput");
+		
+		// find the occurrences of the specified annotations in a single pass
+		Set<String> replaceableAnnotations = new HashSet<>(askMoreAnnotations);
+		List<AskMoreAnnotation> annotations = new ArrayList<>();
+		for (AskMoreAnnotation annotation: AskMoreAnnotationTokenizer.tokenize(annotatedText)) {
+			if (replaceableAnnotations.contains(annotation.getSource()))
+				annotations.add(annotation);
+		}
+		
+		// replace annotations with encoded user input
+		return new AskMoreTemplate(annotatedText, annotations).render(userInput);
+	}
+
+	/**
+	 * Replaces all AskMoreAnnotations in a given String with user input fetched from the specified UserInputProvider
+	 * @param annotatedText a String that may contain AskMoreAnnotations (c.f. {@link #getDescription()})
+	 * @param dialogTitle the title a generated dialog should have
+	 * @param userInputProvider the UserInputProvider that should be asked for the user input
+	 * @throws IllegalArgumentException if an AskMoreAnnotation has option sources
+	 * @throws InputDialogClosedException if the user cancels the input
+	 */
+	public static String replaceAnnotationsWithUserInput(String annotatedText, String dialogTitle, UserInputProvider userInputProvider)
+			throws IllegalArgumentException, InputDialogClosedException {
+		return replaceAnnotationsWithUserInput(annotatedText, dialogTitle, userInputProvider, null);
+	}
+
+	/**
+	 * Replaces all AskMoreAnnotations in a given String with user input fetched from the specified UserInputProvider
+	 * <br>(The time needed to fill in a String with AskMoreAnnotations is reported to AskMoreMetrics without the time spent in the dialog.)
+	 * @param annotatedText a String that may contain AskMoreAnnotations (c.f. {@link #getDescription()})
+	 * @param dialogTitle the title a generated dialog should have
+	 * @param userInputProvider the UserInputProvider that should be asked for the user input
+	 * @param optionSourceResolver the OptionSourceResolver that should evaluate option sources like <code>XPATH("expression")</code>
+	 *  <br>(may be <code>null</code> if the String contains no option sources)
+	 * @throws IllegalArgumentException if an option source cannot be evaluated
+	 * @throws InputDialogClosedException if the user cancels the input
+	 */
+	public static String replaceAnnotationsWithUserInput(String annotatedText, String dialogTitle, UserInputProvider userInputProvider,
+			OptionSourceResolver optionSourceResolver) throws IllegalArgumentException, InputDialogClosedException {
+		// get the compiled template (whitespace is already reduced)
+		long startNanos = System.nanoTime();
+		AskMoreTemplate template = AskMoreTemplateCache.getTemplate(annotatedText);
+		
+		// exit early if there are no annotations
+		if (!template.hasAnnotations())
+			return template.render(Collections.<String, String>emptyMap());
+		
+		// get user input and replace annotations
+		Map<String, BasicInputField<String>> dialogModel = template.createDialogModel(optionSourceResolver);
+		long preparationNanos = System.nanoTime() - startNanos;
+		Map<String, String> userInput = userInputProvider.fetchLabeledUserInput(dialogTitle, template, dialogModel);
+		long renderStartNanos = System.nanoTime();
+		String result = template.render(userInput);
+		AskMoreMetrics.recordTemplate(annotatedText, preparationNanos + System.nanoTime() - renderStartNanos);
+		return result;
+	}
+
+	protected static String getLabel(String askMoreAnnotation) {
+		return parseAnnotation(askMoreAnnotation).getLabel();
+	}
+	
+	/**
+	 * Describes how to use AskMoreAnnotations
+	 */
+	public static String getDescription() {
+		return "You may delegate one or more parts of this argument value to a single input dialog by using the following annotations:\n"
+				+ "- $$\"LABEL1\":()$$ creates a simple text input field with the label LABEL1\n"
+				+ "- $$\"LABEL2\":()!DEFAULT(\"D\")$$ creates another text input field with the default value D\n"
+				+ "- $$\"LABEL3\":(\"A\", \"B\", \"C\")$$ creates a combo box with the label LABEL3\n"
+				+ "(Please note that you may use the form \"REAL_VALUE\"|\"RENDERED_VALUE\" for options that should display a value different from the one to be"
+				+ " inserted and the !DEFAULT() flag for a preselection which must always reference a real value: "
+				+ "e.g. $$\"LABEL4\":(\"A\", \"REAL_B\"|\"RENDERED_B\")!DEFAULT(\"REAL_B\")$$ is valid)\n"
+				+ "- $$\"LABEL5\":(\"A\", \"B\")!DEFAULT(\"B\")!EDITABLE$$ creates an editable combo box with the label LABEL5\n"
+				+ "- $$\"LABEL5\":(\"A\", \"B\")!MULTISELECT$$ returns a whitespace separated list (add !SEP(\";\") to separate with a semicolon instead)\n"
+				+ "- $$\"LABEL6\":(XPATH(\"//person/@xml:id\"))$$ creates a combo box with the string values of all results of an XPath expression"
+				+ " (which may be any XPath 2.0 expression like a FLWOR expression and is evaluated on the current document and cached until it is edited)\n"
+				+ "- $$\"LABEL7\":(FILE(\"places.tsv\"))$$ creates a combo box with the lines of a UTF-8 encoded authority file with the tab separated columns"
+				+ " REAL_VALUE and RENDERED_VALUE sorted by their rendered values (relative paths are resolved against the current document)\n"
+				+ "You can also use the following encoding flags:\n"
+				+ "- !URL_ENCODE to let the input be URL encoded\n"
+				+ "- !XML_ESCAPE to escape < and &\n"
+				+ "Besides the !DEFAULT(), !EDITABLE and the encoding flags you may also add the following restriction flags to any annotation:\n"
+				+ "- !NO_XML for text input without the chars " + Arrays.toString(XMLUtils.getSpecialChars()) + "\n"
+				+ "- !NO_SPACE for text input without whitespace\n"
+				+ "- !POS_INT for positive integer input\n"
+				+ "- !REGEX(\"regex\") for text input matching the regex regex\n"
+				+ "⚠️ Please note that you have to escape quotation marks in labels, options and regex patterns with a backslash (e.g. !REGEX(\"\\\".*?\\\"\")).";
+	}
+}
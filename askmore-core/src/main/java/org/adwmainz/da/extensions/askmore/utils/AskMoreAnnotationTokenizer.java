@@ -0,0 +1,327 @@
+/**
+ * AskMoreAnnotationTokenizer.java - is a helper class providing a hand-written single-pass parser for AskMoreAnnotations like
+ *  <code>$$"LABEL":("A", "REAL_B"|"RENDERED_B", XPATH("expression"))!FLAG$$</code> that creates org.adwmainz.da.extensions.askmore.models.AskMoreAnnotation objects with source
+ *  offsets as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.adwmainz.da.extensions.askmore.models.AskMoreAnnotation;
+import org.adwmainz.da.extensions.askmore.models.AskMoreAnnotationFlag;
+import org.adwmainz.da.extensions.askmore.models.OptionSource;
+import org.adwmainz.da.extensions.askmore.models.SelectableOption;
+
+public class AskMoreAnnotationTokenizer {
+
+	// constant values
+	protected static final String ANNOTATION_START = "$$\"";
+	protected static final String ANNOTATION_END = "$$";
+
+	// fields
+	protected final String text;
+	protected int position;
+	protected boolean isExhausted;
+
+	// constructor
+	/**
+	 * Creates a new AskMoreAnnotationTokenizer for the specified text
+	 * @param text a String that may contain AskMoreAnnotations
+	 */
+	protected AskMoreAnnotationTokenizer(String text) {
+		this.text = text;
+	}
+
+	// static methods
+	/**
+	 * Returns all AskMoreAnnotations of an annotated String in the order of their appearance
+	 * <br>(The text between AskMoreAnnotations is skipped by searching for their start delimiter. If a sequence like <code>$$"</code> does not start a
+	 *  valid AskMoreAnnotation, the text read so far is scanned again from the char after the start of this sequence, so that such a sequence cannot hide
+	 *  a later AskMoreAnnotation.)
+	 * @param annotatedText a String that may contain AskMoreAnnotations
+	 * @throws IllegalArgumentException if an AskMoreAnnotation uses an unsupported flag
+	 */
+	public static List<AskMoreAnnotation> tokenize(String annotatedText) throws IllegalArgumentException {
+		return new AskMoreAnnotationTokenizer(annotatedText).readAnnotations();
+	}
+
+	/**
+	 * Parses a single serialized flag without its leading exclamation mark (e.g. <code>REGEX("regex")</code>)
+	 * @param serializedFlag the flag to be parsed
+	 * @throws IllegalArgumentException if the String is not a supported flag
+	 */
+	public static AskMoreAnnotationFlag parseFlag(String serializedFlag) throws IllegalArgumentException {
+		AskMoreAnnotationTokenizer tokenizer = new AskMoreAnnotationTokenizer("!" + serializedFlag);
+		AskMoreAnnotationFlag flag = tokenizer.readFlag();
+		if (flag == null || tokenizer.position != tokenizer.text.length())
+			throw new IllegalArgumentException("Unsupported flag " + serializedFlag);
+		return flag;
+	}
+
+	// parsing methods
+	/**
+	 * Reads all AskMoreAnnotations from the text
+	 */
+	protected List<AskMoreAnnotation> readAnnotations() throws IllegalArgumentException {
+		List<AskMoreAnnotation> annotations = new ArrayList<>();
+		int searchOffset = 0;
+		while (!isExhausted) {
+			int startOffset = text.indexOf(ANNOTATION_START, searchOffset);
+			if (startOffset < 0)
+				break;
+
+			position = startOffset + ANNOTATION_END.length();
+			AskMoreAnnotation annotation = readAnnotation(startOffset);
+			if (annotation != null) {
+				annotations.add(annotation);
+				searchOffset = annotation.getEndOffset();
+			} else {
+				// treat the delimiter as literal text and resume after its first char
+				searchOffset = startOffset + 1;
+			}
+		}
+		return annotations;
+	}
+
+	/**
+	 * Reads an AskMoreAnnotation whose label starts at the current position
+	 * @param startOffset the offset of the leading delimiter
+	 * @return the AskMoreAnnotation or <code>null</code> if the text at the current position is not a valid AskMoreAnnotation
+	 * @throws IllegalArgumentException if the AskMoreAnnotation uses an unsupported flag
+	 */
+	protected AskMoreAnnotation readAnnotation(int startOffset) throws IllegalArgumentException {
+		// read label
+		String label = readQuotedString();
+		if (label == null)
+			return null;
+		skipWhitespace();
+		if (!readChar(':'))
+			return null;
+		skipWhitespace();
+		if (!readChar('('))
+			return null;
+
+		// read options
+		List<OptionSource> optionSources = new ArrayList<>();
+		Set<SelectableOption<String>> options = readOptions(optionSources);
+		if (options == null)
+			return null;
+
+		// read flags
+		List<AskMoreAnnotationFlag> flags = new ArrayList<>();
+		while (position < text.length() && text.charAt(position) == '!') {
+			AskMoreAnnotationFlag flag = readFlag();
+			if (flag == null)
+				return null;
+			flags.add(flag);
+		}
+
+		// read closing delimiter
+		if (!text.startsWith(ANNOTATION_END, position))
+			return null;
+		position += ANNOTATION_END.length();
+
+		return new AskMoreAnnotation(text.substring(startOffset, position), startOffset, position, label, options, optionSources, flags);
+	}
+
+	/**
+	 * Reads a comma separated list of options and option sources up to and including the closing bracket
+	 * @param optionSources the list any option sources like <code>XPATH("expression")</code> should be added to
+	 * @return the set of options or <code>null</code> if the list is invalid
+	 */
+	protected Set<SelectableOption<String>> readOptions(List<OptionSource> optionSources) {
+		Set<SelectableOption<String>> options = new LinkedHashSet<>();
+		skipWhitespace();
+		if (readChar(')'))
+			return options;
+
+		while (true) {
+			// read option source
+			skipWhitespace();
+			OptionSource optionSource = readOptionSource();
+			if (optionSource != null) {
+				optionSources.add(optionSource);
+				skipWhitespace();
+				if (readChar(')'))
+					return options;
+				if (!readChar(','))
+					return null;
+				continue;
+			}
+
+			// read real and (optional) rendered value
+			String realValue = readValue();
+			if (realValue == null)
+				return null;
+			skipWhitespace();
+			if (readChar('|')) {
+				String renderedValue = readValue();
+				if (renderedValue == null)
+					return null;
+				options.add(new SelectableOption<String>(StringUtils.reduceWhitespace(realValue), StringUtils.reduceWhitespace(renderedValue)));
+				skipWhitespace();
+			} else {
+				options.add(new SelectableOption<String>(StringUtils.reduceWhitespace(realValue)));
+			}
+
+			// read delimiter
+			if (readChar(')'))
+				return options;
+			if (!readChar(','))
+				return null;
+		}
+	}
+
+	/**
+	 * Reads an option source like <code>XPATH("expression")</code> at the current position
+	 * @return the option source or <code>null</code> if the text at the current position is not an option source (the position is left unchanged then)
+	 */
+	protected OptionSource readOptionSource() {
+		int startOffset = position;
+
+		// read name
+		while (position < text.length() && isNameChar(text.charAt(position)))
+			++position;
+		OptionSource.Type type = getOptionSourceType(text.substring(startOffset, position));
+
+		// read expression
+		if (type != null && readChar('(')) {
+			skipWhitespace();
+			String expression = readQuotedString();
+			if (expression != null) {
+				skipWhitespace();
+				if (readChar(')'))
+					return new OptionSource(type, expression);
+			}
+		}
+		position = startOffset;
+		return null;
+	}
+
+	/**
+	 * Reads a flag starting with an exclamation mark at the current position
+	 * @return the flag or <code>null</code> if the text at the current position is not a flag
+	 * @throws IllegalArgumentException if the flag has an unsupported name
+	 */
+	protected AskMoreAnnotationFlag readFlag() throws IllegalArgumentException {
+		int startOffset = position;
+		if (!readChar('!'))
+			return null;
+
+		// read name
+		int nameOffset = position;
+		while (position < text.length() && isNameChar(text.charAt(position)))
+			++position;
+		String name = text.substring(nameOffset, position);
+		if (name.isEmpty())
+			return null;
+
+		// read argument
+		String argument = null;
+		if (readChar('(')) {
+			skipWhitespace();
+			argument = readQuotedString();
+			if (argument == null)
+				return null;
+			skipWhitespace();
+			if (!readChar(')'))
+				return null;
+		}
+
+		// get type
+		AskMoreAnnotationFlag.Type type;
+		try {
+			type = AskMoreAnnotationFlag.Type.valueOf(name);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Unsupported flag " + text.substring(nameOffset, position));
+		}
+		if (type.hasArgument() != (argument != null))
+			throw new IllegalArgumentException("Unsupported flag " + text.substring(nameOffset, position));
+
+		return new AskMoreAnnotationFlag(type, argument, startOffset, position);
+	}
+
+	/**
+	 * Reads a quoted or unquoted option value
+	 * @return the unescaped value or <code>null</code> if there is no valid value at the current position
+	 */
+	protected String readValue() {
+		skipWhitespace();
+		if (position < text.length() && text.charAt(position) == '"')
+			return readQuotedString();
+
+		// read unquoted value up to the next delimiter
+		int startOffset = position;
+		while (position < text.length()) {
+			char c = text.charAt(position);
+			if (c == ',' || c == '|' || c == ')')
+				break;
+			if (c == '"')
+				return null;
+			++position;
+		}
+		String value = text.substring(startOffset, position).trim();
+		return (value.isEmpty() || position == text.length()) ? null : value;
+	}
+
+	/**
+	 * Reads a String enclosed in quotation marks in which quotation marks may be escaped with a backslash
+	 * @return the unescaped String or <code>null</code> if there is no quoted String at the current position
+	 */
+	protected String readQuotedString() {
+		if (!readChar('"'))
+			return null;
+
+		StringBuilder value = new StringBuilder();
+		while (position < text.length()) {
+			char c = text.charAt(position);
+			if (c == '"') {
+				++position;
+				return value.toString();
+			}
+			if (c == '\\' && position + 1 < text.length() && text.charAt(position + 1) == '"') {
+				// unescape quotation mark
+				value.append('"');
+				position += 2;
+			} else {
+				value.append(c);
+				++position;
+			}
+		}
+
+		// no later AskMoreAnnotation can be valid if there is no closing quotation mark left
+		isExhausted = true;
+		return null;
+	}
+
+	// helper methods
+	protected boolean readChar(char expectedChar) {
+		if (position < text.length() && text.charAt(position) == expectedChar) {
+			++position;
+			return true;
+		}
+		return false;
+	}
+
+	protected void skipWhitespace() {
+		while (position < text.length() && Character.isWhitespace(text.charAt(position)))
+			++position;
+	}
+
+	protected static OptionSource.Type getOptionSourceType(String name) {
+		for (OptionSource.Type type: OptionSource.Type.values())
+			if (type.name().equals(name))
+				return type;
+		return null;
+	}
+
+	protected static boolean isNameChar(char c) {
+		return (c == '_' || Character.isLetterOrDigit(c));
+	}
+
+}
@@ -0,0 +1,232 @@
+/**
+ * AskMoreMetrics.java - is a helper class that collects latency histograms per operation, XPath expression and annotated argument as well as cache
+ *  statistics and dialog cancellations and publishes them as an MBean per class loader (e.g. for JConsole or VisualVM) as used within the AskMoreXtension
+ *  developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.lang.management.ManagementFactory;
+import java.security.CodeSource;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.adwmainz.da.extensions.askmore.models.AskMoreMetricsMXBean;
+import org.adwmainz.da.extensions.askmore.models.CacheSnapshot;
+import org.adwmainz.da.extensions.askmore.models.LatencyHistogram;
+import org.adwmainz.da.extensions.askmore.models.LatencySnapshot;
+
+public class AskMoreMetrics implements AskMoreMetricsMXBean {
+
+	// constant values
+	/**
+	 * The prefix of the ObjectName of the MBean which is followed by the key property <code>loader</code>, since Oxygen loads the extension of each
+	 *  framework with its own class loader
+	 */
+	public static final String OBJECT_NAME_PREFIX = "org.adwmainz.da.extensions.askmore:type=AskMoreMetrics";
+	/**
+	 * The max number of distinct keys tracked per kind of latency (so that generated XPath expressions cannot exhaust the memory)
+	 */
+	protected static final int MAX_TRACKED_KEYS = 256;
+	protected static final String OVERFLOW_KEY = "(other)";
+	protected static final int MAX_KEY_LENGTH = 200;
+
+	// the instance of this class loader and whether it is registered
+	private static final AskMoreMetrics instance = new AskMoreMetrics();
+	private static boolean isRegistered;
+	static {
+		register();
+	}
+
+	// fields
+	protected final ConcurrentMap<String, LatencyHistogram> operationLatencies = new ConcurrentHashMap<>();
+	protected final ConcurrentMap<String, LatencyHistogram> xPathLatencies = new ConcurrentHashMap<>();
+	protected final ConcurrentMap<String, LatencyHistogram> templateLatencies = new ConcurrentHashMap<>();
+	protected final ConcurrentMap<String, LongAdder[]> cacheAccesses = new ConcurrentHashMap<>();
+	protected final LongAdder dialogCancellations = new LongAdder();
+
+	// constructor
+	protected AskMoreMetrics() {
+	}
+
+	// static methods
+	/**
+	 * Returns the AskMoreMetrics of the class loader of this class
+	 */
+	public static AskMoreMetrics getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Returns the ObjectName of the MBean of the class loader of this class
+	 * <br>(e.g. <code>org.adwmainz.da.extensions.askmore:type=AskMoreMetrics,loader=1b6d3586</code>)
+	 * @throws MalformedObjectNameException if the ObjectName is invalid
+	 */
+	public static ObjectName getObjectName() throws MalformedObjectNameException {
+		return new ObjectName(OBJECT_NAME_PREFIX + ",loader=" + Integer.toHexString(System.identityHashCode(AskMoreMetrics.class.getClassLoader())));
+	}
+
+	/**
+	 * Registers the AskMoreMetrics at the platform MBeanServer unless it is registered already
+	 * <br>(Is invoked when this class is loaded. Metrics are still collected if the registration fails, e.g. due to a security manager.)
+	 */
+	public static synchronized void register() {
+		if (isRegistered)
+			return;
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(instance, getObjectName());
+			isRegistered = true;
+		} catch (JMException | SecurityException e) {
+			// the metrics are collected without being published
+		}
+	}
+
+	/**
+	 * Unregisters the AskMoreMetrics from the platform MBeanServer, so that it does not keep the class loader of this class from being garbage
+	 *  collected (e.g. once Oxygen unloads the framework that loaded this class)
+	 */
+	public static synchronized void unregister() {
+		if (!isRegistered)
+			return;
+		isRegistered = false;
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(getObjectName());
+		} catch (JMException | SecurityException e) {
+			// the MBean has already been unregistered
+		}
+	}
+
+	/**
+	 * Records the latency of an operation
+	 * @param operationClass the class of the operation
+	 * @param nanos the latency in nanoseconds
+	 */
+	public static void recordOperation(Class<?> operationClass, long nanos) {
+		getHistogram(instance.operationLatencies, operationClass.getName()).record(nanos);
+	}
+
+	/**
+	 * Records the latency of an XPath evaluation
+	 * @param expression the evaluated XPath expression
+	 * @param nanos the latency in nanoseconds
+	 */
+	public static void recordXPath(String expression, long nanos) {
+		getHistogram(instance.xPathLatencies, expression).record(nanos);
+	}
+
+	/**
+	 * Records the latency of filling in an annotated argument
+	 * @param template the annotated argument
+	 * @param nanos the latency in nanoseconds
+	 */
+	public static void recordTemplate(String template, long nanos) {
+		getHistogram(instance.templateLatencies, template).record(nanos);
+	}
+
+	/**
+	 * Counts an input dialog closed or cancelled by the user
+	 */
+	public static void recordDialogCancellation() {
+		instance.dialogCancellations.increment();
+	}
+
+	/**
+	 * Counts a lookup of a cache
+	 * @param cacheName the name of the cache
+	 * @param isHit specifies whether the lookup was answered by the cache
+	 */
+	public static void recordCacheAccess(String cacheName, boolean isHit) {
+		LongAdder[] accesses = instance.cacheAccesses.get(cacheName);
+		if (accesses == null) {
+			LongAdder[] newAccesses = new LongAdder[] {new LongAdder(), new LongAdder()};
+			accesses = instance.cacheAccesses.putIfAbsent(cacheName, newAccesses);
+			if (accesses == null)
+				accesses = newAccesses;
+		}
+		accesses[isHit ? 0 : 1].increment();
+	}
+
+	/**
+	 * Returns the histogram of a key and creates it if necessary
+	 * <br>(Keys exceeding MAX_KEY_LENGTH are abbreviated and keys exceeding MAX_TRACKED_KEYS share the histogram of OVERFLOW_KEY.)
+	 * @param histograms the histograms of a kind of latency
+	 * @param key the key of the histogram
+	 */
+	protected static LatencyHistogram getHistogram(ConcurrentMap<String, LatencyHistogram> histograms, String key) {
+		if (key.length() > MAX_KEY_LENGTH)
+			key = key.substring(0, MAX_KEY_LENGTH) + "... #" + Integer.toHexString(key.hashCode());
+		LatencyHistogram histogram = histograms.get(key);
+		if (histogram != null)
+			return histogram;
+
+		if (histograms.size() >= MAX_TRACKED_KEYS)
+			key = OVERFLOW_KEY;
+		LatencyHistogram newHistogram = new LatencyHistogram();
+		histogram = histograms.putIfAbsent(key, newHistogram);
+		return (histogram == null) ? newHistogram : histogram;
+	}
+
+	protected static Map<String, LatencySnapshot> getSnapshots(Map<String, LatencyHistogram> histograms) {
+		Map<String, LatencySnapshot> snapshots = new TreeMap<>();
+		for (Map.Entry<String, LatencyHistogram> entry: histograms.entrySet())
+			snapshots.put(entry.getKey(), entry.getValue().getSnapshot());
+		return snapshots;
+	}
+
+	// overridden methods
+	@Override
+	public String getLocation() {
+		try {
+			CodeSource codeSource = AskMoreMetrics.class.getProtectionDomain().getCodeSource();
+			return (codeSource == null || codeSource.getLocation() == null) ? "" : codeSource.getLocation().toString();
+		} catch (SecurityException e) {
+			return "";
+		}
+	}
+
+	@Override
+	public Map<String, LatencySnapshot> getOperationLatencies() {
+		return getSnapshots(operationLatencies);
+	}
+
+	@Override
+	public Map<String, LatencySnapshot> getXPathLatencies() {
+		return getSnapshots(xPathLatencies);
+	}
+
+	@Override
+	public Map<String, LatencySnapshot> getTemplateLatencies() {
+		return getSnapshots(templateLatencies);
+	}
+
+	@Override
+	public Map<String, CacheSnapshot> getCacheStatistics() {
+		Map<String, CacheSnapshot> snapshots = new TreeMap<>();
+		for (Map.Entry<String, LongAdder[]> entry: cacheAccesses.entrySet())
+			snapshots.put(entry.getKey(), new CacheSnapshot(entry.getValue()[0].sum(), entry.getValue()[1].sum()));
+		return snapshots;
+	}
+
+	@Override
+	public long getDialogCancellations() {
+		return dialogCancellations.sum();
+	}
+
+	@Override
+	public void reset() {
+		operationLatencies.clear();
+		xPathLatencies.clear();
+		templateLatencies.clear();
+		cacheAccesses.clear();
+		dialogCancellations.reset();
+	}
+
+}
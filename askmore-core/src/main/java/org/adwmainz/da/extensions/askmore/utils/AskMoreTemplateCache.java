@@ -0,0 +1,84 @@
+/**
+ * AskMoreTemplateCache.java - is a helper class providing a bounded LRU cache of compiled org.adwmainz.da.extensions.askmore.models.AskMoreTemplate objects
+ *  keyed by the raw argument values they were compiled from as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences
+ *  and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.adwmainz.da.extensions.askmore.models.AskMoreTemplate;
+import org.adwmainz.da.extensions.askmore.models.OperationPhase;
+import org.adwmainz.da.extensions.askmore.models.PhaseRecording;
+
+public class AskMoreTemplateCache {
+
+	// constant value
+	public static final int MAX_CACHED_TEMPLATES = 64;
+
+	// cache in access order that removes its least recently used entry when growing beyond MAX_CACHED_TEMPLATES
+	private static final Map<String, AskMoreTemplate> templates = new LinkedHashMap<String, AskMoreTemplate>(16, 0.75f, true) {
+
+		// generated serial version id
+		private static final long serialVersionUID = -2373941795633170451L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, AskMoreTemplate> eldest) {
+			return (size() > MAX_CACHED_TEMPLATES);
+		}
+
+	};
+
+	/**
+	 * Returns the compiled AskMoreTemplate of an annotated String and compiles it only if it is not cached yet
+	 * <br>(Is recorded as OperationPhase.PARSING.)
+	 * @param annotatedText a String that may contain AskMoreAnnotations
+	 * @throws IllegalArgumentException if the String contains invalid AskMoreAnnotations
+	 */
+	public static AskMoreTemplate getTemplate(String annotatedText) throws IllegalArgumentException {
+		PhaseRecording parsing = OperationRecorder.beginPhase(OperationPhase.PARSING, AskMoreTemplateCache.class, annotatedText.length());
+		try {
+			AskMoreTemplate template = fetchTemplate(annotatedText);
+			parsing.setAnnotationCount(template.getAnnotations().size());
+			return template;
+		} finally {
+			parsing.end();
+		}
+	}
+
+	/**
+	 * Returns the cached AskMoreTemplate of an annotated String or compiles and caches it
+	 * @param annotatedText a String that may contain AskMoreAnnotations
+	 * @throws IllegalArgumentException if the String contains invalid AskMoreAnnotations
+	 */
+	protected static AskMoreTemplate fetchTemplate(String annotatedText) throws IllegalArgumentException {
+		synchronized (templates) {
+			AskMoreTemplate template = templates.get(annotatedText);
+			if (template != null) {
+				AskMoreMetrics.recordCacheAccess(AskMoreTemplateCache.class.getSimpleName(), true);
+				return template;
+			}
+		}
+		AskMoreMetrics.recordCacheAccess(AskMoreTemplateCache.class.getSimpleName(), false);
+
+		// compile outside of the lock (a concurrent compilation of the same text is harmless since templates are immutable)
+		AskMoreTemplate template = AskMoreAnnotationParser.compileTemplate(annotatedText);
+		synchronized (templates) {
+			templates.put(annotatedText, template);
+		}
+		return template;
+	}
+
+	/**
+	 * Removes all cached templates
+	 */
+	public static void clear() {
+		synchronized (templates) {
+			templates.clear();
+		}
+	}
+
+}
@@ -0,0 +1,269 @@
+/**
+ * BatchFileProcessor.java - is a helper class that transforms many files on a bounded pool of worker threads and replaces each file atomically with its
+ *  transformed content as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.adwmainz.da.extensions.askmore.models.BatchFileResult;
+import org.adwmainz.da.extensions.askmore.models.FileTransformation;
+
+public class BatchFileProcessor {
+
+	// constant value
+	public static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+	// fields
+	protected final FileTransformation.Factory transformationFactory;
+	protected final int threadCount;
+	protected volatile boolean isCancelled;
+
+	// constructor
+	/**
+	 * Creates a new BatchFileProcessor
+	 * @param transformationFactory a factory that creates a separate FileTransformation for each worker thread
+	 * @param threadCount the max number of worker threads (or a value smaller than 1 if one worker per available processor should be used)
+	 */
+	public BatchFileProcessor(FileTransformation.Factory transformationFactory, int threadCount) {
+		this.transformationFactory = transformationFactory;
+		this.threadCount = (threadCount > 0) ? threadCount : Runtime.getRuntime().availableProcessors();
+	}
+
+	// basic getters
+	public int getThreadCount() {
+		return threadCount;
+	}
+
+	public boolean isCancelled() {
+		return isCancelled;
+	}
+
+	// additional methods
+	/**
+	 * Transforms and replaces the specified files on a pool of worker threads that each use their own FileTransformation
+	 * <br>The first FileTransformation is created before any file is processed so that an invalid transformation fails early. A file that cannot be
+	 *  transformed is left unchanged and reported by its BatchFileResult while the remaining files are still processed.
+	 * @param files the files to be transformed
+	 * @param listener a Listener notified from the worker threads whenever a file has been processed (may be <code>null</code>)
+	 * @return the results of all files processed before the batch was cancelled (in the order of the specified files)
+	 * @throws Exception if the first FileTransformation cannot be created
+	 * @throws InterruptedException if the current thread is interrupted while waiting for the workers (which cancels the batch)
+	 */
+	public List<BatchFileResult> process(List<Path> files, final Listener listener) throws Exception, InterruptedException {
+		List<BatchFileResult> results = new ArrayList<>(files.size());
+		if (files.isEmpty())
+			return results;
+
+		// transformations are handed to the workers via a queue and kept per worker thread
+		final Queue<FileTransformation> preparedTransformations = new ConcurrentLinkedQueue<>();
+		final Queue<FileTransformation> createdTransformations = new ConcurrentLinkedQueue<>();
+		FileTransformation firstTransformation = transformationFactory.createTransformation();
+		preparedTransformations.add(firstTransformation);
+		createdTransformations.add(firstTransformation);
+		final ThreadLocal<FileTransformation> transformations = new ThreadLocal<>();
+
+		int poolSize = Math.min(threadCount, files.size());
+		ExecutorService executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+				new WorkerThreadFactory()) {
+
+			@Override
+			protected void terminated() {
+				// all workers have finished (even if the batch has been interrupted)
+				for (FileTransformation transformation: createdTransformations)
+					transformationFactory.releaseTransformation(transformation);
+			}
+
+		};
+		List<Future<BatchFileResult>> futures = new ArrayList<>(files.size());
+		try {
+			for (final Path file: files) {
+				futures.add(executor.submit(new Callable<BatchFileResult>() {
+
+					@Override
+					public BatchFileResult call() {
+						if (isCancelled)
+							return null;
+						long startTime = System.nanoTime();
+						Throwable error = null;
+						try {
+							FileTransformation transformation = transformations.get();
+							if (transformation == null) {
+								transformation = preparedTransformations.poll();
+								if (transformation == null) {
+									transformation = transformationFactory.createTransformation();
+									createdTransformations.add(transformation);
+								}
+								transformations.set(transformation);
+							}
+							replace(file, transformation);
+						} catch (Exception | StackOverflowError e) {
+							error = e;
+						}
+						BatchFileResult result = new BatchFileResult(file, error, (System.nanoTime() - startTime) / 1000000);
+						if (listener != null)
+							listener.fileProcessed(result);
+						return result;
+					}
+
+				}));
+			}
+			executor.shutdown();
+
+			for (int i=0; i<futures.size(); ++i) {
+				try {
+					BatchFileResult result = futures.get(i).get();
+					if (result != null)
+						results.add(result);
+				} catch (CancellationException e) {
+					// the file has not been processed
+				} catch (ExecutionException e) {
+					results.add(new BatchFileResult(files.get(i), e.getCause(), 0));
+				}
+			}
+		} catch (InterruptedException e) {
+			// the transformations are released by the executor as soon as the workers have finished their current files
+			cancel();
+			throw e;
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// wait until the transformations have been released, so that they can be reused by the next batch
+		executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		return results;
+	}
+
+	/**
+	 * Stops the batch after the files that are currently processed
+	 */
+	public void cancel() {
+		isCancelled = true;
+	}
+
+	/**
+	 * Replaces a file with its transformed content
+	 * <br>The content is streamed to a temporary file in the same directory which is then moved onto the file atomically if supported by the file system,
+	 *  so that the file is never left partially written. If the transformation fails or its content is rejected by FileTransformation.verify(), the file
+	 *  is left unchanged.
+	 * @param file the file to be replaced
+	 * @param transformation the transformation to be used
+	 * @throws Exception if the file cannot be transformed or replaced
+	 */
+	public static void replace(Path file, FileTransformation transformation) throws Exception {
+		Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), "." + file.getFileName(), ".tmp");
+		boolean isReplaced = false;
+		try {
+			try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(tempFile), OUTPUT_BUFFER_SIZE)) {
+				transformation.transform(file, output);
+			}
+			transformation.verify(tempFile);
+
+			// keep the permissions of the file (temporary files are only accessible by their owner)
+			try {
+				Files.setPosixFilePermissions(tempFile, Files.getPosixFilePermissions(file));
+			} catch (UnsupportedOperationException e) {
+				// not a POSIX file system
+			}
+
+			try {
+				Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+			isReplaced = true;
+		} finally {
+			if (!isReplaced)
+				Files.deleteIfExists(tempFile);
+		}
+	}
+
+	/**
+	 * Returns all regular files of a folder whose names match a glob pattern sorted by their paths
+	 * @param folder the folder to be searched
+	 * @param globPattern a glob pattern like <code>*.xml</code> the file names must match
+	 * @param isRecursive <code>true</code> if all subfolders should be searched as well
+	 * @throws IllegalArgumentException if the folder does not exist or if the pattern is invalid
+	 * @throws IOException if the folder cannot be read
+	 */
+	public static List<Path> findFiles(Path folder, String globPattern, boolean isRecursive) throws IllegalArgumentException, IOException {
+		if (!Files.isDirectory(folder))
+			throw new IllegalArgumentException("The folder " + folder + " does not exist");
+		PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + globPattern);
+		List<Path> files = new ArrayList<>();
+		addFiles(folder, matcher, isRecursive, files);
+		Collections.sort(files);
+		return files;
+	}
+
+	private static void addFiles(Path folder, PathMatcher matcher, boolean isRecursive, List<Path> files) throws IOException {
+		try (DirectoryStream<Path> entries = Files.newDirectoryStream(folder)) {
+			for (Path entry: entries) {
+				if (Files.isRegularFile(entry)) {
+					if (matcher.matches(entry.getFileName()))
+						files.add(entry);
+				} else if (isRecursive && Files.isDirectory(entry)) {
+					addFiles(entry, matcher, isRecursive, files);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Listener is an interface for classes that track the progress of a batch
+	 */
+	public interface Listener {
+
+		/**
+		 * Is invoked from a worker thread as soon as a file has been processed
+		 * @param result the result of the file
+		 */
+		public void fileProcessed(BatchFileResult result);
+
+	}
+
+	/**
+	 * WorkerThreadFactory is a private class used to create named daemon threads that do not keep the application alive
+	 */
+	private static class WorkerThreadFactory implements ThreadFactory {
+
+		// field
+		private static final AtomicInteger threadNumber = new AtomicInteger();
+
+		// overridden method
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "AskMore batch worker " + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+
+	}
+
+}
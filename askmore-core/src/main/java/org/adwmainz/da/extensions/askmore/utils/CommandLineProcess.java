@@ -0,0 +1,201 @@
+/**
+ * CommandLineProcess.java - is a helper class that executes a command line while streaming its output line by line and that stops the whole process tree
+ *  on timeout or cancellation as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.adwmainz.da.extensions.askmore.models.CommandLineResult;
+import org.adwmainz.da.extensions.askmore.models.CommandLineTask;
+
+public class CommandLineProcess implements CommandLineTask {
+
+	// constant value
+	public static final long OUTPUT_DRAIN_MILLIS = 1000;
+
+	// fields
+	protected final List<String> command;
+	protected final File workingDirectory;
+	protected final long timeoutMillis;
+	protected volatile Process process;
+	protected volatile boolean isCancelled;
+
+	// constructors
+	/**
+	 * Creates a new CommandLineProcess that executes a command line with the shell of the operating system
+	 * @param commandLine the command line to be executed
+	 * @param workingDirectory the working directory of the process (or <code>null</code> if the working directory of the editor should be used)
+	 * @param timeoutMillis the max run time in milliseconds (or a value smaller than 1 if the process should never time out)
+	 * @throws IllegalArgumentException if the command line is empty
+	 */
+	public CommandLineProcess(String commandLine, File workingDirectory, long timeoutMillis) throws IllegalArgumentException {
+		this(createShellCommand(commandLine), workingDirectory, timeoutMillis);
+	}
+
+	/**
+	 * Creates a new CommandLineProcess
+	 * @param command the program and its arguments
+	 * @param workingDirectory the working directory of the process (or <code>null</code> if the working directory of the editor should be used)
+	 * @param timeoutMillis the max run time in milliseconds (or a value smaller than 1 if the process should never time out)
+	 */
+	public CommandLineProcess(List<String> command, File workingDirectory, long timeoutMillis) {
+		this.command = command;
+		this.workingDirectory = workingDirectory;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	// basic getters
+	public List<String> getCommand() {
+		return command;
+	}
+
+	public boolean isCancelled() {
+		return isCancelled;
+	}
+
+	// overridden methods
+	/**
+	 * Starts the process and blocks until it has ended, timed out or been cancelled
+	 * <br>Standard output and error output are read on separate threads, so that a process filling one of them cannot block.
+	 * @param listener a Listener notified from the reading threads whenever a line has been read (may be <code>null</code>)
+	 * @return the CommandLineResult of the process
+	 * @throws IOException if the process cannot be started
+	 * @throws InterruptedException if the current thread is interrupted while waiting for the process (which stops the process)
+	 */
+	@Override
+	public CommandLineResult run(Listener listener) throws IOException, InterruptedException {
+		long startTime = System.nanoTime();
+		ProcessBuilder processBuilder = new ProcessBuilder(command);
+		if (workingDirectory != null)
+			processBuilder.directory(workingDirectory);
+		process = processBuilder.start();
+		process.getOutputStream().close();
+
+		// the process may have been cancelled before it was started
+		if (isCancelled)
+			destroyProcessTree(process);
+
+		Thread outputReader = startReader(process.getInputStream(), false, listener);
+		Thread errorReader = startReader(process.getErrorStream(), true, listener);
+		boolean isTimedOut = false;
+		try {
+			if (timeoutMillis > 0) {
+				isTimedOut = !process.waitFor(timeoutMillis, TimeUnit.MILLISECONDS);
+				if (isTimedOut) {
+					destroyProcessTree(process);
+					process.waitFor();
+				}
+			} else {
+				process.waitFor();
+			}
+
+			// let the readers pass on the remaining output
+			outputReader.join(OUTPUT_DRAIN_MILLIS);
+			errorReader.join(OUTPUT_DRAIN_MILLIS);
+		} catch (InterruptedException e) {
+			cancel();
+			throw e;
+		}
+		return new CommandLineResult(process.exitValue(), isTimedOut && !isCancelled, isCancelled, (System.nanoTime() - startTime) / 1000000);
+	}
+
+	/**
+	 * Stops the process and all of its descendants
+	 * <br>(May be invoked from any thread.)
+	 */
+	@Override
+	public void cancel() {
+		isCancelled = true;
+		Process currentProcess = process;
+		if (currentProcess != null)
+			destroyProcessTree(currentProcess);
+	}
+
+	// additional methods
+	/**
+	 * Starts a daemon thread that reads a stream of the process line by line
+	 */
+	protected Thread startReader(final InputStream stream, final boolean isErrorOutput, final Listener listener) {
+		Thread reader = new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+				try (BufferedReader lineReader = new BufferedReader(new InputStreamReader(stream, Charset.defaultCharset()))) {
+					String line;
+					while ((line = lineReader.readLine()) != null) {
+						if (listener != null)
+							listener.lineRead(line, isErrorOutput);
+					}
+				} catch (IOException e) {
+					// the stream has been closed by stopping the process
+				}
+			}
+
+		}, "AskMore " + (isErrorOutput ? "error" : "output") + " reader");
+		reader.setDaemon(true);
+		reader.start();
+		return reader;
+	}
+
+	/**
+	 * Returns a command that executes a command line with the shell of the operating system
+	 * @param commandLine the command line to be executed
+	 * @throws IllegalArgumentException if the command line is empty
+	 */
+	public static List<String> createShellCommand(String commandLine) throws IllegalArgumentException {
+		if (commandLine == null || commandLine.trim().isEmpty())
+			throw new IllegalArgumentException("The command line must not be empty.");
+		if (System.getProperty("os.name", "").toLowerCase().startsWith("windows"))
+			return Arrays.asList("cmd.exe", "/c", commandLine);
+		return Arrays.asList("/bin/sh", "-c", commandLine);
+	}
+
+	/**
+	 * Forcibly stops a process and all of its descendants
+	 * <br>(The descendants are only known on Java 9 or newer whose ProcessHandle is accessed reflectively since the core module is compiled for Java 8.
+	 *  Otherwise, only the process itself is stopped.)
+	 * @param process the process to be stopped
+	 */
+	public static void destroyProcessTree(Process process) {
+		List<Object> descendants = new ArrayList<>();
+		Method destroyMethod = null;
+		try {
+			Object processHandle = Process.class.getMethod("toHandle").invoke(process);
+			Class<?> processHandleClass = Class.forName("java.lang.ProcessHandle");
+			destroyMethod = processHandleClass.getMethod("destroyForcibly");
+
+			// collect the descendants before stopping the process since they may be reparented afterwards
+			Stream<?> descendantStream = (Stream<?>) processHandleClass.getMethod("descendants").invoke(processHandle);
+			Iterator<?> iterator = descendantStream.iterator();
+			while (iterator.hasNext())
+				descendants.add(iterator.next());
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// the descendants cannot be determined
+		}
+
+		process.destroyForcibly();
+		for (Object descendant: descendants) {
+			try {
+				destroyMethod.invoke(descendant);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				// the descendant has ended already or cannot be stopped
+			}
+		}
+	}
+
+}
@@ -0,0 +1,53 @@
+/**
+ * FileOptionSourceResolver.java - is a headless implementation of org.adwmainz.da.extensions.askmore.models.OptionSourceResolver that provides the options of
+ *  authority files referenced by <code>FILE("path")</code> option sources as used within the AskMoreXtension developed at the Digital Academy of the Academy
+ *  of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.io.File;
+import java.util.List;
+
+import org.adwmainz.da.extensions.askmore.models.OptionSource;
+import org.adwmainz.da.extensions.askmore.models.OptionSourceResolver;
+import org.adwmainz.da.extensions.askmore.models.SelectableOption;
+
+public class FileOptionSourceResolver implements OptionSourceResolver {
+
+	// fields
+	protected File baseDirectory;
+
+	// constructor
+	/**
+	 * Creates a new FileOptionSourceResolver
+	 * @param baseDirectory the directory relative paths should be resolved against
+	 */
+	public FileOptionSourceResolver(File baseDirectory) {
+		this.baseDirectory = baseDirectory;
+	}
+
+	// additional methods
+	/**
+	 * Resolves the path of a <code>FILE("path")</code> option source
+	 * @param path an absolute path or a path relative to the base directory
+	 */
+	protected File resolveFile(String path) {
+		File file = new File(path);
+		return (file.isAbsolute() || baseDirectory == null) ? file : new File(baseDirectory, path);
+	}
+
+	// overridden methods
+	/**
+	 * Returns the options of an authority file which are decoded on demand from a memory mapped file
+	 * @throws IllegalArgumentException if the OptionSource is not of the type <code>FILE</code> or the file cannot be read
+	 */
+	@Override
+	public List<SelectableOption<String>> resolveOptions(OptionSource optionSource) throws IllegalArgumentException {
+		if (optionSource.getType() != OptionSource.Type.FILE)
+			throw new IllegalArgumentException("Unsupported option source " + optionSource);
+		return MappedOptionListCache.getOptionList(resolveFile(optionSource.getExpression()));
+	}
+
+}
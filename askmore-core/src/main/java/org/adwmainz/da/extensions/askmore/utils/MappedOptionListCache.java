@@ -0,0 +1,238 @@
+/**
+ * MappedOptionListCache.java - is a helper class that memory maps authority files as org.adwmainz.da.extensions.askmore.models.MappedOptionList objects and
+ *  caches them keyed by their paths and modification times as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences
+ *  and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.adwmainz.da.extensions.askmore.models.MappedOptionList;
+
+public class MappedOptionListCache {
+
+	// constant values
+	public static final int MAX_CACHED_FILES = 16;
+	protected static final int INDEX_MAGIC_NUMBER = 0x414D5849; // AMXI
+	protected static final int INDEX_VERSION = 1;
+	protected static final String INDEX_DIRECTORY_NAME = "askmore-indexes";
+	protected static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+	// cache in access order that removes its least recently used entry when growing beyond MAX_CACHED_FILES
+	private static final Map<String, CachedOptionList> optionLists = new LinkedHashMap<String, CachedOptionList>(16, 0.75f, true) {
+
+		// generated serial version id
+		private static final long serialVersionUID = 6047386296442434386L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CachedOptionList> eldest) {
+			return (size() > MAX_CACHED_FILES);
+		}
+
+	};
+
+	/**
+	 * Returns the MappedOptionList of an authority file and maps it only if it is not cached yet or has been modified since
+	 * <br>(The sorted index is loaded from the temporary directory if it was built before and is built and stored there otherwise.)
+	 * @param authorityFile a UTF-8 encoded file with one option per line and the tab separated columns <code>REAL_VALUE</code> and <code>RENDERED_VALUE</code>
+	 * @throws IllegalArgumentException if the file cannot be read or is larger than 2 GB
+	 */
+	public static MappedOptionList getOptionList(File authorityFile) throws IllegalArgumentException {
+		String path;
+		try {
+			path = authorityFile.getCanonicalPath();
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Cannot read the authority file " + authorityFile, e);
+		}
+		long lastModified = authorityFile.lastModified();
+		long length = authorityFile.length();
+
+		synchronized (optionLists) {
+			CachedOptionList cachedOptionList = optionLists.get(path);
+			if (cachedOptionList != null && cachedOptionList.lastModified == lastModified && cachedOptionList.length == length) {
+				AskMoreMetrics.recordCacheAccess(MappedOptionListCache.class.getSimpleName(), true);
+				return cachedOptionList.optionList;
+			}
+		}
+		AskMoreMetrics.recordCacheAccess(MappedOptionListCache.class.getSimpleName(), false);
+
+		// map outside of the lock (a concurrent mapping of the same file is harmless since option lists are immutable)
+		MappedOptionList optionList = mapOptionList(new File(path), lastModified, length);
+		synchronized (optionLists) {
+			optionLists.put(path, new CachedOptionList(optionList, lastModified, length));
+		}
+		return optionList;
+	}
+
+	/**
+	 * Removes all cached option lists
+	 */
+	public static void clear() {
+		synchronized (optionLists) {
+			optionLists.clear();
+		}
+	}
+
+	protected static MappedOptionList mapOptionList(File authorityFile, long lastModified, long length) throws IllegalArgumentException {
+		if (!authorityFile.isFile())
+			throw new IllegalArgumentException("The authority file " + authorityFile + " does not exist");
+		if (length > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("The authority file " + authorityFile + " is larger than 2 GB");
+
+		// map data
+		ByteBuffer data;
+		try (RandomAccessFile file = new RandomAccessFile(authorityFile, "r")) {
+			data = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, length);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Cannot read the authority file " + authorityFile, e);
+		}
+
+		// load index or build it
+		File indexFile = getIndexFile(authorityFile.getPath(), lastModified);
+		IntBuffer index = loadIndex(indexFile, authorityFile.getPath(), lastModified, length);
+		if (index == null) {
+			int[] lineOffsets = MappedOptionList.findLineOffsets(data);
+			MappedOptionList.sortLineOffsets(data, lineOffsets);
+			index = storeIndex(indexFile, authorityFile.getPath(), lastModified, length, lineOffsets);
+		}
+		return new MappedOptionList(data, index);
+	}
+
+	/**
+	 * Returns the file the index of an authority file is stored in
+	 */
+	protected static File getIndexFile(String path, long lastModified) {
+		File indexDirectory = new File(System.getProperty("java.io.tmpdir"), INDEX_DIRECTORY_NAME);
+		return new File(indexDirectory, Integer.toHexString(path.hashCode()) + "-" + Long.toHexString(lastModified) + ".idx");
+	}
+
+	/**
+	 * Maps a previously stored index
+	 * @return the index or <code>null</code> if there is no valid index for the specified authority file
+	 */
+	protected static IntBuffer loadIndex(File indexFile, String path, long lastModified, long length) {
+		if (!indexFile.isFile())
+			return null;
+		try (RandomAccessFile file = new RandomAccessFile(indexFile, "r")) {
+			MappedByteBuffer buffer = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, file.length());
+			byte[] pathBytes = path.getBytes(StandardCharsets.UTF_8);
+			int headerLength = getHeaderLength(pathBytes);
+			if (buffer.limit() < headerLength || buffer.getInt() != INDEX_MAGIC_NUMBER || buffer.getInt() != INDEX_VERSION
+					|| buffer.getLong() != lastModified || buffer.getLong() != length || buffer.getInt() != pathBytes.length)
+				return null;
+			for (byte pathByte: pathBytes)
+				if (buffer.get() != pathByte)
+					return null;
+			int count = buffer.getInt();
+			if (buffer.limit() != headerLength + 4L * count)
+				return null;
+			buffer.position(headerLength);
+			return buffer.slice().asIntBuffer();
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Stores an index and maps it again so that it is not held on the heap
+	 * <br>(The index is written to a unique temporary file that is moved to the index file afterwards, so that concurrent builds of the same index
+	 *  never read or map a partially written file. The index is kept on the heap if it cannot be stored.)
+	 */
+	protected static IntBuffer storeIndex(File indexFile, String path, long lastModified, long length, int[] lineOffsets) {
+		byte[] pathBytes = path.getBytes(StandardCharsets.UTF_8);
+		int headerLength = getHeaderLength(pathBytes);
+		File indexDirectory = indexFile.getParentFile();
+		indexDirectory.mkdirs();
+		File temporaryFile = null;
+		try {
+			// write the index to a temporary file in the same directory
+			temporaryFile = File.createTempFile(indexFile.getName() + "-", ".tmp", indexDirectory);
+			try (FileChannel channel = FileChannel.open(temporaryFile.toPath(), StandardOpenOption.WRITE)) {
+				ByteBuffer buffer = ByteBuffer.allocate(Math.max(WRITE_BUFFER_SIZE, headerLength));
+				buffer.putInt(INDEX_MAGIC_NUMBER);
+				buffer.putInt(INDEX_VERSION);
+				buffer.putLong(lastModified);
+				buffer.putLong(length);
+				buffer.putInt(pathBytes.length);
+				buffer.put(pathBytes);
+				buffer.putInt(lineOffsets.length);
+				buffer.position(headerLength);
+				for (int lineOffset: lineOffsets) {
+					if (buffer.remaining() < 4)
+						writeFully(channel, buffer);
+					buffer.putInt(lineOffset);
+				}
+				writeFully(channel, buffer);
+				channel.force(false);
+			}
+
+			// replace the index file (or keep the one stored by a concurrent build if it cannot be replaced)
+			try {
+				Files.move(temporaryFile.toPath(), indexFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temporaryFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			// the index file may still have been stored by a concurrent build
+		} finally {
+			if (temporaryFile != null)
+				temporaryFile.delete();
+		}
+
+		IntBuffer index = loadIndex(indexFile, path, lastModified, length);
+		return (index != null) ? index : IntBuffer.wrap(lineOffsets).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Writes and clears the content of a buffer
+	 */
+	protected static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+		buffer.clear();
+	}
+
+	/**
+	 * Returns the length of an index header (padded to a multiple of 4)
+	 */
+	protected static int getHeaderLength(byte[] pathBytes) {
+		int headerLength = 4 + 4 + 8 + 8 + 4 + pathBytes.length + 4;
+		return (headerLength + 3) & ~3;
+	}
+
+	/**
+	 * CachedOptionList is a private class storing a MappedOptionList along with the state of its authority file
+	 */
+	private static class CachedOptionList {
+
+		// fields
+		private final MappedOptionList optionList;
+		private final long lastModified;
+		private final long length;
+
+		// constructor
+		private CachedOptionList(MappedOptionList optionList, long lastModified, long length) {
+			this.optionList = optionList;
+			this.lastModified = lastModified;
+			this.length = length;
+		}
+
+	}
+
+}
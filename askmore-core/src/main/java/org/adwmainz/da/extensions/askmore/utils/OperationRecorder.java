@@ -0,0 +1,174 @@
+/**
+ * OperationRecorder.java - is a helper class that records operations and their phases as Java Flight Recorder events if the running JVM supports them and
+ *  reports the latency of each operation to AskMoreMetrics as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences
+ *  and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import org.adwmainz.da.extensions.askmore.models.OperationPhase;
+import org.adwmainz.da.extensions.askmore.models.OperationRecording;
+import org.adwmainz.da.extensions.askmore.models.PhaseRecording;
+
+public class OperationRecorder {
+
+	// constant value
+	protected static final String FLIGHT_RECORDER_CLASS_NAME = "org.adwmainz.da.extensions.askmore.utils.FlightRecorderOperationRecorder";
+
+	// the recorder in use (which records nothing if the JVM does not provide the jdk.jfr API)
+	private static final OperationRecorder recorder = createRecorder();
+	// the innermost operation running on the current thread
+	private static final ThreadLocal<MeteredOperationRecording> currentOperation = new ThreadLocal<>();
+
+	// constructor
+	protected OperationRecorder() {
+	}
+
+	// static methods
+	/**
+	 * Starts recording an operation
+	 * <br>(Its latency without the time spent in input dialogs is always reported to AskMoreMetrics while events are only emitted if a flight recording
+	 *  with AskMore events is running.)
+	 * @param operationClass the class of the operation
+	 * @param argumentCount the number of arguments the operation was invoked with
+	 * @param argumentChars the total length of all String arguments
+	 */
+	public static OperationRecording startOperation(Class<?> operationClass, int argumentCount, long argumentChars) {
+		MeteredOperationRecording recording = new MeteredOperationRecording(operationClass,
+				recorder.createOperationRecording(operationClass, argumentCount, argumentChars), currentOperation.get());
+		currentOperation.set(recording);
+		return recording;
+	}
+
+	/**
+	 * Starts recording a phase of the current operation (or a phase outside of any operation if none is recorded on the current thread)
+	 * <br>(Returns <code>PhaseRecording.DISABLED</code> unless a flight recording with AskMore events is running or the phase is a USER_INPUT phase of an
+	 *  operation whose latency is measured.)
+	 * @param phase the OperationPhase
+	 * @param sourceClass the class that executes the phase
+	 * @param inputChars the length of the processed input (or 0 if there is no textual input)
+	 */
+	public static PhaseRecording beginPhase(OperationPhase phase, Class<?> sourceClass, long inputChars) {
+		PhaseRecording recording = recorder.createPhaseRecording(phase, sourceClass, inputChars);
+		MeteredOperationRecording operation = currentOperation.get();
+		if (phase == OperationPhase.USER_INPUT && operation != null)
+			return new UserInputPhaseRecording(recording, operation);
+		return recording;
+	}
+
+	/**
+	 * Checks whether the running JVM supports Java Flight Recorder events
+	 */
+	public static boolean isAvailable() {
+		return (recorder.getClass() != OperationRecorder.class);
+	}
+
+	/**
+	 * Returns a FlightRecorderOperationRecorder if the jdk.jfr API is available or a recorder that records nothing otherwise
+	 * <br>(The FlightRecorderOperationRecorder is part of the module askmore-jfr which is compiled for Java 11, so that it is loaded reflectively and
+	 *  ignored if it is missing from the classpath or cannot be loaded by the running JVM.)
+	 */
+	private static OperationRecorder createRecorder() {
+		try {
+			Class.forName("jdk.jfr.Event");
+			return (OperationRecorder) Class.forName(FLIGHT_RECORDER_CLASS_NAME).getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError | ClassCastException | SecurityException e) {
+			return new OperationRecorder();
+		}
+	}
+
+	// additional methods
+	protected OperationRecording createOperationRecording(Class<?> operationClass, int argumentCount, long argumentChars) {
+		return OperationRecording.DISABLED;
+	}
+
+	protected PhaseRecording createPhaseRecording(OperationPhase phase, Class<?> sourceClass, long inputChars) {
+		return PhaseRecording.DISABLED;
+	}
+
+	/**
+	 * MeteredOperationRecording is a protected class that reports the latency of an operation without the time spent in input dialogs to AskMoreMetrics
+	 *  and forwards all calls to the OperationRecording of the recorder in use
+	 */
+	protected static class MeteredOperationRecording extends OperationRecording {
+
+		// fields
+		protected final Class<?> operationClass;
+		protected final OperationRecording recording;
+		protected final MeteredOperationRecording enclosingOperation;
+		protected final long startNanos = System.nanoTime();
+		protected long userInputNanos;
+		protected boolean isEnded;
+
+		// constructor
+		protected MeteredOperationRecording(Class<?> operationClass, OperationRecording recording, MeteredOperationRecording enclosingOperation) {
+			this.operationClass = operationClass;
+			this.recording = recording;
+			this.enclosingOperation = enclosingOperation;
+		}
+
+		// overridden methods
+		@Override
+		public void setResultCount(int resultCount) {
+			recording.setResultCount(resultCount);
+		}
+
+		@Override
+		public void end() {
+			if (isEnded)
+				return;
+			isEnded = true;
+			if (enclosingOperation == null) {
+				currentOperation.remove();
+			} else {
+				enclosingOperation.userInputNanos += userInputNanos;
+				currentOperation.set(enclosingOperation);
+			}
+			AskMoreMetrics.recordOperation(operationClass, System.nanoTime() - startNanos - userInputNanos);
+			recording.end();
+		}
+
+	}
+
+	/**
+	 * UserInputPhaseRecording is a protected class that adds the duration of a USER_INPUT phase to the time its operation spent in input dialogs and
+	 *  forwards all calls to the PhaseRecording of the recorder in use
+	 */
+	protected static class UserInputPhaseRecording extends PhaseRecording {
+
+		// fields
+		protected final PhaseRecording recording;
+		protected final MeteredOperationRecording operation;
+		protected final long startNanos = System.nanoTime();
+		protected boolean isEnded;
+
+		// constructor
+		protected UserInputPhaseRecording(PhaseRecording recording, MeteredOperationRecording operation) {
+			this.recording = recording;
+			this.operation = operation;
+		}
+
+		// overridden methods
+		@Override
+		public void setAnnotationCount(int annotationCount) {
+			recording.setAnnotationCount(annotationCount);
+		}
+
+		@Override
+		public void setResultCount(int resultCount) {
+			recording.setResultCount(resultCount);
+		}
+
+		@Override
+		public void end() {
+			if (isEnded)
+				return;
+			isEnded = true;
+			operation.userInputNanos += System.nanoTime() - startNanos;
+			recording.end();
+		}
+
+	}
+
+}
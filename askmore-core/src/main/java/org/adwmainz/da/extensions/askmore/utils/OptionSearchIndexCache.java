@@ -0,0 +1,113 @@
+/**
+ * OptionSearchIndexCache.java - is a helper class that builds org.adwmainz.da.extensions.askmore.models.OptionSearchIndex objects and caches them as long as
+ *  their option lists are in use as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.adwmainz.da.extensions.askmore.models.CompositeOptionList;
+import org.adwmainz.da.extensions.askmore.models.OptionSearchIndex;
+import org.adwmainz.da.extensions.askmore.models.SelectableOption;
+
+public class OptionSearchIndexCache {
+
+	// constant value
+	public static final int MIN_CACHED_SIZE = 1000;
+
+	// indexes keyed by the identities of their option lists (weakly referenced so that they can be garbage collected along with their lists)
+	private static final Map<ListReference, OptionSearchIndex> indexes = new HashMap<>();
+	private static final ReferenceQueue<Object> collectedLists = new ReferenceQueue<>();
+
+	/**
+	 * Returns the OptionSearchIndex of an option list and builds it only if the list was not indexed before
+	 * <br>The lists of a CompositeOptionList are indexed separately, so that e.g. the index of a mapped authority file is shared by all templates
+	 *  referencing it. Lists with less than MIN_CACHED_SIZE options are indexed on each invocation since they are indexed faster than they are looked up.
+	 * <br>(Cached lists must not be modified. The index of a MappedOptionList only keeps its postings on the heap, so that caching it does not copy the
+	 *  authority file.)
+	 * @param options a random access list of options
+	 */
+	public static OptionSearchIndex getIndex(List<? extends SelectableOption<?>> options) {
+		if (options instanceof CompositeOptionList) {
+			List<OptionSearchIndex> partIndexes = new ArrayList<>();
+			for (List<? extends SelectableOption<?>> optionList: ((CompositeOptionList<?>) options).getOptionLists())
+				partIndexes.add(getIndex(optionList));
+			return OptionSearchIndex.concat(partIndexes);
+		}
+		if (options.size() < MIN_CACHED_SIZE)
+			return new OptionSearchIndex(options);
+
+		synchronized (indexes) {
+			removeCollectedLists();
+			OptionSearchIndex index = indexes.get(new ListReference(options, null));
+			if (index != null) {
+				AskMoreMetrics.recordCacheAccess(OptionSearchIndexCache.class.getSimpleName(), true);
+				return index;
+			}
+		}
+		AskMoreMetrics.recordCacheAccess(OptionSearchIndexCache.class.getSimpleName(), false);
+
+		// index outside of the lock (a concurrent indexing of the same list is harmless since indexes are immutable)
+		OptionSearchIndex index = new OptionSearchIndex(options);
+		synchronized (indexes) {
+			indexes.put(new ListReference(options, collectedLists), index);
+		}
+		return index;
+	}
+
+	/**
+	 * Removes all cached indexes
+	 */
+	public static void clear() {
+		synchronized (indexes) {
+			indexes.clear();
+		}
+	}
+
+	private static void removeCollectedLists() {
+		Reference<?> reference;
+		while ((reference = collectedLists.poll()) != null)
+			indexes.remove(reference);
+	}
+
+	/**
+	 * ListReference is a private class used to weakly reference an option list and to compare it by its identity
+	 */
+	private static class ListReference extends WeakReference<Object> {
+
+		// field
+		private final int hashCode;
+
+		// constructor
+		private ListReference(Object list, ReferenceQueue<Object> queue) {
+			super(list, queue);
+			this.hashCode = System.identityHashCode(list);
+		}
+
+		// overridden methods
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof ListReference))
+				return false;
+			Object list = get();
+			return (list != null && list == ((ListReference) obj).get());
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+	}
+
+}
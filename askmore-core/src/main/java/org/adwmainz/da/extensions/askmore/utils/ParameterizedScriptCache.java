@@ -0,0 +1,75 @@
+/**
+ * ParameterizedScriptCache.java - is a helper class providing a bounded LRU cache of org.adwmainz.da.extensions.askmore.models.ParameterizedScript objects
+ *  keyed by the compiled templates they were created from as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences
+ *  and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.adwmainz.da.extensions.askmore.models.AskMoreTemplate;
+import org.adwmainz.da.extensions.askmore.models.ParameterizedScript;
+
+public class ParameterizedScriptCache {
+
+	// constant value
+	public static final int MAX_CACHED_SCRIPTS = 32;
+
+	// cache in access order that removes its least recently used entry when growing beyond MAX_CACHED_SCRIPTS
+	private static final Map<AskMoreTemplate, Map<ParameterizedScript.Language, ParameterizedScript>> scripts =
+			new LinkedHashMap<AskMoreTemplate, Map<ParameterizedScript.Language, ParameterizedScript>>(16, 0.75f, true) {
+
+		// generated serial version id
+		private static final long serialVersionUID = 6372140583922415208L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<AskMoreTemplate, Map<ParameterizedScript.Language, ParameterizedScript>> eldest) {
+			return (size() > MAX_CACHED_SCRIPTS);
+		}
+
+	};
+
+	/**
+	 * Returns the ParameterizedScript of an annotated script and creates it only if it is not cached yet
+	 * @param annotatedScript an XQuery or XSLT script that may contain AskMoreAnnotations
+	 * @param language the language of the script
+	 * @throws IllegalArgumentException if the script contains invalid AskMoreAnnotations or if its params cannot be declared
+	 */
+	public static ParameterizedScript getScript(String annotatedScript, ParameterizedScript.Language language) throws IllegalArgumentException {
+		AskMoreTemplate template = AskMoreTemplateCache.getTemplate(annotatedScript);
+		synchronized (scripts) {
+			Map<ParameterizedScript.Language, ParameterizedScript> languageScripts = scripts.get(template);
+			if (languageScripts != null && languageScripts.containsKey(language)) {
+				AskMoreMetrics.recordCacheAccess(ParameterizedScriptCache.class.getSimpleName(), true);
+				return languageScripts.get(language);
+			}
+		}
+		AskMoreMetrics.recordCacheAccess(ParameterizedScriptCache.class.getSimpleName(), false);
+
+		// create outside of the lock (a concurrent creation of the same script is harmless since ParameterizedScripts are immutable)
+		ParameterizedScript script = new ParameterizedScript(template, language);
+		synchronized (scripts) {
+			Map<ParameterizedScript.Language, ParameterizedScript> languageScripts = scripts.get(template);
+			if (languageScripts == null) {
+				languageScripts = new EnumMap<>(ParameterizedScript.Language.class);
+				scripts.put(template, languageScripts);
+			}
+			languageScripts.put(language, script);
+		}
+		return script;
+	}
+
+	/**
+	 * Removes all cached scripts
+	 */
+	public static void clear() {
+		synchronized (scripts) {
+			scripts.clear();
+		}
+	}
+
+}
@@ -19,8 +19,17 @@ public abstract class RegexUtils {
 	 * @param pattern a regex pattern
 	 */
 	public static List<String> getMatches(String str, String pattern) {
+		return getMatches(str, Pattern.compile(pattern));
+	}
+
+	/**
+	 * Returns all substrings of a given String that match a given precompiled regex pattern
+	 * @param str a String
+	 * @param pattern a compiled regex pattern
+	 */
+	public static List<String> getMatches(String str, Pattern pattern) {
 		List<String> matches = new ArrayList<>();
-		Matcher matcher = Pattern.compile(pattern).matcher(str);
+		Matcher matcher = pattern.matcher(str);
 		while (matcher.find())
 			matches.add(matcher.group(0));
 		return matches;
@@ -0,0 +1,191 @@
+/**
+ * SpillingTextBuilder.java - is a helper class that collects text in memory until it exceeds a size cap and spills it to a temporary file afterwards as
+ *  used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class SpillingTextBuilder extends Writer {
+
+	// constant value
+	public static final int DEFAULT_MAX_BUFFERED_CHARS = 4 * 1024 * 1024;
+
+	// fields
+	protected final int maxBufferedChars;
+	protected StringBuilder buffer;
+	protected Path spillFile;
+	protected Writer spillWriter;
+	protected long length;
+
+	// constructors
+	/**
+	 * Creates a new SpillingTextBuilder that keeps up to DEFAULT_MAX_BUFFERED_CHARS in memory
+	 */
+	public SpillingTextBuilder() {
+		this(DEFAULT_MAX_BUFFERED_CHARS);
+	}
+
+	/**
+	 * Creates a new SpillingTextBuilder
+	 * @param maxBufferedChars the max number of chars kept in memory before the text is spilled to a temporary file
+	 */
+	public SpillingTextBuilder(int maxBufferedChars) {
+		this.maxBufferedChars = Math.max(maxBufferedChars, 0);
+		this.buffer = new StringBuilder(Math.min(this.maxBufferedChars, 8192));
+	}
+
+	// basic getters
+	/**
+	 * Returns the number of chars written so far
+	 */
+	public long length() {
+		return length;
+	}
+
+	/**
+	 * Checks whether the text has been spilled to a temporary file
+	 */
+	public boolean isSpilled() {
+		return (spillFile != null);
+	}
+
+	/**
+	 * Returns the temporary file containing the UTF-8 encoded text or <code>null</code> if the text is kept in memory
+	 */
+	public Path getSpillFile() {
+		return spillFile;
+	}
+
+	// additional methods
+	/**
+	 * Returns a Reader of the text written so far
+	 * @throws IOException if the temporary file cannot be read
+	 */
+	public Reader openReader() throws IOException {
+		if (spillFile == null)
+			return new StringReader(buffer.toString());
+		spillWriter.flush();
+		return Files.newBufferedReader(spillFile, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns an InputStream of the UTF-8 encoded text written so far
+	 * @throws IOException if the temporary file cannot be read
+	 */
+	public InputStream openInputStream() throws IOException {
+		if (spillFile == null)
+			return new ByteArrayInputStream(buffer.toString().getBytes(StandardCharsets.UTF_8));
+		spillWriter.flush();
+		return Files.newInputStream(spillFile);
+	}
+
+	/**
+	 * Deletes the temporary file (if any) and discards the text
+	 */
+	public void dispose() {
+		buffer = new StringBuilder();
+		length = 0;
+		if (spillFile == null)
+			return;
+		try {
+			spillWriter.close();
+		} catch (IOException e) {
+			// the file is deleted anyway
+		}
+		try {
+			Files.deleteIfExists(spillFile);
+		} catch (IOException e) {
+			spillFile.toFile().deleteOnExit();
+		}
+		spillFile = null;
+		spillWriter = null;
+	}
+
+	/**
+	 * Moves the buffered text to a temporary file that receives all further text
+	 */
+	protected void spill() throws IOException {
+		Path file = Files.createTempFile("askmore-", ".txt");
+		file.toFile().deleteOnExit();
+		Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+		writer.append(buffer);
+		spillFile = file;
+		spillWriter = writer;
+		buffer = new StringBuilder();
+	}
+
+	// overridden methods
+	@Override
+	public void write(char[] chars, int offset, int count) throws IOException {
+		if (spillFile == null && buffer.length() + count > maxBufferedChars)
+			spill();
+		if (spillFile == null)
+			buffer.append(chars, offset, count);
+		else
+			spillWriter.write(chars, offset, count);
+		length += count;
+	}
+
+	@Override
+	public void write(String text, int offset, int count) throws IOException {
+		if (spillFile == null && buffer.length() + count > maxBufferedChars)
+			spill();
+		if (spillFile == null)
+			buffer.append(text, offset, offset + count);
+		else
+			spillWriter.write(text, offset, count);
+		length += count;
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		if (spillFile == null && buffer.length() + 1 > maxBufferedChars)
+			spill();
+		if (spillFile == null)
+			buffer.append((char) c);
+		else
+			spillWriter.write(c);
+		++length;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (spillWriter != null)
+			spillWriter.flush();
+	}
+
+	/**
+	 * Flushes the temporary file (if any) while keeping the text readable until dispose() is invoked
+	 */
+	@Override
+	public void close() throws IOException {
+		flush();
+	}
+
+	/**
+	 * Returns the whole text (which is read from the temporary file if it has been spilled)
+	 */
+	@Override
+	public String toString() {
+		if (spillFile == null)
+			return buffer.toString();
+		try {
+			spillWriter.flush();
+			return new String(Files.readAllBytes(spillFile), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,42 @@
+/**
+ * UserInputProviders.java - is a helper class providing access to the org.adwmainz.da.extensions.askmore.models.UserInputProvider that should be used to fetch
+ *  user input as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+import org.adwmainz.da.extensions.askmore.models.UserInputProvider;
+
+public class UserInputProviders {
+
+	// the provider in use (loaded lazily so that no UI toolkit is initialized before user input is actually requested)
+	private static UserInputProvider provider;
+
+	/**
+	 * Returns the UserInputProvider in use
+	 * <br>(If none was set explicitly, the first provider registered in <code>META-INF/services</code> is used.)
+	 * @throws IllegalStateException if no UserInputProvider is available
+	 */
+	public static synchronized UserInputProvider getProvider() throws IllegalStateException {
+		if (provider == null) {
+			Iterator<UserInputProvider> providers = ServiceLoader.load(UserInputProvider.class, UserInputProvider.class.getClassLoader()).iterator();
+			if (!providers.hasNext())
+				throw new IllegalStateException("There is no registered " + UserInputProvider.class.getName());
+			provider = providers.next();
+		}
+		return provider;
+	}
+
+	/**
+	 * Sets the UserInputProvider that should be used to fetch user input
+	 * @param userInputProvider a UserInputProvider or <code>null</code> to fall back to the registered provider
+	 */
+	public static synchronized void setProvider(UserInputProvider userInputProvider) {
+		provider = userInputProvider;
+	}
+
+}
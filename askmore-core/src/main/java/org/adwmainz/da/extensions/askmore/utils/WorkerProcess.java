@@ -0,0 +1,326 @@
+/**
+ * WorkerProcess.java - is a helper class that keeps a command line process alive between requests which are written to its standard input while the
+ *  responses are read from its standard output as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and
+ *  Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class WorkerProcess {
+
+	// constant values
+	public static final int MAX_FRAME_LENGTH = 64 * 1024 * 1024;
+	public static final long SHUTDOWN_MILLIS = 1000;
+
+	/**
+	 * Protocol specifies how requests and responses are delimited
+	 * <br>LINE: each request and each response is a single line of UTF-8 text
+	 * <br>FRAME: each request and each response is a line containing the number of the following UTF-8 encoded bytes and these bytes
+	 */
+	public enum Protocol {
+		LINE,
+		FRAME
+	}
+
+	// fields
+	protected final List<String> command;
+	protected final File workingDirectory;
+	protected final Protocol protocol;
+	protected final long idleTimeoutMillis;
+	protected final ScheduledExecutorService scheduler;
+	protected volatile Process process;
+	protected InputStream processOutput;
+	protected OutputStream processInput;
+	protected volatile String lastErrorLine;
+	protected int startCount;
+	protected long lastUsedTime;
+	protected ScheduledFuture<?> idleShutdown;
+
+	// constructor
+	/**
+	 * Creates a new WorkerProcess that is not started before its first request
+	 * @param command the program and its arguments
+	 * @param workingDirectory the working directory of the process (or <code>null</code> if the working directory of the editor should be used)
+	 * @param protocol the Protocol of requests and responses
+	 * @param idleTimeoutMillis the time in milliseconds after the last request after which the process is shut down (or a value smaller than 1 if it
+	 *  should be kept alive until the editor is closed)
+	 * @param scheduler the ScheduledExecutorService used for timeouts and idle shutdowns
+	 */
+	public WorkerProcess(List<String> command, File workingDirectory, Protocol protocol, long idleTimeoutMillis, ScheduledExecutorService scheduler) {
+		this.command = command;
+		this.workingDirectory = workingDirectory;
+		this.protocol = protocol;
+		this.idleTimeoutMillis = idleTimeoutMillis;
+		this.scheduler = scheduler;
+	}
+
+	// basic getters
+	public List<String> getCommand() {
+		return command;
+	}
+
+	public Protocol getProtocol() {
+		return protocol;
+	}
+
+	/**
+	 * Returns how often the process has been started (including restarts after crashes, timeouts and idle shutdowns)
+	 */
+	public synchronized int getStartCount() {
+		return startCount;
+	}
+
+	// additional methods
+	/**
+	 * Checks whether the process is currently running
+	 */
+	public boolean isAlive() {
+		Process currentProcess = process;
+		return (currentProcess != null && currentProcess.isAlive());
+	}
+
+	/**
+	 * Sends a request to the process and returns the lines of its response
+	 * <br>The process is (re)started first if it is not running (e.g. because it has crashed or been idle). Requests are handled one at a time, so that
+	 *  concurrent callers wait for each other. A process that does not respond in time or whose response is malformed is stopped and restarted by the
+	 *  next request.
+	 * @param request the request (which must not contain line breaks if the LINE protocol is used)
+	 * @param timeoutMillis the max time in milliseconds to wait for the response (or a value smaller than 1 if the response should be awaited forever)
+	 * @return the lines of the response
+	 * @throws IllegalArgumentException if the request contains line breaks while the LINE protocol is used
+	 * @throws IOException if the process cannot be started, has ended or sent a malformed response
+	 * @throws TimeoutException if the process has not responded in time
+	 */
+	public synchronized List<String> request(String request, long timeoutMillis) throws IllegalArgumentException, IOException, TimeoutException {
+		if (protocol == Protocol.LINE && (request.indexOf('\n') >= 0 || request.indexOf('\r') >= 0))
+			throw new IllegalArgumentException("Requests of the LINE protocol must not contain line breaks.");
+
+		// health check
+		if (!isAlive())
+			start();
+
+		// stop the process if it does not respond in time
+		final Process requestProcess = process;
+		final AtomicBoolean isTimedOut = new AtomicBoolean();
+		ScheduledFuture<?> timeout = null;
+		if (timeoutMillis > 0) {
+			timeout = scheduler.schedule(new Runnable() {
+
+				@Override
+				public void run() {
+					isTimedOut.set(true);
+					CommandLineProcess.destroyProcessTree(requestProcess);
+				}
+
+			}, timeoutMillis, TimeUnit.MILLISECONDS);
+		}
+
+		try {
+			writeRequest(request);
+			return readResponse();
+		} catch (IOException e) {
+			stop();
+			if (isTimedOut.get())
+				throw new TimeoutException("The worker process did not respond within " + timeoutMillis + " ms.");
+			String message = (lastErrorLine != null) ? e.getMessage() + " (" + lastErrorLine + ")" : e.getMessage();
+			throw new IOException(message, e);
+		} finally {
+			if (timeout != null)
+				timeout.cancel(false);
+			lastUsedTime = System.nanoTime();
+			scheduleIdleShutdown();
+		}
+	}
+
+	/**
+	 * Stops the process of the current request and all of its descendants, so that it is restarted by the next request
+	 * <br>(May be invoked from any thread while a request is pending.)
+	 */
+	public void cancel() {
+		Process currentProcess = process;
+		if (currentProcess != null)
+			CommandLineProcess.destroyProcessTree(currentProcess);
+	}
+
+	/**
+	 * Shuts the process down by closing its standard input and stops it forcibly if it has not ended after SHUTDOWN_MILLIS
+	 */
+	public synchronized void shutdown() {
+		if (idleShutdown != null) {
+			idleShutdown.cancel(false);
+			idleShutdown = null;
+		}
+		Process currentProcess = process;
+		if (currentProcess == null)
+			return;
+		try {
+			processInput.close();
+			if (!currentProcess.waitFor(SHUTDOWN_MILLIS, TimeUnit.MILLISECONDS))
+				CommandLineProcess.destroyProcessTree(currentProcess);
+		} catch (IOException e) {
+			CommandLineProcess.destroyProcessTree(currentProcess);
+		} catch (InterruptedException e) {
+			CommandLineProcess.destroyProcessTree(currentProcess);
+			Thread.currentThread().interrupt();
+		}
+		process = null;
+	}
+
+	/**
+	 * Starts the process and a daemon thread that keeps the last line of its error output
+	 */
+	protected void start() throws IOException {
+		ProcessBuilder processBuilder = new ProcessBuilder(command);
+		if (workingDirectory != null)
+			processBuilder.directory(workingDirectory);
+		final Process newProcess = processBuilder.start();
+		process = newProcess;
+		processOutput = new BufferedInputStream(newProcess.getInputStream());
+		processInput = new BufferedOutputStream(newProcess.getOutputStream());
+		lastErrorLine = null;
+		++startCount;
+
+		// drain the error output so that the process cannot block on it
+		Thread errorReader = new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+				try (BufferedReader lineReader = new BufferedReader(new InputStreamReader(newProcess.getErrorStream(), StandardCharsets.UTF_8))) {
+					String line;
+					while ((line = lineReader.readLine()) != null) {
+						if (!line.trim().isEmpty())
+							lastErrorLine = line;
+					}
+				} catch (IOException e) {
+					// the stream has been closed by stopping the process
+				}
+			}
+
+		}, "AskMore worker error reader");
+		errorReader.setDaemon(true);
+		errorReader.start();
+	}
+
+	/**
+	 * Forcibly stops the process (e.g. after a failed request)
+	 */
+	protected void stop() {
+		Process currentProcess = process;
+		if (currentProcess != null)
+			CommandLineProcess.destroyProcessTree(currentProcess);
+		process = null;
+	}
+
+	/**
+	 * Writes a request to the standard input of the process
+	 */
+	protected void writeRequest(String request) throws IOException {
+		byte[] requestBytes = request.getBytes(StandardCharsets.UTF_8);
+		if (protocol == Protocol.FRAME)
+			processInput.write((requestBytes.length + "\n").getBytes(StandardCharsets.US_ASCII));
+		processInput.write(requestBytes);
+		if (protocol == Protocol.LINE)
+			processInput.write('\n');
+		processInput.flush();
+	}
+
+	/**
+	 * Reads a response from the standard output of the process and splits it into lines
+	 */
+	protected List<String> readResponse() throws IOException {
+		List<String> lines = new ArrayList<>();
+		if (protocol == Protocol.LINE) {
+			lines.add(readLine(processOutput));
+			return lines;
+		}
+
+		String lengthLine = readLine(processOutput).trim();
+		int length;
+		try {
+			length = Integer.parseInt(lengthLine);
+		} catch (NumberFormatException e) {
+			throw new IOException("The worker process sent an invalid frame length: " + lengthLine);
+		}
+		if (length < 0 || length > MAX_FRAME_LENGTH)
+			throw new IOException("The worker process sent an invalid frame length: " + lengthLine);
+		byte[] responseBytes = new byte[length];
+		new DataInputStream(processOutput).readFully(responseBytes);
+
+		String response = new String(responseBytes, StandardCharsets.UTF_8);
+		int lineStart = 0;
+		for (int i=0; i<response.length(); ++i) {
+			if (response.charAt(i) == '\n') {
+				lines.add(stripCarriageReturn(response.substring(lineStart, i)));
+				lineStart = i + 1;
+			}
+		}
+		if (lineStart < response.length())
+			lines.add(stripCarriageReturn(response.substring(lineStart)));
+		return lines;
+	}
+
+	/**
+	 * Schedules the shutdown of the process once it has been idle for idleTimeoutMillis
+	 */
+	protected void scheduleIdleShutdown() {
+		if (idleTimeoutMillis < 1)
+			return;
+		if (idleShutdown != null)
+			idleShutdown.cancel(false);
+		idleShutdown = scheduler.schedule(new Runnable() {
+
+			@Override
+			public void run() {
+				synchronized (WorkerProcess.this) {
+					// a later request may have been handled in the meantime
+					if (System.nanoTime() - lastUsedTime >= TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis))
+						shutdown();
+				}
+			}
+
+		}, idleTimeoutMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Reads a line of UTF-8 text without its line terminator
+	 */
+	protected static String readLine(InputStream input) throws IOException {
+		ByteArrayOutputStream lineBytes = new ByteArrayOutputStream();
+		int b;
+		while ((b = input.read()) != '\n') {
+			if (b < 0)
+				throw new EOFException("The worker process has ended.");
+			lineBytes.write(b);
+		}
+		return stripCarriageReturn(new String(lineBytes.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Removes a trailing carriage return of a line
+	 */
+	protected static String stripCarriageReturn(String line) {
+		return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+	}
+
+}
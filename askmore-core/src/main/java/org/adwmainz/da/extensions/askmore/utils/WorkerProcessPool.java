@@ -0,0 +1,114 @@
+/**
+ * WorkerProcessPool.java - is a helper class that keeps one org.adwmainz.da.extensions.askmore.utils.WorkerProcess per command line for the whole session
+ *  as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+public class WorkerProcessPool {
+
+	// constant value
+	public static final int MAX_WORKERS = 8;
+
+	// shared daemon thread handling timeouts and idle shutdowns of all workers
+	private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "AskMore worker monitor");
+			thread.setDaemon(true);
+			return thread;
+		}
+
+	});
+
+	// workers in access order that shuts down the least recently used worker when growing beyond MAX_WORKERS
+	private static final Map<String, WorkerProcess> workers = new LinkedHashMap<String, WorkerProcess>(16, 0.75f, true) {
+
+		// generated serial version id
+		private static final long serialVersionUID = 2281049651318472301L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, WorkerProcess> eldest) {
+			if (size() <= MAX_WORKERS)
+				return false;
+			shutdownLater(eldest.getValue());
+			return true;
+		}
+
+	};
+
+	static {
+		// close the standard input of all workers when the editor is closed
+		Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+				shutdownAll();
+			}
+
+		}, "AskMore worker shutdown"));
+	}
+
+	/**
+	 * Returns the WorkerProcess of a command line and creates it only if there is none yet
+	 * <br>(The process itself is started by the first request.)
+	 * @param commandLine the command line starting the worker which is executed with the shell of the operating system
+	 * @param workingDirectory the working directory of the worker (or <code>null</code> if the working directory of the editor should be used)
+	 * @param protocol the Protocol of requests and responses
+	 * @param idleTimeoutMillis the time in milliseconds after the last request after which the worker is shut down (or a value smaller than 1 if it
+	 *  should be kept alive until the editor is closed)
+	 * @throws IllegalArgumentException if the command line is empty
+	 */
+	public static WorkerProcess getWorker(String commandLine, File workingDirectory, WorkerProcess.Protocol protocol, long idleTimeoutMillis)
+			throws IllegalArgumentException {
+		List<String> command = CommandLineProcess.createShellCommand(commandLine);
+		String key = protocol + "\n" + workingDirectory + "\n" + commandLine;
+		synchronized (workers) {
+			WorkerProcess worker = workers.get(key);
+			if (worker == null) {
+				worker = new WorkerProcess(command, workingDirectory, protocol, idleTimeoutMillis, scheduler);
+				workers.put(key, worker);
+			}
+			return worker;
+		}
+	}
+
+	/**
+	 * Shuts all workers down
+	 */
+	public static void shutdownAll() {
+		List<WorkerProcess> removedWorkers;
+		synchronized (workers) {
+			removedWorkers = new ArrayList<>(workers.values());
+			workers.clear();
+		}
+		for (WorkerProcess worker: removedWorkers)
+			worker.shutdown();
+	}
+
+	/**
+	 * Shuts a worker down on the scheduler thread (so that callers holding the lock of the pool do not wait for a pending request of the worker)
+	 */
+	private static void shutdownLater(final WorkerProcess worker) {
+		scheduler.execute(new Runnable() {
+
+			@Override
+			public void run() {
+				worker.shutdown();
+			}
+
+		});
+	}
+
+}
@@ -0,0 +1,73 @@
+/**
+ * WorkerRequest.java - is a helper class that sends a single request to an org.adwmainz.da.extensions.askmore.utils.WorkerProcess and passes on the lines
+ *  of its response as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import org.adwmainz.da.extensions.askmore.models.CommandLineResult;
+import org.adwmainz.da.extensions.askmore.models.CommandLineTask;
+
+public class WorkerRequest implements CommandLineTask {
+
+	// fields
+	protected final WorkerProcess worker;
+	protected final String request;
+	protected final long timeoutMillis;
+	protected volatile boolean isCancelled;
+
+	// constructor
+	/**
+	 * Creates a new WorkerRequest
+	 * @param worker the WorkerProcess that should handle the request
+	 * @param request the request
+	 * @param timeoutMillis the max time in milliseconds to wait for the response (or a value smaller than 1 if the response should be awaited forever)
+	 */
+	public WorkerRequest(WorkerProcess worker, String request, long timeoutMillis) {
+		this.worker = worker;
+		this.request = request;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	// overridden methods
+	/**
+	 * Sends the request and passes each line of the response to the specified Listener
+	 * @param listener a Listener notified about each line of the response (may be <code>null</code>)
+	 * @return a CommandLineResult with the exit code 0 if the worker has responded
+	 * @throws IOException if the worker cannot be started, has crashed or sent a malformed response
+	 */
+	@Override
+	public CommandLineResult run(Listener listener) throws IOException {
+		long startTime = System.nanoTime();
+		if (isCancelled)
+			return new CommandLineResult(-1, false, true, 0);
+		try {
+			List<String> response = worker.request(request, timeoutMillis);
+			if (listener != null)
+				for (String line: response)
+					listener.lineRead(line, false);
+			return new CommandLineResult(0, false, false, (System.nanoTime() - startTime) / 1000000);
+		} catch (TimeoutException e) {
+			return new CommandLineResult(-1, !isCancelled, isCancelled, (System.nanoTime() - startTime) / 1000000);
+		} catch (IOException e) {
+			if (isCancelled)
+				return new CommandLineResult(-1, false, true, (System.nanoTime() - startTime) / 1000000);
+			throw e;
+		}
+	}
+
+	/**
+	 * Stops the worker if the request is pending (so that the worker is restarted by the next request)
+	 */
+	@Override
+	public void cancel() {
+		isCancelled = true;
+		worker.cancel();
+	}
+
+}
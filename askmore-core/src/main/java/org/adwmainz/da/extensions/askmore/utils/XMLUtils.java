@@ -0,0 +1,304 @@
+/**
+ * XMLUtils.java - is a helper class providing XML-related methods as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences
+ *  and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.0.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class XMLUtils {
+
+	// constant values
+	/**
+	 * The axes whose steps only reach their context node or nodes within its subtree
+	 */
+	protected static final List<String> SUBTREE_AXES = Arrays.asList("child", "descendant", "descendant-or-self", "self", "attribute");
+	protected static final Pattern NODE_TEST_PATTERN;
+	static {
+		String name = "[\\p{L}_][\\p{L}\\p{N}_.\\-]*";
+		String kindTest = "(?:text|node|comment|processing-instruction|element|attribute|schema-element|schema-attribute|document-node)\\(.*\\)";
+		NODE_TEST_PATTERN = Pattern.compile("\\*|\\*:" + name + "|" + name + "(?::(?:" + name + "|\\*))?|" + kindTest);
+	}
+
+	/**
+	 * The top level text of predicates whose value is always boolean (i.e. relative paths, calls of boolean functions and comparisons)
+	 */
+	protected static final Pattern BOOLEAN_PATH_PATTERN = Pattern.compile("@?[\\p{L}_*][\\p{L}\\p{N}_.\\-:*]*(?:\\[\\])*(?:/@?[\\p{L}_*][\\p{L}\\p{N}_.\\-:*]*(?:\\[\\])*)*");
+	protected static final Pattern BOOLEAN_FUNCTION_PATTERN = Pattern.compile("(?:not|exists|empty|boolean|contains|starts-with|ends-with|matches)\\(\\)");
+	protected static final Pattern COMPARISON_PATTERN = Pattern.compile("[=<>]|\\s(?:eq|ne|lt|le|gt|ge|is|and|or)\\s");
+
+	/**
+	 * Returns an array of all XML special chars (i.e. &amp;, &lt;, &gt;, ', ")
+	 */
+	public static char[] getSpecialChars() {
+		return new char[] {'&', '<', '>', '\'', '"'};
+	}
+	
+	/**
+	 * Returns a String in which all XML special chars (&amp;, &lt;, &gt;, ', ") are replaced by their escaped 
+	 * references (e.g. <code>&amp;</code>)
+	 * @param str a String with unescaped xml special chars
+	 */
+	public static String escapeXml(String str) {
+		str = str.replace("&", "&amp;");
+		str = str.replace("<", "&lt;");
+		str = str.replace(">", "&gt;");
+		str = str.replace("'", "&apos;");
+		str = str.replace("\"", "&quot;");
+		return str;
+	}
+	
+	/**
+	 * Returns a String in which all escaped special chars (e.g. <code>&amp;</code>) are unescaped
+	 * @param str a String with escaped xml special chars
+	 */
+	public static String unescapeXml(String str) {
+		str = str.replace("&quot;", "\"");
+		str = str.replace("&apos;", "'");
+		str = str.replace("&gt;", ">");
+		str = str.replace("&lt;", "<");
+		str = str.replace("&amp;", "&");
+		return str;
+	}
+	
+	/**
+	 * Rewrites an XPath expression like <code>//NAME[@ATTR]</code> to be evaluated relative to a context node so that it matches the same nodes among the
+	 *  ancestors and descendants of the context node (e.g. <code>//body//w</code> is rewritten to <code>(ancestor-or-self::w | descendant::w)[ancestor::body]</code>)
+	 * <br>The last step is anchored at the ancestors and descendants of the context node while the previous steps are turned into predicates that test the
+	 *  ancestors of the nodes reached by the last step, so that no step is evaluated for the whole document. This only holds if each step of the path stays
+	 *  within the subtree of its context node, i.e. uses the child, descendant, descendant-or-self, self or attribute axis, since other steps like in
+	 *  <code>//w/ancestor::p</code>, <code>//x/following::y</code> or <code>//x/..</code> may reach a matching node from context nodes outside of the
+	 *  ancestors and descendants. Predicates that may depend on the position of a node (like <code>[1]</code>) are evaluated on the nodes reached by
+	 *  their original step.
+	 * @param xPathExpression an XPath expression
+	 * @return the rewritten expression or <code>null</code> if the expression is not a single path starting with <code>//</code>, if any of its steps
+	 *  may leave the subtree of its context node or if a positional predicate of a descendant step cannot be tested without evaluating the step for the
+	 *  whole document
+	 */
+	public static String getSubtreeScopedXPath(String xPathExpression) {
+		String trimmedXPathExpression = xPathExpression.trim();
+		if (!trimmedXPathExpression.startsWith("//") || trimmedXPathExpression.startsWith("///"))
+			return null;
+
+		// split the path into its steps while rejecting unions, sequences and operators on the top level
+		String relativePath = trimmedXPathExpression.substring(2);
+		List<String> steps = new ArrayList<>();
+		int stepStart = 0;
+		int depth = 0;
+		char quote = 0;
+		for (int i=0; i<relativePath.length(); ++i) {
+			char c = relativePath.charAt(i);
+			if (quote != 0) {
+				if (c == quote)
+					quote = 0;
+			} else if (c == '"' || c == '\'') {
+				quote = c;
+			} else if (c == '[' || c == '(') {
+				++depth;
+			} else if (c == ']' || c == ')') {
+				if (--depth < 0)
+					return null;
+			} else if (depth == 0) {
+				if (c == '|' || c == ',' || Character.isWhitespace(c))
+					return null;
+				if (c == '/') {
+					steps.add(relativePath.substring(stepStart, i));
+					stepStart = i + 1;
+				}
+			}
+		}
+		if (depth != 0 || quote != 0)
+			return null;
+		steps.add(relativePath.substring(stepStart));
+
+		// turn all but the last step into a condition on the context node of the last step (an empty step stems from a nested // which is short for
+		//  /descendant-or-self::node()/)
+		String[] condition = null;
+		for (int i=0; i<steps.size() - 1; ++i) {
+			String step = steps.get(i);
+			if (step.isEmpty()) {
+				if (steps.get(i + 1).isEmpty())
+					return null;
+				if (condition != null)
+					condition = new String[] {null, createAxisTest("ancestor-or-self", condition)};
+				continue;
+			}
+			String[] parsedStep = parseStep(step);
+			if (parsedStep == null || parsedStep[0].equals("attribute"))
+				return null;
+			condition = createStepCondition(step, parsedStep, condition);
+			if (condition == null)
+				return null;
+		}
+
+		// anchor the last step at the ancestors and descendants of the context node
+		String lastStep = steps.get(steps.size() - 1);
+		String[] parsedLastStep = (lastStep.isEmpty()) ? null : parseStep(lastStep);
+		if (parsedLastStep == null)
+			return null;
+		String axis = parsedLastStep[0];
+		if (!axis.equals("attribute") && isBooleanPredicates(parsedLastStep[2])) {
+			String[] lastCondition = createStepCondition(lastStep, parsedLastStep, condition);
+			return createScopedNodes("ancestor-or-self", "descendant", lastCondition);
+		}
+		// evaluate steps with positional predicates (or attributes) on their context nodes
+		if (axis.equals("child"))
+			return createScopedNodes("ancestor", "descendant-or-self", condition) + "/" + lastStep;
+		if (axis.equals("attribute") || axis.equals("self"))
+			return createScopedNodes("ancestor-or-self", "descendant", condition) + "/" + lastStep;
+		return null;
+	}
+
+	/**
+	 * Checks whether a location step only reaches its context node or nodes within its subtree
+	 * @param step a location step with optional predicates (which do not matter since they only filter the reached nodes)
+	 */
+	protected static boolean isSubtreeStep(String step) {
+		return parseStep(step) != null;
+	}
+
+	/**
+	 * Splits a location step that only reaches its context node or nodes within its subtree into its axis, its node test and its predicates
+	 * @param step a location step with optional predicates
+	 * @return an array of the axis, the node test and the predicates (including their brackets) or <code>null</code> if the step may leave the subtree of
+	 *  its context node
+	 */
+	protected static String[] parseStep(String step) {
+		int predicateStart = step.indexOf('[');
+		if (predicateStart >= 0 && !step.endsWith("]"))
+			return null;
+		String head = (predicateStart < 0) ? step : step.substring(0, predicateStart);
+		String predicates = (predicateStart < 0) ? "" : step.substring(predicateStart);
+		if (head.equals("."))
+			return new String[] {"self", "node()", predicates};
+
+		String axis = "child";
+		String nodeTest = head;
+		int axisEnd = head.indexOf("::");
+		if (head.startsWith("@")) {
+			axis = "attribute";
+			nodeTest = head.substring(1);
+		} else if (axisEnd >= 0) {
+			axis = head.substring(0, axisEnd);
+			nodeTest = head.substring(axisEnd + 2);
+		}
+		if (!SUBTREE_AXES.contains(axis) || !NODE_TEST_PATTERN.matcher(nodeTest).matches())
+			return null;
+		return new String[] {axis, nodeTest, predicates};
+	}
+
+	/**
+	 * Checks whether the predicates of a location step are boolean expressions, so that they do not depend on the position of a node
+	 * <br>(This only accepts predicates that are relative paths, calls of boolean functions or comparisons. Any other predicate like <code>[1]</code>
+	 *  or <code>[count(w)]</code> may be numeric.)
+	 * @param predicates the predicates of a location step including their brackets
+	 */
+	protected static boolean isBooleanPredicates(String predicates) {
+		int predicateStart = 0;
+		int depth = 0;
+		char quote = 0;
+		StringBuilder topLevelText = new StringBuilder();
+		for (int i=0; i<predicates.length(); ++i) {
+			char c = predicates.charAt(i);
+			if (quote != 0) {
+				if (c == quote) {
+					quote = 0;
+					if (depth == 1)
+						topLevelText.append(c);
+				}
+			} else if (c == '"' || c == '\'') {
+				quote = c;
+				if (depth == 1)
+					topLevelText.append(c);
+			} else if (c == '[' || c == '(') {
+				if (depth == 0) {
+					predicateStart = i + 1;
+					topLevelText.setLength(0);
+				} else if (depth == 1) {
+					topLevelText.append(c);
+				}
+				++depth;
+			} else if (c == ']' || c == ')') {
+				--depth;
+				if (depth == 0) {
+					String predicate = predicates.substring(predicateStart, i);
+					if (predicate.contains("position()") || predicate.contains("last()") || !isBooleanExpression(topLevelText.toString().trim()))
+						return false;
+				} else if (depth == 1) {
+					topLevelText.append(c);
+				}
+			} else if (depth == 1) {
+				topLevelText.append(c);
+			}
+		}
+		return true;
+	}
+
+	private static boolean isBooleanExpression(String topLevelText) {
+		return BOOLEAN_PATH_PATTERN.matcher(topLevelText).matches() || BOOLEAN_FUNCTION_PATTERN.matcher(topLevelText).matches()
+				|| COMPARISON_PATTERN.matcher(topLevelText.replace("=>", "")).find();
+	}
+
+	/**
+	 * Creates a condition that tests whether a node is reached by a location step from a node that meets the condition of the previous steps
+	 * @param step the location step
+	 * @param parsedStep the axis, node test and predicates of the step
+	 * @param previousCondition the condition of the previous steps (or <code>null</code> if there are none)
+	 * @return the node test and the predicates of a self step, the node test <code>null</code> and an expression or <code>null</code> if the condition cannot
+	 *  be created
+	 */
+	private static String[] createStepCondition(String step, String[] parsedStep, String[] previousCondition) {
+		String axis = parsedStep[0];
+		String reverseAxis = axis.equals("child") ? "parent" : axis.equals("descendant") ? "ancestor" : axis.equals("descendant-or-self")
+				? "ancestor-or-self" : "self";
+		String contextTest = createAxisTest(reverseAxis, previousCondition);
+		if (isBooleanPredicates(parsedStep[2])) {
+			String predicates = parsedStep[2];
+			if (contextTest != null)
+				predicates += "[" + contextTest + "]";
+			return new String[] {parsedStep[1], predicates};
+		}
+		// positional predicates are only evaluated on the siblings or the node itself since evaluating descendants for each ancestor is too expensive
+		if (!axis.equals("child") && !axis.equals("self"))
+			return null;
+		return new String[] {null, ". intersect " + ((contextTest != null) ? contextTest : reverseAxis + "::node()") + "/" + step};
+	}
+
+	/**
+	 * Creates an expression that selects the nodes on an axis that meet a condition
+	 * @param axis the axis
+	 * @param condition a condition (or <code>null</code>)
+	 * @return the expression or <code>null</code> if there is no condition
+	 */
+	private static String createAxisTest(String axis, String[] condition) {
+		if (condition == null)
+			return null;
+		if (condition[0] != null)
+			return axis + "::" + condition[0] + condition[1];
+		// merge the axis with an ancestor-or-self test of an empty step
+		if (condition[1].startsWith("ancestor-or-self::") && (axis.equals("parent") || axis.equals("ancestor") || axis.equals("ancestor-or-self"))) {
+			String mergedAxis = axis.equals("ancestor-or-self") ? "ancestor-or-self" : "ancestor";
+			return mergedAxis + condition[1].substring("ancestor-or-self".length());
+		}
+		if (axis.equals("self"))
+			return condition[1];
+		return axis + "::node()[" + condition[1] + "]";
+	}
+
+	/**
+	 * Creates an expression that selects the nodes on two axes of the context node that meet a condition
+	 */
+	private static String createScopedNodes(String firstAxis, String secondAxis, String[] condition) {
+		if (condition == null)
+			return "(" + firstAxis + "::node() | " + secondAxis + "::node())";
+		if (condition[0] != null)
+			return "(" + firstAxis + "::" + condition[0] + " | " + secondAxis + "::" + condition[0] + ")" + condition[1];
+		return "(" + firstAxis + "::node() | " + secondAxis + "::node())[" + condition[1] + "]";
+	}
+
+}
@@ -0,0 +1,75 @@
+/**
+ * AskMoreTemplateTest.java - is a JUnit test of org.adwmainz.da.extensions.askmore.models.AskMoreTemplate as used within the AskMoreXtension developed at
+ *  the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.adwmainz.da.extensions.askmore.utils.AskMoreAnnotationParser;
+import org.junit.Test;
+
+public class AskMoreTemplateTest {
+
+	@Test
+	public void renderReplacesAnnotationsWithUserInput() {
+		AskMoreTemplate template = AskMoreAnnotationParser.compileTemplate("//$$\"Element\":(\"p\", \"div\")$$[@n='$$\"Number\":()!POS_INT$$']");
+		Map<String, String> userInput = new HashMap<>();
+		userInput.put("Element", "div");
+		userInput.put("Number", "42");
+		assertEquals("//div[@n='42']", template.render(userInput));
+	}
+
+	@Test
+	public void renderDoesNotSubstituteAnnotationsWithinUserInput() {
+		AskMoreTemplate template = AskMoreAnnotationParser.compileTemplate("$$\"X\":()$$ and $$\"Y\":()$$");
+		Map<String, String> userInput = new HashMap<>();
+		userInput.put("X", "$$\"Y\":()$$");
+		userInput.put("Y", "y");
+		assertEquals("$$\"Y\":()$$ and y", template.render(userInput));
+	}
+
+	@Test
+	public void renderEncodesUserInput() {
+		AskMoreTemplate template = AskMoreAnnotationParser.compileTemplate("<a>$$\"X\":()!XML_ESCAPE$$</a>?q=$$\"Y\":()!URL_ENCODE$$");
+		Map<String, String> userInput = new HashMap<>();
+		userInput.put("X", "<&>");
+		userInput.put("Y", "a b&c");
+		assertEquals("<a>&lt;&amp;></a>?q=a+b%26c", template.render(userInput));
+	}
+
+	@Test
+	public void renderKeepsInvalidAnnotationsAsLiteralText() {
+		String text = "$$\"L\":(\"A\")!EDITABLE $$";
+		AskMoreTemplate template = AskMoreAnnotationParser.compileTemplate(text);
+		assertFalse(template.hasAnnotations());
+		assertEquals(text, template.render(Collections.<String, String>emptyMap()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void renderRejectsMissingUserInput() {
+		AskMoreAnnotationParser.compileTemplate("$$\"X\":()$$").render(Collections.<String, String>emptyMap());
+	}
+
+	@Test
+	public void createDialogModelKeepsTheOrderOfTheLabels() {
+		AskMoreTemplate template = AskMoreAnnotationParser.compileTemplate("$$\"B\":()$$ $$\"A\":(\"1\", \"2\")$$");
+		Map<String, BasicInputField<String>> dialogModel = template.createDialogModel();
+		assertEquals(Arrays.asList("B", "A"), Arrays.asList(dialogModel.keySet().toArray()));
+		assertEquals(BasicSelectionField.class, dialogModel.get("A").getClass());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void createDialogModelRequiresResolverForOptionSources() {
+		AskMoreAnnotationParser.compileTemplate("$$\"X\":(XPATH(\"//a\"))$$").createDialogModel();
+	}
+
+}
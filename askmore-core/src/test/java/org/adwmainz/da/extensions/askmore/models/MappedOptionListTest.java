@@ -0,0 +1,113 @@
+/**
+ * MappedOptionListTest.java - is a JUnit test of org.adwmainz.da.extensions.askmore.models.MappedOptionList as used within the AskMoreXtension developed at
+ *  the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class MappedOptionListTest {
+
+	// constant value
+	private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+	@Test
+	public void findLineOffsetsSkipsByteOrderMarkAndEmptyLines() {
+		ByteBuffer data = toData(BYTE_ORDER_MARK + "a\tA\r\n\r\nb\n\tX\nc");
+		assertArrayEquals(new int[] {3, 10, 15}, MappedOptionList.findLineOffsets(data));
+	}
+
+	@Test
+	public void findLineOffsetsReadsFilesWithoutTrailingLineSeparator() {
+		assertArrayEquals(new int[] {0, 2}, MappedOptionList.findLineOffsets(toData("a\nb")));
+		assertArrayEquals(new int[] {0, 2}, MappedOptionList.findLineOffsets(toData("a\nb\n")));
+		assertArrayEquals(new int[0], MappedOptionList.findLineOffsets(toData("")));
+	}
+
+	@Test
+	public void getStripsCarriageReturns() {
+		MappedOptionList optionList = createOptionList("a\tA\r\nb\r\n");
+		assertEquals(2, optionList.size());
+		assertEquals("a", optionList.getRealValue(0));
+		assertEquals("A", optionList.getRenderedValue(0));
+		assertEquals("b", optionList.get(1).getRealValue());
+		assertEquals("b", optionList.get(1).getRenderedValue());
+	}
+
+	@Test
+	public void getReadsEmptyRenderedColumns() {
+		MappedOptionList optionList = createOptionList("a\t\r\n");
+		assertEquals("a", optionList.get(0).getRealValue());
+		assertEquals("", optionList.get(0).getRenderedValue());
+	}
+
+	@Test
+	public void getIgnoresAdditionalColumns() {
+		MappedOptionList optionList = createOptionList("a\tA\tnote\n");
+		assertEquals("a", optionList.getRealValue(0));
+		assertEquals("A", optionList.getRenderedValue(0));
+	}
+
+	@Test
+	public void sortLineOffsetsComparesBytesOfRenderedValues() {
+		MappedOptionList optionList = createOptionList("1\tb\n2\tä\n3\tZ\n4\tab\n5\ta\n6\tb\n");
+		assertEquals("Z", optionList.getRenderedValue(0));
+		assertEquals("a", optionList.getRenderedValue(1));
+		assertEquals("ab", optionList.getRenderedValue(2));
+		assertEquals("b", optionList.getRenderedValue(3));
+		assertEquals("b", optionList.getRenderedValue(4));
+		assertEquals("ä", optionList.getRenderedValue(5));
+
+		// equal rendered values keep the order of their lines
+		assertEquals("1", optionList.getRealValue(3));
+		assertEquals("6", optionList.getRealValue(4));
+	}
+
+	@Test
+	public void sortLineOffsetsUsesRealValuesOfSingleColumns() {
+		MappedOptionList optionList = createOptionList("c\nb\tz\na\n");
+		assertEquals("a", optionList.getRealValue(0));
+		assertEquals("c", optionList.getRealValue(1));
+		assertEquals("b", optionList.getRealValue(2));
+	}
+
+	@Test
+	public void findFirstPositionFindsPrefixes() {
+		MappedOptionList optionList = createOptionList("1\tBerlin\n2\tBern\n3\tBonn\n4\tAachen\n5\tÄgypten\n");
+		assertEquals(0, optionList.findFirstPosition(""));
+		assertEquals(1, optionList.findFirstPosition("Ber"));
+		assertTrue(optionList.hasRenderedValuePrefix(1, "Ber"));
+		assertTrue(optionList.hasRenderedValuePrefix(2, "Ber"));
+		assertFalse(optionList.hasRenderedValuePrefix(3, "Ber"));
+		assertEquals(2, optionList.findFirstPosition("Bern"));
+		assertEquals(3, optionList.findFirstPosition("Bo"));
+		assertEquals(4, optionList.findFirstPosition("C"));
+		assertTrue(optionList.hasRenderedValuePrefix(4, "Ä"));
+		assertEquals(5, optionList.findFirstPosition("Å"));
+		assertFalse(optionList.hasRenderedValuePrefix(0, "Aachen and more"));
+	}
+
+	// helper methods
+	private static ByteBuffer toData(String content) {
+		return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static MappedOptionList createOptionList(String content) {
+		ByteBuffer data = toData(content);
+		int[] lineOffsets = MappedOptionList.findLineOffsets(data);
+		MappedOptionList.sortLineOffsets(data, lineOffsets);
+		return new MappedOptionList(data, IntBuffer.wrap(lineOffsets));
+	}
+
+}
@@ -0,0 +1,133 @@
+/**
+ * ParameterizedScriptTest.java - is a JUnit test of org.adwmainz.da.extensions.askmore.models.ParameterizedScript as used within the AskMoreXtension
+ *  developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.adwmainz.da.extensions.askmore.utils.AskMoreAnnotationParser;
+import org.junit.Test;
+
+public class ParameterizedScriptTest {
+
+	// constant values
+	private static final String XQUERY_DECLARATIONS = "declare variable $askmore_1_value external; declare variable $askmore_1 as xs:string := if"
+			+ " (starts-with($askmore_1_value, '~')) then codepoints-to-string(for $c in tokenize(substring($askmore_1_value, 2), '\\.') return"
+			+ " xs:integer($c)) else string($askmore_1_value);";
+	private static final String XSLT_NAMESPACE = "xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\"";
+
+	@Test
+	public void annotationsAreReplacedByTypedParams() {
+		ParameterizedScript script = createScript("//$$\"Element\":()$$[@n = $$\"Number\":()!POS_INT$$][@m = $$\"Number\":()$$]",
+				ParameterizedScript.Language.XQUERY);
+		assertEquals(Arrays.asList("Element", "Number"), script.getLabels());
+		assertTrue(script.isIntegerParam(1));
+		assertEquals(XQUERY_DECLARATIONS + " declare variable $askmore_2_value external; declare variable $askmore_2 as xs:integer :="
+				+ " xs:integer($askmore_2_value); //$askmore_1[@n = $askmore_2][@m = $askmore_2]", script.getScript());
+	}
+
+	@Test
+	public void xqueryDeclarationsFollowVersionModuleAndImports() {
+		String prolog = "(: a comment; with a semicolon :) xquery version \"3.1\"; module namespace m = \"urn:m\"; import module namespace o = \"urn:o\""
+				+ " at \"o.xqm\"; declare namespace tei = \"http://www.tei-c.org/ns/1.0\"; declare default element namespace \"urn:d\";";
+		String body = " declare function m:f() { $$\"Value\":()$$ };";
+		ParameterizedScript script = createScript(prolog + body, ParameterizedScript.Language.XQUERY);
+		assertEquals(prolog + " " + XQUERY_DECLARATIONS + " declare function m:f() { $askmore_1 };", script.getScript());
+	}
+
+	@Test
+	public void xqueryDeclarationsPrecedeVariablesAndFunctions() {
+		String body = "declare variable $x := 1; declare function local:f() { 2 }; $$\"Value\":()$$";
+		ParameterizedScript script = createScript(body, ParameterizedScript.Language.XQUERY);
+		assertEquals(XQUERY_DECLARATIONS + " declare variable $x := 1; declare function local:f() { 2 }; $askmore_1", script.getScript());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void unterminatedXQueryDeclarationIsRejected() {
+		createScript("declare namespace tei = \"http://www.tei-c.org/ns/1.0\" $$\"Value\":()$$", ParameterizedScript.Language.XQUERY);
+	}
+
+	@Test
+	public void xsltDeclarationsFollowImports() {
+		String head = "<?xml version=\"1.0\"?><!-- a <comment> --><xsl:stylesheet version=\"3.0\" " + XSLT_NAMESPACE + "><xsl:import href=\"a.xsl\"/>"
+				+ "<xsl:import href=\"b.xsl\"></xsl:import>";
+		String tail = "<xsl:template match=\"/\"><xsl:value-of select='$$\"Value\":()$$'/></xsl:template></xsl:stylesheet>";
+		ParameterizedScript script = createScript(head + tail, ParameterizedScript.Language.XSLT);
+		String parameterizedScript = script.getScript();
+		assertTrue(parameterizedScript.startsWith(head + " <xsl:param name=\"askmore_1_value\" required=\"yes\"/><xsl:variable"));
+		assertTrue(parameterizedScript.endsWith("/> <xsl:template match=\"/\"><xsl:value-of select='$askmore_1'/></xsl:template></xsl:stylesheet>"));
+	}
+
+	@Test
+	public void xsltDeclarationsUseThePrefixOfTheRootElement() {
+		String script = createScript("<x:transform version=\"3.0\" xmlns:x=\"http://www.w3.org/1999/XSL/Transform\"><x:template match=\"/\"><x:value-of"
+				+ " select='$$\"Value\":()$$'/></x:template></x:transform>", ParameterizedScript.Language.XSLT).getScript();
+		assertTrue(script.contains("<x:param name=\"askmore_1_value\" required=\"yes\"/><x:variable "));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void xsltScriptWithoutStylesheetIsRejected() {
+		createScript("<html><p>$$\"Value\":()$$</p></html>", ParameterizedScript.Language.XSLT);
+	}
+
+	@Test
+	public void createScriptEscapesInlinedXQueryValues() {
+		ParameterizedScript script = createScript("$$\"Value\":()$$", ParameterizedScript.Language.XQUERY);
+		String inlinedScript = script.createScript(Collections.singletonMap("askmore_1_value", "it's & <b>"));
+		assertTrue(inlinedScript.startsWith("declare variable $askmore_1_value := 'it''s &amp; <b>'; declare variable $askmore_1 as xs:string"));
+	}
+
+	@Test
+	public void createScriptEscapesInlinedXSLTValues() {
+		ParameterizedScript script = createScript("<xsl:stylesheet version=\"3.0\" " + XSLT_NAMESPACE + "><xsl:template match=\"/\"><xsl:value-of"
+				+ " select='$$\"Value\":()$$'/></xsl:template></xsl:stylesheet>", ParameterizedScript.Language.XSLT);
+		String inlinedScript = script.createScript(Collections.singletonMap("askmore_1_value", "it's & \"<b>\""));
+		assertTrue(inlinedScript.contains("<xsl:param name=\"askmore_1_value\" select=\"'it''s &amp; &quot;&lt;b>&quot;'\"/>"));
+	}
+
+	@Test
+	public void bindValuesEncodesValuesThatCannotBePassedAsPairs() {
+		ParameterizedScript script = createScript("$$\"Value\":()$$", ParameterizedScript.Language.XQUERY);
+		assertEquals("plain value", bindValue(script, "plain value"));
+		assertEquals("~", bindValue(script, ""));
+		assertEquals("~32.97", bindValue(script, " a"));
+		assertEquals("~97.44.98", bindValue(script, "a,b"));
+		assertEquals("~97.61.98", bindValue(script, "a=b"));
+		assertEquals("~36.123.120.125", bindValue(script, "${x}"));
+		assertEquals("~126.120", bindValue(script, "~x"));
+		assertEquals("~128512.44", bindValue(script, new String(Character.toChars(0x1F600)) + ","));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void bindValuesRejectsNonIntegerValuesOfIntegerParams() {
+		bindValue(createScript("$$\"Number\":()!POS_INT$$", ParameterizedScript.Language.XQUERY), "x");
+	}
+
+	@Test
+	public void createTransformScriptAppliesTheQueryBodyToACopy() {
+		assertEquals("xquery version \"3.1\"; declare namespace tei = \"urn:t\"; copy $askmore_document := . modify $askmore_document ! ("
+				+ " delete node //tei:note ) return $askmore_document",
+				ParameterizedScript.createTransformScript("xquery version \"3.1\"; declare namespace tei = \"urn:t\"; delete node //tei:note"));
+	}
+
+	// helper methods
+	private static ParameterizedScript createScript(String annotatedScript, ParameterizedScript.Language language) {
+		return new ParameterizedScript(AskMoreAnnotationParser.compileTemplate(annotatedScript), language);
+	}
+
+	private static String bindValue(ParameterizedScript script, String userInput) {
+		Map<String, String> labeledUserInput = new HashMap<>();
+		labeledUserInput.put(script.getLabels().get(0), userInput);
+		return script.bindValues(labeledUserInput).get(script.getParamName(0));
+	}
+
+}
@@ -0,0 +1,139 @@
+/**
+ * AskMoreAnnotationTokenizerTest.java - is a JUnit test of org.adwmainz.da.extensions.askmore.utils.AskMoreAnnotationTokenizer as used within the
+ *  AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.adwmainz.da.extensions.askmore.models.AskMoreAnnotation;
+import org.adwmainz.da.extensions.askmore.models.AskMoreAnnotationFlag;
+import org.adwmainz.da.extensions.askmore.models.BasicInputField;
+import org.adwmainz.da.extensions.askmore.models.BasicMultiSelectionField;
+import org.adwmainz.da.extensions.askmore.models.BasicSelectionField;
+import org.adwmainz.da.extensions.askmore.models.OptionSource;
+import org.adwmainz.da.extensions.askmore.models.SelectableOption;
+import org.junit.Test;
+
+public class AskMoreAnnotationTokenizerTest {
+
+	@Test
+	public void tokenizeFindsAnnotationsWithTheirOffsets() {
+		String text = "a $$\"X\":()$$ b $$\"Y\":(\"1\", \"2\")$$ c";
+		List<AskMoreAnnotation> annotations = AskMoreAnnotationTokenizer.tokenize(text);
+		assertEquals(2, annotations.size());
+		assertEquals("X", annotations.get(0).getLabel());
+		assertEquals(2, annotations.get(0).getStartOffset());
+		assertEquals("$$\"X\":()$$", text.substring(annotations.get(0).getStartOffset(), annotations.get(0).getEndOffset()));
+		assertEquals("Y", annotations.get(1).getLabel());
+		assertEquals("$$\"Y\":(\"1\", \"2\")$$", annotations.get(1).getSource());
+	}
+
+	@Test
+	public void tokenizeReadsOptionsAndFlags() {
+		AskMoreAnnotation annotation = AskMoreAnnotationTokenizer.tokenize(
+				"$$\"L\":(\"A\", \"REAL_B\"|\"RENDERED_B\", C)!DEFAULT(\"REAL_B\")!EDITABLE!MULTISELECT!SEP(\";\")!XML_ESCAPE$$").get(0);
+		assertEquals(Arrays.asList(new SelectableOption<String>("A"), new SelectableOption<String>("REAL_B", "RENDERED_B"),
+				new SelectableOption<String>("C")), Arrays.asList(annotation.getOptions().toArray()));
+		assertEquals("REAL_B", annotation.getDefaultValue());
+		assertTrue(annotation.isEditable());
+		assertTrue(annotation.isMultiselect());
+		assertEquals(";", annotation.getSeparator());
+		assertTrue(annotation.hasFlag(AskMoreAnnotationFlag.Type.XML_ESCAPE));
+		assertFalse(annotation.hasFlag(AskMoreAnnotationFlag.Type.URL_ENCODE));
+		assertTrue(annotation.createInputField() instanceof BasicMultiSelectionField);
+	}
+
+	@Test
+	public void tokenizeUnescapesQuotationMarks() {
+		AskMoreAnnotation annotation = AskMoreAnnotationTokenizer.tokenize("$$\"say \\\"hi\\\"\":(\"\\\"\")$$").get(0);
+		assertEquals("say \"hi\"", annotation.getLabel());
+		assertEquals(new SelectableOption<String>("\""), annotation.getOptions().iterator().next());
+	}
+
+	@Test
+	public void tokenizeReducesWhitespaceOfOptions() {
+		AskMoreAnnotation annotation = AskMoreAnnotationTokenizer.tokenize("$$\"L\":(\"  A \n\t B \", \" REAL  C \"|\"\tRENDERED\n C\")$$").get(0);
+		Iterator<SelectableOption<String>> options = annotation.getOptions().iterator();
+		SelectableOption<String> option = options.next();
+		assertEquals("A B", option.getRealValue());
+		assertEquals("A B", option.getRenderedValue());
+		option = options.next();
+		assertEquals("REAL C", option.getRealValue());
+		assertEquals("RENDERED C", option.getRenderedValue());
+		assertFalse(options.hasNext());
+	}
+
+	@Test
+	public void tokenizeReadsOptionSources() {
+		AskMoreAnnotation annotation = AskMoreAnnotationTokenizer.tokenize("$$\"L\":(\"A\", XPATH(\"//person/@xml:id\"), FILE(\"places.tsv\"))$$").get(0);
+		assertEquals(Arrays.asList(new OptionSource(OptionSource.Type.XPATH, "//person/@xml:id"), new OptionSource(OptionSource.Type.FILE, "places.tsv")),
+				annotation.getOptionSources());
+		assertEquals(1, annotation.getOptions().size());
+	}
+
+	@Test
+	public void defaultValueWithDollarSignCreatesTextField() {
+		List<AskMoreAnnotation> annotations = AskMoreAnnotationTokenizer.tokenize("$$\"L\":()!DEFAULT(\"$x\")$$");
+		assertEquals(1, annotations.size());
+		BasicInputField<String> inputField = annotations.get(0).createInputField();
+		assertFalse(inputField instanceof BasicSelectionField);
+		assertEquals("$x", inputField.getDefaultValue());
+	}
+
+	@Test
+	public void flagFollowedByWhitespaceIsLiteralText() {
+		assertTrue(AskMoreAnnotationTokenizer.tokenize("$$\"L\":(\"A\")!EDITABLE $$").isEmpty());
+	}
+
+	@Test
+	public void invalidAnnotationDoesNotHideLaterAnnotations() {
+		List<AskMoreAnnotation> annotations = AskMoreAnnotationTokenizer.tokenize("$$\"A\":( $$\"B\":()$$");
+		assertEquals(1, annotations.size());
+		assertEquals("B", annotations.get(0).getLabel());
+	}
+
+	@Test
+	public void unclosedLabelEndsTokenizing() {
+		assertTrue(AskMoreAnnotationTokenizer.tokenize("$$\"A:() $$B\":()").isEmpty());
+	}
+
+	@Test
+	public void tokenizeDoesNotCompileRegexes() {
+		assertEquals(1, AskMoreAnnotationTokenizer.tokenize("$$\"L\":()!REGEX(\"[\")$$").size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void createInputFieldRejectsInvalidRegex() {
+		AskMoreAnnotationTokenizer.tokenize("$$\"L\":()!REGEX(\"[\")$$").get(0).createInputField();
+	}
+
+	@Test
+	public void restrictionFlagsCreateReusedInputVerifiers() {
+		AskMoreAnnotation annotation = AskMoreAnnotationTokenizer.tokenize("$$\"L\":()!POS_INT!NO_SPACE$$").get(0);
+		assertEquals(2, annotation.getInputVerifiers().size());
+		assertTrue(annotation.getInputVerifiers() == annotation.getInputVerifiers());
+		assertEquals(2, annotation.createInputField().getInputVerifiers().size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void unsupportedFlagIsRejected() {
+		AskMoreAnnotationTokenizer.tokenize("$$\"L\":()!UNKNOWN$$");
+	}
+
+	@Test
+	public void parseFlagReadsSingleFlag() {
+		AskMoreAnnotationFlag flag = AskMoreAnnotationTokenizer.parseFlag("REGEX(\"[a-z]+\")");
+		assertEquals(AskMoreAnnotationFlag.Type.REGEX, flag.getType());
+		assertEquals("[a-z]+", flag.getArgument());
+	}
+
+}
@@ -0,0 +1,111 @@
+/**
+ * MappedOptionListCacheTest.java - is a JUnit test of org.adwmainz.da.extensions.askmore.utils.MappedOptionListCache as used within the AskMoreXtension
+ *  developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.adwmainz.da.extensions.askmore.models.MappedOptionList;
+import org.junit.Test;
+
+public class MappedOptionListCacheTest {
+
+	@Test
+	public void storeIndexWritesAnIndexThatIsLoadedAgain() throws IOException {
+		File indexDirectory = Files.createTempDirectory("askmore-index-test").toFile();
+		File indexFile = new File(indexDirectory, "authority.idx");
+		try {
+			IntBuffer storedIndex = MappedOptionListCache.storeIndex(indexFile, "/data/authority.tsv", 42L, 100L, new int[] {7, 0, 3});
+			assertIndex(storedIndex, 7, 0, 3);
+			assertIndex(MappedOptionListCache.loadIndex(indexFile, "/data/authority.tsv", 42L, 100L), 7, 0, 3);
+
+			// no temporary file is left behind
+			assertEquals(1, indexDirectory.list().length);
+		} finally {
+			delete(indexDirectory);
+		}
+	}
+
+	@Test
+	public void loadIndexRejectsIndexesOfOtherFiles() throws IOException {
+		File indexDirectory = Files.createTempDirectory("askmore-index-test").toFile();
+		File indexFile = new File(indexDirectory, "authority.idx");
+		try {
+			MappedOptionListCache.storeIndex(indexFile, "/data/authority.tsv", 42L, 100L, new int[] {0});
+			assertNotNull(MappedOptionListCache.loadIndex(indexFile, "/data/authority.tsv", 42L, 100L));
+			assertNull(MappedOptionListCache.loadIndex(indexFile, "/data/other.tsv", 42L, 100L));
+			assertNull(MappedOptionListCache.loadIndex(indexFile, "/data/authority.tsv", 43L, 100L));
+			assertNull(MappedOptionListCache.loadIndex(indexFile, "/data/authority.tsv", 42L, 101L));
+			assertNull(MappedOptionListCache.loadIndex(new File(indexDirectory, "missing.idx"), "/data/authority.tsv", 42L, 100L));
+		} finally {
+			delete(indexDirectory);
+		}
+	}
+
+	@Test
+	public void loadIndexRejectsTruncatedIndexes() throws IOException {
+		File indexDirectory = Files.createTempDirectory("askmore-index-test").toFile();
+		File indexFile = new File(indexDirectory, "authority.idx");
+		try {
+			MappedOptionListCache.storeIndex(indexFile, "/data/authority.tsv", 42L, 100L, new int[] {0, 5, 9});
+			try (RandomAccessFile file = new RandomAccessFile(indexFile, "rw")) {
+				file.setLength(file.length() - 2);
+			}
+			assertNull(MappedOptionListCache.loadIndex(indexFile, "/data/authority.tsv", 42L, 100L));
+		} finally {
+			delete(indexDirectory);
+		}
+	}
+
+	@Test
+	public void getOptionListCachesMappedFilesUntilTheyAreModified() throws IOException {
+		File authorityFile = File.createTempFile("askmore-authority", ".tsv");
+		try {
+			Files.write(authorityFile.toPath(), "b\tBeta\r\na\tAlpha\r\n".getBytes(StandardCharsets.UTF_8));
+			MappedOptionList optionList = MappedOptionListCache.getOptionList(authorityFile);
+			assertEquals(2, optionList.size());
+			assertEquals("Alpha", optionList.getRenderedValue(0));
+			assertSame(optionList, MappedOptionListCache.getOptionList(authorityFile));
+
+			Files.write(authorityFile.toPath(), "b\tBeta\r\na\tAlpha\r\nc\tGamma\r\n".getBytes(StandardCharsets.UTF_8));
+			MappedOptionList modifiedOptionList = MappedOptionListCache.getOptionList(authorityFile);
+			assertTrue(modifiedOptionList != optionList);
+			assertEquals(3, modifiedOptionList.size());
+			assertEquals("Gamma", modifiedOptionList.getRenderedValue(2));
+		} finally {
+			MappedOptionListCache.clear();
+			authorityFile.delete();
+		}
+	}
+
+	// helper methods
+	private static void assertIndex(IntBuffer index, int... lineOffsets) {
+		assertNotNull(index);
+		assertEquals(lineOffsets.length, index.limit());
+		for (int i=0; i<lineOffsets.length; ++i)
+			assertEquals(lineOffsets[i], index.get(i));
+	}
+
+	private static void delete(File directory) {
+		File[] files = directory.listFiles();
+		if (files != null)
+			for (File file: files)
+				file.delete();
+		directory.delete();
+	}
+
+}
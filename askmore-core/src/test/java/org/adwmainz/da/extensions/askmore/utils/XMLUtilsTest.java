@@ -0,0 +1,71 @@
+/**
+ * XMLUtilsTest.java - is a JUnit test of org.adwmainz.da.extensions.askmore.utils.XMLUtils as used within the AskMoreXtension developed at the Digital
+ *  Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class XMLUtilsTest {
+
+	@Test
+	public void getSubtreeScopedXPathAnchorsTheLastStep() {
+		assertEquals("(ancestor-or-self::p | descendant::p)", XMLUtils.getSubtreeScopedXPath("//p"));
+		assertEquals("(ancestor-or-self::w | descendant::w)[ancestor::body]", XMLUtils.getSubtreeScopedXPath("//body//w"));
+		assertEquals("(ancestor-or-self::c | descendant::c)[ancestor::b[ancestor::a]]", XMLUtils.getSubtreeScopedXPath("//a//b//c"));
+		assertEquals("(ancestor-or-self::text() | descendant::text())[parent::*]", XMLUtils.getSubtreeScopedXPath("//*/text()"));
+		assertEquals("(ancestor-or-self::node() | descendant::node())[self::p]", XMLUtils.getSubtreeScopedXPath("//p/."));
+	}
+
+	@Test
+	public void getSubtreeScopedXPathKeepsBooleanPredicates() {
+		assertEquals("(ancestor-or-self::tei:w | descendant::tei:w)[contains(., '/')][parent::tei:p]",
+				XMLUtils.getSubtreeScopedXPath("//tei:p/child::tei:w[contains(., '/')]"));
+		assertEquals("(ancestor-or-self::w | descendant::w)[@n and @m][x[1]]", XMLUtils.getSubtreeScopedXPath("//w[@n and @m][x[1]]"));
+		assertEquals("(ancestor-or-self::w | descendant::w)[ancestor::p[@n='1']]/@lemma", XMLUtils.getSubtreeScopedXPath("//p[@n='1']//w/@lemma"));
+		assertEquals("(ancestor-or-self::w | descendant::w)/@*[. = 'x']", XMLUtils.getSubtreeScopedXPath("//w/@*[. = 'x']"));
+	}
+
+	@Test
+	public void getSubtreeScopedXPathEvaluatesPositionalPredicatesOnTheirSteps() {
+		assertEquals("(ancestor::p | descendant-or-self::p)/w[1]", XMLUtils.getSubtreeScopedXPath("//p/w[1]"));
+		assertEquals("(ancestor::node() | descendant-or-self::node())[ancestor-or-self::p]/w[last()]", XMLUtils.getSubtreeScopedXPath("//p//w[last()]"));
+		assertEquals("(ancestor::node() | descendant-or-self::node())/w[@n + 1]", XMLUtils.getSubtreeScopedXPath("//w[@n + 1]"));
+		assertEquals("(ancestor-or-self::w | descendant::w)[ancestor::node()[. intersect parent::node()/p[2]]]", XMLUtils.getSubtreeScopedXPath("//p[2]//w"));
+		assertNull(XMLUtils.getSubtreeScopedXPath("//p/descendant::w[1]"));
+		assertNull(XMLUtils.getSubtreeScopedXPath("//p/descendant::w[1]/@n"));
+	}
+
+	@Test
+	public void getSubtreeScopedXPathRejectsStepsLeavingTheSubtree() {
+		assertNull(XMLUtils.getSubtreeScopedXPath("//w/ancestor::p"));
+		assertNull(XMLUtils.getSubtreeScopedXPath("//x/following::y"));
+		assertNull(XMLUtils.getSubtreeScopedXPath("//x/preceding-sibling::y"));
+		assertNull(XMLUtils.getSubtreeScopedXPath("//x/parent::y"));
+		assertNull(XMLUtils.getSubtreeScopedXPath("//x/.."));
+		assertNull(XMLUtils.getSubtreeScopedXPath("//x/@n/.."));
+	}
+
+	@Test
+	public void getSubtreeScopedXPathRejectsOtherExpressions() {
+		assertNull(XMLUtils.getSubtreeScopedXPath("/TEI//p"));
+		assertNull(XMLUtils.getSubtreeScopedXPath("p"));
+		assertNull(XMLUtils.getSubtreeScopedXPath("//a | //b"));
+		assertNull(XMLUtils.getSubtreeScopedXPath("//(a|b)"));
+		assertNull(XMLUtils.getSubtreeScopedXPath("//a/string()"));
+		assertNull(XMLUtils.getSubtreeScopedXPath("//a["));
+		assertNull(XMLUtils.getSubtreeScopedXPath("//a/"));
+	}
+
+	@Test
+	public void escapeAndUnescapeXmlAreInverse() {
+		String text = "<a href=\"x\">'&'</a>";
+		assertEquals(text, XMLUtils.unescapeXml(XMLUtils.escapeXml(text)));
+	}
+
+}
@@ -0,0 +1,72 @@
+/**
+ * AskMoreOperationEvent.java - is a Java Flight Recorder event describing a single invocation of an operation with the time spent in each of its
+ *  OperationPhases as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("org.adwmainz.da.extensions.askmore.Operation")
+@Label("AskMore Operation")
+@Category("AskMoreXtension")
+@Description("An operation of the AskMoreXtension invoked by an author action")
+@StackTrace(false)
+public class AskMoreOperationEvent extends Event {
+
+	// fields
+	@Label("Operation")
+	@Description("The fully qualified class name of the operation")
+	public String operation;
+
+	@Label("Argument Count")
+	public int argumentCount;
+
+	@Label("Argument Chars")
+	@Description("The total length of all String arguments")
+	public long argumentChars;
+
+	@Label("Annotation Count")
+	@Description("The number of AskMoreAnnotations parsed")
+	public int annotationCount;
+
+	@Label("Result Count")
+	public int resultCount;
+
+	@Label("Annotation Parsing")
+	@Timespan(Timespan.NANOSECONDS)
+	public long parsingDuration;
+
+	@Label("User Input")
+	@Timespan(Timespan.NANOSECONDS)
+	public long userInputDuration;
+
+	@Label("XPath Evaluation")
+	@Timespan(Timespan.NANOSECONDS)
+	public long xPathDuration;
+
+	@Label("Serialization")
+	@Timespan(Timespan.NANOSECONDS)
+	public long serializationDuration;
+
+	@Label("Delegated Operation")
+	@Timespan(Timespan.NANOSECONDS)
+	public long delegationDuration;
+
+	@Label("Execution")
+	@Timespan(Timespan.NANOSECONDS)
+	public long executionDuration;
+
+	@Label("Other")
+	@Description("The time not spent in any of the recorded phases")
+	@Timespan(Timespan.NANOSECONDS)
+	public long otherDuration;
+
+}
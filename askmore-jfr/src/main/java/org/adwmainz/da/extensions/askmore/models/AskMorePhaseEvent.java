@@ -0,0 +1,51 @@
+/**
+ * AskMorePhaseEvent.java - is a Java Flight Recorder event describing a single OperationPhase (e.g. parsing an annotated argument or waiting for user input)
+ *  as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("org.adwmainz.da.extensions.askmore.Phase")
+@Label("AskMore Phase")
+@Category("AskMoreXtension")
+@Description("A phase of an operation of the AskMoreXtension")
+@StackTrace(false)
+public class AskMorePhaseEvent extends Event {
+
+	// fields
+	@Label("Operation")
+	@Description("The fully qualified class name of the enclosing operation (if any)")
+	public String operation;
+
+	@Label("Phase")
+	public String phase;
+
+	@Label("Source")
+	@Description("The fully qualified name of the class that recorded the phase")
+	public String source;
+
+	@Label("Input Chars")
+	@Description("The length of the processed input (e.g. of an annotated argument)")
+	public long inputChars;
+
+	@Label("Annotation Count")
+	public int annotationCount;
+
+	@Label("Result Count")
+	public int resultCount;
+
+	@Label("Self Duration")
+	@Description("The duration without the nested phases")
+	@Timespan(Timespan.NANOSECONDS)
+	public long selfDuration;
+
+}
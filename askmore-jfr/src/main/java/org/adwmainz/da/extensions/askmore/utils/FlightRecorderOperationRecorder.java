@@ -0,0 +1,195 @@
+/**
+ * FlightRecorderOperationRecorder.java - is an OperationRecorder that emits an AskMoreOperationEvent per operation and an AskMorePhaseEvent per phase as
+ *  used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import org.adwmainz.da.extensions.askmore.models.AskMoreOperationEvent;
+import org.adwmainz.da.extensions.askmore.models.AskMorePhaseEvent;
+import org.adwmainz.da.extensions.askmore.models.OperationPhase;
+import org.adwmainz.da.extensions.askmore.models.OperationRecording;
+import org.adwmainz.da.extensions.askmore.models.PhaseRecording;
+
+public class FlightRecorderOperationRecorder extends OperationRecorder {
+
+	// fields (operations and phases are recorded per thread since each operation runs on a single thread)
+	protected final ThreadLocal<EventOperationRecording> currentOperation = new ThreadLocal<>();
+	protected final ThreadLocal<EventPhaseRecording> currentPhase = new ThreadLocal<>();
+
+	// constructor
+	/**
+	 * Creates a new FlightRecorderOperationRecorder
+	 * <br>(Is invoked reflectively by OperationRecorder if the jdk.jfr API is available.)
+	 */
+	public FlightRecorderOperationRecorder() {
+		super();
+	}
+
+	// overridden methods
+	/**
+	 * Returns a recording that emits an AskMoreOperationEvent or <code>OperationRecording.DISABLED</code> if such events are not recorded at the moment
+	 */
+	@Override
+	protected OperationRecording createOperationRecording(Class<?> operationClass, int argumentCount, long argumentChars) {
+		AskMoreOperationEvent event = new AskMoreOperationEvent();
+		if (!event.isEnabled())
+			return OperationRecording.DISABLED;
+
+		event.operation = operationClass.getName();
+		event.argumentCount = argumentCount;
+		event.argumentChars = argumentChars;
+		EventOperationRecording recording = new EventOperationRecording(event, currentOperation.get());
+		currentOperation.set(recording);
+		event.begin();
+		return recording;
+	}
+
+	/**
+	 * Returns a recording that emits an AskMorePhaseEvent and adds its duration to the current operation or <code>PhaseRecording.DISABLED</code> if neither
+	 *  is recorded at the moment
+	 */
+	@Override
+	protected PhaseRecording createPhaseRecording(OperationPhase phase, Class<?> sourceClass, long inputChars) {
+		AskMorePhaseEvent event = new AskMorePhaseEvent();
+		EventOperationRecording operation = currentOperation.get();
+		if (!event.isEnabled() && operation == null)
+			return PhaseRecording.DISABLED;
+
+		event.phase = phase.getLabel();
+		event.source = sourceClass.getName();
+		event.inputChars = inputChars;
+		event.operation = (operation == null) ? "" : operation.event.operation;
+		EventPhaseRecording recording = new EventPhaseRecording(phase, event, operation, currentPhase.get());
+		currentPhase.set(recording);
+		event.begin();
+		return recording;
+	}
+
+	/**
+	 * EventOperationRecording is a protected class summing up the self durations of all phases of an operation
+	 */
+	protected class EventOperationRecording extends OperationRecording {
+
+		// fields
+		protected final AskMoreOperationEvent event;
+		protected final EventOperationRecording enclosingOperation;
+		protected final long startNanos = System.nanoTime();
+		protected final long[] phaseNanos = new long[OperationPhase.values().length];
+		protected int xPathResultCount;
+		protected int resultCount = -1;
+		protected boolean isEnded;
+
+		// constructor
+		protected EventOperationRecording(AskMoreOperationEvent event, EventOperationRecording enclosingOperation) {
+			this.event = event;
+			this.enclosingOperation = enclosingOperation;
+		}
+
+		// additional method
+		protected void addPhase(OperationPhase phase, long selfNanos, int annotationCount, int resultCount) {
+			if (isEnded)
+				return;
+			phaseNanos[phase.ordinal()] += selfNanos;
+			if (phase == OperationPhase.PARSING)
+				event.annotationCount += annotationCount;
+			else if (phase == OperationPhase.XPATH)
+				xPathResultCount += resultCount;
+		}
+
+		// overridden methods
+		@Override
+		public void setResultCount(int resultCount) {
+			this.resultCount = resultCount;
+		}
+
+		@Override
+		public void end() {
+			if (isEnded)
+				return;
+			isEnded = true;
+			if (enclosingOperation == null)
+				currentOperation.remove();
+			else
+				currentOperation.set(enclosingOperation);
+
+			event.end();
+			if (!event.shouldCommit())
+				return;
+			long otherNanos = System.nanoTime() - startNanos;
+			for (long nanos: phaseNanos)
+				otherNanos -= nanos;
+			event.parsingDuration = phaseNanos[OperationPhase.PARSING.ordinal()];
+			event.userInputDuration = phaseNanos[OperationPhase.USER_INPUT.ordinal()];
+			event.xPathDuration = phaseNanos[OperationPhase.XPATH.ordinal()];
+			event.serializationDuration = phaseNanos[OperationPhase.SERIALIZATION.ordinal()];
+			event.delegationDuration = phaseNanos[OperationPhase.DELEGATION.ordinal()];
+			event.executionDuration = phaseNanos[OperationPhase.EXECUTION.ordinal()];
+			event.otherDuration = Math.max(otherNanos, 0);
+			event.resultCount = (resultCount < 0) ? xPathResultCount : resultCount;
+			event.commit();
+		}
+
+	}
+
+	/**
+	 * EventPhaseRecording is a protected class measuring the duration of a phase without the durations of its nested phases (so that each nanosecond is
+	 *  attributed to a single phase of an operation)
+	 */
+	protected class EventPhaseRecording extends PhaseRecording {
+
+		// fields
+		protected final OperationPhase phase;
+		protected final AskMorePhaseEvent event;
+		protected final EventOperationRecording operation;
+		protected final EventPhaseRecording enclosingPhase;
+		protected final long startNanos = System.nanoTime();
+		protected long nestedNanos;
+		protected boolean isEnded;
+
+		// constructor
+		protected EventPhaseRecording(OperationPhase phase, AskMorePhaseEvent event, EventOperationRecording operation, EventPhaseRecording enclosingPhase) {
+			this.phase = phase;
+			this.event = event;
+			this.operation = operation;
+			this.enclosingPhase = enclosingPhase;
+		}
+
+		// overridden methods
+		@Override
+		public void setAnnotationCount(int annotationCount) {
+			event.annotationCount = annotationCount;
+		}
+
+		@Override
+		public void setResultCount(int resultCount) {
+			event.resultCount = resultCount;
+		}
+
+		@Override
+		public void end() {
+			if (isEnded)
+				return;
+			isEnded = true;
+			long durationNanos = System.nanoTime() - startNanos;
+			long selfNanos = Math.max(durationNanos - nestedNanos, 0);
+			if (enclosingPhase == null) {
+				currentPhase.remove();
+			} else {
+				enclosingPhase.nestedNanos += durationNanos;
+				currentPhase.set(enclosingPhase);
+			}
+			if (operation != null)
+				operation.addPhase(phase, selfNanos, event.annotationCount, event.resultCount);
+
+			event.end();
+			if (event.shouldCommit()) {
+				event.selfDuration = selfNanos;
+				event.commit();
+			}
+		}
+
+	}
+
+}
@@ -1,5 +1,6 @@
 package org.adwmainz.da.extensions.askmore.factories;
 
+import org.adwmainz.da.extensions.askmore.models.XPathTemplate;
 import org.adwmainz.da.extensions.askmore.utils.XPathAnnotationParser;
 
 import ro.sync.document.DocumentPositionedInfo;
@@ -28,14 +29,28 @@ public class PositionedInfoFactory {
 	 */
 	public static DocumentPositionedInfo createWithAnnotatedMessage(Object xPathResult, String annotatedMessage, AuthorDocumentController documentController, int severity, String systemID)
 			throws AuthorOperationException {
+		return createWithAnnotatedMessage(xPathResult, XPathAnnotationParser.compileTemplate(annotatedMessage), documentController, severity, systemID);
+	}
+
+	/**
+	 * Creates a DocumentPositionedInfo from a message that has been compiled once for many XPath results
+	 * @param xPathResult the XPath result the created DocumentPositionedInfo should be assocciated with
+	 * @param messageTemplate a message compiled with XPathAnnotationParser.compileTemplate()
+	 * @param documentController the current AuthorDocumentController
+	 * @param severity the severity of the DocumentPositionedInfo
+	 * @param systemID the current systemID
+	 * @throws AuthorOperationException if the XPath result cannot be serialized
+	 */
+	public static DocumentPositionedInfo createWithAnnotatedMessage(Object xPathResult, XPathTemplate messageTemplate, AuthorDocumentController documentController, int severity, String systemID)
+			throws AuthorOperationException {
 		if (xPathResult instanceof AuthorElementDomWrapper) {
 			AuthorNode targetNode = ((AuthorElementDomWrapper) xPathResult).getWrappedAuthorNode();
-			String currentMessage = XPathAnnotationParser.replaceAnnotations(annotatedMessage, targetNode, documentController);
+			String currentMessage = XPathAnnotationParser.replaceAnnotations(messageTemplate, targetNode, documentController);
 			return new AuthorDocumentPositionedInfo(severity, currentMessage, systemID, targetNode);
 		}
 			
 		else {
-			String currentMessage = annotatedMessage + " " + xPathResult.toString();
+			String currentMessage = messageTemplate.getSource() + " " + xPathResult.toString();
 			return new DocumentPositionedInfo(severity, currentMessage, systemID);
 		}
 	}
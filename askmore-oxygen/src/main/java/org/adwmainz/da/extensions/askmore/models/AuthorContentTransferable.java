@@ -0,0 +1,141 @@
+/**
+ * AuthorContentTransferable.java - is an abstract org.adwmainz.da.extensions.askmore.models.LazyTransferable that copies content of a document opened in the
+ *  Author Mode while keeping the state of the document at the time it was copied as used within the AskMoreXtension developed at the Digital Academy of the
+ *  Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.net.URL;
+
+import ro.sync.ecss.extensions.api.AttributeChangedEvent;
+import ro.sync.ecss.extensions.api.AuthorDocumentController;
+import ro.sync.ecss.extensions.api.AuthorListenerAdapter;
+import ro.sync.ecss.extensions.api.DocumentContentDeletedEvent;
+import ro.sync.ecss.extensions.api.DocumentContentInsertedEvent;
+import ro.sync.ecss.extensions.api.node.AuthorDocument;
+import ro.sync.ecss.extensions.api.node.AuthorNode;
+import ro.sync.exml.workspace.api.PluginWorkspace;
+import ro.sync.exml.workspace.api.PluginWorkspaceProvider;
+import ro.sync.exml.workspace.api.listeners.WSEditorChangeListener;
+
+public abstract class AuthorContentTransferable extends LazyTransferable {
+
+	// fields
+	protected AuthorDocumentController documentController;
+	protected final URL editorLocation;
+	protected final DocumentListener documentListener = new DocumentListener();
+	protected final EditorListener editorListener = new EditorListener();
+
+	// constructor
+	/**
+	 * Creates a new AuthorContentTransferable that serializes its content once a flavor is requested or right before the document is edited or closed
+	 *  (whatever happens first)
+	 * <br>(Must be invoked on the event dispatch thread.)
+	 * @param documentController the AuthorDocumentController of the document
+	 * @param editorLocation the location of the editor of the document
+	 * @param maxBufferedChars the max number of chars of each serialization kept in memory before it is spilled to a temporary file
+	 */
+	public AuthorContentTransferable(AuthorDocumentController documentController, URL editorLocation, int maxBufferedChars) {
+		super(maxBufferedChars, true);
+		this.documentController = documentController;
+		this.editorLocation = editorLocation;
+		documentController.addAuthorListener(documentListener);
+		PluginWorkspace pluginWorkspace = PluginWorkspaceProvider.getPluginWorkspace();
+		if (pluginWorkspace != null)
+			pluginWorkspace.addEditorChangeListener(editorListener, PluginWorkspace.MAIN_EDITING_AREA);
+	}
+
+	// basic getter
+	/**
+	 * Returns the AuthorDocumentController of the document (which is <code>null</code> once the content has been released)
+	 */
+	protected AuthorDocumentController getDocumentController() {
+		return documentController;
+	}
+
+	// additional method
+	/**
+	 * Checks whether the specified editor location is the location of the editor of the document
+	 * <br>(URLs are compared by their external forms since <code>URL.equals()</code> may resolve host names.)
+	 * @param location the location of an editor
+	 */
+	protected boolean isEditorOfContent(URL location) {
+		return (location != null && editorLocation != null && location.toExternalForm().equals(editorLocation.toExternalForm()));
+	}
+
+	// overridden method
+	/**
+	 * Removes all listeners, so that neither the document nor this object are referenced anymore after the content has been released
+	 */
+	@Override
+	protected void releaseContent() {
+		documentController.removeAuthorListener(documentListener);
+		PluginWorkspace pluginWorkspace = PluginWorkspaceProvider.getPluginWorkspace();
+		if (pluginWorkspace != null)
+			pluginWorkspace.removeEditorChangeListener(editorListener, PluginWorkspace.MAIN_EDITING_AREA);
+		documentController = null;
+	}
+
+	/**
+	 * DocumentListener is a protected class that takes a snapshot of the content before the document is edited
+	 * <br>(Replacing the whole document, e.g. when it is reloaded, cannot be intercepted, so that only the formats serialized before are kept.)
+	 */
+	protected class DocumentListener extends AuthorListenerAdapter {
+
+		// overridden methods
+		@Override
+		public void beforeAttributeChange(AttributeChangedEvent e) {
+			snapshot();
+		}
+
+		@Override
+		public void beforeContentDelete(DocumentContentDeletedEvent e) {
+			snapshot();
+		}
+
+		@Override
+		public void beforeContentInsert(DocumentContentInsertedEvent e) {
+			snapshot();
+		}
+
+		@Override
+		public void beforeAuthorNodeNameChange(AuthorNode authorNode) {
+			snapshot();
+		}
+
+		@Override
+		public void beforeAuthorNodeStructureChange(AuthorNode authorNode) {
+			snapshot();
+		}
+
+		@Override
+		public void documentChanged(AuthorDocument oldDocument, AuthorDocument newDocument) {
+			release();
+		}
+
+	}
+
+	/**
+	 * EditorListener is a protected class that takes a snapshot of the content before the editor of the document is closed
+	 */
+	protected class EditorListener extends WSEditorChangeListener {
+
+		// overridden methods
+		@Override
+		public boolean editorAboutToBeClosed(URL editorLocation) {
+			if (isEditorOfContent(editorLocation))
+				snapshot();
+			return true;
+		}
+
+		@Override
+		public void editorClosed(URL editorLocation) {
+			if (isEditorOfContent(editorLocation))
+				release();
+		}
+
+	}
+
+}
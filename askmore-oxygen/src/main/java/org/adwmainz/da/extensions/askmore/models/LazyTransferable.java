@@ -0,0 +1,270 @@
+/**
+ * LazyTransferable.java - is an abstract java.awt.datatransfer.Transferable that offers plain text, XML and HTML flavors but serializes its content only
+ *  once a flavor is actually requested as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature |
+ *  Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.awt.EventQueue;
+import java.awt.datatransfer.Clipboard;
+import java.awt.datatransfer.ClipboardOwner;
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.Transferable;
+import java.awt.datatransfer.UnsupportedFlavorException;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.adwmainz.da.extensions.askmore.utils.SpillingTextBuilder;
+
+public abstract class LazyTransferable implements Transferable, ClipboardOwner {
+
+	// constant values
+	public static final DataFlavor PLAIN_TEXT_READER_FLAVOR = new DataFlavor("text/plain;class=java.io.Reader", "Plain Text");
+	public static final DataFlavor PLAIN_TEXT_STREAM_FLAVOR = new DataFlavor("text/plain;charset=UTF-8;class=java.io.InputStream", "Plain Text");
+	public static final DataFlavor XML_FLAVOR = new DataFlavor("text/xml;class=java.lang.String", "XML");
+	public static final DataFlavor XML_READER_FLAVOR = new DataFlavor("text/xml;class=java.io.Reader", "XML");
+	public static final DataFlavor HTML_FLAVOR = new DataFlavor("text/html;class=java.lang.String", "HTML");
+
+	/**
+	 * Format specifies the serializations of the content
+	 */
+	public enum Format {
+		TEXT,
+		XML,
+		HTML
+	}
+
+	// fields
+	protected final int maxBufferedChars;
+	protected final boolean isEventDispatchThreadRequired;
+	protected final Map<Format, SpillingTextBuilder> serializations = new EnumMap<>(Format.class);
+	protected boolean isContentReleased;
+
+	// constructor
+	/**
+	 * Creates a new LazyTransferable
+	 * @param maxBufferedChars the max number of chars of each serialization kept in memory before it is spilled to a temporary file
+	 * @param isEventDispatchThreadRequired specifies whether the content may only be serialized on the event dispatch thread (e.g. since it is read
+	 *  from an editor)
+	 */
+	public LazyTransferable(int maxBufferedChars, boolean isEventDispatchThreadRequired) {
+		this.maxBufferedChars = maxBufferedChars;
+		this.isEventDispatchThreadRequired = isEventDispatchThreadRequired;
+	}
+
+	// additional methods
+	/**
+	 * Writes the content in the specified Format
+	 * <br>(Is invoked at most once per Format.)
+	 * @param format the Format of the serialization
+	 * @param output the Writer the serialization should be written to
+	 * @throws Exception if the content cannot be serialized
+	 */
+	protected abstract void writeContent(Format format, Writer output) throws Exception;
+
+	/**
+	 * Drops all references to the content (e.g. to nodes of a document)
+	 * <br>(Is invoked once after the content has been released, so that writeContent() is not invoked anymore.)
+	 */
+	protected abstract void releaseContent();
+
+	/**
+	 * Returns the serialization of the content in the specified Format and serializes it only if it has not been requested before
+	 * @param format the Format of the serialization
+	 * @throws IOException if the content cannot be serialized
+	 */
+	public synchronized SpillingTextBuilder getSerialization(Format format) throws IOException {
+		SpillingTextBuilder serialization = serializations.get(format);
+		if (serialization == null) {
+			if (isContentReleased)
+				throw new IOException("The copied content is not available anymore");
+			serialization = new SpillingTextBuilder(maxBufferedChars);
+			try {
+				writeContent(format, serialization);
+				serialization.close();
+			} catch (IOException e) {
+				serialization.dispose();
+				throw e;
+			} catch (Exception e) {
+				serialization.dispose();
+				throw new IOException(e.getMessage(), e);
+			}
+			serializations.put(format, serialization);
+		}
+		return serialization;
+	}
+
+	/**
+	 * Returns the serialization of the content in the specified Format and serializes it on the event dispatch thread if this is required
+	 * <br>(The serialization is not requested while holding the lock of this object, so that the event dispatch thread cannot be blocked by the
+	 *  waiting thread.)
+	 * @param format the Format of the serialization
+	 * @throws IOException if the content cannot be serialized
+	 */
+	protected SpillingTextBuilder fetchSerialization(final Format format) throws IOException {
+		if (!isEventDispatchThreadRequired || EventQueue.isDispatchThread())
+			return getSerialization(format);
+
+		final SpillingTextBuilder[] serialization = new SpillingTextBuilder[1];
+		final IOException[] error = new IOException[1];
+		try {
+			EventQueue.invokeAndWait(new Runnable() {
+
+				@Override
+				public void run() {
+					try {
+						serialization[0] = getSerialization(format);
+					} catch (IOException e) {
+						error[0] = e;
+					}
+				}
+
+			});
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} catch (InvocationTargetException e) {
+			throw new IOException(e.getCause());
+		}
+		if (error[0] != null)
+			throw error[0];
+		return serialization[0];
+	}
+
+	/**
+	 * Serializes the content in all Formats that have not been requested yet and releases the content afterwards (e.g. before the content is changed)
+	 * <br>(Formats that cannot be serialized are not offered anymore.)
+	 */
+	public synchronized void snapshot() {
+		if (isContentReleased)
+			return;
+		for (Format format: Format.values()) {
+			try {
+				getSerialization(format);
+			} catch (IOException e) {
+				// the format is dropped
+			}
+		}
+		release();
+	}
+
+	/**
+	 * Releases the content without serializing it, so that only the Formats that have already been requested are still offered
+	 */
+	public synchronized void release() {
+		if (isContentReleased)
+			return;
+		isContentReleased = true;
+		releaseContent();
+	}
+
+	/**
+	 * Releases the content and deletes the temporary files of all serializations
+	 */
+	public synchronized void dispose() {
+		release();
+		for (SpillingTextBuilder serialization: serializations.values())
+			serialization.dispose();
+		serializations.clear();
+	}
+
+	/**
+	 * Checks whether the specified Format is still offered (i.e. whether it has been serialized or whether the content has not been released yet)
+	 * @param format a Format
+	 */
+	protected synchronized boolean isAvailable(Format format) {
+		return !isContentReleased || serializations.containsKey(format);
+	}
+
+	/**
+	 * Returns the Format a flavor is serialized in or <code>null</code> if the flavor is not supported
+	 * @param flavor a DataFlavor
+	 */
+	protected static Format getFormat(DataFlavor flavor) {
+		if (DataFlavor.stringFlavor.equals(flavor) || PLAIN_TEXT_READER_FLAVOR.equals(flavor) || PLAIN_TEXT_STREAM_FLAVOR.equals(flavor))
+			return Format.TEXT;
+		if (XML_FLAVOR.equals(flavor) || XML_READER_FLAVOR.equals(flavor))
+			return Format.XML;
+		if (HTML_FLAVOR.equals(flavor))
+			return Format.HTML;
+		return null;
+	}
+
+	// overridden methods
+	@Override
+	public DataFlavor[] getTransferDataFlavors() {
+		DataFlavor[] flavors = new DataFlavor[] {
+				DataFlavor.stringFlavor,
+				PLAIN_TEXT_READER_FLAVOR,
+				PLAIN_TEXT_STREAM_FLAVOR,
+				XML_FLAVOR,
+				XML_READER_FLAVOR,
+				HTML_FLAVOR
+		};
+		List<DataFlavor> availableFlavors = new ArrayList<>(flavors.length);
+		for (DataFlavor flavor: flavors)
+			if (isAvailable(getFormat(flavor)))
+				availableFlavors.add(flavor);
+		return availableFlavors.toArray(new DataFlavor[availableFlavors.size()]);
+	}
+
+	@Override
+	public boolean isDataFlavorSupported(DataFlavor flavor) {
+		Format format = getFormat(flavor);
+		return (format != null && isAvailable(format));
+	}
+
+	@Override
+	public Object getTransferData(DataFlavor flavor) throws UnsupportedFlavorException, IOException {
+		Format format = getFormat(flavor);
+		if (format == null || !isAvailable(format))
+			throw new UnsupportedFlavorException(flavor);
+
+		SpillingTextBuilder serialization = fetchSerialization(format);
+		if (PLAIN_TEXT_READER_FLAVOR.equals(flavor) || XML_READER_FLAVOR.equals(flavor))
+			return serialization.openReader();
+		if (PLAIN_TEXT_STREAM_FLAVOR.equals(flavor))
+			return serialization.openInputStream();
+		return serialization.toString();
+	}
+
+	/**
+	 * Releases the content and deletes the temporary files once another content has been copied to the clipboard
+	 */
+	@Override
+	public void lostOwnership(Clipboard clipboard, Transferable contents) {
+		dispose();
+	}
+
+	/**
+	 * Escapes the specified text for XML and HTML
+	 * @param text a text
+	 * @param output the Writer the escaped text should be written to
+	 * @throws IOException if the text cannot be written
+	 */
+	public static void writeEscaped(String text, Writer output) throws IOException {
+		int start = 0;
+		for (int i=0; i<text.length(); ++i) {
+			String entity;
+			switch (text.charAt(i)) {
+				case '&': entity = "&amp;"; break;
+				case '<': entity = "&lt;"; break;
+				case '>': entity = "&gt;"; break;
+				case '"': entity = "&quot;"; break;
+				default: continue;
+			}
+			output.write(text, start, i - start);
+			output.write(entity);
+			start = i + 1;
+		}
+		output.write(text, start, text.length() - start);
+	}
+
+}
@@ -0,0 +1,148 @@
+/**
+ * SelectionIntervalIndex.java - is an immutable class representing a sorted index of the selection intervals made in the Author Mode that answers whether
+ *  a node is (partially) selected or not with a binary search as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences
+ *  and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import ro.sync.ecss.extensions.api.ContentInterval;
+import ro.sync.ecss.extensions.api.node.AuthorNode;
+
+public class SelectionIntervalIndex {
+
+	// fields (sorted by offset and free of overlaps)
+	protected final int[] startOffsets;
+	protected final int[] endOffsets;
+
+	// constructor
+	/**
+	 * Creates a new SelectionIntervalIndex from the specified selection intervals
+	 * <br>(Overlapping intervals are merged since they select the same nodes.)
+	 * @param selectionIntervals the selection intervals in any order
+	 */
+	public SelectionIntervalIndex(List<ContentInterval> selectionIntervals) {
+		List<ContentInterval> sortedIntervals = new ArrayList<>(selectionIntervals);
+		Collections.sort(sortedIntervals, new Comparator<ContentInterval>() {
+
+			@Override
+			public int compare(ContentInterval interval1, ContentInterval interval2) {
+				return Integer.compare(interval1.getStartOffset(), interval2.getStartOffset());
+			}
+
+		});
+
+		// merge overlapping intervals
+		int[] startOffsets = new int[sortedIntervals.size()];
+		int[] endOffsets = new int[sortedIntervals.size()];
+		int size = 0;
+		for (ContentInterval interval: sortedIntervals) {
+			if (size > 0 && interval.getStartOffset() < endOffsets[size-1]) {
+				endOffsets[size-1] = Math.max(endOffsets[size-1], interval.getEndOffset());
+			} else {
+				startOffsets[size] = interval.getStartOffset();
+				endOffsets[size] = interval.getEndOffset();
+				++size;
+			}
+		}
+		this.startOffsets = Arrays.copyOf(startOffsets, size);
+		this.endOffsets = Arrays.copyOf(endOffsets, size);
+	}
+
+	// additional methods
+	/**
+	 * Checks whether this SelectionIntervalIndex contains any interval or not
+	 * @return <code>true</code> if there are no intervals
+	 */
+	public boolean isEmpty() {
+		return (startOffsets.length == 0);
+	}
+
+	/**
+	 * Returns the offset of the first char of the first interval
+	 * @throws IllegalStateException if this SelectionIntervalIndex is empty
+	 */
+	public int getStartOffset() throws IllegalStateException {
+		if (isEmpty())
+			throw new IllegalStateException("There is no selection interval");
+		return startOffsets[0];
+	}
+
+	/**
+	 * Returns the end offset of the last interval
+	 * @throws IllegalStateException if this SelectionIntervalIndex is empty
+	 */
+	public int getEndOffset() throws IllegalStateException {
+		if (isEmpty())
+			throw new IllegalStateException("There is no selection interval");
+		return endOffsets[endOffsets.length-1];
+	}
+
+	/**
+	 * Returns the intervals in document order while merging adjacent intervals (i.e. each returned interval ends before the next one starts)
+	 */
+	public List<ContentInterval> getMergedIntervals() {
+		List<ContentInterval> mergedIntervals = new ArrayList<>(startOffsets.length);
+		int i = 0;
+		while (i < startOffsets.length) {
+			int startOffset = startOffsets[i];
+			int endOffset = endOffsets[i];
+			while (++i < startOffsets.length && startOffsets[i] == endOffset)
+				endOffset = endOffsets[i];
+			mergedIntervals.add(new ContentInterval(startOffset, endOffset));
+		}
+		return mergedIntervals;
+	}
+
+	/**
+	 * Checks if one of the intervals overlaps the specified range (as defined by <code>APIAccessUtils.containsNode()</code>)
+	 * @param startOffset the start offset of the range
+	 * @param endOffset the end offset of the range
+	 * @return <code>true</code> if at least one interval starts before <code>endOffset</code> and ends after <code>startOffset</code>
+	 */
+	public boolean overlaps(int startOffset, int endOffset) {
+		// find the first interval ending after startOffset (end offsets are sorted since the intervals do not overlap)
+		int low = 0;
+		int high = endOffsets.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (endOffsets[middle] > startOffset)
+				high = middle;
+			else
+				low = middle + 1;
+		}
+		return (low < startOffsets.length && startOffsets[low] < endOffset);
+	}
+
+	/**
+	 * Checks if one of the intervals (partially) selects the specified node
+	 * @param targetNode an AuthorNode
+	 * @return <code>true</code> if the node is (partially) selected
+	 */
+	public boolean containsNode(AuthorNode targetNode) {
+		return overlaps(targetNode.getStartOffset(), targetNode.getEndOffset());
+	}
+
+	/**
+	 * Returns the selected nodes of the specified nodes without duplicates (in the order of their first appearance)
+	 * @param targetNodes an array of AuthorNodes
+	 */
+	public List<AuthorNode> filterSelectedNodes(AuthorNode[] targetNodes) {
+		List<AuthorNode> selectedNodes = new ArrayList<>();
+		Set<AuthorNode> visitedNodes = Collections.newSetFromMap(new IdentityHashMap<AuthorNode, Boolean>());
+		for (AuthorNode targetNode: targetNodes)
+			if (containsNode(targetNode) && visitedNodes.add(targetNode))
+				selectedNodes.add(targetNode);
+		return selectedNodes;
+	}
+
+}
@@ -0,0 +1,69 @@
+/**
+ * SelectionTransferable.java - is an org.adwmainz.da.extensions.askmore.models.AuthorContentTransferable that copies a selection from the Author Mode as serialized
+ *  XML or as HTML as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.io.Writer;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.adwmainz.da.extensions.askmore.utils.APIAccessUtils;
+
+import ro.sync.ecss.extensions.api.AuthorDocumentController;
+import ro.sync.ecss.extensions.api.ContentInterval;
+
+public class SelectionTransferable extends AuthorContentTransferable {
+
+	// field
+	protected List<ContentInterval> selectionIntervals;
+
+	// constructor
+	/**
+	 * Creates a new SelectionTransferable
+	 * <br>(The selection is serialized on the event dispatch thread once a flavor is requested or right before the document is edited or closed, so that
+	 *  it always reflects the document at the time it was copied.)
+	 * @param documentController the current AuthorDocumentController
+	 * @param editorLocation the location of the current editor
+	 * @param selectionIntervals the selection intervals (with exclusive end offsets) in document order that neither overlap nor adjoin each other (as
+	 *  returned by <code>APIAccessUtils.getSelectionIntervals()</code>)
+	 * @param maxBufferedChars the max number of chars of each serialization kept in memory before it is spilled to a temporary file
+	 */
+	public SelectionTransferable(AuthorDocumentController documentController, URL editorLocation, List<ContentInterval> selectionIntervals,
+			int maxBufferedChars) {
+		super(documentController, editorLocation, maxBufferedChars);
+		this.selectionIntervals = new ArrayList<>(selectionIntervals);
+	}
+
+	// overridden methods
+	/**
+	 * Writes the serialized selection intervals (TEXT and XML) or the escaped serialization within a preformatted block (HTML)
+	 * <br>(Each selection interval is serialized only once since TEXT and HTML are derived from XML.)
+	 */
+	@Override
+	protected void writeContent(Format format, Writer output) throws Exception {
+		if (format == Format.XML) {
+			APIAccessUtils.writeSelection(getDocumentController(), selectionIntervals, output);
+			return;
+		}
+
+		String serialization = getSerialization(Format.XML).toString();
+		if (format == Format.HTML) {
+			output.write("<html><body><pre>");
+			writeEscaped(serialization, output);
+			output.write("</pre></body></html>");
+		} else {
+			output.write(serialization);
+		}
+	}
+
+	@Override
+	protected void releaseContent() {
+		super.releaseContent();
+		selectionIntervals = null;
+	}
+
+}
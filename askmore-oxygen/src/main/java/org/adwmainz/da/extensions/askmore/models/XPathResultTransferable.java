@@ -0,0 +1,81 @@
+/**
+ * XPathResultTransferable.java - is an org.adwmainz.da.extensions.askmore.models.AuthorContentTransferable that copies the results of an XPath expression evaluated
+ *  in the Author Mode as plain text, XML or HTML as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and
+ *  Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.io.Writer;
+import java.net.URL;
+
+import org.adwmainz.da.extensions.askmore.utils.APIAccessUtils;
+
+import ro.sync.ecss.dom.wrappers.AuthorNodeDomWrapper;
+import ro.sync.ecss.extensions.api.AuthorDocumentController;
+
+public class XPathResultTransferable extends AuthorContentTransferable {
+
+	// field
+	protected Object[] xPathResults;
+
+	// constructor
+	/**
+	 * Creates a new XPathResultTransferable
+	 * <br>(The results are serialized on the event dispatch thread once a flavor is requested or right before the document is edited or closed, so that
+	 *  they always reflect the document at the time they were copied.)
+	 * @param documentController the current AuthorDocumentController
+	 * @param editorLocation the location of the current editor
+	 * @param xPathResults the results of an XPath expression (of which only nodes, numbers and strings are copied)
+	 * @param maxBufferedChars the max number of chars of each serialization kept in memory before it is spilled to a temporary file
+	 */
+	public XPathResultTransferable(AuthorDocumentController documentController, URL editorLocation, Object[] xPathResults, int maxBufferedChars) {
+		super(documentController, editorLocation, maxBufferedChars);
+		this.xPathResults = xPathResults;
+	}
+
+	// overridden methods
+	/**
+	 * Writes the concatenated text content of all results (TEXT), the concatenated serialized results (XML) or a paragraph with the text content of
+	 *  each result (HTML)
+	 */
+	@Override
+	protected void writeContent(Format format, Writer output) throws Exception {
+		if (format == Format.HTML)
+			output.write("<html><body>");
+		for (Object xPathResult: xPathResults) {
+			String text;
+			if (xPathResult instanceof AuthorNodeDomWrapper) {
+				if (format == Format.XML) {
+					output.write(APIAccessUtils.serializeAuthorNode(getDocumentController(), ((AuthorNodeDomWrapper) xPathResult).getWrappedAuthorNode()));
+					continue;
+				}
+				text = ((AuthorNodeDomWrapper) xPathResult).getTextContent();
+			} else if (xPathResult instanceof Number || xPathResult instanceof String) {
+				text = xPathResult.toString();
+			} else {
+				continue;
+			}
+
+			if (format == Format.TEXT) {
+				output.write(text);
+			} else if (format == Format.XML) {
+				writeEscaped(text, output);
+			} else {
+				output.write("<p>");
+				writeEscaped(text, output);
+				output.write("</p>");
+			}
+		}
+		if (format == Format.HTML)
+			output.write("</body></html>");
+	}
+
+	@Override
+	protected void releaseContent() {
+		super.releaseContent();
+		xPathResults = null;
+	}
+
+}
@@ -0,0 +1,288 @@
+/**
+ * AnnotatedBatchOperation.java - is an abstract implementation of a ro.sync.ecss.extensions.api.AuthorOperation which adds a custom operation to the Oxygen
+ *  XML Editor that lets a user apply a script that may be adapted dynamically with an input dialog to all files of a folder without opening them. It is one
+ *  of the main classes of the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.operations;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.MessageFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+import javax.swing.JFileChooser;
+import javax.swing.JOptionPane;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.adwmainz.da.extensions.askmore.exceptions.InputDialogClosedException;
+import org.adwmainz.da.extensions.askmore.models.FileTransformation;
+import org.adwmainz.da.extensions.askmore.models.HashedArgumentsMap;
+import org.adwmainz.da.extensions.askmore.models.OperationPhase;
+import org.adwmainz.da.extensions.askmore.models.OperationRecording;
+import org.adwmainz.da.extensions.askmore.models.ParameterizedScript;
+import org.adwmainz.da.extensions.askmore.models.PhaseRecording;
+import org.adwmainz.da.extensions.askmore.utils.ArgumentDescriptorUtils;
+import org.adwmainz.da.extensions.askmore.utils.ArgumentParser;
+import org.adwmainz.da.extensions.askmore.utils.AskMoreArgumentProvider;
+import org.adwmainz.da.extensions.askmore.utils.AskMoreMetrics;
+import org.adwmainz.da.extensions.askmore.utils.BatchFileProcessor;
+import org.adwmainz.da.extensions.askmore.utils.BatchResultsPublisher;
+import org.adwmainz.da.extensions.askmore.utils.CompiledScriptCache;
+import org.adwmainz.da.extensions.askmore.utils.OperationRecorder;
+import org.adwmainz.da.extensions.askmore.utils.ParameterizedScriptCache;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import ro.sync.ecss.extensions.api.ArgumentDescriptor;
+import ro.sync.ecss.extensions.api.ArgumentsMap;
+import ro.sync.ecss.extensions.api.AuthorAccess;
+import ro.sync.ecss.extensions.api.AuthorOperation;
+import ro.sync.ecss.extensions.api.AuthorOperationException;
+import ro.sync.exml.workspace.api.util.XMLUtilAccess;
+
+public abstract class AnnotatedBatchOperation implements AuthorOperation {
+
+	// fields
+	protected ArgumentDescriptor[] arguments;
+	protected ParameterizedScript.Language scriptLanguage;
+
+	// constructor
+	/**
+	 * Creates a new AnnotatedBatchOperation
+	 * @param scriptType the name of the script language used in the description of the script argument
+	 * @param scriptLanguage the language of the script used to bind its AskMoreAnnotations as params
+	 */
+	public AnnotatedBatchOperation(String scriptType, ParameterizedScript.Language scriptLanguage) {
+		this.scriptLanguage = scriptLanguage;
+
+		// load localized data
+		ResourceBundle rb = ResourceBundle.getBundle("org.adwmainz.da.extensions.askmore.resources.ArgumentTextBundle");
+
+		// set argument descriptions and add descriptions to ARGUMENT_SCRIPT and ARGUMENT_EXTERNAL_PARAMS
+		arguments = ArgumentDescriptorUtils.addAskMoreAnnotationDescriptions(new ArgumentDescriptor[] {
+				AskMoreArgumentProvider.getBatchScriptArgumentDescriptor(scriptType),
+				AskMoreArgumentProvider.getBatchExternalParamsArgumentDescriptor(),
+				AskMoreArgumentProvider.getFolderArgumentDescriptor(),
+				AskMoreArgumentProvider.getFilePatternArgumentDescriptor(),
+				AskMoreArgumentProvider.getRecursiveArgumentDescriptor(),
+				AskMoreArgumentProvider.getThreadCountArgumentDescriptor(),
+				AskMoreArgumentProvider.getProcessorArgumentDescriptor(),
+				AskMoreArgumentProvider.getResultsTabNameArgumentDescriptor(rb.getString("BATCH_RESULTS")),
+				AskMoreArgumentProvider.getBindAnnotationsAsParamsArgumentDescriptor()
+		}, AskMoreArgumentProvider.ARGUMENT_SCRIPT, AskMoreArgumentProvider.ARGUMENT_EXTERNAL_PARAMS);
+	}
+
+	// additional methods
+	/**
+	 * Compiles a script into a Transformer that is only used by a single worker thread
+	 * @param xmlUtilAccess the XMLUtilAccess of the editor
+	 * @param script the text of the script
+	 * @param systemID the system ID relative references of the script are resolved against (may be <code>null</code>)
+	 * @param transformerType the type of the transformer as defined by the TRANSFORMER_SAXON constants of XMLUtilAccess
+	 * @throws TransformerConfigurationException if the script cannot be compiled
+	 */
+	protected abstract Transformer createTransformer(XMLUtilAccess xmlUtilAccess, String script, String systemID, int transformerType)
+			throws TransformerConfigurationException;
+
+	/**
+	 * Returns the folder specified by the argument ARGUMENT_FOLDER after expanding its editor variables or lets the user choose a folder if it is empty
+	 * @param authorAccess the AuthorAccess of the operation
+	 * @param args the ArgumentMap of the operation
+	 * @param editorLocation the location of the current document
+	 * @throws InputDialogClosedException if the user does not choose a folder
+	 */
+	protected Path getFolder(AuthorAccess authorAccess, ArgumentsMap args, URL editorLocation) throws InputDialogClosedException {
+		String folderPath = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_FOLDER, "");
+		String expandedPath = authorAccess.getUtilAccess().expandEditorVariables(folderPath, editorLocation);
+		if (expandedPath != null && !expandedPath.trim().isEmpty()) {
+			if (expandedPath.startsWith("file:"))
+				return Paths.get(URI.create(expandedPath));
+			return Paths.get(expandedPath);
+		}
+
+		JFileChooser folderChooser = new JFileChooser();
+		folderChooser.setFileSelectionMode(JFileChooser.DIRECTORIES_ONLY);
+		PhaseRecording userInput = OperationRecorder.beginPhase(OperationPhase.USER_INPUT, getClass(), 0);
+		int option;
+		try {
+			option = folderChooser.showOpenDialog(null);
+		} finally {
+			userInput.end();
+		}
+		if (option != JFileChooser.APPROVE_OPTION) {
+			AskMoreMetrics.recordDialogCancellation();
+			throw new InputDialogClosedException();
+		}
+		return folderChooser.getSelectedFile().toPath();
+	}
+
+	// overridden methods
+	@Override
+	public void doOperation(final AuthorAccess authorAccess, ArgumentsMap args) throws IllegalArgumentException, AuthorOperationException {
+		OperationRecording recording = ArgumentParser.startOperationRecording(getClass(), args, arguments);
+		try {
+			// get all params using the argument descriptors
+			HashedArgumentsMap parsedArgs = new HashedArgumentsMap(args, ArgumentDescriptorUtils.getArgumentNames(arguments));
+
+			URL editorLocation = authorAccess.getEditorAccess().getEditorLocation();
+			boolean bindAnnotationsAsParams = ArgumentParser.getValidBoolean(args, AskMoreArgumentProvider.ARGUMENT_BIND_ANNOTATIONS_AS_PARAMS, false);
+			final String script;
+			final Map<String, String> params = new LinkedHashMap<>();
+			Path folder;
+			try {
+				// parse annotated arguments (so that the dialog is shown once for all files)
+				ArgumentParser.replaceAnnotationsWithUserInput(authorAccess, parsedArgs, AskMoreArgumentProvider.ARGUMENT_EXTERNAL_PARAMS, "");
+				params.putAll(ArgumentParser.getValidParams(parsedArgs, AskMoreArgumentProvider.ARGUMENT_EXTERNAL_PARAMS));
+				if (bindAnnotationsAsParams) {
+					// bind annotations of the script as params so that its compiled Transformers may be reused with any user input
+					ParameterizedScript parameterizedScript = ParameterizedScriptCache.getScript(
+							ArgumentParser.getValidString(parsedArgs, AskMoreArgumentProvider.ARGUMENT_SCRIPT), scriptLanguage);
+					params.putAll(ArgumentParser.fetchParamValues(authorAccess, parameterizedScript));
+					script = parameterizedScript.getScript();
+				} else {
+					ArgumentParser.replaceAnnotationsWithUserInput(authorAccess, parsedArgs, AskMoreArgumentProvider.ARGUMENT_SCRIPT);
+					script = ArgumentParser.getValidString(parsedArgs, AskMoreArgumentProvider.ARGUMENT_SCRIPT);
+				}
+				folder = getFolder(authorAccess, args, editorLocation);
+			} catch (InputDialogClosedException e) {
+				// abort action if user closes the dialog
+				throw new IllegalArgumentException(AskMoreArgumentProvider.getClosedDialogMessage());
+			}
+
+			// get other params
+			String filePattern = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_FILE_PATTERN, "*.xml");
+			boolean isRecursive = ArgumentParser.getValidBoolean(args, AskMoreArgumentProvider.ARGUMENT_RECURSIVE, true);
+			int threadCount = ArgumentParser.getValidInt(args, AskMoreArgumentProvider.ARGUMENT_THREAD_COUNT, 0);
+			final int transformerType = ArgumentParser.getValidTransformerType(args, AskMoreArgumentProvider.ARGUMENT_PROCESSOR);
+			String resultsTabName = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_RESULTS_TAB_NAME);
+			final String systemID = (editorLocation != null) ? editorLocation.toString() : null;
+
+			// get target files
+			List<Path> files;
+			try {
+				files = BatchFileProcessor.findFiles(folder, filePattern, isRecursive);
+			} catch (IOException e) {
+				throw new AuthorOperationException(e.getMessage());
+			}
+
+			// notify user if there are no files and let the user confirm replacing the files otherwise
+			ResourceBundle rb = ResourceBundle.getBundle("org.adwmainz.da.extensions.askmore.resources.DialogTextBundle");
+			if (files.isEmpty()) {
+				JOptionPane.showMessageDialog(null, MessageFormat.format(rb.getString("BATCH_NO_FILES"), filePattern, folder));
+				return;
+			}
+			String confirmation = MessageFormat.format(rb.getString("BATCH_CONFIRMATION"), files.size(), folder);
+			if (JOptionPane.showConfirmDialog(null, confirmation, null, JOptionPane.OK_CANCEL_OPTION) != JOptionPane.OK_OPTION)
+				throw new IllegalArgumentException(AskMoreArgumentProvider.getClosedDialogMessage());
+
+			// each worker uses its own Transformer (which is compiled only if there is no idle one of a previous batch) and parses with its own XMLReader
+			final XMLUtilAccess xmlUtilAccess = authorAccess.getXMLUtilAccess();
+			final CompiledScriptCache.ScriptKey scriptKey = new CompiledScriptCache.ScriptKey(script, systemID, getClass(), transformerType);
+			FileTransformation.Factory transformationFactory = new FileTransformation.Factory() {
+
+				@Override
+				public FileTransformation createTransformation() throws Exception {
+					Transformer transformer = CompiledScriptCache.acquireTransformer(scriptKey);
+					XMLReader xmlReader;
+					XMLReader resultReader;
+					synchronized (xmlUtilAccess) {
+						if (transformer == null)
+							transformer = createTransformer(xmlUtilAccess, script, systemID, transformerType);
+						xmlReader = xmlUtilAccess.newNonValidatingXMLReader();
+						resultReader = xmlUtilAccess.newNonValidatingXMLReader();
+					}
+					for (Map.Entry<String, String> param: params.entrySet())
+						transformer.setParameter(param.getKey(), param.getValue());
+					return new TransformerFileTransformation(transformer, xmlReader, resultReader);
+				}
+
+				@Override
+				public void releaseTransformation(FileTransformation transformation) {
+					CompiledScriptCache.releaseTransformer(scriptKey, ((TransformerFileTransformation) transformation).getTransformer());
+				}
+
+			};
+			new BatchResultsPublisher(resultsTabName, files, transformationFactory, threadCount).start();
+		} finally {
+			recording.end();
+		}
+	}
+
+	@Override
+	public ArgumentDescriptor[] getArguments() {
+		return arguments;
+	}
+
+	/**
+	 * TransformerFileTransformation is a FileTransformation that streams the result of a javax.xml.transform.Transformer applied to a file and only accepts
+	 *  results that are well-formed XML documents
+	 */
+	protected static class TransformerFileTransformation implements FileTransformation {
+
+		// fields
+		protected final Transformer transformer;
+		protected final XMLReader xmlReader;
+		protected final XMLReader resultReader;
+
+		// constructor
+		/**
+		 * Creates a new TransformerFileTransformation
+		 * @param transformer the compiled script
+		 * @param xmlReader the XMLReader used to parse the files
+		 * @param resultReader the XMLReader used to check the results (which must differ from xmlReader since the Transformer may register its handlers)
+		 */
+		public TransformerFileTransformation(Transformer transformer, XMLReader xmlReader, XMLReader resultReader) {
+			this.transformer = transformer;
+			this.xmlReader = xmlReader;
+			this.resultReader = resultReader;
+		}
+
+		// basic getter
+		public Transformer getTransformer() {
+			return transformer;
+		}
+
+		// overridden methods
+		@Override
+		public void transform(Path sourceFile, OutputStream output) throws Exception {
+			transformer.transform(new SAXSource(xmlReader, new InputSource(sourceFile.toUri().toString())), new StreamResult(output));
+		}
+
+		/**
+		 * Rejects results that are empty or no single document node with a root element (like the empty sequence returned by an updating query or a
+		 *  sequence of several elements), so that a file is never replaced with them
+		 */
+		@Override
+		public void verify(Path transformedFile) throws Exception {
+			if (Files.size(transformedFile) == 0)
+				throw new TransformerException("The result of the script is empty, so that the file is left unchanged.");
+			DefaultHandler handler = new DefaultHandler();
+			resultReader.setContentHandler(handler);
+			resultReader.setErrorHandler(handler);
+			try {
+				resultReader.parse(new InputSource(transformedFile.toUri().toString()));
+			} catch (SAXException e) {
+				throw new TransformerException("The result of the script is no XML document with a single root element, so that the file is left unchanged: "
+						+ e.getMessage(), e);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,54 @@
+/**
+ * AnnotatedBatchXQueryOperation.java - is an extension of an org.adwmainz.da.extensions.askmore.operations.AnnotatedBatchOperation which adds a custom
+ *  operation to the Oxygen XML Editor that lets a user apply an XQuery script that may be adapted dynamically with an input dialog to all files of a folder.
+ *  It is one of the main classes of the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.operations;
+
+import java.io.StringReader;
+
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.stream.StreamSource;
+
+import org.adwmainz.da.extensions.askmore.models.ParameterizedScript;
+
+import ro.sync.exml.workspace.api.util.XMLUtilAccess;
+
+public class AnnotatedBatchXQueryOperation extends AnnotatedBatchOperation {
+
+	// constructor
+	/**
+	 * Creates a new AnnotatedBatchXQueryOperation
+	 */
+	public AnnotatedBatchXQueryOperation() {
+		super("XQuery", ParameterizedScript.Language.XQUERY);
+	}
+
+	// overridden methods
+	@Override
+	public String getDescription() {
+		return "Applies an XQuery script that may be adapted dynamically with an user input dialog to all matching files of a folder and replaces each file with"
+				+ " the result of the script. If the script is an XQuery Update script like 'replace value of node //title with \"...\"', each file is"
+				+ " replaced with its updated content instead. Files are left unchanged if the result is no XML document with a single root element.";
+	}
+
+	/**
+	 * Compiles an updating script as a transform expression that returns the updated copy of each file (since an updating script itself returns the empty
+	 *  sequence) and any other script as it is
+	 */
+	@Override
+	protected Transformer createTransformer(XMLUtilAccess xmlUtilAccess, String script, String systemID, int transformerType)
+			throws TransformerConfigurationException {
+		try {
+			return xmlUtilAccess.createXQueryTransformer(new StreamSource(new StringReader(ParameterizedScript.createTransformScript(script)), systemID), null,
+					transformerType);
+		} catch (TransformerConfigurationException | IllegalArgumentException e) {
+			// the script is no updating expression (or invalid, which is reported when it is compiled as it is)
+			return xmlUtilAccess.createXQueryTransformer(new StreamSource(new StringReader(script), systemID), null, transformerType);
+		}
+	}
+
+}
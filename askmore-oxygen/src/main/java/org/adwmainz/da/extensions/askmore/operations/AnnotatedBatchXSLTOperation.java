@@ -0,0 +1,43 @@
+/**
+ * AnnotatedBatchXSLTOperation.java - is an extension of an org.adwmainz.da.extensions.askmore.operations.AnnotatedBatchOperation which adds a custom operation
+ *  to the Oxygen XML Editor that lets a user apply an XSLT script that may be adapted dynamically with an input dialog to all files of a folder. It is one of
+ *  the main classes of the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.operations;
+
+import java.io.StringReader;
+
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.stream.StreamSource;
+
+import org.adwmainz.da.extensions.askmore.models.ParameterizedScript;
+
+import ro.sync.exml.workspace.api.util.XMLUtilAccess;
+
+public class AnnotatedBatchXSLTOperation extends AnnotatedBatchOperation {
+
+	// constructor
+	/**
+	 * Creates a new AnnotatedBatchXSLTOperation
+	 */
+	public AnnotatedBatchXSLTOperation() {
+		super("XSLT", ParameterizedScript.Language.XSLT);
+	}
+
+	// overridden methods
+	@Override
+	public String getDescription() {
+		return "Applies an XSLT script that may be adapted dynamically with an user input dialog to all matching files of a folder and replaces each file with"
+				+ " the result of the script.";
+	}
+
+	@Override
+	protected Transformer createTransformer(XMLUtilAccess xmlUtilAccess, String script, String systemID, int transformerType)
+			throws TransformerConfigurationException {
+		return xmlUtilAccess.createXSLTTransformer(new StreamSource(new StringReader(script), systemID), null, transformerType);
+	}
+
+}
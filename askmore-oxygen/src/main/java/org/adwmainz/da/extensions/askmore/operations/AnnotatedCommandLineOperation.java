@@ -0,0 +1,169 @@
+/**
+ * AnnotatedCommandLineOperation.java - is an extension of a ro.sync.ecss.extensions.commons.operations.ExecuteCommandLineOperation which adds a custom
+ *  operation to the Oxygen XML Editor that lets a user execute an XQuery script that may be adapted dynamically with an input dialog. It is one of 
+ *  the main classes of the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.1.0
+ */
+package org.adwmainz.da.extensions.askmore.operations;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.util.ResourceBundle;
+
+import org.adwmainz.da.extensions.askmore.exceptions.InputDialogClosedException;
+import org.adwmainz.da.extensions.askmore.models.HashedArgumentsMap;
+import org.adwmainz.da.extensions.askmore.models.OperationPhase;
+import org.adwmainz.da.extensions.askmore.models.OperationRecording;
+import org.adwmainz.da.extensions.askmore.models.PhaseRecording;
+import org.adwmainz.da.extensions.askmore.utils.ArgumentDescriptorUtils;
+import org.adwmainz.da.extensions.askmore.utils.ArgumentParser;
+import org.adwmainz.da.extensions.askmore.utils.AskMoreArgumentProvider;
+import org.adwmainz.da.extensions.askmore.utils.AskMoreTemplateCache;
+import org.adwmainz.da.extensions.askmore.utils.CommandLineOutputPublisher;
+import org.adwmainz.da.extensions.askmore.utils.CommandLineProcess;
+import org.adwmainz.da.extensions.askmore.utils.OperationRecorder;
+import org.adwmainz.da.extensions.askmore.utils.WorkerProcess;
+import org.adwmainz.da.extensions.askmore.utils.WorkerProcessPool;
+import org.adwmainz.da.extensions.askmore.utils.WorkerRequest;
+
+import ro.sync.ecss.extensions.api.ArgumentDescriptor;
+import ro.sync.ecss.extensions.api.ArgumentsMap;
+import ro.sync.ecss.extensions.api.AuthorAccess;
+import ro.sync.ecss.extensions.api.AuthorOperationException;
+import ro.sync.ecss.extensions.commons.operations.ExecuteCommandLineOperation;
+
+public class AnnotatedCommandLineOperation extends ExecuteCommandLineOperation {
+
+	// fields
+	protected ArgumentDescriptor[] arguments;
+
+	// constructor
+	/**
+	 * Creates a new AnnotatedCommandLineOperation
+	 */
+	public AnnotatedCommandLineOperation() {
+		super();
+		
+		// load localized data
+		ResourceBundle rb = ResourceBundle.getBundle("org.adwmainz.da.extensions.askmore.resources.ArgumentTextBundle");
+		
+		// derive arguments from arguments of super class by adding the arguments of the async and the persistent worker mode and by adding descriptions
+		//  to ARGUMENT_COMMAND_LINE and ARGUMENT_WORKER_REQUEST
+		arguments = ArgumentDescriptorUtils.addAskMoreAnnotationDescriptions(ArgumentDescriptorUtils.appendArguments(super.getArguments(),
+				AskMoreArgumentProvider.getAsyncArgumentDescriptor(),
+				AskMoreArgumentProvider.getTimeoutArgumentDescriptor(),
+				AskMoreArgumentProvider.getResultsTabNameArgumentDescriptor(rb.getString("COMMAND_LINE_OUTPUT")),
+				AskMoreArgumentProvider.getPersistentWorkerArgumentDescriptor(),
+				AskMoreArgumentProvider.getWorkerRequestArgumentDescriptor(),
+				AskMoreArgumentProvider.getWorkerProtocolArgumentDescriptor(),
+				AskMoreArgumentProvider.getWorkerIdleTimeoutArgumentDescriptor()
+		), AskMoreArgumentProvider.ARGUMENT_COMMAND_LINE, AskMoreArgumentProvider.ARGUMENT_WORKER_REQUEST);
+	}
+
+	// additional methods
+	/**
+	 * Checks that an argument does not contain AskMoreAnnotations
+	 * <br>(The command line of a persistent worker must not contain any since the worker pool is keyed by the command line, so that each new input would
+	 *  start another worker.)
+	 * @param parsedArgs the arguments of the operation
+	 * @param argumentName the name of the argument
+	 * @throws IllegalArgumentException if the argument is empty, otherwise invalid or contains AskMoreAnnotations
+	 */
+	protected void rejectAnnotations(HashedArgumentsMap parsedArgs, String argumentName) throws IllegalArgumentException {
+		if (AskMoreTemplateCache.getTemplate(ArgumentParser.getValidString(parsedArgs, argumentName)).hasAnnotations())
+			throw new IllegalArgumentException("The param '" + argumentName + "' must not contain AskMoreAnnotations if '"
+					+ AskMoreArgumentProvider.ARGUMENT_PERSISTENT_WORKER + "' is true. Use '" + AskMoreArgumentProvider.ARGUMENT_WORKER_REQUEST
+					+ "' for user input instead.");
+	}
+
+	/**
+	 * Starts the command line (or sends a request to the worker process started by the command line) in the background and streams its output to a
+	 *  results view tab
+	 * @param authorAccess the AuthorAccess of the operation
+	 * @param parsedArgs the arguments of the operation whose AskMoreAnnotations have been replaced already (the command line of a persistent worker
+	 *  must not contain any)
+	 * @param usePersistentWorker specifies whether the argument ARGUMENT_WORKER_REQUEST should be sent to a persistent worker process
+	 * @throws IllegalArgumentException if the command line is empty or if the timeouts are invalid
+	 */
+	protected void executeAsync(AuthorAccess authorAccess, ArgumentsMap parsedArgs, boolean usePersistentWorker) throws IllegalArgumentException {
+		URL editorLocation = authorAccess.getEditorAccess().getEditorLocation();
+		String commandLine = authorAccess.getUtilAccess().expandEditorVariables(
+				ArgumentParser.getValidString(parsedArgs, AskMoreArgumentProvider.ARGUMENT_COMMAND_LINE), editorLocation);
+		String name = ArgumentParser.getValidString(parsedArgs, AskMoreArgumentProvider.ARGUMENT_NAME, commandLine);
+		long timeoutMillis = ArgumentParser.getValidInt(parsedArgs, AskMoreArgumentProvider.ARGUMENT_TIMEOUT, 0) * 1000L;
+		String resultsTabName = ArgumentParser.getValidString(parsedArgs, AskMoreArgumentProvider.ARGUMENT_RESULTS_TAB_NAME);
+
+		// get working directory (or use the one of the editor if it is not specified)
+		File workingDirectory = null;
+		String workingDirectoryPath = authorAccess.getUtilAccess().expandEditorVariables(
+				ArgumentParser.getValidString(parsedArgs, AskMoreArgumentProvider.ARGUMENT_WORKING_DIRECTORY, ""), editorLocation);
+		if (workingDirectoryPath != null && !workingDirectoryPath.trim().isEmpty())
+			workingDirectory = workingDirectoryPath.startsWith("file:") ? new File(URI.create(workingDirectoryPath)) : new File(workingDirectoryPath);
+
+		if (usePersistentWorker) {
+			WorkerProcess.Protocol protocol = WorkerProcess.Protocol.valueOf(
+					ArgumentParser.getValidString(parsedArgs, AskMoreArgumentProvider.ARGUMENT_WORKER_PROTOCOL, "line").toUpperCase());
+			long idleTimeoutMillis = ArgumentParser.getValidInt(parsedArgs, AskMoreArgumentProvider.ARGUMENT_WORKER_IDLE_TIMEOUT, 600) * 1000L;
+			WorkerProcess worker = WorkerProcessPool.getWorker(commandLine, workingDirectory, protocol, idleTimeoutMillis);
+			String request = ArgumentParser.getValidString(parsedArgs, AskMoreArgumentProvider.ARGUMENT_WORKER_REQUEST, "");
+			new CommandLineOutputPublisher(resultsTabName, name, new WorkerRequest(worker, request, timeoutMillis)).start();
+		} else {
+			new CommandLineOutputPublisher(resultsTabName, name, new CommandLineProcess(commandLine, workingDirectory, timeoutMillis)).start();
+		}
+	}
+
+	// overridden methods
+	@Override
+	public String getDescription() {
+		return "Extends the default ExecuteCommandLineOperation by adding the possibility to adapt the script dynamically with an user input dialog.";
+	}
+
+	@Override
+	public void doOperation(AuthorAccess authorAccess, ArgumentsMap args) throws IllegalArgumentException, AuthorOperationException {
+		OperationRecording recording = ArgumentParser.startOperationRecording(getClass(), args, arguments);
+		try {
+			// get all params using the argument descriptors
+			HashedArgumentsMap parsedArgs = new HashedArgumentsMap(args, ArgumentDescriptorUtils.getArgumentNames(arguments));
+			
+			try {
+				if (ArgumentParser.getValidBoolean(args, AskMoreArgumentProvider.ARGUMENT_PERSISTENT_WORKER, false)) {
+					// send request to a worker process in the background (user input is only sent with the request, so that the same worker is reused)
+					rejectAnnotations(parsedArgs, AskMoreArgumentProvider.ARGUMENT_COMMAND_LINE);
+					ArgumentParser.replaceAnnotationsWithUserInput(authorAccess, parsedArgs, AskMoreArgumentProvider.ARGUMENT_WORKER_REQUEST, "");
+					executeAsync(authorAccess, parsedArgs, true);
+					return;
+				}
+				
+				// parse annotated argument
+				ArgumentParser.replaceAnnotationsWithUserInput(authorAccess, parsedArgs, AskMoreArgumentProvider.ARGUMENT_COMMAND_LINE);
+				
+				if (ArgumentParser.getValidBoolean(args, AskMoreArgumentProvider.ARGUMENT_ASYNC, false)) {
+					// execute command line in the background
+					executeAsync(authorAccess, parsedArgs, false);
+				} else {
+					// invoke main operation from super class
+					PhaseRecording delegation = OperationRecorder.beginPhase(OperationPhase.DELEGATION, getClass(), 0);
+					try {
+						super.doOperation(authorAccess, parsedArgs);
+					} finally {
+						delegation.end();
+					}
+				}
+			} catch (InputDialogClosedException e) {
+				// abort action if user closes the dialog
+				throw new IllegalArgumentException(AskMoreArgumentProvider.getClosedDialogMessage());
+			}
+			
+		} finally {
+			recording.end();
+		}
+	}
+
+	@Override
+	public ArgumentDescriptor[] getArguments() {
+		return arguments;
+	}
+
+}
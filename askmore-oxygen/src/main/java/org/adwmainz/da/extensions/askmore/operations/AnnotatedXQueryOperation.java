@@ -0,0 +1,92 @@
+/**
+ * AnnotatedXQueryOperation.java - is an extension of a ro.sync.ecss.extensions.commons.operations.XQueryOperation which adds a custom operation to the Oxygen XML
+ *  Editor that lets a user execute an XQuery script that may be adapted dynamically with an input dialog. It is one of the main classes of the AskMoreXtension
+ *  developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.0.0
+ */
+package org.adwmainz.da.extensions.askmore.operations;
+
+import org.adwmainz.da.extensions.askmore.exceptions.InputDialogClosedException;
+import org.adwmainz.da.extensions.askmore.models.HashedArgumentsMap;
+import org.adwmainz.da.extensions.askmore.models.OperationPhase;
+import org.adwmainz.da.extensions.askmore.models.OperationRecording;
+import org.adwmainz.da.extensions.askmore.models.ParameterizedScript;
+import org.adwmainz.da.extensions.askmore.models.PhaseRecording;
+import org.adwmainz.da.extensions.askmore.utils.ArgumentDescriptorUtils;
+import org.adwmainz.da.extensions.askmore.utils.ArgumentParser;
+import org.adwmainz.da.extensions.askmore.utils.AskMoreArgumentProvider;
+import org.adwmainz.da.extensions.askmore.utils.OperationRecorder;
+
+import ro.sync.ecss.extensions.api.ArgumentDescriptor;
+import ro.sync.ecss.extensions.api.ArgumentsMap;
+import ro.sync.ecss.extensions.api.AuthorAccess;
+import ro.sync.ecss.extensions.api.AuthorOperationException;
+import ro.sync.ecss.extensions.commons.operations.XQueryOperation;
+
+public class AnnotatedXQueryOperation extends XQueryOperation {
+
+	// fields
+	protected ArgumentDescriptor[] arguments;
+
+	// constructor
+	/**
+	 * Creates a new AnnotatedXQueryOperation
+	 */
+	public AnnotatedXQueryOperation() {
+		super();
+		
+		// derive arguments from arguments of super class by adding descriptions to ARGUMENT_SCRIPT and ARGUMENT_EXTERNAL_PARAMS and by adding
+		//  ARGUMENT_BIND_ANNOTATIONS_AS_PARAMS
+		arguments = ArgumentDescriptorUtils.appendArguments(
+				ArgumentDescriptorUtils.addAskMoreAnnotationDescriptions(super.getArguments(), AskMoreArgumentProvider.ARGUMENT_SCRIPT, AskMoreArgumentProvider.ARGUMENT_EXTERNAL_PARAMS),
+				AskMoreArgumentProvider.getBindAnnotationsAsParamsArgumentDescriptor());
+	}
+
+	// overridden methods
+	@Override
+	public String getDescription() {
+		return "Extends the default XQueryOperation by adding the possibility to adapt the script dynamically with an user input dialog.";
+	}
+
+	@Override
+	public void doOperation(AuthorAccess authorAccess, ArgumentsMap args) throws IllegalArgumentException, AuthorOperationException {
+		OperationRecording recording = ArgumentParser.startOperationRecording(getClass(), args, arguments);
+		try {
+			// get all params using the argument descriptors
+			HashedArgumentsMap parsedArgs = new HashedArgumentsMap(args, ArgumentDescriptorUtils.getArgumentNames(arguments));
+			
+			try {
+				// parse annotated arguments
+				if (ArgumentParser.getValidBoolean(parsedArgs, AskMoreArgumentProvider.ARGUMENT_BIND_ANNOTATIONS_AS_PARAMS, false)) {
+					// bind annotations of the script as params so that its text does not change with the user input
+					ArgumentParser.replaceAnnotationsWithUserInput(authorAccess, parsedArgs, AskMoreArgumentProvider.ARGUMENT_EXTERNAL_PARAMS, "");
+					ArgumentParser.bindAnnotationsAsParams(authorAccess, parsedArgs, AskMoreArgumentProvider.ARGUMENT_SCRIPT,
+							AskMoreArgumentProvider.ARGUMENT_EXTERNAL_PARAMS, ParameterizedScript.Language.XQUERY);
+				} else {
+					ArgumentParser.replaceAnnotationsWithUserInput(authorAccess, parsedArgs, AskMoreArgumentProvider.ARGUMENT_SCRIPT);
+					ArgumentParser.replaceAnnotationsWithUserInput(authorAccess, parsedArgs, AskMoreArgumentProvider.ARGUMENT_EXTERNAL_PARAMS);
+				}
+				
+				// invoke main operation from super class
+				PhaseRecording delegation = OperationRecorder.beginPhase(OperationPhase.DELEGATION, getClass(), 0);
+				try {
+					super.doOperation(authorAccess, parsedArgs);
+				} finally {
+					delegation.end();
+				}
+			} catch (InputDialogClosedException e) {
+				// abort action if user closes the dialog
+				throw new IllegalArgumentException(AskMoreArgumentProvider.getClosedDialogMessage());
+			}
+		} finally {
+			recording.end();
+		}
+	}
+
+	@Override
+	public ArgumentDescriptor[] getArguments() {
+		return arguments;
+	}
+
+}
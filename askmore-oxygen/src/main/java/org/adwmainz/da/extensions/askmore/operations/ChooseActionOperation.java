@@ -13,10 +13,11 @@ import java.util.ResourceBundle;
 import java.util.Set;
 
 import org.adwmainz.da.extensions.askmore.exceptions.InputDialogClosedException;
+import org.adwmainz.da.extensions.askmore.models.OperationRecording;
 import org.adwmainz.da.extensions.askmore.models.SelectableOption;
 import org.adwmainz.da.extensions.askmore.utils.ArgumentParser;
 import org.adwmainz.da.extensions.askmore.utils.AskMoreArgumentProvider;
-import org.adwmainz.da.extensions.askmore.utils.InputDialogUtils;
+import org.adwmainz.da.extensions.askmore.utils.UserInputProviders;
 
 import ro.sync.ecss.extensions.api.ArgumentDescriptor;
 import ro.sync.ecss.extensions.api.ArgumentsMap;
@@ -56,49 +57,54 @@ public class ChooseActionOperation implements AuthorOperation {
 	@Override
 	public void doOperation(AuthorAccess authorAccess, ArgumentsMap args)
 			throws IllegalArgumentException, AuthorOperationException {
-		// get params
-		String dialogTitle = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_DIALOG_TITLE);
-		String selectionLabel = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_SELECTION_LABEL);
-		Map<String, String> selectableActions = ArgumentParser.validateMappedArgs(args, AskMoreArgumentProvider.ARGUMENT_ACTION_IDS, 
-				AskMoreArgumentProvider.ARGUMENT_ACTION_NAMES);
-		
-		// get actions
-		AuthorActionsProvider actionsProvider = authorAccess.getEditorAccess().getActionsProvider();
-		Map<String, Object> authorExtensionActions = actionsProvider.getAuthorExtensionActions();
-		Map<String, Object> authorCommonActions = actionsProvider.getAuthorCommonActions();
-		
-		// create options
-		Set<SelectableOption<Object>> options = new LinkedHashSet<>();
-		for (String actionId: selectableActions.keySet()) {
-			String actionName = selectableActions.get(actionId);
+		OperationRecording recording = ArgumentParser.startOperationRecording(getClass(), args, arguments);
+		try {
+			// get params
+			String dialogTitle = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_DIALOG_TITLE);
+			String selectionLabel = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_SELECTION_LABEL);
+			Map<String, String> selectableActions = ArgumentParser.validateMappedArgs(args, AskMoreArgumentProvider.ARGUMENT_ACTION_IDS, 
+					AskMoreArgumentProvider.ARGUMENT_ACTION_NAMES);
+			
+			// get actions
+			AuthorActionsProvider actionsProvider = authorAccess.getEditorAccess().getActionsProvider();
+			Map<String, Object> authorExtensionActions = actionsProvider.getAuthorExtensionActions();
+			Map<String, Object> authorCommonActions = actionsProvider.getAuthorCommonActions();
+			
+			// create options
+			Set<SelectableOption<Object>> options = new LinkedHashSet<>();
+			for (String actionId: selectableActions.keySet()) {
+				String actionName = selectableActions.get(actionId);
 
-			// check if action is an AuthorExtensionAction
-			if (authorExtensionActions != null) {
-				Object action = authorExtensionActions.get(actionId);
-				if (action != null) {
-					options.add(new SelectableOption<Object>(action, actionName));
-					continue;
+				// check if action is an AuthorExtensionAction
+				if (authorExtensionActions != null) {
+					Object action = authorExtensionActions.get(actionId);
+					if (action != null) {
+						options.add(new SelectableOption<Object>(action, actionName));
+						continue;
+					}
 				}
+				
+				// check if action is an AuthorCommonAction
+				if (authorCommonActions != null) {
+					Object action = authorCommonActions.get(actionId);
+					if (action != null) {
+						options.add(new SelectableOption<Object>(action, actionName));
+						continue;
+					}
+				}
+				throw new AuthorOperationException("Could not find an extension action with the ID: \'" + actionId + "\'");
 			}
 			
-			// check if action is an AuthorCommonAction
-			if (authorCommonActions != null) {
-				Object action = authorCommonActions.get(actionId);
-				if (action != null) {
-					options.add(new SelectableOption<Object>(action, actionName));
-					continue;
-				}
+			// invoke action selected with a dialog
+			try {
+				SelectableOption<Object> selectedOption = UserInputProviders.getProvider().fetchSelectedOption(dialogTitle, selectionLabel, options);
+				actionsProvider.invokeAction(selectedOption.getRealValue());
+			} catch (InputDialogClosedException e) {
+				// abort action if user closes the dialog
+				throw new IllegalArgumentException(AskMoreArgumentProvider.getClosedDialogMessage());
 			}
-			throw new AuthorOperationException("Could not find an extension action with the ID: \'" + actionId + "\'");
-		}
-		
-		// invoke action selected with a dialog
-		try {
-			SelectableOption<Object> selectedOption = InputDialogUtils.fetchSelectedOption(dialogTitle, selectionLabel, options);
-			actionsProvider.invokeAction(selectedOption.getRealValue());
-		} catch (InputDialogClosedException e) {
-			// abort action if user closes the dialog
-			throw new IllegalArgumentException(AskMoreArgumentProvider.getClosedDialogMessage());
+		} finally {
+			recording.end();
 		}
 	}
 
@@ -9,17 +9,20 @@ package org.adwmainz.da.extensions.askmore.operations;
 
 import java.awt.Toolkit;
 import java.awt.datatransfer.Clipboard;
-import java.awt.datatransfer.StringSelection;
+import java.net.URL;
 import java.util.ResourceBundle;
 
 import javax.swing.JOptionPane;
-import javax.swing.text.BadLocationException;
 
+import org.adwmainz.da.extensions.askmore.models.LazyTransferable;
+import org.adwmainz.da.extensions.askmore.models.OperationRecording;
+import org.adwmainz.da.extensions.askmore.models.SelectionTransferable;
+import org.adwmainz.da.extensions.askmore.models.XPathResultTransferable;
 import org.adwmainz.da.extensions.askmore.utils.APIAccessUtils;
 import org.adwmainz.da.extensions.askmore.utils.ArgumentParser;
 import org.adwmainz.da.extensions.askmore.utils.AskMoreArgumentProvider;
+import org.adwmainz.da.extensions.askmore.utils.SpillingTextBuilder;
 
-import ro.sync.ecss.dom.wrappers.AuthorNodeDomWrapper;
 import ro.sync.ecss.extensions.api.ArgumentDescriptor;
 import ro.sync.ecss.extensions.api.ArgumentsMap;
 import ro.sync.ecss.extensions.api.AuthorAccess;
@@ -44,7 +47,8 @@ public class CopyToClipboardOperation implements AuthorOperation {
 		arguments = new ArgumentDescriptor[] {
 				AskMoreArgumentProvider.getCopyElementLocationArgumentDescriptor(),
 				AskMoreArgumentProvider.getMessageArgumentDescriptor(rb.getString("COPIED_TO_CLIPBOARD")),
-				AskMoreArgumentProvider.getNotifyUserWithMessageArgumentDescriptor()
+				AskMoreArgumentProvider.getNotifyUserWithMessageArgumentDescriptor(),
+				AskMoreArgumentProvider.getMaxBufferedCharsArgumentDescriptor()
 		};
 	}
 
@@ -57,43 +61,41 @@ public class CopyToClipboardOperation implements AuthorOperation {
 	@Override
 	public void doOperation(AuthorAccess authorAccess, ArgumentsMap args)
 			throws IllegalArgumentException, AuthorOperationException {
-		// get params
-		String xPath = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_ELEMENT_LOCATION, "");
-		String message = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_MESSAGE);
-		boolean notifyUser = ArgumentParser.getValidBoolean(args, AskMoreArgumentProvider.ARGUMENT_NOTIFY_USER);
-		
-		// get document controller
-		AuthorDocumentController documentController = authorAccess.getDocumentController();
-		
-		// get selection
-		String selection = "";
-		if (xPath.isEmpty()) {
-			// get the current selection from the Author Mode
-			try {
-				selection = APIAccessUtils.getSelection(authorAccess.getEditorAccess(), documentController);
-			} catch (BadLocationException e) {
-				// throw exception if the selection is invalid
-				throw new AuthorOperationException(e.getMessage());
-			}
-		} else {
-			// get the XPath result(s)
-			for (Object obj: documentController.evaluateXPath(xPath, false, true, true)) {
-				if (obj instanceof AuthorNodeDomWrapper)
-					selection += ((AuthorNodeDomWrapper) obj).getTextContent();
-				else {
-					if (obj instanceof Number || obj instanceof String)
-						selection += ""+obj;
-				}
+		OperationRecording recording = ArgumentParser.startOperationRecording(getClass(), args, arguments);
+		try {
+			// get params
+			String xPath = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_ELEMENT_LOCATION, "");
+			String message = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_MESSAGE);
+			boolean notifyUser = ArgumentParser.getValidBoolean(args, AskMoreArgumentProvider.ARGUMENT_NOTIFY_USER);
+			int maxBufferedChars = ArgumentParser.getValidInt(args, AskMoreArgumentProvider.ARGUMENT_MAX_BUFFERED_CHARS,
+					SpillingTextBuilder.DEFAULT_MAX_BUFFERED_CHARS);
+			
+			// get document controller and editor location
+			AuthorDocumentController documentController = authorAccess.getDocumentController();
+			URL editorLocation = authorAccess.getEditorAccess().getEditorLocation();
+			
+			// get selection (which is not serialized before it is pasted or the document is edited or closed)
+			LazyTransferable selection;
+			if (xPath.isEmpty()) {
+				// get the current selection intervals from the Author Mode
+				selection = new SelectionTransferable(documentController, editorLocation,
+						APIAccessUtils.getSelectionIntervals(authorAccess.getEditorAccess()), maxBufferedChars);
+			} else {
+				// get the XPath result(s)
+				selection = new XPathResultTransferable(documentController, editorLocation,
+						APIAccessUtils.evaluateXPath(documentController, xPath, false, true, true), maxBufferedChars);
 			}
-		}
-		
-		// copy to clipboard
-		Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
-		clipboard.setContents(new StringSelection(selection), null);
+			
+			// copy to clipboard
+			Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
+			clipboard.setContents(selection, selection);
 
-		// notify user
-		if (notifyUser)
-			JOptionPane.showMessageDialog(null, message);
+			// notify user
+			if (notifyUser)
+				JOptionPane.showMessageDialog(null, message);
+		} finally {
+			recording.end();
+		}
 	}
 
 	@Override
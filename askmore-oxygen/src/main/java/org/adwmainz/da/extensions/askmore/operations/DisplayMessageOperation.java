@@ -9,6 +9,7 @@ package org.adwmainz.da.extensions.askmore.operations;
 
 import javax.swing.JOptionPane;
 
+import org.adwmainz.da.extensions.askmore.models.OperationRecording;
 import org.adwmainz.da.extensions.askmore.utils.ArgumentParser;
 import org.adwmainz.da.extensions.askmore.utils.AskMoreArgumentProvider;
 import org.adwmainz.da.extensions.askmore.utils.InputDialogUtils;
@@ -46,13 +47,18 @@ public class DisplayMessageOperation implements AuthorOperation {
 	@Override
 	public void doOperation(AuthorAccess authorAccess, ArgumentsMap args)
 			throws IllegalArgumentException, AuthorOperationException {
-		// get params
-		String title = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_DIALOG_TITLE);
-		String message = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_MESSAGE);
-		int messageType = InputDialogUtils.getMessageType(ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_SEVERITY));
-		
-		// display the message dialog
-		JOptionPane.showMessageDialog(null, message, title, messageType);
+		OperationRecording recording = ArgumentParser.startOperationRecording(getClass(), args, arguments);
+		try {
+			// get params
+			String title = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_DIALOG_TITLE);
+			String message = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_MESSAGE);
+			int messageType = InputDialogUtils.getMessageType(ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_SEVERITY));
+			
+			// display the message dialog
+			JOptionPane.showMessageDialog(null, message, title, messageType);
+		} finally {
+			recording.end();
+		}
 	}
 
 	@Override
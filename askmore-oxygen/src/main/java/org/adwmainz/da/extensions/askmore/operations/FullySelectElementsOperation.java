@@ -3,6 +3,8 @@ package org.adwmainz.da.extensions.askmore.operations;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.adwmainz.da.extensions.askmore.models.OperationRecording;
+import org.adwmainz.da.extensions.askmore.models.SelectionIntervalIndex;
 import org.adwmainz.da.extensions.askmore.utils.APIAccessUtils;
 import org.adwmainz.da.extensions.askmore.utils.ArgumentParser;
 import org.adwmainz.da.extensions.askmore.utils.AskMoreArgumentProvider;
@@ -44,29 +46,26 @@ public class FullySelectElementsOperation implements AuthorOperation {
 	@Override
 	public void doOperation(AuthorAccess authorAccess, ArgumentsMap args)
 			throws IllegalArgumentException, AuthorOperationException {
-		String location = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_LOCATION_RESTRICTION);
-		
-		// get the document controller and editor access
-		AuthorDocumentController documentController = authorAccess.getDocumentController();
-		AuthorEditorAccess editorAccess = authorAccess.getEditorAccess();
-		
-		// get all possible insert locations
-		AuthorNode[] targetNodes = documentController.findNodesByXPath(location, false/*include text nodes*/, true, true);
-		
-		// get all selection intervals
-		AuthorSelectionModel selectionModel = editorAccess.getAuthorSelectionModel();
-		List<ContentInterval> selectionIntervals = selectionModel.getSelectionIntervals();
-		List<ContentInterval> intervals = new ArrayList<>();
-		
-		// iterate over nodes to find the selected ones
-		for (AuthorNode targetNode: targetNodes) {
-			for (ContentInterval selectionInterval: selectionIntervals) {
-				if (APIAccessUtils.containsNode(selectionInterval, targetNode)) {
-					intervals.add(new ContentInterval(targetNode.getStartOffset(), targetNode.getEndOffset()));
-				}
-			}
+		OperationRecording recording = ArgumentParser.startOperationRecording(getClass(), args, arguments);
+		try {
+			String location = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_LOCATION_RESTRICTION);
+			
+			// get the document controller and editor access
+			AuthorDocumentController documentController = authorAccess.getDocumentController();
+			AuthorEditorAccess editorAccess = authorAccess.getEditorAccess();
+			
+			// get all selection intervals
+			AuthorSelectionModel selectionModel = editorAccess.getAuthorSelectionModel();
+			SelectionIntervalIndex selectionIndex = new SelectionIntervalIndex(selectionModel.getSelectionIntervals());
+			List<ContentInterval> intervals = new ArrayList<>();
+			
+			// find the selected nodes (each node is selected once even if it is touched by several intervals)
+			for (AuthorNode targetNode: APIAccessUtils.findSelectedNodesByXPath(documentController, location, selectionIndex))
+				intervals.add(new ContentInterval(targetNode.getStartOffset(), targetNode.getEndOffset()));
+			selectionModel.setSelectionIntervals(intervals, true);
+		} finally {
+			recording.end();
 		}
-		selectionModel.setSelectionIntervals(intervals, true);
 	}
 
 	@Override
@@ -0,0 +1,179 @@
+/**
+ * InsertAnnotatedFragmentToSelectionOperation.java - is an extension of a ro.sync.ecss.extensions.commons.operations.InsertFragmentOperation which adds a custom
+ *  operation to the Oxygen XML editor that lets a user insert fragments to multiple selected elements. It is one of the main classes within the AskMoreXtension
+ *  developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.operations;
+
+import java.util.List;
+
+import javax.swing.text.BadLocationException;
+
+import org.adwmainz.da.extensions.askmore.exceptions.InputDialogClosedException;
+import org.adwmainz.da.extensions.askmore.models.EditableArgumentDescriptor;
+import org.adwmainz.da.extensions.askmore.models.OperationRecording;
+import org.adwmainz.da.extensions.askmore.models.SelectionIntervalIndex;
+import org.adwmainz.da.extensions.askmore.utils.APIAccessUtils;
+import org.adwmainz.da.extensions.askmore.utils.ArgumentParser;
+import org.adwmainz.da.extensions.askmore.utils.AskMoreAnnotationParser;
+import org.adwmainz.da.extensions.askmore.utils.AskMoreArgumentProvider;
+
+import ro.sync.ecss.extensions.api.ArgumentDescriptor;
+import ro.sync.ecss.extensions.api.ArgumentsMap;
+import ro.sync.ecss.extensions.api.AuthorAccess;
+import ro.sync.ecss.extensions.api.AuthorConstants;
+import ro.sync.ecss.extensions.api.AuthorDocumentController;
+import ro.sync.ecss.extensions.api.AuthorOperationException;
+import ro.sync.ecss.extensions.api.access.AuthorEditorAccess;
+import ro.sync.ecss.extensions.api.node.AuthorDocumentFragment;
+import ro.sync.ecss.extensions.api.node.AuthorNode;
+import ro.sync.ecss.extensions.commons.operations.InsertFragmentOperation;
+
+public class InsertAnnotatedFragmentToSelectionOperation extends InsertFragmentOperation {
+
+	// field
+	protected ArgumentDescriptor[] arguments;
+
+	// constructor
+	/**
+	 * Creates a new InsertAnnotatedFragmentToSelectionOperation
+	 */
+	public InsertAnnotatedFragmentToSelectionOperation() {
+		super();
+
+		// derive arguments from arguments of super class
+		ArgumentDescriptor[] basicArguments = super.getArguments();
+		arguments = new ArgumentDescriptor[basicArguments.length];
+		for (int i=0; i<basicArguments.length; ++i) {
+			// get basic argument
+			ArgumentDescriptor basicArgument = basicArguments[i];
+			EditableArgumentDescriptor derivedArgument = EditableArgumentDescriptor.copyOf(basicArgument);
+			
+			// add description of how to use AskMoreAnnotations to ARGUMENT_FRAGMENT
+			if (basicArgument.getName().equals(AskMoreArgumentProvider.ARGUMENT_FRAGMENT))
+				derivedArgument.setDescription(basicArgument.getDescription()+"\n"+AskMoreAnnotationParser.getDescription());
+			
+			// replace ARGUMENT_INSERT_LOCATION with ARGUMENT_INSERT_LOCATION_RESTRICTION
+			else if (basicArgument.getName().equals(AskMoreArgumentProvider.ARGUMENT_INSERT_LOCATION))
+				derivedArgument = new EditableArgumentDescriptor(
+						AskMoreArgumentProvider.ARGUMENT_INSERT_LOCATION_RESTRICTION,
+						ArgumentDescriptor.TYPE_XPATH_EXPRESSION,
+						"An XPath expression that specifies which nodes from the current selection should be used."
+								+ "\n(i.e. this operation inserts the fragment to all selected nodes with the name NAME and an attribute ATTR if the value of this param "
+								+ "is set to //NAME[@ATTR]."
+				);
+			
+			// set argument
+			arguments[i] = derivedArgument;
+		}
+	}
+
+	// overridden methods
+	@Override
+	public String getDescription() {
+		return "Extends the InsertAnnotatedFragmentOperation of this AskMoreXtension by applying it to (a subset) of a selection made in the Author Mode.";
+	}
+
+	@Override
+	public void doOperation(AuthorAccess authorAccess, ArgumentsMap args)
+			throws IllegalArgumentException, AuthorOperationException {
+		OperationRecording recording = ArgumentParser.startOperationRecording(getClass(), args, arguments);
+		try {
+			String parsedFragment;
+			try {
+				parsedFragment = ArgumentParser.getValidStringWithUserInput(authorAccess, args, AskMoreArgumentProvider.ARGUMENT_FRAGMENT);
+			} catch (InputDialogClosedException e) {
+				// abort action if user closes the dialog
+				throw new IllegalArgumentException(AskMoreArgumentProvider.getClosedDialogMessage());
+			}
+			
+			// get other params
+			String insertLocation = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_INSERT_LOCATION_RESTRICTION);
+			String insertPosition = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_INSERT_POSITION);
+			boolean goToNextEditablePosition = ArgumentParser.getValidBoolean(args, AskMoreArgumentProvider.ARGUMENT_GO_TO_NEXT_EDITABLE_POSITION);
+			
+			// get the document controller and editor access
+			AuthorDocumentController documentController = authorAccess.getDocumentController();
+			AuthorEditorAccess editorAccess = authorAccess.getEditorAccess();
+			
+			// get all selection intervals
+			SelectionIntervalIndex selectionIndex = new SelectionIntervalIndex(editorAccess.getAuthorSelectionModel().getSelectionIntervals());
+			
+			// get the selected nodes and exit early if there are none
+			List<AuthorNode> targetNodes = APIAccessUtils.findSelectedNodesByXPath(documentController, insertLocation, selectionIndex);
+			if (targetNodes.isEmpty())
+				return;
+			
+			// get the insertion offset of the last node in document order before any fragment is inserted
+			int lastInsertionOffset = getInsertionOffset(targetNodes.get(targetNodes.size()-1), insertPosition);
+			
+			// begin a compound edit
+			documentController.beginCompoundEdit();
+			try {
+				// parse the fragment once in the context of the first insert location
+				AuthorDocumentFragment fragment = documentController.createNewDocumentFragmentInContext(parsedFragment,
+						getInsertionOffset(targetNodes.get(0), insertPosition));
+				
+				// insert fragments in reverse document order so that offsets of preceding nodes are not affected
+				for (int i=targetNodes.size()-1; i>=0; --i) {
+					int insertionOffset = getInsertionOffset(targetNodes.get(i), insertPosition);
+					int documentEndOffset = documentController.getAuthorDocumentNode().getEndOffset();
+					documentController.insertFragment(insertionOffset, fragment);
+					
+					// shift the last insertion offset by fragments inserted in front of it
+					if (i < targetNodes.size()-1 && insertionOffset <= lastInsertionOffset)
+						lastInsertionOffset += documentController.getAuthorDocumentNode().getEndOffset() - documentEndOffset;
+				}
+			} catch (AuthorOperationException | RuntimeException e) {
+				// undo all fragments inserted so far
+				documentController.cancelCompoundEdit();
+				throw e;
+			} finally {
+				// end the compound edit
+				documentController.endCompoundEdit();
+			}
+			
+			if (goToNextEditablePosition) {
+				// use the offset at which the fragment has been inserted for the last node in document order
+				try {
+					editorAccess.goToNextEditablePosition(lastInsertionOffset, lastInsertionOffset+1);
+				} catch (BadLocationException e) {
+					throw new AuthorOperationException(e.getMessage());
+				}
+			}
+		} finally {
+			recording.end();
+		}
+	}
+
+	@Override
+	public ArgumentDescriptor[] getArguments() {
+		return arguments;
+	}
+
+	// helper method
+	/**
+	 * Returns the offset at which a fragment should be inserted relative to the specified node
+	 * @param targetNode an AuthorNode
+	 * @param insertPosition one of <code>AuthorConstants.POSITION_BEFORE</code>, <code>AuthorConstants.POSITION_AFTER</code>,
+	 *  <code>AuthorConstants.POSITION_INSIDE_FIRST</code> and <code>AuthorConstants.POSITION_INSIDE_LAST</code>
+	 * @throws IllegalArgumentException if insertPosition is not one of the mentioned values
+	 */
+	protected static int getInsertionOffset(AuthorNode targetNode, String insertPosition) throws IllegalArgumentException {
+		switch (insertPosition) {
+			case AuthorConstants.POSITION_BEFORE:
+				return targetNode.getStartOffset();
+			case AuthorConstants.POSITION_AFTER:
+				return targetNode.getEndOffset() + 1;
+			case AuthorConstants.POSITION_INSIDE_FIRST:
+				return targetNode.getStartOffset() + 1;
+			case AuthorConstants.POSITION_INSIDE_LAST:
+				return targetNode.getEndOffset();
+			default:
+				throw new IllegalArgumentException("Unknown insert position " + insertPosition);
+		}
+	}
+
+}
@@ -10,9 +10,13 @@ package org.adwmainz.da.extensions.askmore.operations;
 
 import org.adwmainz.da.extensions.askmore.exceptions.InputDialogClosedException;
 import org.adwmainz.da.extensions.askmore.models.HashedArgumentsMap;
+import org.adwmainz.da.extensions.askmore.models.OperationPhase;
+import org.adwmainz.da.extensions.askmore.models.OperationRecording;
+import org.adwmainz.da.extensions.askmore.models.PhaseRecording;
 import org.adwmainz.da.extensions.askmore.utils.ArgumentDescriptorUtils;
 import org.adwmainz.da.extensions.askmore.utils.ArgumentParser;
 import org.adwmainz.da.extensions.askmore.utils.AskMoreArgumentProvider;
+import org.adwmainz.da.extensions.askmore.utils.OperationRecorder;
 
 import ro.sync.ecss.extensions.api.ArgumentDescriptor;
 import ro.sync.ecss.extensions.api.ArgumentsMap;
@@ -51,26 +55,36 @@ public class InsertOrReplaceAnnotatedFragmentOperation extends InsertOrReplaceFr
 
 	@Override
 	public void doOperation(AuthorAccess authorAccess, ArgumentsMap args) throws IllegalArgumentException, AuthorOperationException {
-		// get all params using the argument descriptors
-		boolean removeSelection = ArgumentParser.getValidBoolean(args, AskMoreArgumentProvider.ARGUMENT_REMOVE_SELECTION);
-		HashedArgumentsMap parsedArgs = new HashedArgumentsMap(args, ArgumentDescriptorUtils.getArgumentNames(arguments));
-		
+		OperationRecording recording = ArgumentParser.startOperationRecording(getClass(), args, arguments);
 		try {
-			ArgumentParser.replaceAnnotationsWithUserInput(parsedArgs, AskMoreArgumentProvider.ARGUMENT_FRAGMENT);
+			// get all params using the argument descriptors
+			boolean removeSelection = ArgumentParser.getValidBoolean(args, AskMoreArgumentProvider.ARGUMENT_REMOVE_SELECTION);
+			HashedArgumentsMap parsedArgs = new HashedArgumentsMap(args, ArgumentDescriptorUtils.getArgumentNames(arguments));
 			
-			// invoke main operation from super class
-			if (!removeSelection) {
-				// prevent super class from removing all selections per default
-				String insertLocation = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_INSERT_LOCATION, "");
-				if (!insertLocation.isEmpty()) {
-					AuthorEditorAccess editorAccess = authorAccess.getEditorAccess();
-					editorAccess.setCaretPosition(editorAccess.getSelectionStart() + 1);
+			try {
+				ArgumentParser.replaceAnnotationsWithUserInput(authorAccess, parsedArgs, AskMoreArgumentProvider.ARGUMENT_FRAGMENT);
+				
+				// invoke main operation from super class
+				if (!removeSelection) {
+					// prevent super class from removing all selections per default
+					String insertLocation = ArgumentParser.getValidString(args, AskMoreArgumentProvider.ARGUMENT_INSERT_LOCATION, "");
+					if (!insertLocation.isEmpty()) {
+						AuthorEditorAccess editorAccess = authorAccess.getEditorAccess();
+						editorAccess.setCaretPosition(editorAccess.getSelectionStart() + 1);
+					}
+				}
+				PhaseRecording delegation = OperationRecorder.beginPhase(OperationPhase.DELEGATION, getClass(), 0);
+				try {
+					super.doOperation(authorAccess, parsedArgs);
+				} finally {
+					delegation.end();
 				}
+			} catch (InputDialogClosedException e) {
+				// abort action if user closes the dialog
+				throw new IllegalArgumentException(AskMoreArgumentProvider.getClosedDialogMessage());
 			}
-			super.doOperation(authorAccess, parsedArgs);
-		} catch (InputDialogClosedException e) {
-			// abort action if user closes the dialog
-			throw new IllegalArgumentException(AskMoreArgumentProvider.getClosedDialogMessage());
+		} finally {
+			recording.end();
 		}
 	}
 
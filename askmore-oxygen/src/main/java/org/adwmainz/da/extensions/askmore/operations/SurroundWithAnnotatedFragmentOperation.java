@@ -7,22 +7,31 @@
  */
 package org.adwmainz.da.extensions.askmore.operations;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
 import javax.swing.text.BadLocationException;
 
 import org.adwmainz.da.extensions.askmore.exceptions.InputDialogClosedException;
 import org.adwmainz.da.extensions.askmore.models.EditableArgumentDescriptor;
 import org.adwmainz.da.extensions.askmore.models.HashedArgumentsMap;
+import org.adwmainz.da.extensions.askmore.models.OperationPhase;
+import org.adwmainz.da.extensions.askmore.models.OperationRecording;
+import org.adwmainz.da.extensions.askmore.models.PhaseRecording;
 import org.adwmainz.da.extensions.askmore.utils.ArgumentDescriptorUtils;
 import org.adwmainz.da.extensions.askmore.utils.ArgumentParser;
 import org.adwmainz.da.extensions.askmore.utils.AskMoreAnnotationParser;
 import org.adwmainz.da.extensions.askmore.utils.AskMoreArgumentProvider;
 import org.adwmainz.da.extensions.askmore.utils.APIAccessUtils;
+import org.adwmainz.da.extensions.askmore.utils.OperationRecorder;
 
 import ro.sync.ecss.extensions.api.ArgumentDescriptor;
 import ro.sync.ecss.extensions.api.ArgumentsMap;
 import ro.sync.ecss.extensions.api.AuthorAccess;
 import ro.sync.ecss.extensions.api.AuthorDocumentController;
 import ro.sync.ecss.extensions.api.AuthorOperationException;
+import ro.sync.ecss.extensions.api.ContentInterval;
 import ro.sync.ecss.extensions.api.access.AuthorEditorAccess;
 import ro.sync.ecss.extensions.commons.operations.SurroundWithFragmentOperation;
 
@@ -70,51 +79,63 @@ public class SurroundWithAnnotatedFragmentOperation extends SurroundWithFragment
 
 	@Override
 	public void doOperation(AuthorAccess authorAccess, ArgumentsMap args) throws IllegalArgumentException, AuthorOperationException {
-		// get all params using the argument descriptors
-		HashedArgumentsMap parsedArgs = new HashedArgumentsMap(args, ArgumentDescriptorUtils.getArgumentNames(arguments));
-		
-		// configure ARGUMENT_FRAGMENT with an input dialog
-		String parsedFragment;
+		OperationRecording recording = ArgumentParser.startOperationRecording(getClass(), args, arguments);
 		try {
-			parsedFragment = ArgumentParser.getValidStringWithUserInput(args, AskMoreArgumentProvider.ARGUMENT_FRAGMENT);
-		} catch (InputDialogClosedException e) {
-			// abort action if user closes the dialog
-			throw new IllegalArgumentException(AskMoreArgumentProvider.getClosedDialogMessage());
-		}
-		
-		// get document controller and editor access
-		AuthorDocumentController documentController = authorAccess.getDocumentController();
-		AuthorEditorAccess editorAccess = authorAccess.getEditorAccess();
-		
-		// check if a custom destination should be used
-		if (parsedFragment.contains(destinationAnnotation)) {
-			// begin a compound edit
-			documentController.beginCompoundEdit();
+			// get all params using the argument descriptors
+			HashedArgumentsMap parsedArgs = new HashedArgumentsMap(args, ArgumentDescriptorUtils.getArgumentNames(arguments));
+			
+			// configure ARGUMENT_FRAGMENT with an input dialog
+			String parsedFragment;
 			try {
-				// add selection to fragment
-				String selection = APIAccessUtils.getSelection(editorAccess, documentController);
-				parsedFragment = parsedFragment.replace(destinationAnnotation, selection);
-				
-				// delete selection but remember offset
-				int startOffset = editorAccess.getSelectionStart();
-				editorAccess.deleteSelection();
-				
-				// insert fragment
-				if (ArgumentParser.getValidBoolean(args, AskMoreArgumentProvider.ARGUMENT_SCHEMA_AWARE))
-					documentController.insertXMLFragment(parsedFragment, startOffset);
-				else
-					documentController.insertXMLFragmentSchemaAware(parsedFragment, startOffset);
-			} catch (BadLocationException e) {
-				// throw exception if the selection is invalid
-				throw new AuthorOperationException(e.getMessage());
-			} finally {
-				// end the compound edit
-				documentController.endCompoundEdit();
+				parsedFragment = ArgumentParser.getValidStringWithUserInput(authorAccess, args, AskMoreArgumentProvider.ARGUMENT_FRAGMENT);
+			} catch (InputDialogClosedException e) {
+				// abort action if user closes the dialog
+				throw new IllegalArgumentException(AskMoreArgumentProvider.getClosedDialogMessage());
+			}
+			
+			// get document controller and editor access
+			AuthorDocumentController documentController = authorAccess.getDocumentController();
+			AuthorEditorAccess editorAccess = authorAccess.getEditorAccess();
+			
+			// check if a custom destination should be used
+			if (parsedFragment.contains(destinationAnnotation)) {
+				// begin a compound edit
+				documentController.beginCompoundEdit();
+				try {
+					// add all selection intervals to fragment (without the unselected content in between)
+					List<ContentInterval> selectionIntervals = APIAccessUtils.getSelectionIntervals(editorAccess);
+					StringWriter selection = new StringWriter();
+					APIAccessUtils.writeSelection(documentController, selectionIntervals, selection);
+					parsedFragment = parsedFragment.replace(destinationAnnotation, selection.toString());
+					
+					// delete selection but remember offset
+					int startOffset = selectionIntervals.get(0).getStartOffset();
+					editorAccess.deleteSelection();
+					
+					// insert fragment
+					if (ArgumentParser.getValidBoolean(args, AskMoreArgumentProvider.ARGUMENT_SCHEMA_AWARE))
+						documentController.insertXMLFragment(parsedFragment, startOffset);
+					else
+						documentController.insertXMLFragmentSchemaAware(parsedFragment, startOffset);
+				} catch (BadLocationException | IOException e) {
+					// throw exception if the selection is invalid
+					throw new AuthorOperationException(e.getMessage());
+				} finally {
+					// end the compound edit
+					documentController.endCompoundEdit();
+				}
+			} else {
+				// invoke main operation from super class
+				parsedArgs.put(AskMoreArgumentProvider.ARGUMENT_FRAGMENT, parsedFragment);
+				PhaseRecording delegation = OperationRecorder.beginPhase(OperationPhase.DELEGATION, getClass(), 0);
+				try {
+					super.doOperation(authorAccess, parsedArgs);
+				} finally {
+					delegation.end();
+				}
 			}
-		} else {
-			// invoke main operation from super class
-			parsedArgs.put(AskMoreArgumentProvider.ARGUMENT_FRAGMENT, parsedFragment);
-			super.doOperation(authorAccess, parsedArgs);
+		} finally {
+			recording.end();
 		}
 	}
 
@@ -0,0 +1,324 @@
+/**
+ * APIAccessUtils.java - is a helper class providing methods related to the main Oxygen API as used within the AskMoreXtension developed at the Digital Academy
+ *  of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.text.BadLocationException;
+
+import org.adwmainz.da.extensions.askmore.models.OperationPhase;
+import org.adwmainz.da.extensions.askmore.models.PhaseRecording;
+import org.adwmainz.da.extensions.askmore.models.SelectionIntervalIndex;
+
+import ro.sync.document.DocumentPositionedInfo;
+import ro.sync.ecss.dom.wrappers.AuthorNodeDomWrapper;
+import ro.sync.ecss.extensions.api.AuthorDocumentController;
+import ro.sync.ecss.extensions.api.AuthorOperationException;
+import ro.sync.ecss.extensions.api.ContentInterval;
+import ro.sync.ecss.extensions.api.access.AuthorEditorAccess;
+import ro.sync.ecss.extensions.api.node.AuthorNode;
+
+public class APIAccessUtils {
+
+	/**
+	 * Returns the name of the file opened in the AuthorMode
+	 * @param systemID the systemID of the AuthorDocumentNode
+	 * @throws MalformedURLException
+	 * @throws URISyntaxException
+	 * @deprecated use new File(systemID).getName()
+	 */
+	public static String getFileName(String systemID) throws MalformedURLException, URISyntaxException {
+		File file = new File(new URL(systemID).toURI());
+		return file.getName();
+	}
+
+	/**
+	 * Returns a serialized form of the current selection in the AuthorMode
+	 * <br>(Unselected content between multiple selection intervals is omitted.)
+	 * @param editorAccess the current AuthorEditorAccess
+	 * @param documentController the current AuthorDocumentController
+	 * @throws BadLocationException
+	 */
+	public static String getSelection(AuthorEditorAccess editorAccess, AuthorDocumentController documentController) throws BadLocationException {
+		StringWriter output = new StringWriter();
+		try {
+			writeSelection(documentController, getSelectionIntervals(editorAccess), output);
+		} catch (IOException e) {
+			// cannot occur since a StringWriter is used
+			throw new IllegalStateException(e);
+		}
+		return output.toString();
+	}
+
+	/**
+	 * Returns the selection intervals of the AuthorMode in document order while merging overlapping and adjacent intervals
+	 * <br>(If the selection model does not contain any interval the range between selection start and selection end is returned.)
+	 * @param editorAccess the current AuthorEditorAccess
+	 */
+	public static List<ContentInterval> getSelectionIntervals(AuthorEditorAccess editorAccess) {
+		List<ContentInterval> selectionIntervals = new SelectionIntervalIndex(editorAccess.getAuthorSelectionModel().getSelectionIntervals())
+				.getMergedIntervals();
+		if (selectionIntervals.isEmpty())
+			selectionIntervals.add(new ContentInterval(editorAccess.getSelectionStart(), editorAccess.getSelectionEnd()));
+		return selectionIntervals;
+	}
+
+	/**
+	 * Writes the serializations of the specified selection intervals one after another (serializing each interval exactly once)
+	 * @param documentController the current AuthorDocumentController
+	 * @param selectionIntervals selection intervals (with exclusive end offsets) in document order that neither overlap nor adjoin each other
+	 * @param output the Writer the serializations should be written to
+	 * @throws BadLocationException if an interval cannot be serialized
+	 * @throws IOException if the serializations cannot be written
+	 */
+	public static void writeSelection(AuthorDocumentController documentController, List<ContentInterval> selectionIntervals, Writer output)
+			throws BadLocationException, IOException {
+		long selectedChars = 0;
+		for (ContentInterval interval: selectionIntervals)
+			selectedChars += interval.getEndOffset() - interval.getStartOffset();
+
+		PhaseRecording serialization = OperationRecorder.beginPhase(OperationPhase.SERIALIZATION, APIAccessUtils.class, selectedChars);
+		try {
+			for (ContentInterval interval: selectionIntervals)
+				if (interval.getEndOffset() > interval.getStartOffset())
+					output.write(SerializationCache.getSerialization(documentController, interval.getStartOffset(), interval.getEndOffset() - 1));
+			serialization.setResultCount(selectionIntervals.size());
+		} finally {
+			serialization.end();
+		}
+	}
+
+	/**
+	 * Checks if the specified ContentInterval contains the specified target node or not
+	 * @param targetNode an AuthorNode
+	 * @param interval a ContentInterval
+	 * @return <code>true</code> if the ContentInterval contains the target node
+	 */
+	public static boolean containsNode(ContentInterval interval, AuthorNode targetNode) {
+		if (interval.getStartOffset() >= targetNode.getEndOffset())
+			return false;
+		if (interval.getEndOffset() <= targetNode.getStartOffset())
+			return false;
+		return true;
+	}
+
+	/**
+	 * Returns the nodes matching an XPath expression that are (partially) selected without evaluating the expression for the whole document if possible
+	 * <br>(Expressions like <code>//NAME[@ATTR]</code> are only evaluated for the ancestors and descendants of the common parent node of the selection
+	 *  while any other expression is evaluated for the whole document, c.f. <code>XMLUtils.getSubtreeScopedXPath()</code>.)
+	 * @param documentController the current AuthorDocumentController
+	 * @param xPathExpression an XPath expression
+	 * @param selectionIndex the index of the current selection intervals
+	 * @return the selected nodes in document order without duplicates
+	 * @throws AuthorOperationException if the xPathExpression is invalid
+	 */
+	public static List<AuthorNode> findSelectedNodesByXPath(AuthorDocumentController documentController, String xPathExpression,
+			SelectionIntervalIndex selectionIndex) throws AuthorOperationException {
+		if (selectionIndex.isEmpty())
+			return new ArrayList<>();
+
+		PhaseRecording xPath = OperationRecorder.beginPhase(OperationPhase.XPATH, APIAccessUtils.class, xPathExpression.length());
+		long startNanos = System.nanoTime();
+		try {
+			List<AuthorNode> selectedNodes = findSelectedNodes(documentController, xPathExpression, selectionIndex);
+			xPath.setResultCount(selectedNodes.size());
+			return selectedNodes;
+		} finally {
+			AskMoreMetrics.recordXPath(xPathExpression, System.nanoTime() - startNanos);
+			xPath.end();
+		}
+	}
+
+	protected static List<AuthorNode> findSelectedNodes(AuthorDocumentController documentController, String xPathExpression,
+			SelectionIntervalIndex selectionIndex) throws AuthorOperationException {
+		String scopedXPathExpression = XMLUtils.getSubtreeScopedXPath(xPathExpression);
+		if (scopedXPathExpression != null) {
+			try {
+				AuthorNode commonParentNode = documentController.getCommonParentNode(documentController.getAuthorDocumentNode(),
+						selectionIndex.getStartOffset(), selectionIndex.getEndOffset());
+				if (commonParentNode != null) {
+					AuthorNode[] targetNodes = documentController.findNodesByXPath(scopedXPathExpression, commonParentNode, false/*include text nodes*/,
+							true, true, true);
+					return selectionIndex.filterSelectedNodes(targetNodes);
+				}
+			} catch (BadLocationException e) {
+				// fall back to an evaluation for the whole document
+			}
+		}
+		AuthorNode[] targetNodes = documentController.findNodesByXPath(xPathExpression, false/*include text nodes*/, true, true);
+		return selectionIndex.filterSelectedNodes(targetNodes);
+	}
+
+	/**
+	 * Returns an array of all supported severity names
+	 */
+	public static String[] getSeverityNames() {
+		return new String[] {"Info", "Warning", "Error", "Fatal"};
+	}
+
+	/**
+	 * Returns the int representation of the specified severity
+	 * @param severityName the name of a severity
+	 *  <br>The allowed values are: <code>Info</code>, <code>Warning</code>, <code>Error</code> and <code>Fatal</code>
+	 * @throws IllegalArgumentException if <code>severityName</code> is not one of the mentioned values
+	 */
+	public static int getSeverity(String severityName) throws IllegalArgumentException {
+		switch (severityName) {
+			case "Info":
+				return DocumentPositionedInfo.SEVERITY_INFO;
+			case "Warning":
+				return DocumentPositionedInfo.SEVERITY_WARN;
+			case "Error":
+				return DocumentPositionedInfo.SEVERITY_ERROR;
+			case "Fatal":
+				return DocumentPositionedInfo.SEVERITY_FATAL;
+			default:
+				throw new IllegalArgumentException("Unknown severity "+severityName);
+		}
+	}
+
+	/**
+	 * Returns a serialized form of XPath results (i.e. serialized XML if the result type is <code>node()</code> and plain text otherwise)
+	 * @param documentController the current AuthorDocumentController
+	 * @param xPathExpression an XPath expression
+	 * @throws AuthorOperationException if the xPathExpression is invalid or the results cannot be serialized
+	 */
+	public static List<String> getSerializedXPathResults(AuthorDocumentController documentController, String xPathExpression)
+			throws AuthorOperationException {
+		Object[] rawResults = evaluateXPath(documentController, xPathExpression, false, false, false);
+		return serializeXPathResults(documentController, rawResults);
+	}
+
+	/**
+	 * Returns a serialized form of XPath results (i.e. serialized XML if the result type is <code>node()</code> and plain text otherwise) relative to a given context node
+	 * @param documentController the current AuthorDocumentController
+	 * @param contextNode  the context node to be used to evaluate the XPath expression
+	 * @param xPathExpression an XPath expression
+	 * @throws AuthorOperationException if the xPathExpression is invalid or the results cannot be serialized
+	 */
+	public static List<String> getSerializedXPathResults(AuthorDocumentController documentController, AuthorNode contextNode, String xPathExpression)
+			throws AuthorOperationException {
+		Object[] rawResults = evaluateXPath(documentController, xPathExpression, contextNode, false, false, false, true);
+		return serializeXPathResults(documentController, rawResults);
+	}
+
+	/**
+	 * Returns a serialized form of the first XPath result (i.e. serialized XML if the result type is <code>node()</code> and plain text otherwise) relative to
+	 *  a given context node
+	 * <br>(The evaluation is restricted to the first item and no other result is serialized.)
+	 * @param documentController the current AuthorDocumentController
+	 * @param contextNode  the context node to be used to evaluate the XPath expression
+	 * @param xPathExpression an XPath expression
+	 * @return the serialized first result or <code>null</code> if there is no result
+	 * @throws AuthorOperationException if the xPathExpression is invalid or the result cannot be serialized
+	 */
+	public static String getFirstSerializedXPathResult(AuthorDocumentController documentController, AuthorNode contextNode, String xPathExpression)
+			throws AuthorOperationException {
+		Object[] rawResults = evaluateXPath(documentController, "(" + xPathExpression + ")[1]", contextNode, false, false, false, true);
+		if (rawResults.length == 0)
+			return null;
+		return serializeXPathResult(documentController, rawResults[0]);
+	}
+
+	/**
+	 * Evaluates an XPath expression for the whole document (c.f. <code>AuthorDocumentController.evaluateXPath()</code>)
+	 * <br>(Is recorded as OperationPhase.XPATH and reported to AskMoreMetrics.)
+	 * @param documentController the current AuthorDocumentController
+	 * @param xPathExpression an XPath expression
+	 * @param ignoreTexts specifies whether text nodes should be ignored
+	 * @param ignoreCData specifies whether CDATA nodes should be ignored
+	 * @param ignoreComments specifies whether comments should be ignored
+	 * @throws AuthorOperationException if the xPathExpression is invalid
+	 */
+	public static Object[] evaluateXPath(AuthorDocumentController documentController, String xPathExpression, boolean ignoreTexts, boolean ignoreCData,
+			boolean ignoreComments) throws AuthorOperationException {
+		PhaseRecording xPath = OperationRecorder.beginPhase(OperationPhase.XPATH, APIAccessUtils.class, xPathExpression.length());
+		long startNanos = System.nanoTime();
+		try {
+			Object[] rawResults = documentController.evaluateXPath(xPathExpression, ignoreTexts, ignoreCData, ignoreComments);
+			xPath.setResultCount(rawResults.length);
+			return rawResults;
+		} finally {
+			AskMoreMetrics.recordXPath(xPathExpression, System.nanoTime() - startNanos);
+			xPath.end();
+		}
+	}
+
+	/**
+	 * Evaluates an XPath expression relative to a context node (c.f. <code>AuthorDocumentController.evaluateXPath()</code>)
+	 * <br>(Is recorded as OperationPhase.XPATH and reported to AskMoreMetrics.)
+	 * @param documentController the current AuthorDocumentController
+	 * @param xPathExpression an XPath expression
+	 * @param contextNode the context node to be used to evaluate the XPath expression
+	 * @param ignoreTexts specifies whether text nodes should be ignored
+	 * @param ignoreCData specifies whether CDATA nodes should be ignored
+	 * @param ignoreComments specifies whether comments should be ignored
+	 * @param processChangeMarkers specifies whether tracked changes should be processed
+	 * @throws AuthorOperationException if the xPathExpression is invalid
+	 */
+	public static Object[] evaluateXPath(AuthorDocumentController documentController, String xPathExpression, AuthorNode contextNode, boolean ignoreTexts,
+			boolean ignoreCData, boolean ignoreComments, boolean processChangeMarkers) throws AuthorOperationException {
+		PhaseRecording xPath = OperationRecorder.beginPhase(OperationPhase.XPATH, APIAccessUtils.class, xPathExpression.length());
+		long startNanos = System.nanoTime();
+		try {
+			Object[] rawResults = documentController.evaluateXPath(xPathExpression, contextNode, ignoreTexts, ignoreCData, ignoreComments,
+					processChangeMarkers);
+			xPath.setResultCount(rawResults.length);
+			return rawResults;
+		} finally {
+			AskMoreMetrics.recordXPath(xPathExpression, System.nanoTime() - startNanos);
+			xPath.end();
+		}
+	}
+
+	protected static List<String> serializeXPathResults(AuthorDocumentController documentController, Object[] rawResults)
+			throws AuthorOperationException {
+		List<String> results = new ArrayList<>(rawResults.length);
+		for (Object rawResult: rawResults)
+			results.add(serializeXPathResult(documentController, rawResult));
+		return results;
+	}
+
+	protected static String serializeXPathResult(AuthorDocumentController documentController, Object rawResult)
+			throws AuthorOperationException {
+		if (rawResult instanceof AuthorNodeDomWrapper) {
+			// handle nodes
+			AuthorNode targetNode = ((AuthorNodeDomWrapper) rawResult).getWrappedAuthorNode();
+			return serializeAuthorNode(documentController, targetNode);
+		}
+		// handle integers, booleans, strings etc.
+		return rawResult.toString();
+	}
+
+	/**
+	 * Serializes a given AuthorNode
+	 * <br>(The serialization is cached until the document is edited and is recorded as OperationPhase.SERIALIZATION.)
+	 * @param documentController the current AuthorDocumentController
+	 * @param targetNode an AuthorNode
+	 * @throws AuthorOperationException if targetNode cannot be serialized
+	 */
+	public static String serializeAuthorNode(AuthorDocumentController documentController, AuthorNode targetNode) throws AuthorOperationException {
+		PhaseRecording serialization = OperationRecorder.beginPhase(OperationPhase.SERIALIZATION, APIAccessUtils.class,
+				targetNode.getEndOffset() - targetNode.getStartOffset());
+		try {
+			return SerializationCache.getSerialization(documentController, targetNode);
+		} catch (BadLocationException ex) {
+			throw new AuthorOperationException("Cannot serialize the given node!", ex);
+		} finally {
+			serialization.end();
+		}
+	}
+
+}
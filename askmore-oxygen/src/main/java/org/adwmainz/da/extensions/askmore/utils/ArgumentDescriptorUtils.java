@@ -123,6 +123,18 @@ public class ArgumentDescriptorUtils {
 		return arguments;
 	}
 	
+	/**
+	 * Appends ArgumentDescriptors to an array of ArgumentDescriptors
+	 * @param arguments an array of ArgumentDescriptors
+	 * @param additionalArguments the ArgumentDescriptors to be appended
+	 * @return a new array containing all ArgumentDescriptors
+	 */
+	public static ArgumentDescriptor[] appendArguments(ArgumentDescriptor[] arguments, ArgumentDescriptor... additionalArguments) {
+		ArgumentDescriptor[] allArguments = Arrays.copyOf(arguments, arguments.length + additionalArguments.length);
+		System.arraycopy(additionalArguments, 0, allArguments, arguments.length, additionalArguments.length);
+		return allArguments;
+	}
+	
 	/**
 	 * Adds the description of how to use AskMoreAnnotations to the given argument
 	 * @param argument the ArgumentDescriptor that should be updated
@@ -0,0 +1,425 @@
+/**
+ * ArgumentParser.java - is a helper class that validates arguments of an ro.sync.ecss.extensions.api.AuthorOperation as used within the AskMoreXtension
+ *  developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.0.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+import org.adwmainz.da.extensions.askmore.exceptions.InputDialogClosedException;
+import org.adwmainz.da.extensions.askmore.models.AskMoreTemplate;
+import org.adwmainz.da.extensions.askmore.models.HashedArgumentsMap;
+import org.adwmainz.da.extensions.askmore.models.OperationRecording;
+import org.adwmainz.da.extensions.askmore.models.OptionSourceResolver;
+import org.adwmainz.da.extensions.askmore.models.ParameterizedScript;
+
+import ro.sync.ecss.extensions.api.ArgumentDescriptor;
+import ro.sync.ecss.extensions.api.ArgumentsMap;
+import ro.sync.ecss.extensions.api.AuthorAccess;
+import ro.sync.ecss.extensions.api.AuthorConstants;
+import ro.sync.exml.workspace.api.util.XMLUtilAccess;
+
+public class ArgumentParser {
+
+	/**
+	 * Returns a valid String argument value of an AuthorOperation
+	 * @param args the ArgumentMap of the operation
+	 * @param argumentName the name of the argument
+	 * @throws IllegalArgumentException if the given argument is empty or otherwise invalid
+	 */
+	public static String getValidString(ArgumentsMap args, String argumentName) throws IllegalArgumentException {
+		Object argValue = args.getArgumentValue(argumentName);
+		if (!(argValue instanceof String))
+			throw new IllegalArgumentException("'" + argumentName + "' is not specified as a parameter or invalid.");
+		
+		String argValueAsString = argValue.toString();
+		if (argValueAsString.isEmpty())
+			throw new IllegalArgumentException("'" + argumentName + "' is not specified as a parameter or invalid.");
+		return argValueAsString;
+	}
+	
+	/**
+	 * Returns a valid String argument value of an AuthorOperation using a default value
+	 * @param args the ArgumentMap of the operation
+	 * @param argumentName the name of the argument
+	 * @param defaultValue the value to be returned if the specified argument is empty or otherwise invalid
+	 */
+	public static String getValidString(ArgumentsMap args, String argumentName, String defaultValue) {
+		try {
+			return getValidString(args, argumentName);
+		} catch (IllegalArgumentException e) {
+			return defaultValue;
+		}
+	}
+	
+	/**
+	 * Returns a valid String argument value of an AuthorOperation by replacing AskMoreAnnotations with user input
+	 * @param args the ArgumentMap of the operation
+	 * @param argumentName the name of the argument
+	 * @throws IllegalArgumentException if the given argument is empty or otherwise invalid
+	 * @throws InputDialogClosedException if the input dialog is closed
+	 */
+	public static String getValidStringWithUserInput(ArgumentsMap args, String argumentName) throws IllegalArgumentException, InputDialogClosedException {
+		String argValue = getValidString(args, argumentName);
+		return replaceAnnotationsWithUserInput(argValue);
+	}
+	
+	/**
+	 * Returns a valid String argument value of an AuthorOperation using a default value by replacing AskMoreAnnotations with user input
+	 * @param args the ArgumentMap of the operation
+	 * @param argumentName the name of the argument
+	 * @param defaultValue the value to be returned if the specified argument is empty or otherwise invalid
+	 * @throws InputDialogClosedException if the input dialog is closed
+	 */
+	public static String getValidStringWithUserInput(ArgumentsMap args, String argumentName, String defaultValue) throws InputDialogClosedException {
+		String argValue = getValidString(args, argumentName, defaultValue);
+		return replaceAnnotationsWithUserInput(argValue);
+	}
+
+	/**
+	 * Returns a valid String argument value of an AuthorOperation by replacing AskMoreAnnotations with user input whose option sources are evaluated on the
+	 *  current document
+	 * @param authorAccess the AuthorAccess of the operation
+	 * @param args the ArgumentMap of the operation
+	 * @param argumentName the name of the argument
+	 * @throws IllegalArgumentException if the given argument is empty or otherwise invalid
+	 * @throws InputDialogClosedException if the input dialog is closed
+	 */
+	public static String getValidStringWithUserInput(AuthorAccess authorAccess, ArgumentsMap args, String argumentName)
+			throws IllegalArgumentException, InputDialogClosedException {
+		String argValue = getValidString(args, argumentName);
+		return replaceAnnotationsWithUserInput(argValue, new DocumentOptionSourceResolver(authorAccess));
+	}
+	
+	/**
+	 * Returns a valid String argument value of an AuthorOperation using a default value by replacing AskMoreAnnotations with user input whose option sources
+	 *  are evaluated on the current document
+	 * @param authorAccess the AuthorAccess of the operation
+	 * @param args the ArgumentMap of the operation
+	 * @param argumentName the name of the argument
+	 * @param defaultValue the value to be returned if the specified argument is empty or otherwise invalid
+	 * @throws InputDialogClosedException if the input dialog is closed
+	 */
+	public static String getValidStringWithUserInput(AuthorAccess authorAccess, ArgumentsMap args, String argumentName, String defaultValue)
+			throws InputDialogClosedException {
+		String argValue = getValidString(args, argumentName, defaultValue);
+		return replaceAnnotationsWithUserInput(argValue, new DocumentOptionSourceResolver(authorAccess));
+	}
+
+	/**
+	 * Replaces AskMoreAnnotations in an argument value with user input fetched from the registered UserInputProvider
+	 * @param argValue an argument value that may contain AskMoreAnnotations
+	 * @throws InputDialogClosedException if the input dialog is closed
+	 */
+	protected static String replaceAnnotationsWithUserInput(String argValue) throws InputDialogClosedException {
+		return replaceAnnotationsWithUserInput(argValue, null);
+	}
+
+	/**
+	 * Replaces AskMoreAnnotations in an argument value with user input fetched from the registered UserInputProvider
+	 * @param argValue an argument value that may contain AskMoreAnnotations
+	 * @param optionSourceResolver the OptionSourceResolver that should evaluate option sources (may be <code>null</code>)
+	 * @throws InputDialogClosedException if the input dialog is closed
+	 */
+	protected static String replaceAnnotationsWithUserInput(String argValue, OptionSourceResolver optionSourceResolver) throws InputDialogClosedException {
+		// load localized data
+		ResourceBundle rb = ResourceBundle.getBundle("org.adwmainz.da.extensions.askmore.resources.ArgumentTextBundle");
+		String dialogTitle = rb.getString("CONFIGURE_PARAMS");
+		
+		return AskMoreAnnotationParser.replaceAnnotationsWithUserInput(argValue, dialogTitle, UserInputProviders.getProvider(), optionSourceResolver);
+	}
+
+	/**
+	 * Returns a valid int argument value of an AuthorOperation
+	 * @param args the ArgumentMap of the operation
+	 * @param argumentName the name of the argument
+	 * @throws IllegalArgumentException if the given argument is empty or otherwise invalid
+	 */
+	public static int getValidInt(ArgumentsMap args, String argumentName) throws IllegalArgumentException {
+		String argValue = getValidString(args, argumentName);
+		try {
+			return Integer.parseInt(argValue);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+	
+	/**
+	 * Returns a valid int argument value of an AuthorOperation using a default value
+	 * @param args the ArgumentMap of the operation
+	 * @param argumentName the name of the argument
+	 * @param defaultValue the value to be returned if the specified argument is empty or otherwise invalid
+	 */
+	public static int getValidInt(ArgumentsMap args, String argumentName, int defaultValue) {
+		try {
+			return getValidInt(args, argumentName);
+		} catch (IllegalArgumentException e) {
+			return defaultValue;
+		}
+	}
+	
+	/**
+	 * Returns a valid boolean argument value of an AuthorOperation as defined by <code>AuthorConstants.ARG_VALUE_TRUE</code> and
+	 *  <code>AuthorConstants.ARG_VALUE_FALSE</code>
+	 * @param args the ArgumentMap of the operation
+	 * @param argumentName the name of the argument
+	 * @throws IllegalArgumentException if the given argument is empty or otherwise invalid
+	 */
+	public static boolean getValidBoolean(ArgumentsMap args, String argumentName) throws IllegalArgumentException {
+		String argValue = getValidString(args, argumentName);
+		if (argValue.equals(AuthorConstants.ARG_VALUE_TRUE))
+			return true;
+		if (argValue.equals(AuthorConstants.ARG_VALUE_FALSE))
+			return false;
+		throw new IllegalArgumentException("'" + argumentName + "' is not specified as a parameter or invalid.");
+	}
+	
+	/**
+	 * Returns a valid boolean argument value of an AuthorOperation as defined by <code>AuthorConstants.ARG_VALUE_TRUE</code> and
+	 *  <code>AuthorConstants.ARG_VALUE_FALSE</code> with a default value
+	 * @param args the ArgumentMap of the operation
+	 * @param argumentName the name of the argument
+	 * @param defaultValue the value to be returned if the specified argument is empty or otherwise invalid
+	 */
+	public static boolean getValidBoolean(ArgumentsMap args, String argumentName, boolean defaultValue) {
+		try {
+			return getValidBoolean(args, argumentName);
+		} catch (IllegalArgumentException e) {
+			return defaultValue;
+		}
+	}
+	
+	/**
+	 * Returns the transformer type of <code>ro.sync.exml.workspace.api.util.XMLUtilAccess</code> of a processor argument value of an AuthorOperation as
+	 *  defined by the processor names of AskMoreArgumentProvider (using Saxon-EE if the argument is empty or otherwise invalid)
+	 * @param args the ArgumentMap of the operation
+	 * @param argumentName the name of the argument
+	 */
+	public static int getValidTransformerType(ArgumentsMap args, String argumentName) {
+		String argValue = getValidString(args, argumentName, AskMoreArgumentProvider.PROCESSOR_SAXON_EE);
+		if (argValue.equals(AskMoreArgumentProvider.PROCESSOR_SAXON_HE))
+			return XMLUtilAccess.TRANSFORMER_SAXON_HOME_EDITION;
+		if (argValue.equals(AskMoreArgumentProvider.PROCESSOR_SAXON_PE))
+			return XMLUtilAccess.TRANSFORMER_SAXON_PROFESSIONAL_EDITION;
+		return XMLUtilAccess.TRANSFORMER_SAXON_ENTERPRISE_EDITION;
+	}
+	
+	/**
+	 * Returns a valid List argument value of an AuthorOperation
+	 * @param args the ArgumentMap of the operation
+	 * @param argumentName the name of the argument
+	 * @param delimiter the delimiter used to separate each argument value in the list
+	 * @throws IllegalArgumentException if the given argument is empty or otherwise invalid
+	 */
+	public static List<String> getValidList(ArgumentsMap args, String argumentName, String delimiter) 
+			throws IllegalArgumentException {
+		List<String> list = new ArrayList<>();
+		for (String argValue: getValidString(args, argumentName).split(delimiter))
+			list.add(argValue);
+		return list;
+	}
+	
+	/**
+	 * Returns a valid List argument value of an AuthorOperation that is separated by new lines
+	 * @param args the ArgumentMap of the operation
+	 * @param argumentName the name of the argument
+	 * @throws IllegalArgumentException if the given argument is empty or otherwise invalid
+	 */
+	public static List<String> getValidList(ArgumentsMap args, String argumentName) 
+			throws IllegalArgumentException {
+		return getValidList(args, argumentName, "\n");
+	}
+
+	/**
+	 * Returns a Map of two List argument values of an AuthorOperation that act as key value pairs
+	 * @param args the ArgumentMap of the operation
+	 * @param keyArgumentName the name of the list argument providing the keys
+	 * @param valueArgumentName the name of the list argument providing the values
+	 * @param delimiter the delimiter used to separate each argument value in the list
+	 * @throws IllegalArgumentException if the given argument is empty or otherwise invalid
+	 */
+	public static Map<String,String> getValidMap(ArgumentsMap args, String keyArgumentName, String valueArgumentName, String delimiter) 
+			throws IllegalArgumentException {
+		List<String> keys = getValidList(args, keyArgumentName, delimiter);
+		List<String> values = getValidList(args, valueArgumentName, delimiter);
+		if (keys.size() != values.size())
+			throw new IllegalArgumentException("The number of '"+keyArgumentName+"' params must match the number of '"+valueArgumentName+"' params");
+		
+		Map<String, String> map = new LinkedHashMap<>();
+		for (int i=0; i<keys.size(); ++i)
+			map.put(keys.get(i), values.get(i));
+		return map;
+	}
+	
+	/**
+	 * Returns a Map of two List argument values of an AuthorOperation that act as key value pairs and are both separated by new lines
+	 * @param args the ArgumentMap of the operation
+	 * @param keyArgumentName the name of the list argument providing the keys
+	 * @param valueArgumentName the name of the list argument providing the values
+	 * @throws IllegalArgumentException if the given argument is empty or otherwise invalid
+	 */
+	public static Map<String,String> validateMappedArgs(ArgumentsMap args, String keyArgumentName, String valueArgumentName) throws IllegalArgumentException {
+		return getValidMap(args, keyArgumentName, valueArgumentName, "\n");
+	}
+
+	/**
+	 * Returns a Map of script params from an argument value of an AuthorOperation that contains comma separated <code>name=value</code> pairs
+	 * @param args the ArgumentMap of the operation
+	 * @param argumentName the name of the argument
+	 * @return the params in the order of the argument value (or an empty Map if the argument is empty)
+	 * @throws IllegalArgumentException if a pair does not contain a name
+	 */
+	public static Map<String,String> getValidParams(ArgumentsMap args, String argumentName) throws IllegalArgumentException {
+		Map<String, String> params = new LinkedHashMap<>();
+		String argValue = getValidString(args, argumentName, "");
+		if (argValue.trim().isEmpty())
+			return params;
+		for (String pair: argValue.split(",")) {
+			int separatorIndex = pair.indexOf('=');
+			String name = (separatorIndex < 0) ? pair.trim() : pair.substring(0, separatorIndex).trim();
+			if (name.isEmpty())
+				throw new IllegalArgumentException("The param '"+argumentName+"' contains a value without a name: "+pair);
+			params.put(name, (separatorIndex < 0) ? "" : pair.substring(separatorIndex + 1).trim());
+		}
+		return params;
+	}
+
+	/**
+	 * Updates a HashedArgumentsMap by replacing AskMoreAnnotations within a specified argument with user input
+	 * @param args a HashedArgumentsMap
+	 * @param argumentName the name of the argument
+	 * @throws IllegalArgumentException if the given argument is empty or otherwise invalid
+	 * @throws InputDialogClosedException if the input dialog is closed
+	 */
+	public static void replaceAnnotationsWithUserInput(HashedArgumentsMap args, String argumentName) throws IllegalArgumentException, InputDialogClosedException {
+		String parsedArgValue = getValidStringWithUserInput(args, argumentName);
+		args.put(argumentName, parsedArgValue);
+	}
+	
+	/**
+	 * Updates a HashedArgumentsMap by replacing AskMoreAnnotations within a specified argument with user input using a default value
+	 * @param args a HashedArgumentsMap
+	 * @param argumentName the name of the argument
+	 * @param defaultValue the value to be returned if the specified argument is empty or otherwise invalid
+	 * @throws InputDialogClosedException if the input dialog is closed
+	 */
+	public static void replaceAnnotationsWithUserInput(HashedArgumentsMap args, String argumentName, String defaultValue) throws InputDialogClosedException {
+		String parsedArgValue = getValidStringWithUserInput(args, argumentName, defaultValue);
+		args.put(argumentName, parsedArgValue);
+	}
+	
+	/**
+	 * Updates a HashedArgumentsMap by replacing AskMoreAnnotations within a specified argument with user input whose option sources are evaluated on the
+	 *  current document
+	 * @param authorAccess the AuthorAccess of the operation
+	 * @param args a HashedArgumentsMap
+	 * @param argumentName the name of the argument
+	 * @throws IllegalArgumentException if the given argument is empty or otherwise invalid
+	 * @throws InputDialogClosedException if the input dialog is closed
+	 */
+	public static void replaceAnnotationsWithUserInput(AuthorAccess authorAccess, HashedArgumentsMap args, String argumentName)
+			throws IllegalArgumentException, InputDialogClosedException {
+		String parsedArgValue = getValidStringWithUserInput(authorAccess, args, argumentName);
+		args.put(argumentName, parsedArgValue);
+	}
+	
+	/**
+	 * Updates a HashedArgumentsMap by replacing AskMoreAnnotations within a specified argument with user input whose option sources are evaluated on the
+	 *  current document using a default value
+	 * @param authorAccess the AuthorAccess of the operation
+	 * @param args a HashedArgumentsMap
+	 * @param argumentName the name of the argument
+	 * @param defaultValue the value to be returned if the specified argument is empty or otherwise invalid
+	 * @throws InputDialogClosedException if the input dialog is closed
+	 */
+	public static void replaceAnnotationsWithUserInput(AuthorAccess authorAccess, HashedArgumentsMap args, String argumentName, String defaultValue)
+			throws InputDialogClosedException {
+		String parsedArgValue = getValidStringWithUserInput(authorAccess, args, argumentName, defaultValue);
+		args.put(argumentName, parsedArgValue);
+	}
+	
+	/**
+	 * Returns the values of the params of a ParameterizedScript by fetching user input for its AskMoreAnnotations whose option sources are evaluated on the
+	 *  current document
+	 * @param authorAccess the AuthorAccess of the operation
+	 * @param script a ParameterizedScript
+	 * @return the values keyed by the names of the external params
+	 * @throws IllegalArgumentException if an integer param has no integer value
+	 * @throws InputDialogClosedException if the input dialog is closed
+	 */
+	public static Map<String, String> fetchParamValues(AuthorAccess authorAccess, ParameterizedScript script)
+			throws IllegalArgumentException, InputDialogClosedException {
+		AskMoreTemplate template = script.getTemplate();
+		if (!template.hasAnnotations())
+			return script.bindValues(Collections.<String, String>emptyMap());
+
+		// load localized data
+		ResourceBundle rb = ResourceBundle.getBundle("org.adwmainz.da.extensions.askmore.resources.ArgumentTextBundle");
+		String dialogTitle = rb.getString("CONFIGURE_PARAMS");
+
+		Map<String, String> userInput = UserInputProviders.getProvider().fetchLabeledUserInput(dialogTitle, template,
+				template.createDialogModel(new DocumentOptionSourceResolver(authorAccess)));
+		return script.bindValues(userInput);
+	}
+	
+	/**
+	 * Updates a HashedArgumentsMap by binding the AskMoreAnnotations within a script argument as typed params instead of replacing them with user input
+	 * <br>The script argument is replaced by the script of a ParameterizedScript which stays the same for any user input and the values of its params are
+	 *  appended to the comma separated <code>name=value</code> pairs of a params argument. Values that cannot be passed within these pairs (i.e. empty
+	 *  values and values that contain commas, equal signs, editor variables or surrounding whitespace) are encoded by the ParameterizedScript and decoded by
+	 *  its script, so that the script is never changed by the user input.
+	 * @param authorAccess the AuthorAccess of the operation
+	 * @param args a HashedArgumentsMap
+	 * @param scriptArgumentName the name of the script argument
+	 * @param paramsArgumentName the name of the params argument
+	 * @param language the language of the script
+	 * @throws IllegalArgumentException if the script argument is empty or if its params cannot be declared
+	 * @throws InputDialogClosedException if the input dialog is closed
+	 */
+	public static void bindAnnotationsAsParams(AuthorAccess authorAccess, HashedArgumentsMap args, String scriptArgumentName, String paramsArgumentName,
+			ParameterizedScript.Language language) throws IllegalArgumentException, InputDialogClosedException {
+		ParameterizedScript script = ParameterizedScriptCache.getScript(getValidString(args, scriptArgumentName), language);
+		Map<String, String> values = fetchParamValues(authorAccess, script);
+
+		StringBuilder params = new StringBuilder(getValidString(args, paramsArgumentName, "").trim());
+		for (Map.Entry<String, String> value: values.entrySet()) {
+			if (params.length() > 0)
+				params.append(',');
+			params.append(value.getKey()).append('=').append(value.getValue());
+		}
+		args.put(scriptArgumentName, script.getScript());
+		args.put(paramsArgumentName, params.toString());
+	}
+	
+	/**
+	 * Starts recording an AuthorOperation with the number and total length of its specified arguments
+	 * <br>(The arguments are only counted if Java Flight Recorder events are supported since the latency of the operation is measured anyway.)
+	 * @param operationClass the class of the operation
+	 * @param args the ArgumentMap of the operation
+	 * @param arguments the ArgumentDescriptors of the operation
+	 */
+	public static OperationRecording startOperationRecording(Class<?> operationClass, ArgumentsMap args, ArgumentDescriptor[] arguments) {
+		if (!OperationRecorder.isAvailable())
+			return OperationRecorder.startOperation(operationClass, 0, 0);
+
+		int argumentCount = 0;
+		long argumentChars = 0;
+		for (ArgumentDescriptor argument: arguments) {
+			Object argValue = args.getArgumentValue(argument.getName());
+			if (argValue == null)
+				continue;
+			++argumentCount;
+			if (argValue instanceof String)
+				argumentChars += ((String) argValue).length();
+		}
+		return OperationRecorder.startOperation(operationClass, argumentCount, argumentChars);
+	}
+	
+}
@@ -0,0 +1,405 @@
+/**
+ * AskMoreArgumentProvider.java - is a helper class storing common argument names and descriptors as used within the AskMoreXtension developed at the
+ *  Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.util.ResourceBundle;
+
+import ro.sync.ecss.extensions.api.ArgumentDescriptor;
+import ro.sync.ecss.extensions.api.AuthorConstants;
+
+public class AskMoreArgumentProvider {
+
+	// constant list of all argument names used within this AskMoreXtension
+	public static final String ARGUMENT_ACTION_IDS = "actionIDs";
+	public static final String ARGUMENT_ACTION_NAMES = "actionNames";
+	public static final String ARGUMENT_ASYNC = "async";
+	public static final String ARGUMENT_BIND_ANNOTATIONS_AS_PARAMS = "bindAnnotationsAsParams";
+	public static final String ARGUMENT_CHUNK_SIZE = "chunkSize";
+	public static final String ARGUMENT_COMMAND_LINE = "cmdLine";
+	public static final String ARGUMENT_DIALOG_TITLE = "dialogTitle";
+	public static final String ARGUMENT_ELEMENT_LOCATION = "elementLocation";
+	public static final String ARGUMENT_EXTERNAL_PARAMS = "externalParams";
+	public static final String ARGUMENT_FILE_PATTERN = "filePattern";
+	public static final String ARGUMENT_FOLDER = "folder";
+	public static final String ARGUMENT_FRAGMENT = "fragment";
+	public static final String ARGUMENT_GO_TO_NEXT_EDITABLE_POSITION = "goToNextEditablePosition";
+	public static final String ARGUMENT_INSERT_LOCATION = "insertLocation";
+	public static final String ARGUMENT_INSERT_LOCATION_RESTRICTION = "insertLocationRestriction";
+	public static final String ARGUMENT_INSERT_POSITION = "insertPosition";
+	public static final String ARGUMENT_LOCATION_RESTRICTION = "locationRestriction";
+	public static final String ARGUMENT_MAX_BUFFERED_CHARS = "maxBufferedChars";
+	public static final String ARGUMENT_MAX_RESULTS = "maxResults";
+	public static final String ARGUMENT_MESSAGE = "message";
+	public static final String ARGUMENT_NAME = "name";
+	public static final String ARGUMENT_NO_RESULT_MESSAGE = "noResultMessage";
+	public static final String ARGUMENT_NOTIFY_USER = "notifyUser";
+	public static final String ARGUMENT_PERSISTENT_WORKER = "persistentWorker";
+	public static final String ARGUMENT_PROCESSOR = "processor";
+	public static final String ARGUMENT_RECURSIVE = "recursive";
+	public static final String ARGUMENT_REMOVE_SELECTION = "removeSelection";
+	public static final String ARGUMENT_RESULTS_TAB_NAME = "resultsTabName";
+	public static final String ARGUMENT_SCHEMA_AWARE = "schemaAware";
+	public static final String ARGUMENT_SCRIPT = "script";
+	public static final String ARGUMENT_SELECTION_LABEL = "selectionLabel";
+	public static final String ARGUMENT_SEVERITY = "severity";
+	public static final String ARGUMENT_THREAD_COUNT = "threadCount";
+	public static final String ARGUMENT_TIMEOUT = "timeout";
+	public static final String ARGUMENT_WORKER_IDLE_TIMEOUT = "workerIdleTimeout";
+	public static final String ARGUMENT_WORKER_PROTOCOL = "workerProtocol";
+	public static final String ARGUMENT_WORKER_REQUEST = "workerRequest";
+	public static final String ARGUMENT_WORKING_DIRECTORY = "workingDirectory";
+	
+	// constant list of all processor names used by the argument ARGUMENT_PROCESSOR
+	public static final String PROCESSOR_SAXON_EE = "Saxon-EE";
+	public static final String PROCESSOR_SAXON_HE = "Saxon-HE";
+	public static final String PROCESSOR_SAXON_PE = "Saxon-PE";
+
+	// prepare input dialogs while the framework is loaded (which instantiates all operations and thereby this class)
+	static {
+		LabeledTextInputDialogPool.warmUp();
+	}
+	
+	// methods for retrieving the ArgumentDescriptors used within this AskMoreXtension
+	public static ArgumentDescriptor getActionIdsArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_ACTION_IDS, 
+				ArgumentDescriptor.TYPE_STRING, 
+				"The action IDs which will be available through the dialog, separated by new lines."
+				+ "\n(This list must contain as many values as the one of "+ARGUMENT_ACTION_NAMES+")"
+		);
+	}
+	
+	public static ArgumentDescriptor getActionNamesArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_ACTION_NAMES, 
+				ArgumentDescriptor.TYPE_STRING, 
+				"The items which will be selectable in the dialog, separated by new lines."
+				+ "\n(This list must contain as many values as the one of "+ARGUMENT_ACTION_IDS+")"
+		);
+	}
+	
+	public static ArgumentDescriptor getCopyElementLocationArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_ELEMENT_LOCATION, 
+				ArgumentDescriptor.TYPE_XPATH_EXPRESSION, 
+				"An XPath expression indicating the element, attribute or text content to be copied. "
+				+ "\n(Leave empty to copy the current selection within the Author Mode.)"
+		);
+	}
+	public static ArgumentDescriptor getDialogTitleArgumentDescriptor(String defaultValue) {
+		return new ArgumentDescriptor(
+				ARGUMENT_DIALOG_TITLE, 
+				ArgumentDescriptor.TYPE_STRING, 
+				"The title of the generated dialog.",
+				defaultValue
+		);
+	}
+	
+	public static ArgumentDescriptor getBindAnnotationsAsParamsArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_BIND_ANNOTATIONS_AS_PARAMS, 
+				ArgumentDescriptor.TYPE_CONSTANT_LIST, 
+				"Specifies whether the AskMoreAnnotations of the script should be bound as typed params (xs:integer for !POS_INT and xs:string otherwise)"
+				+ " instead of being replaced by the user input. The script then stays the same for any user input, so that it only has to be compiled once"
+				+ " and the user input cannot break it.\n(Each annotation is replaced by a variable reference, so that it must be placed where an"
+				+ " expression is expected instead of within a string literal.)", 
+				new String[] {
+						AuthorConstants.ARG_VALUE_TRUE, 
+						AuthorConstants.ARG_VALUE_FALSE},
+				AuthorConstants.ARG_VALUE_FALSE
+		);
+	}
+	
+	public static ArgumentDescriptor getBatchScriptArgumentDescriptor(String scriptType) {
+		return new ArgumentDescriptor(
+				ARGUMENT_SCRIPT, 
+				ArgumentDescriptor.TYPE_SCRIPT, 
+				"The " + scriptType + " script applied to each file. Its result replaces the content of the file."
+				+ "\n(Relative references are resolved against the current document.)"
+		);
+	}
+	
+	public static ArgumentDescriptor getBatchExternalParamsArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_EXTERNAL_PARAMS, 
+				ArgumentDescriptor.TYPE_STRING, 
+				"Comma separated list of param=value pairs passed to the script."
+		);
+	}
+	
+	public static ArgumentDescriptor getFolderArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_FOLDER, 
+				ArgumentDescriptor.TYPE_STRING, 
+				"The folder containing the files to be transformed. Editor variables like ${cfd} (the folder of the current file) or ${pd} (the folder"
+				+ " of the current project) may be used.\n(Leave empty to choose a folder with a dialog.)",
+				"${pd}"
+		);
+	}
+	
+	public static ArgumentDescriptor getFilePatternArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_FILE_PATTERN, 
+				ArgumentDescriptor.TYPE_STRING, 
+				"A glob pattern the names of the files to be transformed must match.",
+				"*.xml"
+		);
+	}
+	
+	public static ArgumentDescriptor getRecursiveArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_RECURSIVE, 
+				ArgumentDescriptor.TYPE_CONSTANT_LIST, 
+				"Specifies whether the files of all subfolders should be transformed as well.", 
+				new String[] {
+						AuthorConstants.ARG_VALUE_TRUE, 
+						AuthorConstants.ARG_VALUE_FALSE},
+				AuthorConstants.ARG_VALUE_TRUE
+		);
+	}
+	
+	public static ArgumentDescriptor getProcessorArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_PROCESSOR, 
+				ArgumentDescriptor.TYPE_CONSTANT_LIST, 
+				"The edition of Saxon used to compile the script.\n(Saxon-EE is used by default, just like the XSLT and XQuery operations of the"
+				+ " editor do.)", 
+				new String[] {
+						PROCESSOR_SAXON_EE, 
+						PROCESSOR_SAXON_PE, 
+						PROCESSOR_SAXON_HE},
+				PROCESSOR_SAXON_EE
+		);
+	}
+	
+	public static ArgumentDescriptor getThreadCountArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_THREAD_COUNT,
+				ArgumentDescriptor.TYPE_STRING, 
+				"The max number of files transformed at once.\n(Use 0 to transform one file per available processor at once.)",
+				"0"
+		);
+	}
+	
+	public static ArgumentDescriptor getAsyncArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_ASYNC, 
+				ArgumentDescriptor.TYPE_CONSTANT_LIST, 
+				"Specifies whether the command line should be executed in the background while its output is added line by line to the results view"
+				+ " tab specified by " + ARGUMENT_RESULTS_TAB_NAME + " (instead of blocking the editor until the process has ended).", 
+				new String[] {
+						AuthorConstants.ARG_VALUE_TRUE, 
+						AuthorConstants.ARG_VALUE_FALSE},
+				AuthorConstants.ARG_VALUE_FALSE
+		);
+	}
+	
+	public static ArgumentDescriptor getTimeoutArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_TIMEOUT,
+				ArgumentDescriptor.TYPE_STRING, 
+				"The max number of seconds a command line executed in the background may run before it is stopped together with all of its child"
+				+ " processes.\n(Use 0 to never stop the process automatically.)",
+				"0"
+		);
+	}
+	
+	public static ArgumentDescriptor getPersistentWorkerArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_PERSISTENT_WORKER, 
+				ArgumentDescriptor.TYPE_CONSTANT_LIST, 
+				"Specifies whether the command line should start a worker process that is kept alive between actions. Each action then sends the"
+				+ " argument " + ARGUMENT_WORKER_REQUEST + " to the standard input of the worker and adds its response to the results view tab"
+				+ " specified by " + ARGUMENT_RESULTS_TAB_NAME + ".\n(Workers are restarted if they have crashed or timed out. The command line must not"
+				+ " contain AskMoreAnnotations then, since user input is only passed to a worker with " + ARGUMENT_WORKER_REQUEST + ".)", 
+				new String[] {
+						AuthorConstants.ARG_VALUE_TRUE, 
+						AuthorConstants.ARG_VALUE_FALSE},
+				AuthorConstants.ARG_VALUE_FALSE
+		);
+	}
+	
+	public static ArgumentDescriptor getWorkerRequestArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_WORKER_REQUEST, 
+				ArgumentDescriptor.TYPE_STRING, 
+				"The request sent to a persistent worker process (e.g. the arguments the tool should be invoked with)."
+		);
+	}
+	
+	public static ArgumentDescriptor getWorkerProtocolArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_WORKER_PROTOCOL, 
+				ArgumentDescriptor.TYPE_CONSTANT_LIST, 
+				"Specifies how requests and responses of a persistent worker process are delimited: 'line' sends and receives a single line of UTF-8"
+				+ " text while 'frame' sends and receives a line containing the number of the following UTF-8 encoded bytes and these bytes.", 
+				new String[] {
+						"line", 
+						"frame"},
+				"line"
+		);
+	}
+	
+	public static ArgumentDescriptor getWorkerIdleTimeoutArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_WORKER_IDLE_TIMEOUT,
+				ArgumentDescriptor.TYPE_STRING, 
+				"The number of seconds after the last request after which a persistent worker process is shut down.\n(Use 0 to keep the worker alive"
+				+ " until the editor is closed.)",
+				"600"
+		);
+	}
+	
+	public static ArgumentDescriptor getMessageArgumentDescriptor(String defaultValue) {
+		return new ArgumentDescriptor(
+				ARGUMENT_MESSAGE,
+				ArgumentDescriptor.TYPE_STRING, 
+				"The Message displayed in a new dialog.",
+				defaultValue
+		);
+	}
+	
+	public static ArgumentDescriptor getNoResultMessageArgumentDescriptor() {
+		ResourceBundle rb = ResourceBundle.getBundle("org.adwmainz.da.extensions.askmore.resources.ArgumentTextBundle");
+		return new ArgumentDescriptor(
+				ARGUMENT_NO_RESULT_MESSAGE,
+				ArgumentDescriptor.TYPE_STRING, 
+				"The Message displayed if no element is found.",
+				rb.getString("NO_RESULT_MESSAGE")
+		);
+	}
+	
+	public static ArgumentDescriptor getResultsTabNameArgumentDescriptor(String defaultValue) {
+		return new ArgumentDescriptor(
+				ARGUMENT_RESULTS_TAB_NAME,
+				ArgumentDescriptor.TYPE_STRING, 
+				"The Name of the results view tab used for displaying the results.",
+				defaultValue
+		);
+	}
+	
+	public static ArgumentDescriptor getMaxBufferedCharsArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_MAX_BUFFERED_CHARS,
+				ArgumentDescriptor.TYPE_STRING, 
+				"The max number of characters of the copied content that are kept in memory. Larger copies are written to a temporary file that is"
+						+ " deleted once another content is copied.",
+				String.valueOf(SpillingTextBuilder.DEFAULT_MAX_BUFFERED_CHARS)
+		);
+	}
+	
+	public static ArgumentDescriptor getChunkSizeArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_CHUNK_SIZE,
+				ArgumentDescriptor.TYPE_STRING, 
+				"The number of results that are added to the results view at once. Further results are added in the background while a cancellable"
+						+ " progress monitor is shown.\n(Use 0 to add all results at once.)",
+				"500"
+		);
+	}
+	
+	public static ArgumentDescriptor getMaxResultsArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_MAX_RESULTS,
+				ArgumentDescriptor.TYPE_STRING, 
+				"The max number of results displayed in the results view.\n(Use 0 to display all results.)",
+				"0"
+		);
+	}
+	
+	public static ArgumentDescriptor getAnnotatedResultsViewMessageArgumentDescriptor(String defaultValue) {
+		return new ArgumentDescriptor(
+				ARGUMENT_MESSAGE,
+				ArgumentDescriptor.TYPE_STRING, 
+				"The Message displayed in the results view tab for each element."
+						+ "You may build part(s) of the message dynamically from each contxt node by using the annotation $$XPATH( xpath )$$ where xpath denotes"
+						+ " an XPath expression relative to the result(s) of the param '" + AskMoreArgumentProvider.ARGUMENT_ELEMENT_LOCATION + "'.",
+				defaultValue
+		);
+	}
+	
+	public static ArgumentDescriptor getResultsViewMessageArgumentDescriptor(String defaultValue) {
+		return new ArgumentDescriptor(
+				ARGUMENT_MESSAGE,
+				ArgumentDescriptor.TYPE_STRING, 
+				"The Message displayed in the results view tab for each element.",
+				defaultValue
+		);
+	}
+	
+	public static ArgumentDescriptor getRemoveSelectionArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_REMOVE_SELECTION, 
+				ArgumentDescriptor.TYPE_CONSTANT_LIST, 
+				"Specifies whether all selections in the author mode should be removed or not.", 
+				new String[] {
+						AuthorConstants.ARG_VALUE_TRUE, 
+						AuthorConstants.ARG_VALUE_FALSE},
+				AuthorConstants.ARG_VALUE_TRUE
+		);
+	}
+	
+	public static ArgumentDescriptor getSelectAnnotatedElementLocationArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_ELEMENT_LOCATION, 
+				ArgumentDescriptor.TYPE_XPATH_EXPRESSION, 
+				"An XPath expression indicating the element or elements that shall be selected.\n"
+					+	"Note: If this is not defined then the element at the caret position will be used.\n"
+					+ 	AskMoreAnnotationParser.getDescription(),
+				"."
+		);
+	}
+	
+	public static ArgumentDescriptor getSelectElementLocationArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_ELEMENT_LOCATION, 
+				ArgumentDescriptor.TYPE_XPATH_EXPRESSION, 
+				"An XPath expression indicating the element or elements that shall be selected.\n"
+					+	"Note: If this is not defined then the element at the caret position will be used.",
+				"."
+		);
+	}
+	
+	public static ArgumentDescriptor getSelectionLabelArgumentDescriptor(String defaultValue) {
+		return new ArgumentDescriptor(
+				ARGUMENT_SELECTION_LABEL, 
+				ArgumentDescriptor.TYPE_STRING, 
+				"The text that should displayed next to the selection.",
+				defaultValue
+		);
+	}
+	
+	public static ArgumentDescriptor getSeverityArgumentDescriptor() {
+		String[] severityOptions = APIAccessUtils.getSeverityNames();
+		return new ArgumentDescriptor(
+				AskMoreArgumentProvider.ARGUMENT_SEVERITY,
+				ArgumentDescriptor.TYPE_CONSTANT_LIST, 
+				"The severity of the message.",
+				severityOptions,
+				severityOptions[0]
+		);
+	}
+	
+	public static ArgumentDescriptor getNotifyUserWithMessageArgumentDescriptor() {
+		return new ArgumentDescriptor(
+				ARGUMENT_NOTIFY_USER, 
+				ArgumentDescriptor.TYPE_CONSTANT_LIST, 
+				"Specifies whether the message from the argument " + ARGUMENT_MESSAGE + " should be displayed or not.", 
+				new String[] {
+						AuthorConstants.ARG_VALUE_TRUE, 
+						AuthorConstants.ARG_VALUE_FALSE},
+				AuthorConstants.ARG_VALUE_FALSE
+		);
+	};
+	
+	// other methods
+	public static String getClosedDialogMessage() {
+		ResourceBundle rb = ResourceBundle.getBundle("org.adwmainz.da.extensions.askmore.resources.DialogTextBundle");
+		return rb.getString("INPUT_DIALOG_CLOSED");
+	}
+	
+}
@@ -0,0 +1,41 @@
+/**
+ * AskMoreExtensionStateListener.java - is an implementation of a ro.sync.ecss.extensions.api.AuthorExtensionStateListener that publishes the AskMoreMetrics
+ *  of a framework only while one of its editors is open, so that the MBeanServer does not keep the class loader of an unloaded framework alive. It may be
+ *  set as the "Author extension state listener" of a framework as used within the AskMoreXtension developed at the Digital Academy of the Academy of
+ *  Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import ro.sync.ecss.extensions.api.AuthorAccess;
+import ro.sync.ecss.extensions.api.AuthorExtensionStateListener;
+
+public class AskMoreExtensionStateListener implements AuthorExtensionStateListener {
+
+	// the number of active editors of all frameworks sharing the class loader of this class
+	private static int activeEditorCount;
+
+	// overridden methods
+	@Override
+	public String getDescription() {
+		return "Publishes the AskMoreMetrics MBean while an editor of the framework is open.";
+	}
+
+	@Override
+	public void activated(AuthorAccess authorAccess) {
+		synchronized (AskMoreExtensionStateListener.class) {
+			if (activeEditorCount++ == 0)
+				AskMoreMetrics.register();
+		}
+	}
+
+	@Override
+	public void deactivated(AuthorAccess authorAccess) {
+		synchronized (AskMoreExtensionStateListener.class) {
+			if (activeEditorCount > 0 && --activeEditorCount == 0)
+				AskMoreMetrics.unregister();
+		}
+	}
+
+}
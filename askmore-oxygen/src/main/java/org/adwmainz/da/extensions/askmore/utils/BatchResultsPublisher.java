@@ -0,0 +1,138 @@
+/**
+ * BatchResultsPublisher.java - is a helper class that transforms many files in the background and publishes the success or failure of each file to the so
+ *  called ResultsView while showing a cancellable progress monitor as used within the AskMoreXtension developed at the Digital Academy of the Academy of
+ *  Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.ExecutionException;
+
+import javax.swing.JOptionPane;
+import javax.swing.ProgressMonitor;
+import javax.swing.SwingWorker;
+
+import org.adwmainz.da.extensions.askmore.models.BatchFileResult;
+import org.adwmainz.da.extensions.askmore.models.FileTransformation;
+
+import ro.sync.document.DocumentPositionedInfo;
+import ro.sync.exml.workspace.api.PluginWorkspaceProvider;
+import ro.sync.exml.workspace.api.results.ResultsManager;
+import ro.sync.exml.workspace.api.results.ResultsManager.ResultType;
+
+public class BatchResultsPublisher extends SwingWorker<List<BatchFileResult>, BatchFileResult> implements BatchFileProcessor.Listener {
+
+	// fields
+	protected final String resultsTabName;
+	protected final List<Path> files;
+	protected final BatchFileProcessor processor;
+	protected final ResultsManager resultsManager;
+	protected final ResourceBundle rb;
+	protected ProgressMonitor progressMonitor;
+	protected int publishedCount;
+
+	// constructor
+	/**
+	 * Creates a new BatchResultsPublisher with the specified params
+	 * @param resultsTabName the name of the results view tab
+	 * @param files the files to be transformed
+	 * @param transformationFactory a factory that creates a separate FileTransformation for each worker thread
+	 * @param threadCount the max number of worker threads (or a value smaller than 1 if one worker per available processor should be used)
+	 */
+	public BatchResultsPublisher(String resultsTabName, List<Path> files, FileTransformation.Factory transformationFactory, int threadCount) {
+		this.resultsTabName = resultsTabName;
+		this.files = files;
+		this.processor = new BatchFileProcessor(transformationFactory, threadCount);
+		this.resultsManager = PluginWorkspaceProvider.getPluginWorkspace().getResultsManager();
+		this.rb = ResourceBundle.getBundle("org.adwmainz.da.extensions.askmore.resources.DialogTextBundle");
+	}
+
+	// additional methods
+	/**
+	 * Removes previous results and starts transforming the files in the background
+	 * <br>(Must be invoked on the event dispatch thread.)
+	 */
+	public void start() {
+		resultsManager.setResults(resultsTabName, null, ResultType.GENERIC);
+		progressMonitor = new ProgressMonitor(null, rb.getString("BATCH_IN_PROGRESS"), null, 0, files.size());
+		progressMonitor.setMillisToDecideToPopup(0);
+		execute();
+	}
+
+	/**
+	 * Creates the DocumentPositionedInfo of a processed file that opens the file when it is clicked in the results view
+	 */
+	protected DocumentPositionedInfo createPositionedInfo(BatchFileResult result) {
+		String fileName = String.valueOf(result.getFile().getFileName());
+		String systemID = result.getFile().toUri().toString();
+		if (result.isSuccessful()) {
+			String message = MessageFormat.format(rb.getString("BATCH_FILE_TRANSFORMED"), fileName, result.getDurationMillis());
+			return new DocumentPositionedInfo(DocumentPositionedInfo.SEVERITY_INFO, message, systemID);
+		}
+		String message = MessageFormat.format(rb.getString("BATCH_FILE_FAILED"), fileName, result.getErrorMessage());
+		return new DocumentPositionedInfo(DocumentPositionedInfo.SEVERITY_ERROR, message, systemID);
+	}
+
+	// overridden methods
+	@Override
+	public void fileProcessed(BatchFileResult result) {
+		publish(result);
+	}
+
+	@Override
+	protected List<BatchFileResult> doInBackground() throws Exception {
+		return processor.process(files, this);
+	}
+
+	/**
+	 * Adds the results of processed files to the results view and stops the batch if the progress monitor has been cancelled
+	 */
+	@Override
+	protected void process(List<BatchFileResult> chunk) {
+		if (progressMonitor.isCanceled())
+			processor.cancel();
+
+		List<DocumentPositionedInfo> positionedInfos = new ArrayList<>(chunk.size());
+		for (BatchFileResult result: chunk)
+			positionedInfos.add(createPositionedInfo(result));
+		resultsManager.addResults(resultsTabName, positionedInfos, ResultType.GENERIC, true);
+
+		publishedCount += chunk.size();
+		progressMonitor.setProgress(publishedCount);
+		progressMonitor.setNote(String.valueOf(chunk.get(chunk.size() - 1).getFile().getFileName()));
+	}
+
+	/**
+	 * Closes the progress monitor and adds a summary to the results view
+	 */
+	@Override
+	protected void done() {
+		progressMonitor.close();
+		List<BatchFileResult> results;
+		try {
+			results = get();
+		} catch (InterruptedException e) {
+			return;
+		} catch (ExecutionException e) {
+			// the transformation could not be prepared (e.g. because of an invalid script)
+			String message = (e.getCause().getMessage() != null) ? e.getCause().getMessage() : e.getCause().toString();
+			JOptionPane.showMessageDialog(null, message);
+			return;
+		}
+
+		int failedCount = 0;
+		for (BatchFileResult result: results)
+			if (!result.isSuccessful())
+				++failedCount;
+		String summary = MessageFormat.format(rb.getString("BATCH_SUMMARY"), results.size() - failedCount, files.size(), failedCount);
+		resultsManager.addResult(resultsTabName, new DocumentPositionedInfo(
+				(failedCount > 0) ? DocumentPositionedInfo.SEVERITY_WARN : DocumentPositionedInfo.SEVERITY_INFO, summary, null), ResultType.GENERIC, true, false);
+	}
+
+}
@@ -0,0 +1,143 @@
+/**
+ * CommandLineOutputPublisher.java - is a helper class that executes a command line in the background and publishes its output line by line to the so called
+ *  ResultsView while showing a progress monitor whose cancel button stops the command line as used within the AskMoreXtension developed at the
+ *  Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.ExecutionException;
+
+import javax.swing.JOptionPane;
+import javax.swing.ProgressMonitor;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+
+import org.adwmainz.da.extensions.askmore.models.CommandLineResult;
+import org.adwmainz.da.extensions.askmore.models.CommandLineTask;
+
+import ro.sync.document.DocumentPositionedInfo;
+import ro.sync.exml.workspace.api.PluginWorkspaceProvider;
+import ro.sync.exml.workspace.api.results.ResultsManager;
+import ro.sync.exml.workspace.api.results.ResultsManager.ResultType;
+
+public class CommandLineOutputPublisher extends SwingWorker<CommandLineResult, DocumentPositionedInfo> implements CommandLineTask.Listener {
+
+	// constant values
+	public static final int CANCEL_CHECK_DELAY_MILLIS = 200;
+	public static final int MILLIS_TO_POPUP = 500;
+
+	// fields
+	protected final String resultsTabName;
+	protected final String name;
+	protected final CommandLineTask task;
+	protected final ResultsManager resultsManager;
+	protected final ResourceBundle rb;
+	protected ProgressMonitor progressMonitor;
+	protected Timer cancelCheckTimer;
+
+	// constructor
+	/**
+	 * Creates a new CommandLineOutputPublisher with the specified params
+	 * @param resultsTabName the name of the results view tab
+	 * @param name the name of the command line displayed to the user
+	 * @param task the CommandLineTask to be executed
+	 */
+	public CommandLineOutputPublisher(String resultsTabName, String name, CommandLineTask task) {
+		this.resultsTabName = resultsTabName;
+		this.name = name;
+		this.task = task;
+		this.resultsManager = PluginWorkspaceProvider.getPluginWorkspace().getResultsManager();
+		this.rb = ResourceBundle.getBundle("org.adwmainz.da.extensions.askmore.resources.DialogTextBundle");
+	}
+
+	// additional method
+	/**
+	 * Removes previous results and starts the task in the background
+	 * <br>(Must be invoked on the event dispatch thread.)
+	 */
+	public void start() {
+		resultsManager.setResults(resultsTabName, null, ResultType.GENERIC);
+
+		// the run time of the task is unknown, so that the progress monitor pops up once the task has been running for MILLIS_TO_POPUP
+		progressMonitor = new ProgressMonitor(null, MessageFormat.format(rb.getString("COMMAND_LINE_IN_PROGRESS"), name), null, 0, 1);
+		progressMonitor.setMillisToDecideToPopup(MILLIS_TO_POPUP);
+		progressMonitor.setMillisToPopup(0);
+
+		// the task may not write any output, so that its cancellation is checked independently of published lines
+		cancelCheckTimer = new Timer(CANCEL_CHECK_DELAY_MILLIS, new ActionListener() {
+
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				if (progressMonitor.isCanceled())
+					task.cancel();
+				else
+					progressMonitor.setProgress(0);
+			}
+
+		});
+		cancelCheckTimer.start();
+		execute();
+	}
+
+	// overridden methods
+	@Override
+	public void lineRead(String line, boolean isErrorOutput) {
+		publish(new DocumentPositionedInfo(isErrorOutput ? DocumentPositionedInfo.SEVERITY_WARN : DocumentPositionedInfo.SEVERITY_INFO, line, null));
+	}
+
+	@Override
+	protected CommandLineResult doInBackground() throws Exception {
+		return task.run(this);
+	}
+
+	/**
+	 * Adds the lines read since the last invocation to the results view
+	 */
+	@Override
+	protected void process(List<DocumentPositionedInfo> chunk) {
+		resultsManager.addResults(resultsTabName, chunk, ResultType.GENERIC, true);
+		progressMonitor.setNote(chunk.get(chunk.size() - 1).getMessage());
+	}
+
+	/**
+	 * Closes the progress monitor and adds a summary to the results view
+	 */
+	@Override
+	protected void done() {
+		cancelCheckTimer.stop();
+		progressMonitor.close();
+		CommandLineResult result;
+		try {
+			result = get();
+		} catch (InterruptedException e) {
+			return;
+		} catch (ExecutionException e) {
+			// the task could not be executed (e.g. because of an invalid working directory)
+			String message = (e.getCause().getMessage() != null) ? e.getCause().getMessage() : e.getCause().toString();
+			JOptionPane.showMessageDialog(null, message);
+			return;
+		}
+
+		String summary;
+		int severity;
+		if (result.isCancelled()) {
+			summary = MessageFormat.format(rb.getString("COMMAND_LINE_CANCELLED"), name, result.getDurationMillis());
+			severity = DocumentPositionedInfo.SEVERITY_WARN;
+		} else if (result.isTimedOut()) {
+			summary = MessageFormat.format(rb.getString("COMMAND_LINE_TIMED_OUT"), name, result.getDurationMillis());
+			severity = DocumentPositionedInfo.SEVERITY_ERROR;
+		} else {
+			summary = MessageFormat.format(rb.getString("COMMAND_LINE_FINISHED"), name, result.getExitCode(), result.getDurationMillis());
+			severity = result.isSuccessful() ? DocumentPositionedInfo.SEVERITY_INFO : DocumentPositionedInfo.SEVERITY_ERROR;
+		}
+		resultsManager.addResult(resultsTabName, new DocumentPositionedInfo(severity, summary, null), ResultType.GENERIC, true, false);
+	}
+
+}
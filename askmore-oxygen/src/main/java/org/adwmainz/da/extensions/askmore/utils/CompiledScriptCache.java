@@ -0,0 +1,134 @@
+/**
+ * CompiledScriptCache.java - is a helper class providing a bounded LRU cache of compiled XQuery and XSLT scripts keyed by their script texts and by the
+ *  classpath of the frameworks they are used by as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and
+ *  Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.xml.transform.Transformer;
+
+public class CompiledScriptCache {
+
+	// constant values
+	public static final int MAX_CACHED_SCRIPTS = 16;
+	public static final int MAX_IDLE_TRANSFORMERS_PER_SCRIPT = Runtime.getRuntime().availableProcessors();
+
+	// idle transformers in access order of their scripts that removes the least recently used script when growing beyond MAX_CACHED_SCRIPTS
+	private static final Map<ScriptKey, Deque<Transformer>> idleTransformers = new LinkedHashMap<ScriptKey, Deque<Transformer>>(16, 0.75f, true) {
+
+		// generated serial version id
+		private static final long serialVersionUID = -7209513416622781834L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ScriptKey, Deque<Transformer>> eldest) {
+			return (size() > MAX_CACHED_SCRIPTS);
+		}
+
+	};
+
+	/**
+	 * Takes an idle Transformer compiled from the specified script out of the cache
+	 * <br>(Transformers are not thread safe, so that each Transformer is only handed to a single caller until it is released.)
+	 * @param key the key of the script
+	 * @return a Transformer or <code>null</code> if the script has to be compiled
+	 */
+	public static Transformer acquireTransformer(ScriptKey key) {
+		Transformer transformer;
+		synchronized (idleTransformers) {
+			Deque<Transformer> transformers = idleTransformers.get(key);
+			transformer = (transformers != null) ? transformers.pollFirst() : null;
+		}
+		AskMoreMetrics.recordCacheAccess(CompiledScriptCache.class.getSimpleName(), transformer != null);
+		return transformer;
+	}
+
+	/**
+	 * Resets a Transformer that is not used anymore and puts it back into the cache unless there are MAX_IDLE_TRANSFORMERS_PER_SCRIPT idle Transformers
+	 *  of its script already
+	 * @param key the key of the script the Transformer has been compiled from
+	 * @param transformer a Transformer that is not used anymore
+	 */
+	public static void releaseTransformer(ScriptKey key, Transformer transformer) {
+		try {
+			transformer.reset();
+		} catch (UnsupportedOperationException e) {
+			// the transformer cannot be reused
+			return;
+		}
+		synchronized (idleTransformers) {
+			Deque<Transformer> transformers = idleTransformers.get(key);
+			if (transformers == null) {
+				transformers = new ArrayDeque<>();
+				idleTransformers.put(key, transformers);
+			}
+			if (transformers.size() < MAX_IDLE_TRANSFORMERS_PER_SCRIPT)
+				transformers.addFirst(transformer);
+		}
+	}
+
+	/**
+	 * Removes all cached Transformers
+	 */
+	public static void clear() {
+		synchronized (idleTransformers) {
+			idleTransformers.clear();
+		}
+	}
+
+	/**
+	 * ScriptKey is a class used to identify a compiled script by its text, its base system ID, the class compiling it and the type of its transformer
+	 * <br>(The class of an operation is loaded separately for each framework, so that it also identifies the classpath of the framework.)
+	 */
+	public static class ScriptKey {
+
+		// fields
+		private final String script;
+		private final String systemID;
+		private final Class<?> compilerClass;
+		private final int transformerType;
+		private final int hashCode;
+
+		// constructor
+		/**
+		 * Creates a new ScriptKey
+		 * @param script the text of the script
+		 * @param systemID the system ID relative references of the script are resolved against (may be <code>null</code>)
+		 * @param compilerClass the class compiling the script
+		 * @param transformerType the type of the transformer as defined by the TRANSFORMER_SAXON constants of XMLUtilAccess
+		 */
+		public ScriptKey(String script, String systemID, Class<?> compilerClass, int transformerType) {
+			this.script = script;
+			this.systemID = systemID;
+			this.compilerClass = compilerClass;
+			this.transformerType = transformerType;
+			this.hashCode = Objects.hash(script, systemID, compilerClass, transformerType);
+		}
+
+		// overridden methods
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof ScriptKey))
+				return false;
+			ScriptKey other = (ScriptKey) obj;
+			return (hashCode == other.hashCode && compilerClass == other.compilerClass && transformerType == other.transformerType && Objects.equals(systemID, other.systemID)
+					&& script.equals(other.script));
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+	}
+
+}
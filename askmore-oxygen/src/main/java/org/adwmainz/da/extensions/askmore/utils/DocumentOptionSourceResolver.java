@@ -0,0 +1,199 @@
+/**
+ * DocumentOptionSourceResolver.java - is an implementation of org.adwmainz.da.extensions.askmore.models.OptionSourceResolver that evaluates option sources on
+ *  the current document and caches their results until the document is edited (or maps the authority files referenced relative to it) as used within the
+ *  AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.adwmainz.da.extensions.askmore.models.OptionSource;
+import org.adwmainz.da.extensions.askmore.models.OptionSourceResolver;
+import org.adwmainz.da.extensions.askmore.models.SelectableOption;
+
+import ro.sync.ecss.extensions.api.AttributeChangedEvent;
+import ro.sync.ecss.extensions.api.AuthorAccess;
+import ro.sync.ecss.extensions.api.AuthorDocumentController;
+import ro.sync.ecss.extensions.api.AuthorListenerAdapter;
+import ro.sync.ecss.extensions.api.AuthorOperationException;
+import ro.sync.ecss.extensions.api.DocumentContentDeletedEvent;
+import ro.sync.ecss.extensions.api.DocumentContentInsertedEvent;
+import ro.sync.ecss.extensions.api.node.AuthorDocument;
+import ro.sync.ecss.extensions.api.node.AuthorNode;
+
+public class DocumentOptionSourceResolver implements OptionSourceResolver {
+
+	// caches of all documents an option source was evaluated on (weakly keyed so that closed documents can be garbage collected)
+	private static final Map<AuthorDocumentController, OptionCache> optionCaches = new WeakHashMap<>();
+
+	// fields
+	protected AuthorAccess authorAccess;
+	protected AuthorDocumentController documentController;
+
+	// constructor
+	/**
+	 * Creates a new DocumentOptionSourceResolver
+	 * @param authorAccess the AuthorAccess of the document the option sources should be evaluated on
+	 */
+	public DocumentOptionSourceResolver(AuthorAccess authorAccess) {
+		this.authorAccess = authorAccess;
+		this.documentController = authorAccess.getDocumentController();
+	}
+
+	// static methods
+	/**
+	 * Returns the OptionCache of a document and registers it as an AuthorListener when it is created
+	 * @param documentController the AuthorDocumentController of a document
+	 */
+	protected static synchronized OptionCache getOptionCache(AuthorDocumentController documentController) {
+		OptionCache optionCache = optionCaches.get(documentController);
+		if (optionCache == null) {
+			optionCache = new OptionCache();
+			documentController.addAuthorListener(optionCache);
+			optionCaches.put(documentController, optionCache);
+		}
+		return optionCache;
+	}
+
+	// additional methods
+	/**
+	 * Evaluates an XPath OptionSource on the current document without using the cache
+	 * <br>(Each result is converted to its string value and duplicates are removed.)
+	 * @param optionSource an OptionSource
+	 * @throws IllegalArgumentException if the expression of the OptionSource is invalid
+	 */
+	protected List<SelectableOption<String>> evaluate(OptionSource optionSource) throws IllegalArgumentException {
+		switch (optionSource.getType()) {
+		case XPATH:
+			String expression = "for $option in (" + optionSource.getExpression() + ") return string($option)";
+			Object[] rawResults;
+			try {
+				rawResults = APIAccessUtils.evaluateXPath(documentController, expression, false, false, false);
+			} catch (AuthorOperationException e) {
+				throw new IllegalArgumentException("Could not evaluate the option source " + optionSource + ": " + e.getMessage(), e);
+			}
+			Set<SelectableOption<String>> options = new LinkedHashSet<>();
+			for (Object rawResult: rawResults)
+				options.add(new SelectableOption<String>(rawResult.toString()));
+			return Collections.unmodifiableList(new ArrayList<>(options));
+		default:
+			throw new IllegalArgumentException("Unsupported option source " + optionSource);
+		}
+	}
+
+	/**
+	 * Locates the authority file of a <code>FILE("path")</code> option source
+	 * <br>(Editor variables like <code>${framework}</code> are expanded and relative paths are resolved against the location of the current document.)
+	 * @param path the path of the authority file
+	 * @throws IllegalArgumentException if the path does not reference a local file
+	 */
+	protected File locateFile(String path) throws IllegalArgumentException {
+		URL editorLocation = authorAccess.getEditorAccess().getEditorLocation();
+		String expandedPath = authorAccess.getUtilAccess().expandEditorVariables(path, editorLocation);
+		File file = new File(expandedPath);
+		if (file.isAbsolute())
+			return file;
+		try {
+			URL fileLocation = (editorLocation != null) ? new URL(editorLocation, expandedPath) : new URL(expandedPath);
+			file = authorAccess.getUtilAccess().locateFile(fileLocation);
+		} catch (MalformedURLException e) {
+			throw new IllegalArgumentException("Cannot locate the authority file " + path, e);
+		}
+		if (file == null)
+			throw new IllegalArgumentException("The authority file " + path + " is not a local file");
+		return file;
+	}
+
+	// overridden methods
+	@Override
+	public List<SelectableOption<String>> resolveOptions(OptionSource optionSource) throws IllegalArgumentException {
+		// authority files are cached by their modification times instead of edits of the current document
+		if (optionSource.getType() == OptionSource.Type.FILE)
+			return MappedOptionListCache.getOptionList(locateFile(optionSource.getExpression()));
+
+		OptionCache optionCache = getOptionCache(documentController);
+		List<SelectableOption<String>> options = optionCache.get(optionSource);
+		AskMoreMetrics.recordCacheAccess(DocumentOptionSourceResolver.class.getSimpleName(), options != null);
+		if (options == null) {
+			options = evaluate(optionSource);
+			optionCache.put(optionSource, options);
+		}
+		return options;
+	}
+
+	/**
+	 * OptionCache is a protected class storing the evaluated option sources of a single document until it is edited
+	 */
+	protected static class OptionCache extends AuthorListenerAdapter {
+
+		// fields
+		private final Map<OptionSource, List<SelectableOption<String>>> cachedOptions = new HashMap<>();
+
+		// additional methods
+		public synchronized List<SelectableOption<String>> get(OptionSource optionSource) {
+			return cachedOptions.get(optionSource);
+		}
+
+		public synchronized void put(OptionSource optionSource, List<SelectableOption<String>> options) {
+			cachedOptions.put(optionSource, options);
+		}
+
+		/**
+		 * Removes all cached options (called on every edit that may change the result of an option source)
+		 */
+		public synchronized void invalidate() {
+			if (!cachedOptions.isEmpty())
+				cachedOptions.clear();
+		}
+
+		// overridden methods
+		@Override
+		public void attributeChanged(AttributeChangedEvent e) {
+			invalidate();
+		}
+
+		@Override
+		public void contentDeleted(DocumentContentDeletedEvent e) {
+			invalidate();
+		}
+
+		@Override
+		public void contentInserted(DocumentContentInsertedEvent e) {
+			invalidate();
+		}
+
+		@Override
+		public void authorNodeNameChanged(AuthorNode authorNode) {
+			invalidate();
+		}
+
+		@Override
+		public void authorNodeStructureChanged(AuthorNode authorNode) {
+			invalidate();
+		}
+
+		@Override
+		public void documentChanged(AuthorDocument oldDocument, AuthorDocument newDocument) {
+			invalidate();
+		}
+
+		@Override
+		public void doctypeChanged() {
+			invalidate();
+		}
+
+	}
+
+}
@@ -0,0 +1,182 @@
+/**
+ * ResultsViewPublisher.java - is a helper class that incrementally creates DocumentPositionedInfos from XPath results and publishes them to the so called
+ *  ResultsView in chunks while showing a cancellable progress monitor as used within the AskMoreXtension developed at the Digital Academy of the Academy
+ *  of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+import javax.swing.JOptionPane;
+import javax.swing.ProgressMonitor;
+import javax.swing.SwingUtilities;
+
+import org.adwmainz.da.extensions.askmore.factories.PositionedInfoFactory;
+import org.adwmainz.da.extensions.askmore.models.XPathTemplate;
+
+import ro.sync.document.DocumentPositionedInfo;
+import ro.sync.ecss.extensions.api.AuthorDocumentController;
+import ro.sync.ecss.extensions.api.AuthorOperationException;
+import ro.sync.exml.workspace.api.PluginWorkspaceProvider;
+import ro.sync.exml.workspace.api.results.ResultsManager;
+import ro.sync.exml.workspace.api.results.ResultsManager.ResultType;
+
+public class ResultsViewPublisher implements Runnable {
+
+	// publishers that are currently adding results (only accessed from the event dispatch thread)
+	private static final Map<String, ResultsViewPublisher> activePublishers = new HashMap<>();
+
+	// fields
+	protected final String resultsTabName;
+	protected final Object[] targets;
+	protected final int targetCount;
+	protected final XPathTemplate messageTemplate;
+	protected final AuthorDocumentController documentController;
+	protected final int severity;
+	protected final String systemID;
+	protected final int chunkSize;
+	protected final ResultsManager resultsManager;
+	protected ProgressMonitor progressMonitor;
+	protected int nextTargetIndex;
+	protected boolean isCancelled;
+
+	// constructor
+	/**
+	 * Creates a new ResultsViewPublisher with the specified params
+	 * @param resultsTabName the name of the results view tab
+	 * @param targets the XPath results to be displayed
+	 * @param maxResults the max number of XPath results to be displayed (or a value smaller than 1 if all results should be displayed)
+	 * @param messageTemplate the compiled message to be displayed for each XPath result
+	 * @param documentController the current AuthorDocumentController
+	 * @param severity the severity of the displayed messages
+	 * @param systemID the current systemID
+	 * @param chunkSize the number of results created and published at once (or a value smaller than 1 if all results should be published at once)
+	 */
+	public ResultsViewPublisher(String resultsTabName, Object[] targets, int maxResults, XPathTemplate messageTemplate,
+			AuthorDocumentController documentController, int severity, String systemID, int chunkSize) {
+		this.resultsTabName = resultsTabName;
+		this.targets = targets;
+		this.targetCount = (maxResults > 0) ? Math.min(maxResults, targets.length) : targets.length;
+		this.messageTemplate = messageTemplate;
+		this.documentController = documentController;
+		this.severity = severity;
+		this.systemID = systemID;
+		this.chunkSize = (chunkSize > 0) ? chunkSize : Math.max(targetCount, 1);
+		this.resultsManager = PluginWorkspaceProvider.getPluginWorkspace().getResultsManager();
+	}
+
+	// additional methods
+	/**
+	 * Removes previous results and publishes the first chunk of results immediately while all following chunks are published in later events of the
+	 *  event dispatch thread so that the editor stays responsive
+	 * @throws AuthorOperationException if the first chunk of results cannot be created
+	 */
+	public void start() throws AuthorOperationException {
+		// stop a previous publisher of the same results view tab
+		ResultsViewPublisher previousPublisher = activePublishers.remove(resultsTabName);
+		if (previousPublisher != null)
+			previousPublisher.cancel();
+
+		resultsManager.setResults(resultsTabName, createNextChunk(), ResultType.GENERIC);
+		if (hasNextChunk()) {
+			ResourceBundle rb = ResourceBundle.getBundle("org.adwmainz.da.extensions.askmore.resources.DialogTextBundle");
+			progressMonitor = new ProgressMonitor(null, rb.getString("PUBLISHING_RESULTS"), null, 0, targetCount);
+			progressMonitor.setProgress(nextTargetIndex);
+			activePublishers.put(resultsTabName, this);
+			SwingUtilities.invokeLater(this);
+		} else {
+			publishTruncationNote();
+		}
+	}
+
+	/**
+	 * Stops publishing further results
+	 */
+	public void cancel() {
+		isCancelled = true;
+		stop();
+	}
+
+	/**
+	 * Closes the progress monitor and unregisters this ResultsViewPublisher
+	 */
+	protected void stop() {
+		if (progressMonitor != null)
+			progressMonitor.close();
+		if (activePublishers.get(resultsTabName) == this)
+			activePublishers.remove(resultsTabName);
+	}
+
+	/**
+	 * Returns <code>true</code> if there are results left to be published
+	 */
+	public boolean hasNextChunk() {
+		return (nextTargetIndex < targetCount);
+	}
+
+	/**
+	 * Creates the DocumentPositionedInfos of the next chunk of results
+	 * @throws AuthorOperationException if a result cannot be created
+	 */
+	protected List<DocumentPositionedInfo> createNextChunk() throws AuthorOperationException {
+		int chunkEnd = Math.min(nextTargetIndex + chunkSize, targetCount);
+		List<DocumentPositionedInfo> chunk = new ArrayList<>(chunkEnd - nextTargetIndex);
+		for (; nextTargetIndex < chunkEnd; ++nextTargetIndex)
+			chunk.add(PositionedInfoFactory.createWithAnnotatedMessage(targets[nextTargetIndex], messageTemplate, documentController, severity, systemID));
+		return chunk;
+	}
+
+	/**
+	 * Adds a note to the results view tab if not all XPath results have been published
+	 */
+	protected void publishTruncationNote() {
+		if (nextTargetIndex >= targets.length)
+			return;
+		ResourceBundle rb = ResourceBundle.getBundle("org.adwmainz.da.extensions.askmore.resources.DialogTextBundle");
+		String message = MessageFormat.format(rb.getString("RESULTS_TRUNCATED"), nextTargetIndex, targets.length);
+		resultsManager.addResult(resultsTabName, new DocumentPositionedInfo(DocumentPositionedInfo.SEVERITY_INFO, message, systemID),
+				ResultType.GENERIC, true, false);
+	}
+
+	// overridden method
+	/**
+	 * Publishes the next chunk of results and reschedules itself unless all results have been published or the progress monitor has been cancelled
+	 */
+	@Override
+	public void run() {
+		// the results view tab has been reused by another publisher
+		if (isCancelled)
+			return;
+
+		if (progressMonitor.isCanceled()) {
+			stop();
+			publishTruncationNote();
+			return;
+		}
+
+		try {
+			resultsManager.addResults(resultsTabName, createNextChunk(), ResultType.GENERIC, true);
+		} catch (AuthorOperationException e) {
+			// the document may have been modified since the XPath has been evaluated
+			stop();
+			JOptionPane.showMessageDialog(null, e.getMessage());
+			return;
+		}
+		progressMonitor.setProgress(nextTargetIndex);
+
+		if (hasNextChunk()) {
+			SwingUtilities.invokeLater(this);
+		} else {
+			stop();
+			publishTruncationNote();
+		}
+	}
+
+}
@@ -0,0 +1,208 @@
+/**
+ * SerializationCache.java - is a helper class that caches the serializations of AuthorNodes and content ranges per document until the document is edited
+ *  as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.swing.text.BadLocationException;
+
+import ro.sync.ecss.extensions.api.AttributeChangedEvent;
+import ro.sync.ecss.extensions.api.AuthorDocumentController;
+import ro.sync.ecss.extensions.api.AuthorListenerAdapter;
+import ro.sync.ecss.extensions.api.DocumentContentDeletedEvent;
+import ro.sync.ecss.extensions.api.DocumentContentInsertedEvent;
+import ro.sync.ecss.extensions.api.node.AuthorDocument;
+import ro.sync.ecss.extensions.api.node.AuthorDocumentFragment;
+import ro.sync.ecss.extensions.api.node.AuthorNode;
+
+public class SerializationCache {
+
+	// constant value
+	public static final int MAX_CACHED_CHARS_PER_DOCUMENT = 4 * 1024 * 1024;
+
+	// caches of all documents a node was serialized from (weakly keyed so that closed documents can be garbage collected)
+	private static final Map<AuthorDocumentController, DocumentSerializations> documentSerializations = new WeakHashMap<>();
+
+	/**
+	 * Returns the serialization of an AuthorNode and serializes it only if the document has been edited since it was serialized last
+	 * @param documentController the AuthorDocumentController of the document
+	 * @param node the AuthorNode to be serialized
+	 * @throws BadLocationException if the node cannot be serialized
+	 */
+	public static String getSerialization(AuthorDocumentController documentController, AuthorNode node) throws BadLocationException {
+		return getSerialization(documentController, node, node.getStartOffset(), node.getEndOffset());
+	}
+
+	/**
+	 * Returns the serialization of a content range and serializes it only if the document has been edited since it was serialized last
+	 * @param documentController the AuthorDocumentController of the document
+	 * @param startOffset the start offset of the range
+	 * @param endOffset the end offset of the range (inclusive)
+	 * @throws BadLocationException if the range cannot be serialized
+	 */
+	public static String getSerialization(AuthorDocumentController documentController, int startOffset, int endOffset) throws BadLocationException {
+		return getSerialization(documentController, null, startOffset, endOffset);
+	}
+
+	/**
+	 * Removes the cached serializations of all documents
+	 */
+	public static synchronized void clear() {
+		for (DocumentSerializations serializations: documentSerializations.values())
+			serializations.invalidate();
+	}
+
+	/**
+	 * Returns the cached serializations of a document and registers them as an AuthorListener when they are created
+	 * @param documentController the AuthorDocumentController of a document
+	 */
+	protected static synchronized DocumentSerializations getDocumentSerializations(AuthorDocumentController documentController) {
+		DocumentSerializations serializations = documentSerializations.get(documentController);
+		if (serializations == null) {
+			serializations = new DocumentSerializations();
+			documentController.addAuthorListener(serializations);
+			documentSerializations.put(documentController, serializations);
+		}
+		return serializations;
+	}
+
+	/**
+	 * Returns the cached serialization of a content range or creates a fragment of the range and serializes it
+	 */
+	protected static String getSerialization(AuthorDocumentController documentController, AuthorNode node, int startOffset, int endOffset)
+			throws BadLocationException {
+		DocumentSerializations serializations = getDocumentSerializations(documentController);
+		SerializationKey key = new SerializationKey(node, startOffset, endOffset);
+		String serialization = serializations.get(key);
+		AskMoreMetrics.recordCacheAccess(SerializationCache.class.getSimpleName(), serialization != null);
+		if (serialization == null) {
+			AuthorDocumentFragment fragment = documentController.createDocumentFragment(startOffset, endOffset);
+			serialization = documentController.serializeFragmentToXML(fragment);
+			serializations.put(key, serialization);
+		}
+		return serialization;
+	}
+
+	/**
+	 * SerializationKey is a protected class identifying a serialized content range by its offsets and (if it is the range of a node) by the identity of
+	 *  its node
+	 */
+	protected static class SerializationKey {
+
+		// fields
+		private final AuthorNode node;
+		private final int startOffset;
+		private final int endOffset;
+
+		// constructor
+		public SerializationKey(AuthorNode node, int startOffset, int endOffset) {
+			this.node = node;
+			this.startOffset = startOffset;
+			this.endOffset = endOffset;
+		}
+
+		// overridden methods
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof SerializationKey))
+				return false;
+			SerializationKey other = (SerializationKey) obj;
+			return (node == other.node && startOffset == other.startOffset && endOffset == other.endOffset);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * System.identityHashCode(node) + startOffset) + endOffset;
+		}
+
+	}
+
+	/**
+	 * DocumentSerializations is a protected class storing the serializations of a single document in access order until it is edited while removing its
+	 *  least recently used serializations when their total length exceeds MAX_CACHED_CHARS_PER_DOCUMENT
+	 */
+	protected static class DocumentSerializations extends AuthorListenerAdapter {
+
+		// fields
+		private final LinkedHashMap<SerializationKey, String> cachedSerializations = new LinkedHashMap<>(16, 0.75f, true);
+		private long cachedChars;
+
+		// additional methods
+		public synchronized String get(SerializationKey key) {
+			return cachedSerializations.get(key);
+		}
+
+		public synchronized void put(SerializationKey key, String serialization) {
+			// serializations that would displace the whole cache are not kept
+			if (serialization.length() > MAX_CACHED_CHARS_PER_DOCUMENT)
+				return;
+			String previousSerialization = cachedSerializations.put(key, serialization);
+			if (previousSerialization != null)
+				cachedChars -= previousSerialization.length();
+			cachedChars += serialization.length();
+
+			Iterator<String> iterator = cachedSerializations.values().iterator();
+			while (cachedChars > MAX_CACHED_CHARS_PER_DOCUMENT && iterator.hasNext()) {
+				cachedChars -= iterator.next().length();
+				iterator.remove();
+			}
+		}
+
+		/**
+		 * Removes all cached serializations (called on every edit that may change a serialization or shift the offsets of nodes)
+		 */
+		public synchronized void invalidate() {
+			if (!cachedSerializations.isEmpty()) {
+				cachedSerializations.clear();
+				cachedChars = 0;
+			}
+		}
+
+		// overridden methods
+		@Override
+		public void attributeChanged(AttributeChangedEvent e) {
+			invalidate();
+		}
+
+		@Override
+		public void contentDeleted(DocumentContentDeletedEvent e) {
+			invalidate();
+		}
+
+		@Override
+		public void contentInserted(DocumentContentInsertedEvent e) {
+			invalidate();
+		}
+
+		@Override
+		public void authorNodeNameChanged(AuthorNode authorNode) {
+			invalidate();
+		}
+
+		@Override
+		public void authorNodeStructureChanged(AuthorNode authorNode) {
+			invalidate();
+		}
+
+		@Override
+		public void documentChanged(AuthorDocument oldDocument, AuthorDocument newDocument) {
+			invalidate();
+		}
+
+		@Override
+		public void doctypeChanged() {
+			invalidate();
+		}
+
+	}
+
+}
@@ -0,0 +1,113 @@
+/**
+ * XPathAnnotationParser.java - is a helper class that provides methods for parsing Strings containing XPathAnnotations as used within the AskMoreXtension
+ *  developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.adwmainz.da.extensions.askmore.models.OperationPhase;
+import org.adwmainz.da.extensions.askmore.models.PhaseRecording;
+import org.adwmainz.da.extensions.askmore.models.XPathTemplate;
+
+import ro.sync.ecss.extensions.api.AuthorDocumentController;
+import ro.sync.ecss.extensions.api.AuthorOperationException;
+import ro.sync.ecss.extensions.api.node.AuthorNode;
+
+public abstract class XPathAnnotationParser {
+
+	// relevant regex pattern
+	protected static final String XPATH_ANNOTATION_PATTERN = "\\$\\$XPATH" + "\\(" + "(.*?)" /* XPATH */ + "\\)" + "\\$\\$";
+	protected static final Pattern COMPILED_XPATH_ANNOTATION_PATTERN = Pattern.compile(XPATH_ANNOTATION_PATTERN);
+	
+	/**
+	 * Replaces all XPathAnnotations in a given String with the respective XPath results relative to a given context node
+	 * @param documentController the current AuthorDocumentController
+	 * @param annotatedText a String that may contain annotations like <code>$$XPATH(...)$$</code> where <code>...</code> may be any XPath expression
+	 * @param contextNode the context node to be used to evaluate the encoded XPath expression(s) 
+	 * @throws AuthorOperationException if the XPath result cannot be serialized
+	 */
+	public static String replaceAnnotations(String annotatedText, AuthorNode contextNode, AuthorDocumentController documentController)
+			throws AuthorOperationException {
+		return replaceAnnotations(compileTemplate(annotatedText), contextNode, documentController);
+	}
+
+	/**
+	 * Replaces all XPathAnnotations of a compiled message with the respective XPath results relative to a given context node
+	 * <br>(Each distinct expression is evaluated once and only its first result is serialized.)
+	 * @param template a message compiled with <code>compileTemplate()</code>
+	 * @param contextNode the context node to be used to evaluate the encoded XPath expression(s)
+	 * @param documentController the current AuthorDocumentController
+	 * @throws AuthorOperationException if an XPath expression is invalid or its result cannot be serialized
+	 */
+	public static String replaceAnnotations(XPathTemplate template, AuthorNode contextNode, AuthorDocumentController documentController)
+			throws AuthorOperationException {
+		if (!template.hasAnnotations())
+			return template.getLiterals().get(0);
+
+		List<String> results = new ArrayList<>(template.getExpressions().size());
+		for (String xPathExpression: template.getExpressions()) {
+			String xPathResult = APIAccessUtils.getFirstSerializedXPathResult(documentController, contextNode, xPathExpression);
+			results.add((xPathResult == null) ? "" : xPathResult);
+		}
+		return template.render(results);
+	}
+
+	/**
+	 * Compiles a String containing XPathAnnotations into literal segments and distinct XPath expressions so that it can be rendered for many context nodes
+	 * <br>(Is recorded as OperationPhase.PARSING.)
+	 * @param annotatedText a String that may contain annotations like <code>$$XPATH(...)$$</code> where <code>...</code> may be any XPath expression
+	 */
+	public static XPathTemplate compileTemplate(String annotatedText) {
+		PhaseRecording parsing = OperationRecorder.beginPhase(OperationPhase.PARSING, XPathAnnotationParser.class, annotatedText.length());
+		try {
+			XPathTemplate template = parseTemplate(annotatedText);
+			parsing.setAnnotationCount(template.getExpressions().size());
+			return template;
+		} finally {
+			parsing.end();
+		}
+	}
+
+	protected static XPathTemplate parseTemplate(String annotatedText) {
+		List<String> literals = new ArrayList<>();
+		Map<String, Integer> expressions = new LinkedHashMap<>();
+		List<Integer> expressionIndexes = new ArrayList<>();
+
+		Matcher matcher = COMPILED_XPATH_ANNOTATION_PATTERN.matcher(annotatedText);
+		int literalStart = 0;
+		while (matcher.find()) {
+			literals.add(annotatedText.substring(literalStart, matcher.start()));
+			String xPathExpression = matcher.group(1);
+			Integer expressionIndex = expressions.get(xPathExpression);
+			if (expressionIndex == null) {
+				expressionIndex = expressions.size();
+				expressions.put(xPathExpression, expressionIndex);
+			}
+			expressionIndexes.add(expressionIndex);
+			literalStart = matcher.end();
+		}
+		literals.add(annotatedText.substring(literalStart));
+
+		int[] indexes = new int[expressionIndexes.size()];
+		for (int i=0; i<indexes.length; ++i)
+			indexes[i] = expressionIndexes.get(i);
+		return new XPathTemplate(annotatedText, literals, new ArrayList<>(expressions.keySet()), indexes);
+	}
+	
+	/**
+	 * Returns a List of XPathAnnotations from an annotated String
+	 * @param annotatedText a String that may contain annotations like <code>$$XPATH(...)$$</code> where <code>...</code> may be any XPath expression
+	 */
+	public static List<String> findAnnotations(String annotatedText) {
+		return RegexUtils.getMatches(annotatedText, COMPILED_XPATH_ANNOTATION_PATTERN);
+	}
+	
+}
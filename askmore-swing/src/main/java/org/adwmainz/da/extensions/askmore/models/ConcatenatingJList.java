@@ -0,0 +1,190 @@
+/**
+ * ConcatenatingJList.java - is an generic extension of a javax.swing.JList as used within the AskMoreXtension developed at the Digital Academy of the Academy
+ *  of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.Vector;
+
+import javax.swing.JList;
+import javax.swing.ListModel;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.ListSelectionListener;
+
+public class ConcatenatingJList<T> extends JList<T> {
+
+	// generated serial version id
+	private static final long serialVersionUID = 4940774911177923632L;
+
+	// additional fields
+	protected String concatenator;
+
+	// selected values keyed by their positions in the unfiltered model (so that they stay selected while a filter hides them)
+	protected Map<Integer, T> selectedValues = new TreeMap<>();
+	protected boolean isRestoringSelection;
+
+	// constructors
+	public ConcatenatingJList() {
+		super();
+		addSelectionTracker();
+	}
+
+	public ConcatenatingJList(ListModel<T> dataModel, String concatenator) {
+		super(dataModel);
+		this.concatenator = concatenator;
+		addSelectionTracker();
+	}
+
+	public ConcatenatingJList(T[] listData, String concatenator) {
+		super(listData);
+		this.concatenator = concatenator;
+		addSelectionTracker();
+	}
+
+	public ConcatenatingJList(Vector<? extends T> listData, String concatenator) {
+		super(listData);
+		this.concatenator = concatenator;
+		addSelectionTracker();
+	}
+
+	// additional getters and setters
+	public String getConcatenator() {
+		return concatenator;
+	}
+
+	public void setConcatenator(String concatenator) {
+		this.concatenator = concatenator;
+	}
+
+	// additional methods
+	/**
+	 * Returns all selected values in the order of the unfiltered model including those hidden by a filter
+	 */
+	public List<T> getRetainedSelectedValues() {
+		return new ArrayList<>(selectedValues.values());
+	}
+
+	/**
+	 * Concatenates the String representations of all selected values (including those hidden by a filter) using the concatenator
+	 */
+	public String getConcatenatedValue() {
+		StringJoiner joiner = new StringJoiner(concatenator);
+		for (T selectedValue: selectedValues.values())
+			joiner.add(getConcatenatedString(selectedValue));
+		return joiner.toString();
+	}
+
+	/**
+	 * Shows only the values whose String representations contain the specified text (ignoring case) while keeping the selection
+	 * <br>(The values are filtered on a background thread if the model is an OptionListModel and are not filtered otherwise.)
+	 * @param text the text to be searched for (an empty text shows all values)
+	 */
+	public void filter(String text) {
+		ListModel<T> model = getModel();
+		if (!(model instanceof OptionListModel))
+			return;
+		((OptionListModel<?>) model).filter(text, new Runnable() {
+
+			@Override
+			public void run() {
+				// ignore selection changes caused by the update of the model
+				isRestoringSelection = true;
+			}
+
+		}, new Runnable() {
+
+			@Override
+			public void run() {
+				restoreSelection();
+			}
+
+		});
+	}
+
+	/**
+	 * Selects the visible values that were selected before the model was filtered
+	 */
+	protected void restoreSelection() {
+		isRestoringSelection = true;
+		try {
+			clearSelection();
+			for (Integer position: selectedValues.keySet()) {
+				int index = getIndex(position);
+				if (index >= 0)
+					addSelectionInterval(index, index);
+			}
+		} finally {
+			isRestoringSelection = false;
+		}
+	}
+
+	/**
+	 * Returns the String representation of a value that should be concatenated
+	 * <br>(the real value of a SelectableOption and the result of <code>toString()</code> otherwise)
+	 */
+	protected String getConcatenatedString(T value) {
+		if (value instanceof SelectableOption)
+			return String.valueOf(((SelectableOption<?>) value).getRealValue());
+		return String.valueOf(value);
+	}
+
+	protected int getPosition(int index) {
+		ListModel<T> model = getModel();
+		return (model instanceof OptionListModel) ? ((OptionListModel<?>) model).getOptionPosition(index) : index;
+	}
+
+	protected int getIndex(int position) {
+		ListModel<T> model = getModel();
+		if (model instanceof OptionListModel)
+			return ((OptionListModel<?>) model).getIndex(position);
+		return (position < model.getSize()) ? position : -1;
+	}
+
+	/**
+	 * Replaces the model and discards the selection
+	 */
+	@Override
+	public void setModel(ListModel<T> model) {
+		// ignore the selection changes caused by the replacement
+		isRestoringSelection = true;
+		try {
+			super.setModel(model);
+			clearSelection();
+		} finally {
+			isRestoringSelection = false;
+		}
+		if (selectedValues != null)
+			selectedValues.clear();
+	}
+
+	/**
+	 * Tracks the selected values by their positions in the unfiltered model
+	 */
+	protected void addSelectionTracker() {
+		addListSelectionListener(new ListSelectionListener() {
+
+			@Override
+			public void valueChanged(ListSelectionEvent e) {
+				if (isRestoringSelection)
+					return;
+				int lastIndex = Math.min(e.getLastIndex(), getModel().getSize() - 1);
+				for (int index = Math.max(e.getFirstIndex(), 0); index <= lastIndex; ++index) {
+					int position = getPosition(index);
+					if (isSelectedIndex(index))
+						selectedValues.put(position, getModel().getElementAt(index));
+					else
+						selectedValues.remove(position);
+				}
+			}
+
+		});
+	}
+
+}
@@ -0,0 +1,335 @@
+/**
+ * OptionListModel.java - is a list and combo box model that displays a list of org.adwmainz.da.extensions.askmore.models.SelectableOption objects without copying
+ *  it (so that lazily created options are only created when they are displayed) and that filters it on a background thread as used within the AskMoreXtension
+ *  developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+
+import javax.swing.AbstractListModel;
+import javax.swing.MutableComboBoxModel;
+import javax.swing.SwingWorker;
+
+import org.adwmainz.da.extensions.askmore.utils.OptionSearchIndexCache;
+
+public class OptionListModel<T> extends AbstractListModel<SelectableOption<T>> implements MutableComboBoxModel<SelectableOption<T>> {
+
+	// generated serial version id
+	private static final long serialVersionUID = -5185146981374102434L;
+
+	// constant value
+	protected static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+	// fields
+	protected List<SelectableOption<T>> options;
+	protected List<SelectableOption<T>> addedOptions;
+	protected Object selectedItem;
+
+	// fields of the current filter
+	protected String filterText;
+	protected int[] visiblePositions; // positions of all visible options (ascending or ranked) or null if no filter is applied
+	protected SwingWorker<int[], Void> filterWorker;
+
+	// fields of a ranked search
+	protected int maxSearchResults; // the number of best matches to be shown or 0 if the options should be filtered by substrings
+	protected volatile OptionSearchIndex searchIndex;
+
+	// constructor
+	/**
+	 * Creates a new OptionListModel
+	 * @param options a random access list of options that should not be modified while it is displayed
+	 */
+	public OptionListModel(List<SelectableOption<T>> options) {
+		this.options = options;
+		this.addedOptions = new ArrayList<>();
+		this.filterText = "";
+	}
+
+	// basic getters
+	public String getFilterText() {
+		return filterText;
+	}
+
+	public int getMaxSearchResults() {
+		return maxSearchResults;
+	}
+
+	// additional methods
+	/**
+	 * Returns the number of all options regardless of the current filter
+	 */
+	public int getOptionCount() {
+		return options.size() + addedOptions.size();
+	}
+
+	/**
+	 * Returns the option at the specified position regardless of the current filter
+	 * @param position the position of an option in the unfiltered list
+	 */
+	public SelectableOption<T> getOption(int position) {
+		if (position < options.size())
+			return options.get(position);
+		return addedOptions.get(position - options.size());
+	}
+
+	/**
+	 * Returns the position of a visible option in the unfiltered list
+	 * @param index the index of a visible option
+	 */
+	public int getOptionPosition(int index) {
+		return (visiblePositions == null) ? index : visiblePositions[index];
+	}
+
+	/**
+	 * Returns the index of an option that is visible with the current filter
+	 * @param position the position of an option in the unfiltered list
+	 * @return the index or <code>-1</code> if the option is hidden by the current filter
+	 */
+	public int getIndex(int position) {
+		if (visiblePositions == null)
+			return (position < getOptionCount()) ? position : -1;
+		if (!isRanked()) {
+			int index = Arrays.binarySearch(visiblePositions, position);
+			return (index >= 0) ? index : -1;
+		}
+		for (int index=0; index<visiblePositions.length; ++index)
+			if (visiblePositions[index] == position)
+				return index;
+		return -1;
+	}
+
+	/**
+	 * Checks whether the visible options are ranked by an OptionSearchIndex instead of being in their original order
+	 */
+	public boolean isRanked() {
+		return (maxSearchResults > 0 && visiblePositions != null);
+	}
+
+	/**
+	 * Makes this model show only the best matches of an OptionSearchIndex (i.e. diacritic insensitive matches ranked by their quality) when filtered
+	 * <br>(The index is built or fetched from the OptionSearchIndexCache on a background thread right away.)
+	 * @param maxSearchResults the maximum number of matches to be shown
+	 * @throws IllegalArgumentException if maxSearchResults is not positive
+	 */
+	public void enableSearchIndex(int maxSearchResults) throws IllegalArgumentException {
+		if (maxSearchResults <= 0)
+			throw new IllegalArgumentException("The maximum number of search results must be positive");
+		this.maxSearchResults = maxSearchResults;
+		new SwingWorker<Void, Void>() {
+
+			@Override
+			protected Void doInBackground() throws Exception {
+				getSearchIndex();
+				return null;
+			}
+
+		}.execute();
+	}
+
+	/**
+	 * Returns the OptionSearchIndex of the options (which is built on the first invocation unless it is cached)
+	 */
+	protected OptionSearchIndex getSearchIndex() {
+		OptionSearchIndex index = searchIndex;
+		if (index == null) {
+			index = OptionSearchIndexCache.getIndex(options);
+			searchIndex = index;
+		}
+		return index;
+	}
+
+	/**
+	 * Shows only the options whose rendered values contain the specified text (ignoring case)
+	 * <br>The options are filtered on a background thread which cancels any filtering that has not finished yet. If the text extends the current filter text,
+	 *  only the currently visible options are checked. If a search index is enabled, the best matches of the index are shown in the order of their ranks
+	 *  instead (c.f. {@link #enableSearchIndex(int)}).
+	 * @param text the text to be searched for (an empty text shows all options)
+	 * @param beforeUpdate a Runnable invoked on the event dispatch thread before the visible options are updated (may be <code>null</code>)
+	 * @param afterUpdate a Runnable invoked on the event dispatch thread after the visible options are updated (may be <code>null</code>)
+	 */
+	public void filter(String text, final Runnable beforeUpdate, final Runnable afterUpdate) {
+		if (filterWorker != null)
+			filterWorker.cancel(true);
+
+		final String query = text.toLowerCase(Locale.ROOT);
+		final int[] candidatePositions = (!isRanked() && !filterText.isEmpty() && query.startsWith(filterText)) ? visiblePositions : null;
+		final List<SelectableOption<T>> addedOptionsSnapshot = new ArrayList<>(addedOptions);
+		filterWorker = new SwingWorker<int[], Void>() {
+
+			@Override
+			protected int[] doInBackground() throws Exception {
+				if (query.isEmpty())
+					return null;
+				if (maxSearchResults > 0)
+					return findRankedPositions(query, addedOptionsSnapshot);
+				return findPositions(query, candidatePositions, addedOptionsSnapshot, this);
+			}
+
+			@Override
+			protected void done() {
+				if (isCancelled() || filterWorker != this)
+					return;
+				int[] positions;
+				try {
+					positions = get();
+				} catch (InterruptedException | ExecutionException e) {
+					return;
+				}
+
+				// keep options visible that were added while filtering
+				int checkedOptionCount = options.size() + addedOptionsSnapshot.size();
+				if (positions != null && getOptionCount() > checkedOptionCount) {
+					int count = positions.length;
+					positions = Arrays.copyOf(positions, count + getOptionCount() - checkedOptionCount);
+					for (int position = checkedOptionCount; position < getOptionCount(); ++position)
+						positions[count++] = position;
+				}
+				if (beforeUpdate != null)
+					beforeUpdate.run();
+				setVisiblePositions(query, positions);
+				if (afterUpdate != null)
+					afterUpdate.run();
+			}
+
+		};
+		filterWorker.execute();
+	}
+
+	/**
+	 * Returns the ascending positions of all options whose rendered values contain the specified query
+	 * @param query a lower case query
+	 * @param candidatePositions the positions that should be checked or <code>null</code> if all options should be checked
+	 * @param addedOptions a snapshot of the added options
+	 * @param worker the worker this search is executed by (used to stop early on cancellation)
+	 */
+	protected int[] findPositions(String query, int[] candidatePositions, List<SelectableOption<T>> addedOptions, SwingWorker<?, ?> worker) {
+		int optionCount = options.size() + addedOptions.size();
+		int candidateCount = (candidatePositions == null) ? optionCount : candidatePositions.length;
+		int[] positions = new int[Math.min(candidateCount, 1024)];
+		int count = 0;
+		for (int i=0; i<candidateCount; ++i) {
+			if (i % CANCELLATION_CHECK_INTERVAL == 0 && worker.isCancelled())
+				return null;
+			int position = (candidatePositions == null) ? i : candidatePositions[i];
+			if (position >= optionCount)
+				break;
+			String renderedValue;
+			if (position >= options.size())
+				renderedValue = addedOptions.get(position - options.size()).toString();
+			else
+				renderedValue = getRenderedValue(position);
+			if (renderedValue.toLowerCase(Locale.ROOT).contains(query)) {
+				if (count == positions.length)
+					positions = Arrays.copyOf(positions, count + (count >> 1) + 1);
+				positions[count++] = position;
+			}
+		}
+		return Arrays.copyOf(positions, count);
+	}
+
+	/**
+	 * Returns the positions of the best matches of the search index followed by the positions of all matching added options
+	 * @param query a lower case query
+	 * @param addedOptions a snapshot of the added options
+	 */
+	protected int[] findRankedPositions(String query, List<SelectableOption<T>> addedOptions) {
+		int[] positions = getSearchIndex().search(query, maxSearchResults);
+		int count = positions.length;
+		for (int i=0; i<addedOptions.size(); ++i) {
+			if (OptionSearchIndex.matches(addedOptions.get(i).toString(), query)) {
+				positions = Arrays.copyOf(positions, count + 1);
+				positions[count++] = options.size() + i;
+			}
+		}
+		return positions;
+	}
+
+	/**
+	 * Returns the rendered value of the option at the specified position of the unfiltered list without creating a SelectableOption if possible
+	 */
+	protected String getRenderedValue(int position) {
+		if ((Object) options instanceof MappedOptionList)
+			return ((MappedOptionList) (Object) options).getRenderedValue(position);
+		if (options instanceof CompositeOptionList)
+			return ((CompositeOptionList<T>) options).getRenderedValue(position);
+		return options.get(position).toString();
+	}
+
+	protected void setVisiblePositions(String filterText, int[] visiblePositions) {
+		int previousSize = getSize();
+		this.filterText = filterText;
+		this.visiblePositions = visiblePositions;
+		int size = getSize();
+
+		// notify listeners
+		if (size < previousSize)
+			fireIntervalRemoved(this, size, previousSize - 1);
+		else if (size > previousSize)
+			fireIntervalAdded(this, previousSize, size - 1);
+		if (size > 0)
+			fireContentsChanged(this, 0, size - 1);
+	}
+
+	// overridden methods
+	/**
+	 * Adds an option after all other options
+	 * <br>(The option is visible regardless of the current filter.)
+	 * @param option the option to be added
+	 */
+	@Override
+	public void addElement(SelectableOption<T> option) {
+		addedOptions.add(option);
+		if (visiblePositions != null) {
+			visiblePositions = Arrays.copyOf(visiblePositions, visiblePositions.length + 1);
+			visiblePositions[visiblePositions.length - 1] = getOptionCount() - 1;
+		}
+		int index = getSize() - 1;
+		fireIntervalAdded(this, index, index);
+	}
+
+	@Override
+	public int getSize() {
+		return (visiblePositions == null) ? getOptionCount() : visiblePositions.length;
+	}
+
+	@Override
+	public SelectableOption<T> getElementAt(int index) {
+		return getOption(getOptionPosition(index));
+	}
+
+	@Override
+	public Object getSelectedItem() {
+		return selectedItem;
+	}
+
+	@Override
+	public void setSelectedItem(Object item) {
+		if ((selectedItem != null && !selectedItem.equals(item)) || (selectedItem == null && item != null)) {
+			selectedItem = item;
+			fireContentsChanged(this, -1, -1);
+		}
+	}
+
+	@Override
+	public void removeElement(Object item) {
+		throw new UnsupportedOperationException("Options cannot be removed");
+	}
+
+	@Override
+	public void insertElementAt(SelectableOption<T> item, int position) {
+		throw new UnsupportedOperationException("Options may only be added after all other options");
+	}
+
+	@Override
+	public void removeElementAt(int position) {
+		throw new UnsupportedOperationException("Options cannot be removed");
+	}
+
+}
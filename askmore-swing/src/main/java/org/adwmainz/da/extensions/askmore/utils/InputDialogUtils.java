@@ -2,11 +2,10 @@
  * InputDialogUtils.java - is a controller like helper class providing methods to get user input from an input dialog as used within the AskMoreXtension developed
  *  at the Digital Academy of the Academy of Sciences and Literature | Mainz.
  * @author Patrick D. Brookshire
- * @version 1.0.0
+ * @version 1.7.0
  */
 package org.adwmainz.da.extensions.askmore.utils;
 
-import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.Set;
@@ -15,6 +14,7 @@ import javax.swing.JOptionPane;
 import javax.swing.WindowConstants;
 
 import org.adwmainz.da.extensions.askmore.exceptions.InputDialogClosedException;
+import org.adwmainz.da.extensions.askmore.models.AskMoreTemplate;
 import org.adwmainz.da.extensions.askmore.models.BasicInputField;
 import org.adwmainz.da.extensions.askmore.views.BasicInputDialog;
 import org.adwmainz.da.extensions.askmore.views.LabeledTextInputDialog;
@@ -24,15 +24,17 @@ public class InputDialogUtils {
 
 	/**
 	 * Shows a dialog using default configurations like centering displaying it in the center of the view port and setting the default close operation to
-	 *  <code>WindowConstants.DISPOSE_ON_CLOSE</code>
+	 *  <code>WindowConstants.DISPOSE_ON_CLOSE</code> (or to <code>WindowConstants.HIDE_ON_CLOSE</code> if the dialog is reusable)
+	 * <br>(The components of the dialog are only initialized if this was not done before.)
 	 * @param <T> the type of user input that is expected from the dialog
 	 * @param dialog a dialog
 	 */
 	public static <T> void showDialog(BasicInputDialog<T> dialog) {
 		// configure dialog
-		dialog.initComponents();
+		if (!dialog.isInitialized())
+			dialog.initComponents();
         dialog.setLocationRelativeTo(null); // center view
-	    dialog.setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+	    dialog.setDefaultCloseOperation(dialog.isReusable() ? WindowConstants.HIDE_ON_CLOSE : WindowConstants.DISPOSE_ON_CLOSE);
 		
 		// show dialog
 		dialog.setVisible(true);
@@ -97,31 +99,38 @@ public class InputDialogUtils {
 		return dialog.getUserInput();
 	}
 	
+	/**
+	 * Returns a list of user input from a LabeledTextInputDialog taken from the LabeledTextInputDialogPool (so that it is only built once per template)
+	 * @param dialogTitle the title the dialog should have
+	 * @param template the compiled template the dialog model was created from
+	 * @param dialogModel a Map of labels and input fields as created by <code>template.createDialogModel()</code>
+	 * @throws InputDialogClosedException if the input dialog is closed
+	 */
+	public static Map<String, String> fetchLabeledUserInput(String dialogTitle, AskMoreTemplate template, Map<String, BasicInputField<String>> dialogModel)
+			throws InputDialogClosedException {
+		// get dialog
+		LabeledTextInputDialog dialog = LabeledTextInputDialogPool.getDialog(template, dialogModel);
+		dialog.setTitle(dialogTitle);
+		
+		// configure and show dialog
+		showDialog(dialog);
+		
+		// get user input
+		return dialog.getUserInput();
+	}
+	
 	/**
 	 * Replaces all AskMoreAnnotations in a given String with user input by generating an input dialog
 	 * @param annotatedText a String that may contain serialized annotations
 	 * @throws InputDialogClosedException if the input dialog is closed
 	 */
 	public static String replaceAnnotationsWithUserInput(String annotatedText) throws InputDialogClosedException {
-		// remove whitespace
-		annotatedText = StringUtils.reduceWhitespace(annotatedText);
-		
-		// find annotations
-		List<String> askMoreAnnotations = AskMoreAnnotationParser.findAnnotations(annotatedText);
-		
-		// exit early if there are no annotations
-		if (askMoreAnnotations.isEmpty())
-			return annotatedText;
-
 		// load localized data
 		ResourceBundle rb = ResourceBundle.getBundle("org.adwmainz.da.extensions.askmore.resources.ArgumentTextBundle");
 		String dialogTitle = rb.getString("CONFIGURE_PARAMS");
-				
-		// get user input from dialog
-		Map<String, String> userInput = fetchLabeledUserInput(dialogTitle, AskMoreAnnotationParser.createDialogModel(askMoreAnnotations));
 		
-		// replace annotations and return text
-		return AskMoreAnnotationParser.replaceAnnotations(annotatedText, askMoreAnnotations, userInput);
+		// get user input from dialog and replace annotations
+		return AskMoreAnnotationParser.replaceAnnotationsWithUserInput(annotatedText, dialogTitle, new SwingUserInputProvider());
 	}
 
 	/**
@@ -0,0 +1,186 @@
+/**
+ * LabeledTextInputDialogPool.java - is a helper class that keeps org.adwmainz.da.extensions.askmore.views.LabeledTextInputDialog objects keyed by the compiled
+ *  templates they were built for (so that they are reset instead of being rebuilt) and that prebuilds dialogs when the event dispatch thread is idle as used
+ *  within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.awt.EventQueue;
+import java.awt.GraphicsEnvironment;
+import java.awt.Toolkit;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import org.adwmainz.da.extensions.askmore.models.AskMoreTemplate;
+import org.adwmainz.da.extensions.askmore.models.BasicInputField;
+import org.adwmainz.da.extensions.askmore.models.BasicMultiSelectionField;
+import org.adwmainz.da.extensions.askmore.models.BasicSelectionField;
+import org.adwmainz.da.extensions.askmore.models.SelectableOption;
+import org.adwmainz.da.extensions.askmore.views.LabeledTextInputDialog;
+
+public class LabeledTextInputDialogPool {
+
+	// constant values
+	public static final int MAX_POOLED_DIALOGS = 16;
+	public static final int IDLE_DELAY_MILLIS = 500;
+
+	// pool in access order that disposes its least recently used dialog when growing beyond MAX_POOLED_DIALOGS
+	private static final Map<AskMoreTemplate, LabeledTextInputDialog> dialogs = new LinkedHashMap<AskMoreTemplate, LabeledTextInputDialog>(16, 0.75f, true) {
+
+		// generated serial version id
+		private static final long serialVersionUID = 4526853216447181017L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<AskMoreTemplate, LabeledTextInputDialog> eldest) {
+			if (size() <= MAX_POOLED_DIALOGS)
+				return false;
+			if (!eldest.getValue().isVisible())
+				eldest.getValue().dispose();
+			return true;
+		}
+
+	};
+
+	private static boolean isWarmedUp;
+
+	/**
+	 * Returns a dialog for the specified template that is taken from the pool if possible and built otherwise
+	 * <br>A pooled dialog is reset to the default values of the dialog model. A new dialog is added to the pool unless the pooled dialog of the template
+	 *  is currently shown (e.g. if dialogs are nested).
+	 * <br>(Must be invoked on the event dispatch thread.)
+	 * @param template the compiled template the dialog model was created from
+	 * @param dialogModel a map of BasicInputFields and their respective label texts as created by <code>template.createDialogModel()</code>
+	 */
+	public static LabeledTextInputDialog getDialog(AskMoreTemplate template, Map<String, BasicInputField<String>> dialogModel) {
+		LabeledTextInputDialog dialog = dialogs.get(template);
+		if (dialog != null && dialog.reset(dialogModel))
+			return dialog;
+
+		LabeledTextInputDialog newDialog = createDialog(dialogModel);
+		if (dialog == null || !dialog.isVisible()) {
+			if (dialog != null)
+				dialog.dispose();
+			dialogs.put(template, newDialog);
+		} else {
+			newDialog.setReusable(false);
+		}
+		return newDialog;
+	}
+
+	/**
+	 * Builds a dialog for the specified template when the event dispatch thread is idle unless the pool already contains one
+	 * <br>(Templates with option sources are skipped since their options can only be resolved on a document.)
+	 * @param template a compiled template
+	 */
+	public static void prewarm(final AskMoreTemplate template) {
+		if (GraphicsEnvironment.isHeadless() || !template.hasAnnotations() || template.hasOptionSources())
+			return;
+		invokeWhenIdle(new Runnable() {
+
+			@Override
+			public void run() {
+				if (!dialogs.containsKey(template))
+					dialogs.put(template, createDialog(template.createDialogModel()));
+			}
+
+		});
+	}
+
+	/**
+	 * Builds a dialog for the specified annotated String when the event dispatch thread is idle unless the pool already contains one
+	 * @param annotatedText a String that may contain AskMoreAnnotations
+	 * @throws IllegalArgumentException if the String contains invalid AskMoreAnnotations
+	 */
+	public static void prewarm(String annotatedText) throws IllegalArgumentException {
+		prewarm(AskMoreTemplateCache.getTemplate(annotatedText));
+	}
+
+	/**
+	 * Builds and disposes a dialog with each type of input component once when the event dispatch thread is idle
+	 * <br>(This loads all classes, resource bundles and UI delegates needed by dialogs in advance, so that even the first dialog is shown without delay.
+	 *  Further invocations are ignored.)
+	 */
+	public static synchronized void warmUp() {
+		if (isWarmedUp || GraphicsEnvironment.isHeadless())
+			return;
+		isWarmedUp = true;
+		invokeWhenIdle(new Runnable() {
+
+			@Override
+			public void run() {
+				Map<String, BasicInputField<String>> dialogModel = new LinkedHashMap<>();
+				dialogModel.put("text", new BasicInputField<String>());
+				LinkedHashSet<SelectableOption<String>> options = new LinkedHashSet<>(Arrays.asList(new SelectableOption<String>("option")));
+				dialogModel.put("selection", new BasicSelectionField<String>(options, true));
+				dialogModel.put("multiselection", new BasicMultiSelectionField<String>(options, true, ","));
+				createDialog(dialogModel).dispose();
+			}
+
+		});
+	}
+
+	/**
+	 * Disposes all pooled dialogs that are not shown and removes all dialogs from the pool
+	 * <br>(Must be invoked on the event dispatch thread.)
+	 */
+	public static void clear() {
+		for (LabeledTextInputDialog dialog: dialogs.values())
+			if (!dialog.isVisible())
+				dialog.dispose();
+		dialogs.clear();
+	}
+
+	/**
+	 * Returns the number of pooled dialogs
+	 */
+	public static int size() {
+		return dialogs.size();
+	}
+
+	protected static LabeledTextInputDialog createDialog(Map<String, BasicInputField<String>> dialogModel) {
+		LabeledTextInputDialog dialog = new LabeledTextInputDialog(null, true, dialogModel);
+		dialog.setResizable(false);
+		dialog.setReusable(true);
+		dialog.initComponents();
+		return dialog;
+	}
+
+	/**
+	 * Runs a task on the event dispatch thread as soon as no other events have been queued for IDLE_DELAY_MILLIS
+	 */
+	protected static void invokeWhenIdle(final Runnable task) {
+		SwingUtilities.invokeLater(new Runnable() {
+
+			@Override
+			public void run() {
+				final Timer timer = new Timer(IDLE_DELAY_MILLIS, null);
+				timer.setRepeats(false);
+				timer.addActionListener(new ActionListener() {
+
+					@Override
+					public void actionPerformed(ActionEvent e) {
+						EventQueue eventQueue = Toolkit.getDefaultToolkit().getSystemEventQueue();
+						if (eventQueue.peekEvent() != null) {
+							timer.restart(); // not idle yet
+							return;
+						}
+						task.run();
+					}
+
+				});
+				timer.start();
+			}
+
+		});
+	}
+
+}
@@ -0,0 +1,65 @@
+/**
+ * SwingUserInputProvider.java - is an implementation of org.adwmainz.da.extensions.askmore.models.UserInputProvider that fetches user input from Swing dialogs
+ *  as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.utils;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.adwmainz.da.extensions.askmore.exceptions.InputDialogClosedException;
+import org.adwmainz.da.extensions.askmore.models.AskMoreTemplate;
+import org.adwmainz.da.extensions.askmore.models.BasicInputField;
+import org.adwmainz.da.extensions.askmore.models.OperationPhase;
+import org.adwmainz.da.extensions.askmore.models.PhaseRecording;
+import org.adwmainz.da.extensions.askmore.models.UserInputProvider;
+
+public class SwingUserInputProvider implements UserInputProvider {
+
+	// overridden methods (each dialog is recorded as OperationPhase.USER_INPUT and each cancelled dialog is counted by AskMoreMetrics)
+	@Override
+	public Map<String, String> fetchLabeledUserInput(String dialogTitle, Map<String, BasicInputField<String>> dialogModel)
+			throws InputDialogClosedException {
+		PhaseRecording userInput = OperationRecorder.beginPhase(OperationPhase.USER_INPUT, SwingUserInputProvider.class, 0);
+		try {
+			userInput.setAnnotationCount(dialogModel.size());
+			return InputDialogUtils.fetchLabeledUserInput(dialogTitle, dialogModel);
+		} catch (InputDialogClosedException e) {
+			AskMoreMetrics.recordDialogCancellation();
+			throw e;
+		} finally {
+			userInput.end();
+		}
+	}
+
+	@Override
+	public Map<String, String> fetchLabeledUserInput(String dialogTitle, AskMoreTemplate template, Map<String, BasicInputField<String>> dialogModel)
+			throws InputDialogClosedException {
+		PhaseRecording userInput = OperationRecorder.beginPhase(OperationPhase.USER_INPUT, SwingUserInputProvider.class, 0);
+		try {
+			userInput.setAnnotationCount(dialogModel.size());
+			return InputDialogUtils.fetchLabeledUserInput(dialogTitle, template, dialogModel);
+		} catch (InputDialogClosedException e) {
+			AskMoreMetrics.recordDialogCancellation();
+			throw e;
+		} finally {
+			userInput.end();
+		}
+	}
+
+	@Override
+	public <T> T fetchSelectedOption(String dialogTitle, String labelText, Set<T> options) throws InputDialogClosedException {
+		PhaseRecording userInput = OperationRecorder.beginPhase(OperationPhase.USER_INPUT, SwingUserInputProvider.class, 0);
+		try {
+			return InputDialogUtils.fetchSelectedOption(dialogTitle, labelText, options);
+		} catch (InputDialogClosedException e) {
+			AskMoreMetrics.recordDialogCancellation();
+			throw e;
+		} finally {
+			userInput.end();
+		}
+	}
+
+}
@@ -2,7 +2,7 @@
  * BasicInputDialog.java - is an abstract extension of a javax.swing.JDialog representing an input dialog as used within the AskMoreXtension developed at the
  *  Digital Academy of the Academy of Sciences and Literature | Mainz.
  * @author Patrick D. Brookshire
- * @version 1.0.0
+ * @version 1.7.0
  */
 package org.adwmainz.da.extensions.askmore.views;
 
@@ -41,6 +41,10 @@ public abstract class BasicInputDialog<T> extends JDialog implements ActionListe
 	protected String okButtonText; 
 	protected String cancelButtonText;
 	
+	// state of the dialog
+	protected boolean isInitialized;
+	protected boolean isReusable;
+	
 	// accessible layout components
 	private GroupLayout layout;
 	
@@ -126,6 +130,28 @@ public abstract class BasicInputDialog<T> extends JDialog implements ActionListe
 		this.cancelButtonText = cancelButtonText;
 	}
 
+	/**
+	 * Returns <code>true</code> if the method <code>initComponents()</code> was already invoked
+	 */
+	public boolean isInitialized() {
+		return isInitialized;
+	}
+
+	/**
+	 * Returns <code>true</code> if this dialog is only hidden instead of being disposed when it is closed (so that it can be shown again)
+	 */
+	public boolean isReusable() {
+		return isReusable;
+	}
+
+	/**
+	 * Specifies whether this dialog should only be hidden instead of being disposed when it is closed (so that it can be shown again)
+	 * @param isReusable
+	 */
+	public void setReusable(boolean isReusable) {
+		this.isReusable = isReusable;
+	}
+
 	// basic initialization methods
 	/**
 	 * Initializes the main buttons (OK/CANCEL) and positions them at the bottom of the dialog and creates basic layout groups for input components. It also
@@ -151,13 +177,24 @@ public abstract class BasicInputDialog<T> extends JDialog implements ActionListe
 		
 		// init layout
 		initLayout();
+		isInitialized = true;
 	}
 	
 	@Override
 	public void actionPerformed(ActionEvent event) {
 		if (okButtonText.equals(event.getActionCommand()))
 			okButtonActionPerformed(event);
-		dispose();
+		close();
+	}
+	
+	/**
+	 * Closes this dialog by hiding it if it is reusable and by disposing it otherwise
+	 */
+	protected void close() {
+		if (isReusable)
+			setVisible(false);
+		else
+			dispose();
 	}
 	
 	/**
@@ -0,0 +1,667 @@
+/**
+ * LabeledTextInputDialog.java - is an extension of an org.adwmainz.da.extensions.askmore.views.BasicInputDialog that represents an input dynamically dialog built
+ *  from an associated dialog model as used within the AskMoreXtension developed at the Digital Academy of the Academy of Sciences and Literature | Mainz.
+ * @author Patrick D. Brookshire
+ * @version 1.7.0
+ */
+package org.adwmainz.da.extensions.askmore.views;
+
+import java.awt.Color;
+import java.awt.Window;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import javax.swing.GroupLayout.Alignment;
+import javax.swing.ComboBoxModel;
+import javax.swing.JButton;
+import javax.swing.JComboBox;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JOptionPane;
+import javax.swing.JScrollPane;
+import javax.swing.JTextField;
+import javax.swing.Timer;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.plaf.basic.ComboPopup;
+
+import org.adwmainz.da.extensions.askmore.exceptions.InputDialogClosedException;
+import org.adwmainz.da.extensions.askmore.models.BasicInputField;
+import org.adwmainz.da.extensions.askmore.models.BasicMultiSelectionField;
+import org.adwmainz.da.extensions.askmore.models.SelectableOption;
+import org.adwmainz.da.extensions.askmore.models.BasicSelectionField;
+import org.adwmainz.da.extensions.askmore.models.ConcatenatingJList;
+import org.adwmainz.da.extensions.askmore.models.OptionListModel;
+import org.adwmainz.da.extensions.askmore.models.VerboseInputVerifier;
+
+public class LabeledTextInputDialog extends BasicInputDialog<Map<String, String>> {
+	
+	// generated serial version id
+	private static final long serialVersionUID = 3848297703500807943L;
+	
+	// model used for building the dialog
+	protected Map<String, BasicInputField<String>> dialogModel;
+
+	// input components
+	Map<String, JComponent> inputComponents;
+	
+	// typed input components of selection fields
+	protected Map<String, JComboBox<SelectableOption<String>>> comboBoxes;
+	protected Map<String, ConcatenatingJList<SelectableOption<String>>> multiSelectionLists;
+	
+	// verification of input components
+	protected List<DynamicTextInputVerifierListener> inputVerifierListeners;
+	protected Set<JComponent> invalidComponents;
+	
+	// text fields for searching the options of selection components
+	protected Map<String, JTextField> filterFields;
+	
+	// whether the first input component should be focused when the dialog gains the focus next
+	protected boolean isFirstInputFocusPending;
+	
+	// component names
+	protected String addItemDialogTitle;
+	protected String noAdditionMessage;
+	protected String filterFieldToolTip;
+	
+	// number of options from which on a selection field can be searched
+	protected static final int FILTER_FIELD_THRESHOLD = 100;
+	
+	// number of best matches shown while searching
+	protected static final int MAX_SEARCH_RESULTS = 200;
+	
+	// delay after the last edit of a text field before its input is verified
+	protected static final int VERIFICATION_DELAY_MILLIS = 150;
+	
+	
+	// constructors
+	/**
+	 * Creates a new DynamicTextInputDialog with the specified params
+	 * @param owner the Frame from which the dialog is displayed
+	 * @param isModal specifies whether the dialog blocks user input to other top-level windows when shown
+	 * @param dialogModel a map of BasicInputFields and their respective label texts
+	 */
+	public LabeledTextInputDialog(Window owner, boolean isModal, Map<String, BasicInputField<String>> dialogModel) {
+		super(owner, isModal);
+		this.dialogModel = dialogModel;
+		inputComponents = new HashMap<>(dialogModel.size());
+		comboBoxes = new HashMap<>();
+		multiSelectionLists = new HashMap<>();
+		inputVerifierListeners = new ArrayList<>();
+		invalidComponents = new HashSet<>();
+		filterFields = new HashMap<>();
+	}
+
+	/**
+	 * Creates a new DynamicTextInputDialog with the specified params
+	 * @param owner the Frame from which the dialog is displayed
+	 * @param isModal specifies whether the dialog blocks user input to other top-level windows when shown
+	 * @param horizontalAlignment specifies the horizontal alignment of normal form components. Use <code>Alignment.LEADING</code> to left indent,
+	 *  <code>Alignment.TRAILING</code> to right indent or <code>Alignment.CENTER</code> to full indent
+	 * @param verticalAlignment specifies the vertical alignment of all components. Use <code>Alignment.LEADING</code> to align them to the top edge,
+	 *  <code>Alignment.TRAILING</code> to align them to the bottom edge or <code>Alignment.BASELINE</code> to align them to their baselines.
+	 * @param verticalAlignment
+	 * @param dialogModel a map of BasicInputFields and their respective label texts
+	 */
+	public LabeledTextInputDialog(Window owner, boolean isModal, Alignment horizontalAlignment, Alignment verticalAlignment, 
+			Map<String, BasicInputField<String>> dialogModel) {
+		super(owner, isModal, horizontalAlignment, verticalAlignment);
+		this.dialogModel = dialogModel;
+		inputComponents = new HashMap<>(dialogModel.size());
+		comboBoxes = new HashMap<>();
+		multiSelectionLists = new HashMap<>();
+		inputVerifierListeners = new ArrayList<>();
+		invalidComponents = new HashSet<>();
+		filterFields = new HashMap<>();
+	}
+	
+	/**
+	 * Creates a new DynamicTextInputDialog with the specified params
+	 * @param owner the Frame from which the dialog is displayed
+	 * @param isModal specifies whether the dialog blocks user input to other top-level windows when shown
+	 * @param horizontalFormGroupAlignment specifies the horizontal alignment of normal form components. Use <code>Alignment.LEADING</code> to left indent,
+	 *  <code>Alignment.TRAILING</code> to right indent or <code>Alignment.CENTER</code> to full indent
+	 * @param verticalAlignment specifies the vertical alignment of all components. Use <code>Alignment.LEADING</code> to align them to the top edge,
+	 *  <code>Alignment.TRAILING</code> to align them to the bottom edge or <code>Alignment.BASELINE</code> to align them to their baselines.
+	 * @param horizontalOkCancelBtnAlignment specifies the horizontal alignment of normal the main buttons (OK/CANCEL). Use <code>Alignment.LEADING</code> to
+	 *  left indent, <code>Alignment.TRAILING</code> to right indent or <code>Alignment.CENTER</code> to full indent
+	 * @param dialogModel a map of BasicInputFields and their respective label texts
+	 */
+	public LabeledTextInputDialog(Window owner, boolean isModal, Alignment horizontalFormGroupAlignment,
+			Alignment verticalAlignment, Alignment horizontalOkCancelBtnAlignment, Map<String, BasicInputField<String>> dialogModel) {
+		super(owner, isModal, horizontalFormGroupAlignment, verticalAlignment, horizontalOkCancelBtnAlignment);
+		this.dialogModel = dialogModel;
+		inputComponents = new HashMap<>(dialogModel.size());
+		comboBoxes = new HashMap<>();
+		multiSelectionLists = new HashMap<>();
+		inputVerifierListeners = new ArrayList<>();
+		invalidComponents = new HashSet<>();
+		filterFields = new HashMap<>();
+	}
+
+	// basic getter and setter
+	@Override
+	public Map<String, String> getUserInput() throws InputDialogClosedException {
+		if (userInput == null)
+			throw new InputDialogClosedException();
+		return userInput;
+	}
+
+	
+	// overridden methods
+	/**
+	 * Initializes all components and positions them
+	 */
+	@Override
+	public void initComponents() {
+		// load localized data
+		ResourceBundle rb = ResourceBundle.getBundle("org.adwmainz.da.extensions.askmore.resources.DialogTextBundle");
+		addItemDialogTitle = rb.getString("ADD_ITEM");
+		noAdditionMessage = rb.getString("NO_ADDITION");
+		filterFieldToolTip = rb.getString("FILTER_OPTIONS");
+		
+		
+		// init default components and layout
+		super.initComponents();
+		
+		// position components and add labels
+		for (String labelText: dialogModel.keySet()) {
+			// create a label
+			JLabel label = new JLabel(labelText);
+			
+			// create the input field
+			BasicInputField<String> inputField = dialogModel.get(labelText);
+
+			if (inputField instanceof BasicMultiSelectionField) {
+				// create a multiselection list and add it to the list of input components
+				BasicMultiSelectionField<String> selectionField = (BasicMultiSelectionField<String>) inputField;
+				boolean isSearchable = (selectionField.getOptionList().size() > FILTER_FIELD_THRESHOLD);
+				OptionListModel<String> model = createOptionListModel(selectionField, isSearchable);
+				final ConcatenatingJList<SelectableOption<String>> multiSelectionList = new ConcatenatingJList<>(model, selectionField.getSeparator());
+				inputComponents.put(labelText, multiSelectionList);
+				multiSelectionLists.put(labelText, multiSelectionList);
+				
+				// adapt styling to other components
+				int defaultVisibleRowCount = 5; // TODO: externalize as var
+				int defaultCellWidth = 400; // TODO: externalize as var
+				multiSelectionList.setPrototypeCellValue(createPrototypeOption()); // prevents measuring each option
+				multiSelectionList.setVisibleRowCount(defaultVisibleRowCount);
+				multiSelectionList.setFixedCellWidth(defaultCellWidth);
+				JScrollPane pane = new JScrollPane(multiSelectionList, JScrollPane.VERTICAL_SCROLLBAR_ALWAYS, JScrollPane.HORIZONTAL_SCROLLBAR_AS_NEEDED);
+				
+				// collect additional components
+				List<JComponent> otherComponents = new ArrayList<>(2);
+				if (isSearchable) {
+					// create a text field for searching the options
+					JTextField filterField = createFilterField(new FilterAction() {
+
+						@Override
+						public void filter(String text) {
+							multiSelectionList.filter(text);
+						}
+
+					});
+					filterFields.put(labelText, filterField);
+					otherComponents.add(filterField);
+				}
+				if (selectionField.isEditable()) {
+					// create a button for dynamically adding options
+					JButton addOptionButton = new JButton("+");
+					addOptionButton.addActionListener(new AddItemActionListener(getOwner(), isModal(), labelText));
+					otherComponents.add(addOptionButton);
+				}
+				
+				// position components
+				addFormGroup(label, pane, otherComponents.toArray(new JComponent[otherComponents.size()]));
+			} else if (inputField instanceof BasicSelectionField) {
+				// create a combo box and add it to the list of input components
+				BasicSelectionField<String> selectionField = (BasicSelectionField<String>) inputField;
+				boolean isSearchable = (selectionField.getOptionList().size() > FILTER_FIELD_THRESHOLD);
+				final JComboBox<SelectableOption<String>> comboBox = new JComboBox<>(createOptionListModel(selectionField, isSearchable));
+				inputComponents.put(labelText, comboBox);
+				comboBoxes.put(labelText, comboBox);
+				selectDefaultOption(comboBox, selectionField);
+				
+				// collect additional components
+				List<JComponent> otherComponents = new ArrayList<>(2);
+				if (isSearchable) {
+					// prevent measuring each option
+					SelectableOption<String> prototypeOption = createPrototypeOption();
+					comboBox.setPrototypeDisplayValue(prototypeOption);
+					Object popup = comboBox.getUI().getAccessibleChild(comboBox, 0);
+					if (popup instanceof ComboPopup)
+						setPrototypeCellValue((ComboPopup) popup, prototypeOption);
+					
+					// create a text field for searching the options
+					JTextField filterField = createFilterField(new FilterAction() {
+
+						@Override
+						public void filter(String text) {
+							((OptionListModel<String>) comboBox.getModel()).filter(text, null, new Runnable() {
+
+								@Override
+								public void run() {
+									// resize the popup to the filtered options
+									if (comboBox.isShowing()) {
+										comboBox.hidePopup();
+										comboBox.showPopup();
+									}
+								}
+
+							});
+						}
+
+					});
+					filterFields.put(labelText, filterField);
+					otherComponents.add(filterField);
+				}
+				if (selectionField.isEditable()) {
+					// create a button for dynamically adding options
+					JButton addOptionButton = new JButton("+");
+					addOptionButton.addActionListener(new AddItemActionListener(getOwner(), isModal(), labelText));
+					otherComponents.add(addOptionButton);
+				}
+				
+				// position components
+				addFormGroup(label, comboBox, otherComponents.toArray(new JComponent[otherComponents.size()]));
+			} else {
+				// create a text field and add it to the list of input components
+				JTextField textField;
+				if (inputField.hasDefaultValue())
+					textField = new JTextField(inputField.getDefaultValue());
+				else
+					textField = new JTextField(defaultMinimumSize);
+				inputComponents.put(labelText, textField);
+				
+				// add input verifier actions
+				if (inputField.hasInputVerifiers()) {
+					DynamicTextInputVerifierListener inputVerifierListener = new DynamicTextInputVerifierListener(textField, inputField.getInputVerifiers());
+					textField.getDocument().addDocumentListener(inputVerifierListener);
+					inputVerifierListeners.add(inputVerifierListener);
+				}
+				
+				// position components
+				addFormGroup(label, textField);
+			}
+		}
+		
+		// focus the first input component whenever the dialog is shown
+		isFirstInputFocusPending = true;
+		addWindowFocusListener(new WindowAdapter() {
+
+			@Override
+			public void windowGainedFocus(WindowEvent e) {
+				if (isFirstInputFocusPending) {
+					isFirstInputFocusPending = false;
+					focusFirstInputComponent();
+				}
+			}
+
+		});
+		
+		pack();
+	}
+
+	/**
+	 * Prepares this dialog to be shown again with the specified dialog model instead of building a new dialog
+	 * <br>All input components are reset to the default values of the new dialog model and selection components display its options (which may differ
+	 *  from the previous ones, e.g. if they stem from option sources). Any previous user input is discarded.
+	 * @param dialogModel a map of BasicInputFields and their respective label texts with the same labels and types of input fields as the current one
+	 * @return <code>false</code> if the dialog model does not fit the components of this dialog (which is not modified in this case)
+	 */
+	public boolean reset(Map<String, BasicInputField<String>> dialogModel) {
+		if (!isInitialized() || isVisible() || !fitsComponents(dialogModel))
+			return false;
+		
+		this.dialogModel = dialogModel;
+		userInput = null;
+		invalidComponents.clear();
+		okButton.setEnabled(true);
+		for (String labelText: dialogModel.keySet()) {
+			BasicInputField<String> inputField = dialogModel.get(labelText);
+			
+			// clear the search
+			JTextField filterField = filterFields.get(labelText);
+			if (filterField != null)
+				filterField.setText("");
+			
+			if (inputField instanceof BasicMultiSelectionField) {
+				// display the new options without any selection
+				ConcatenatingJList<SelectableOption<String>> multiSelectionList = multiSelectionLists.get(labelText);
+				multiSelectionList.setModel(createOptionListModel((BasicSelectionField<String>) inputField, filterField != null));
+				multiSelectionList.setConcatenator(((BasicMultiSelectionField<String>) inputField).getSeparator());
+			} else if (inputField instanceof BasicSelectionField) {
+				// display the new options and select the default one
+				JComboBox<SelectableOption<String>> comboBox = comboBoxes.get(labelText);
+				comboBox.setModel(createOptionListModel((BasicSelectionField<String>) inputField, filterField != null));
+				selectDefaultOption(comboBox, (BasicSelectionField<String>) inputField);
+			} else {
+				// restore the default value
+				JTextField textField = (JTextField) inputComponents.get(labelText);
+				textField.setText(inputField.hasDefaultValue() ? inputField.getDefaultValue() : "");
+				textField.setBackground(Color.WHITE);
+				textField.setToolTipText("");
+			}
+		}
+		for (DynamicTextInputVerifierListener inputVerifierListener: inputVerifierListeners)
+			inputVerifierListener.cancelPendingVerification();
+		
+		isFirstInputFocusPending = true;
+		return true;
+	}
+
+	/**
+	 * Checks whether a dialog model has the same labels and types of input fields as the current one
+	 */
+	protected boolean fitsComponents(Map<String, BasicInputField<String>> dialogModel) {
+		if (!dialogModel.keySet().equals(this.dialogModel.keySet()))
+			return false;
+		for (String labelText: dialogModel.keySet()) {
+			BasicInputField<String> inputField = dialogModel.get(labelText);
+			BasicInputField<String> currentInputField = this.dialogModel.get(labelText);
+			if (inputField.getClass() != currentInputField.getClass())
+				return false;
+			if (inputField instanceof BasicSelectionField
+					&& ((BasicSelectionField<String>) inputField).isEditable() != ((BasicSelectionField<String>) currentInputField).isEditable())
+				return false;
+			if (!(inputField instanceof BasicSelectionField) && inputField.hasInputVerifiers() != currentInputField.hasInputVerifiers())
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Moves the focus to the input component of the first label
+	 */
+	protected void focusFirstInputComponent() {
+		Iterator<String> labelTexts = dialogModel.keySet().iterator();
+		if (labelTexts.hasNext())
+			inputComponents.get(labelTexts.next()).requestFocusInWindow();
+	}
+
+	/**
+	 * Creates a model that displays the options of a selection field without copying them
+	 * @param selectionField the selection field
+	 * @param isSearchable specifies whether the options should be searched with an OptionSearchIndex
+	 */
+	protected OptionListModel<String> createOptionListModel(BasicSelectionField<String> selectionField, boolean isSearchable) {
+		OptionListModel<String> model = new OptionListModel<>(selectionField.getOptionList());
+		if (isSearchable)
+			model.enableSearchIndex(MAX_SEARCH_RESULTS);
+		return model;
+	}
+
+	/**
+	 * Selects the default option of a selection field or its first option if it has no default value
+	 */
+	protected void selectDefaultOption(JComboBox<SelectableOption<String>> comboBox, BasicSelectionField<String> selectionField) {
+		ComboBoxModel<SelectableOption<String>> model = comboBox.getModel();
+		if (selectionField.hasDefaultValue())
+			comboBox.setSelectedItem(new SelectableOption<String>(selectionField.getDefaultValue()));
+		else if (model.getSize() > 0)
+			comboBox.setSelectedItem(model.getElementAt(0));
+	}
+
+	/**
+	 * Returns the selected option of a combo box
+	 * <br>(The cast is safe since the combo boxes of this dialog are neither editable nor select anything but the elements of their models or new
+	 *  SelectableOptions.)
+	 */
+	@SuppressWarnings("unchecked")
+	protected static SelectableOption<String> getSelectedOption(JComboBox<SelectableOption<String>> comboBox) {
+		return (SelectableOption<String>) comboBox.getSelectedItem();
+	}
+
+	/**
+	 * Sets the prototype cell value of the list of a combo box popup (which is only available as a raw JList)
+	 */
+	@SuppressWarnings("unchecked")
+	protected static void setPrototypeCellValue(ComboPopup popup, SelectableOption<String> prototypeOption) {
+		((JList<SelectableOption<String>>) popup.getList()).setPrototypeCellValue(prototypeOption);
+	}
+
+	/**
+	 * AddItemActionListener is a private class used to control how to add items to an editable selection field
+	 */
+	private class AddItemActionListener implements ActionListener {
+		
+		// fields
+		private Window owner;
+		private boolean isModal;
+		private String labelText;
+		
+		// constructors
+		public AddItemActionListener(Window owner, boolean isModal, String labelText) {
+			this.owner = owner;
+			this.isModal = isModal;
+			this.labelText = labelText;
+		}
+		
+		@Override
+		public void actionPerformed(ActionEvent e) {
+			// get the current selection field (which is replaced when the dialog is reset)
+			BasicSelectionField<String> selectionField = (BasicSelectionField<String>) dialogModel.get(labelText);
+			
+			// build a new dialog with a similar object
+			Map<String, BasicInputField<String>> addItemDialogModel = new HashMap<>();
+			BasicInputField<String> addItemInputField = new BasicInputField<>();
+			if (selectionField.hasInputVerifiers())
+				addItemInputField.setInputVerifiers(selectionField.getInputVerifiers());
+			addItemDialogModel.put(labelText, addItemInputField);
+			
+			LabeledTextInputDialog addItemDialog = new LabeledTextInputDialog(owner, isModal, addItemDialogModel);
+			addItemDialog.setTitle(addItemDialogTitle);
+			addItemDialog.initComponents();
+			addItemDialog.setResizable(isResizable());
+			addItemDialog.setLocationRelativeTo(owner); // center view
+			addItemDialog.setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+			addItemDialog.setVisible(true);
+			
+			// try to get user input
+			try {
+				String addItemUserInput = addItemDialog.getUserInput().get(labelText);
+				
+				// add item to combo box and select it
+				SelectableOption<String> addedOption = new SelectableOption<>(addItemUserInput);
+				if (selectionField.getOptions().contains(addedOption))
+					JOptionPane.showMessageDialog(owner, noAdditionMessage);
+				else if (comboBoxes.containsKey(labelText)) {
+					JComboBox<SelectableOption<String>> comboBox = comboBoxes.get(labelText);
+					comboBox.addItem(addedOption);
+					comboBox.setSelectedItem(addedOption);
+				} else if (multiSelectionLists.containsKey(labelText)) {
+					ConcatenatingJList<SelectableOption<String>> multiselectionList = multiSelectionLists.get(labelText);
+					((OptionListModel<String>) multiselectionList.getModel()).addElement(addedOption);
+				}
+			} catch (InputDialogClosedException e1) {
+				// notify user
+				JOptionPane.showMessageDialog(owner, noAdditionMessage);
+			}
+		}
+		
+	}
+	
+	/**
+	 * DynamicTextInputVerifierListener is a private class used to verify the input of a text field shortly after it was last edited and to control how to
+	 *  react to invalid input
+	 */
+	private class DynamicTextInputVerifierListener implements DocumentListener, ActionListener {
+
+		// fields
+		protected JTextField textField;
+		protected Set<VerboseInputVerifier> inputVerifiers;
+		protected Timer timer;
+		
+		// constructor
+		public DynamicTextInputVerifierListener(JTextField textField, Set<VerboseInputVerifier> inputVerifiers) {
+			this.textField = textField;
+			this.inputVerifiers = inputVerifiers;
+			this.timer = new Timer(VERIFICATION_DELAY_MILLIS, this);
+			timer.setRepeats(false);
+		}
+
+		/**
+		 * Discards a pending verification (e.g. after the text was reset to its default value)
+		 */
+		public void cancelPendingVerification() {
+			timer.stop();
+		}
+
+		/**
+		 * Verifies the input right away if the verification is still pending
+		 * @return <code>true</code> if the input is valid
+		 */
+		public boolean verifyPendingInput() {
+			if (timer.isRunning()) {
+				timer.stop();
+				verifyInput();
+			}
+			return !invalidComponents.contains(textField);
+		}
+
+		/**
+		 * Verifies the input and marks the text field if it is invalid
+		 */
+		protected void verifyInput() {
+			// handle invalid input
+			String input = textField.getText();
+			for (VerboseInputVerifier inputVerifier: inputVerifiers) {
+				if (!inputVerifier.verify(input)) {
+					textField.setBackground(Color.RED);
+					textField.setToolTipText(inputVerifier.getMessage());
+					invalidComponents.add(textField);
+					okButton.setEnabled(false);
+					return;
+				}
+			}
+			// handle valid input
+			textField.setBackground(Color.WHITE);
+			textField.setToolTipText("");
+			invalidComponents.remove(textField);
+			okButton.setEnabled(invalidComponents.isEmpty());
+		}
+
+		@Override
+		public void actionPerformed(ActionEvent e) {
+			verifyInput();
+		}
+
+		@Override
+		public void insertUpdate(DocumentEvent e) {
+			timer.restart();
+		}
+
+		@Override
+		public void removeUpdate(DocumentEvent e) {
+			timer.restart();
+		}
+
+		@Override
+		public void changedUpdate(DocumentEvent e) {
+			// attribute changes do not affect the text
+		}
+		
+	}
+	
+	/**
+	 * Creates a text field that invokes the specified action whenever its text changes
+	 */
+	protected JTextField createFilterField(final FilterAction filterAction) {
+		final JTextField filterField = new JTextField(defaultMinimumSize / 3);
+		filterField.setToolTipText(filterFieldToolTip);
+		filterField.getDocument().addDocumentListener(new DocumentListener() {
+
+			@Override
+			public void insertUpdate(DocumentEvent e) {
+				filterAction.filter(filterField.getText());
+			}
+
+			@Override
+			public void removeUpdate(DocumentEvent e) {
+				filterAction.filter(filterField.getText());
+			}
+
+			@Override
+			public void changedUpdate(DocumentEvent e) {
+				// attribute changes do not affect the text
+			}
+
+		});
+		return filterField;
+	}
+	
+	/**
+	 * FilterAction is a private interface used to specify how the options of a selection component are filtered
+	 */
+	private interface FilterAction {
+		
+		void filter(String text);
+		
+	}
+	
+	/**
+	 * Creates an option whose size is used for all options of a selection field with lazy options
+	 */
+	protected SelectableOption<String> createPrototypeOption() {
+		char[] prototypeChars = new char[defaultMinimumSize];
+		Arrays.fill(prototypeChars, 'X');
+		return new SelectableOption<String>("", new String(prototypeChars));
+	}
+	
+	/**
+	 * Verifies all pending input before the OK button action is performed and ignores the action if any input is invalid
+	 */
+	@Override
+	public void actionPerformed(ActionEvent event) {
+		if (okButtonText.equals(event.getActionCommand())) {
+			boolean isValid = true;
+			for (DynamicTextInputVerifierListener inputVerifierListener: inputVerifierListeners)
+				isValid &= inputVerifierListener.verifyPendingInput();
+			if (!isValid)
+				return;
+		}
+		super.actionPerformed(event);
+	}
+	
+	@Override
+	public boolean hasLabels() {
+		return true;
+	}
+
+	/**
+	 * Fetches all user input and and adds it to the field <code>userInput</code>
+	 */
+	@Override
+	protected void okButtonActionPerformed(ActionEvent event) {
+		userInput = new HashMap<>(dialogModel.size());
+		for (String labelText: dialogModel.keySet()) {
+			if (multiSelectionLists.containsKey(labelText)) {
+				// get real values of selected options from multiselection list
+				ConcatenatingJList<SelectableOption<String>> multiselectionList = multiSelectionLists.get(labelText);
+				String concatenatedValue = multiselectionList.getConcatenatedValue(); // includes options hidden by a filter
+				userInput.put(labelText, concatenatedValue);
+			} else if (comboBoxes.containsKey(labelText)) {
+				// get real value of selected option from combo box
+				SelectableOption<String> selectedOption = getSelectedOption(comboBoxes.get(labelText));
+				userInput.put(labelText, selectedOption.getRealValue());
+			} else {
+				// get input from text field
+				JTextField textField = (JTextField) inputComponents.get(labelText);
+				userInput.put(labelText, textField.getText());
+			}
+		}
+	}
+
+}